@@ -104,7 +104,7 @@ public class GroupServiceImpl implements GroupService {
   public GroupChangesDetails getChangesByVersion(String versionId) {
     var repo = versionContextComponentManager.getComponent(versionId,
         VersionedFileRepository.class);
-    List<String> conflicts = cacheService.getConflictsCache(versionId);
+    var conflicts = cacheService.getConflictsCache(versionId);
 
     return repo.getFileList(GROUPS_PATH).stream()
         .filter(grouping -> "bp-grouping".equals(grouping.getName()))
@@ -16,6 +16,7 @@
 package com.epam.digital.data.platform.management.groups.service;
 
 import com.epam.digital.data.platform.management.core.context.VersionContextComponentManager;
+import com.epam.digital.data.platform.management.core.model.VersionConflicts;
 import com.epam.digital.data.platform.management.core.service.CacheService;
 import com.epam.digital.data.platform.management.filemanagement.model.FileStatus;
 import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileInfoDto;
@@ -149,7 +150,8 @@ class GroupServiceTest {
         .status(FileStatus.NEW)
         .build();
     Mockito.when(repository.getFileList(GROUPS_PATH)).thenReturn(List.of(fileInfo));
-    Mockito.when(cacheService.getConflictsCache(VERSION_ID)).thenReturn(List.of("bp-grouping/bp-grouping.yml"));
+    Mockito.when(cacheService.getConflictsCache(VERSION_ID))
+        .thenReturn(VersionConflicts.of(List.of("bp-grouping/bp-grouping.yml")));
 
     final var changesByVersion = groupService.getChangesByVersion(VERSION_ID);
 
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.index;
+
+import com.epam.digital.data.platform.management.core.context.VersionComponentFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Factory that is used for creating version based {@link BusinessProcessIndex}
+ */
+@Component
+public class BusinessProcessIndexFactory implements VersionComponentFactory<BusinessProcessIndex> {
+
+  @Override
+  @NonNull
+  public BusinessProcessIndex createComponent(@NonNull String versionId) {
+    return new BusinessProcessIndex();
+  }
+
+  @Override
+  @NonNull
+  public Class<BusinessProcessIndex> getComponentType() {
+    return BusinessProcessIndex.class;
+  }
+}
@@ -16,6 +16,8 @@
 
 package com.epam.digital.data.platform.management.service;
 
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileListPage;
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileListRequest;
 import com.epam.digital.data.platform.management.model.dto.BusinessProcessInfoDto;
 import java.util.List;
 
@@ -23,12 +25,44 @@ public interface BusinessProcessService {
 
   List<BusinessProcessInfoDto> getProcessesByVersion(String versionName);
 
+  /**
+   * Get page of business process list for specific version. Only processes of the page are read
+   * from the repository, except the processes that have to be read to match the search by title.
+   *
+   * @param versionName name of version
+   * @param request     page cursor, size and filtering criteria
+   * @return page of business process info
+   */
+  VersionedFileListPage<BusinessProcessInfoDto> getProcessesByVersion(String versionName,
+      VersionedFileListRequest request);
+
   List<BusinessProcessInfoDto> getChangedProcessesByVersion(String versionName);
 
   void createProcess(String processName, String content, String versionName);
 
   String getProcessContent(String processName, String versionName);
 
+  /**
+   * Get ETag of existing business process content. The ETag is resolved from the local repository
+   * of the version without updating it, and while the business process is unchanged without
+   * reading the business process content
+   *
+   * @param processName name of business process
+   * @param versionName name of version candidate
+   * @return business process content ETag or null if business process doesn't exist
+   */
+  String getProcessETag(String processName, String versionName);
+
+  /**
+   * Get weak ETag of the business process list for specific version. The ETag changes with the
+   * head commit of the version or of the head branch, with the gerrit change revision and with the
+   * version conflicts, so it changes whenever any business process info of the list may change
+   *
+   * @param versionName name of version
+   * @return weak ETag of the business process list
+   */
+  String getProcessListETag(String versionName);
+
   void updateProcess(String content, String processName, String versionName, String eTag);
 
   /**
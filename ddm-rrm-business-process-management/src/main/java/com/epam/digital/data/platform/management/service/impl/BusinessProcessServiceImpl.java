@@ -17,42 +17,40 @@
 package com.epam.digital.data.platform.management.service.impl;
 
 import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
-import com.epam.digital.data.platform.management.core.config.JacksonConfig;
 import com.epam.digital.data.platform.management.core.context.VersionContextComponentManager;
+import com.epam.digital.data.platform.management.core.model.VersionConflicts;
 import com.epam.digital.data.platform.management.core.service.CacheService;
-import com.epam.digital.data.platform.management.core.utils.StringsComparisonUtils;
+import com.epam.digital.data.platform.management.core.utils.ETagUtils;
 import com.epam.digital.data.platform.management.exception.BusinessProcessAlreadyExistsException;
 import com.epam.digital.data.platform.management.exception.ProcessNotFoundException;
 import com.epam.digital.data.platform.management.filemanagement.model.FileStatus;
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileDatesDto;
 import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileInfoDto;
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileListPage;
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileListRequest;
 import com.epam.digital.data.platform.management.filemanagement.service.VersionedFileRepository;
 import com.epam.digital.data.platform.management.gitintegration.model.FileDatesDto;
+import com.epam.digital.data.platform.management.index.BusinessProcessIndex;
 import com.epam.digital.data.platform.management.mapper.BusinessProcessMapper;
 import com.epam.digital.data.platform.management.model.dto.BusinessProcessInfoDto;
+import com.epam.digital.data.platform.management.model.dto.BusinessProcessMetadataDto;
 import com.epam.digital.data.platform.management.service.BusinessProcessService;
-import java.io.IOException;
-import java.io.StringReader;
-import java.io.StringWriter;
+import com.epam.digital.data.platform.management.util.BusinessProcessContentComparator;
+import com.epam.digital.data.platform.management.util.BusinessProcessDatesWriter;
+import com.epam.digital.data.platform.management.util.BusinessProcessMetadataReader;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.xml.stream.XMLStreamException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FilenameUtils;
 import org.springframework.stereotype.Component;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
-import org.xml.sax.SAXException;
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -60,23 +58,28 @@ public class BusinessProcessServiceImpl implements BusinessProcessService {
 
   private static final String DIRECTORY_PATH = "bpmn";
   private static final String BPMN_FILE_EXTENSION = "bpmn";
-  public static final String PROCESS_CREATED_PATH = "rrm:created";
-  public static final String PROCESS_MODIFIED_PATH = "rrm:modified";
 
   private final VersionContextComponentManager versionContextComponentManager;
   private final BusinessProcessMapper mapper;
   private final GerritPropertiesConfig gerritPropertiesConfig;
-  private final DocumentBuilder documentBuilder;
   private final CacheService cacheService;
 
   @Override
   public List<BusinessProcessInfoDto> getProcessesByVersion(String versionName) {
-    return getProcessesByVersion(versionName, FileStatus.DELETED);
+    return getProcessesByVersion(versionName, VersionedFileListRequest.builder().build(),
+        FileStatus.DELETED).getItems();
+  }
+
+  @Override
+  public VersionedFileListPage<BusinessProcessInfoDto> getProcessesByVersion(String versionName,
+      VersionedFileListRequest request) {
+    return getProcessesByVersion(versionName, request, FileStatus.DELETED);
   }
 
   @Override
   public List<BusinessProcessInfoDto> getChangedProcessesByVersion(String versionName) {
-    return getProcessesByVersion(versionName, FileStatus.UNCHANGED);
+    return getProcessesByVersion(versionName, VersionedFileListRequest.builder().build(),
+        FileStatus.UNCHANGED).getItems();
   }
 
   @Override
@@ -104,6 +107,26 @@ public class BusinessProcessServiceImpl implements BusinessProcessService {
     return processContent;
   }
 
+  @Override
+  public String getProcessETag(String processName, String versionName) {
+    var repo =
+        versionContextComponentManager.getComponent(versionName, VersionedFileRepository.class);
+    return repo.getFileETag(getProcessPath(processName));
+  }
+
+  @Override
+  public String getProcessListETag(String versionName) {
+    var repo =
+        versionContextComponentManager.getComponent(versionName, VersionedFileRepository.class);
+    var masterRepo =
+        versionContextComponentManager.getComponent(
+            gerritPropertiesConfig.getHeadBranch(), VersionedFileRepository.class);
+    var conflicts = cacheService.getConflictsCache(versionName);
+    return ETagUtils.getWeakETagFromContent(String.format("%s:%s:%s:%s",
+        repo.getHeadCommitId(), masterRepo.getHeadCommitId(), repo.getChangeRevision(),
+        conflicts.getPaths(DIRECTORY_PATH).hashCode()));
+  }
+
   @Override
   public void updateProcess(String content, String processName, String versionName, String eTag) {
     var repo =
@@ -113,11 +136,8 @@ public class BusinessProcessServiceImpl implements BusinessProcessService {
     FileDatesDto fileDatesDto = FileDatesDto.builder().build();
     if (repo.isFileExists(processPath)) {
       String oldContent = repo.readFile(processPath);
-      //ignore update if difference only in modified date
-      if (StringsComparisonUtils.compareIgnoringSubstring(
-          oldContent, content,
-          "rrm:modified=\"",
-          "Z\"")) {
+      //ignore update if difference only in metadata dates
+      if (BusinessProcessContentComparator.isEqualIgnoringMetadata(oldContent, content)) {
         return;
       }
       fileDatesDto = getDatesFromContent(oldContent);
@@ -144,133 +164,132 @@ public class BusinessProcessServiceImpl implements BusinessProcessService {
     repo.rollbackFile(getProcessPath(processName));
   }
 
-  private String getAttributeFromContent(String processContent, String attribute) {
-    Document doc = parseBusinessProcess(processContent);
-    doc.getDocumentElement().normalize();
-    NodeList nodeList = doc.getElementsByTagName("bpmn:process");
-    Node node = nodeList.item(0);
-    return node.getAttributes().getNamedItem(attribute).getTextContent();
-  }
-
   private String getProcessPath(String processName) {
     return String.format(
         "%s/%s.%s", DIRECTORY_PATH, FilenameUtils.getName(processName), BPMN_FILE_EXTENSION);
   }
 
-  private Document parseBusinessProcess(String processContent) {
-    try {
-      return documentBuilder.parse(new InputSource(new StringReader(processContent)));
-    } catch (SAXException | IOException exception) {
-      throw new RuntimeException("Could not parse xml document", exception);
-    }
-  }
-
-  private List<BusinessProcessInfoDto> getProcessesByVersion(String versionName,
-      FileStatus skippedStatus) {
-    List<VersionedFileInfoDto> fileList;
+  private VersionedFileListPage<BusinessProcessInfoDto> getProcessesByVersion(
+      String versionName, VersionedFileListRequest request, FileStatus skippedStatus) {
     var repo =
         versionContextComponentManager.getComponent(versionName, VersionedFileRepository.class);
-    fileList = repo.getFileList(DIRECTORY_PATH);
     var masterRepo =
         versionContextComponentManager.getComponent(
             gerritPropertiesConfig.getHeadBranch(), VersionedFileRepository.class);
-    List<BusinessProcessInfoDto> processes = new ArrayList<>();
-    List<String> conflicts = cacheService.getConflictsCache(versionName);
-    for (VersionedFileInfoDto versionedFileInfoDto : fileList) {
-      if (versionedFileInfoDto.getStatus().equals(skippedStatus)) {
+    var processIndex =
+        versionContextComponentManager.getComponent(versionName, BusinessProcessIndex.class);
+    Function<VersionedFileInfoDto, BusinessProcessMetadataDto> loader =
+        fileInfo -> loadMetadata(fileInfo, repo, masterRepo);
+    List<Map.Entry<VersionedFileInfoDto, BusinessProcessMetadataDto>> accepted = new ArrayList<>();
+    var conflicts = cacheService.getConflictsCache(versionName);
+    for (var entry : processIndex.getEntries(repo, masterRepo)) {
+      var versionedFileInfoDto = entry.getFileInfo();
+      if (versionedFileInfoDto.getStatus().equals(skippedStatus)
+          || !request.matches(versionedFileInfoDto)) {
         continue;
       }
-      String processContent;
-      if (versionedFileInfoDto.getStatus() == FileStatus.DELETED) {
-        processContent = masterRepo.readFile(getProcessPath(versionedFileInfoDto.getName()));
-      } else {
-        processContent = repo.readFile(getProcessPath(versionedFileInfoDto.getName()));
+      // the next page is decided from the sorted names, items after the page are never read
+      if (request.isLimitReached(accepted.size())) {
+        var processes = toProcesses(accepted, repo, masterRepo, conflicts);
+        return VersionedFileListPage.<BusinessProcessInfoDto>builder()
+            .items(processes)
+            .nextCursor(processes.get(processes.size() - 1).getName())
+            .build();
       }
-      var dates = getDatesFromContent(processContent);
-      if(dates == null){
-        continue;
-      }
-      if (Objects.isNull(dates.getCreate()) || Objects.isNull(dates.getUpdate())) {
-        var path = getProcessPath(versionedFileInfoDto.getName());
-        var datesFromRepo = versionedFileInfoDto.getStatus() == FileStatus.DELETED
-            ? masterRepo.getVersionedFileDates(path) : repo.getVersionedFileDates(path);
-        if (Objects.nonNull(datesFromRepo)) {
-          if (Objects.isNull(dates.getCreate())) {
-            dates.setCreate(datesFromRepo.getCreated());
-          }
-          if (Objects.isNull(dates.getUpdate())) {
-            dates.setUpdate(datesFromRepo.getUpdated());
-          }
+      // title is needed for search only if the name doesn't match
+      if (!request.matchesSearch(versionedFileInfoDto.getName())) {
+        var metadata = entry.getMetadata(loader);
+        if (metadata == null || !request.matchesSearch(metadata.getTitle())) {
+          continue;
         }
       }
-      processes.add(
-          mapper.toBusinessProcess(
-              versionedFileInfoDto,
-              dates,
-              getAttributeFromContent(processContent, "name"),
-              conflicts.contains(versionedFileInfoDto.getPath())));
+      var metadata = entry.getMetadata(loader);
+      if (metadata == null) {
+        continue;
+      }
+      accepted.add(Map.entry(versionedFileInfoDto, metadata));
     }
-    return processes;
+    return VersionedFileListPage.<BusinessProcessInfoDto>builder()
+        .items(toProcesses(accepted, repo, masterRepo, conflicts))
+        .build();
   }
 
-  private FileDatesDto getDatesFromContent(String processContent) {
-    FileDatesDto fileDatesDto = FileDatesDto.builder().build();
-    Document doc;
-    try {
-      doc = documentBuilder.parse(new InputSource(new StringReader(processContent)));
-    } catch (SAXException | IOException exception) {
-      log.warn("Exception during processing xml document : {}", exception.getMessage());
-      return null;
+  private BusinessProcessMetadataDto loadMetadata(VersionedFileInfoDto versionedFileInfoDto,
+      VersionedFileRepository repo, VersionedFileRepository masterRepo) {
+    var path = getProcessPath(versionedFileInfoDto.getName());
+    var sourceRepo = versionedFileInfoDto.getStatus() == FileStatus.DELETED ? masterRepo : repo;
+    return BusinessProcessMetadataReader.read(sourceRepo.readFile(path));
+  }
+
+  /**
+   * Git log dates of the listed processes that have no dates in the BPMN are read in a single call
+   * per repository
+   */
+  private List<BusinessProcessInfoDto> toProcesses(
+      List<Map.Entry<VersionedFileInfoDto, BusinessProcessMetadataDto>> accepted,
+      VersionedFileRepository repo, VersionedFileRepository masterRepo,
+      VersionConflicts conflicts) {
+    var pathsWithoutDates = accepted.stream()
+        .filter(item -> Objects.isNull(item.getValue().getCreated())
+            || Objects.isNull(item.getValue().getModified()))
+        .map(Map.Entry::getKey)
+        .collect(Collectors.partitioningBy(
+            fileInfo -> fileInfo.getStatus() == FileStatus.DELETED,
+            Collectors.mapping(fileInfo -> getProcessPath(fileInfo.getName()),
+                Collectors.toList())));
+    var repoDates = new HashMap<String, VersionedFileDatesDto>();
+    if (!pathsWithoutDates.get(false).isEmpty()) {
+      repoDates.putAll(repo.getVersionedFileDates(pathsWithoutDates.get(false)));
     }
-    doc.getDocumentElement().normalize();
-    Element element = doc.getDocumentElement();
-    if (element.hasAttribute(PROCESS_MODIFIED_PATH)) {
-      fileDatesDto.setUpdate(
-          LocalDateTime.parse(
-              element.getAttribute(PROCESS_MODIFIED_PATH), JacksonConfig.DATE_TIME_FORMATTER));
+    if (!pathsWithoutDates.get(true).isEmpty()) {
+      repoDates.putAll(masterRepo.getVersionedFileDates(pathsWithoutDates.get(true)));
     }
-    if (element.hasAttribute(PROCESS_CREATED_PATH)) {
-      fileDatesDto.setCreate(
-          LocalDateTime.parse(
-              element.getAttribute(PROCESS_CREATED_PATH), JacksonConfig.DATE_TIME_FORMATTER));
+    return accepted.stream()
+        .map(item -> {
+          var versionedFileInfoDto = item.getKey();
+          var metadata = item.getValue();
+          var fileDates = toFileDates(metadata,
+              repoDates.get(getProcessPath(versionedFileInfoDto.getName())));
+          return mapper.toBusinessProcess(
+              versionedFileInfoDto,
+              fileDates,
+              metadata.getTitle(),
+              conflicts.contains(versionedFileInfoDto.getPath()));
+        })
+        .collect(Collectors.toList());
+  }
+
+  private FileDatesDto getDatesFromContent(String processContent) {
+    var metadata = BusinessProcessMetadataReader.read(processContent);
+    return metadata == null ? null : toFileDates(metadata);
+  }
+
+  private FileDatesDto toFileDates(BusinessProcessMetadataDto metadata) {
+    return FileDatesDto.builder()
+        .create(metadata.getCreated())
+        .update(metadata.getModified())
+        .build();
+  }
+
+  private FileDatesDto toFileDates(BusinessProcessMetadataDto metadata,
+      VersionedFileDatesDto repoDates) {
+    if (Objects.isNull(repoDates)) {
+      return toFileDates(metadata);
     }
-    return fileDatesDto;
+    return FileDatesDto.builder()
+        .create(Objects.isNull(metadata.getCreated())
+            ? repoDates.getCreated() : metadata.getCreated())
+        .update(Objects.isNull(metadata.getModified())
+            ? repoDates.getUpdated() : metadata.getModified())
+        .build();
   }
 
   private String addDatesToContent(String processContent, LocalDateTime created,
       LocalDateTime modified) {
-    Document doc;
     try {
-      doc = documentBuilder.parse(new InputSource(new StringReader(processContent)));
-    } catch (SAXException | IOException exception) {
+      return BusinessProcessDatesWriter.writeDates(processContent, created, modified);
+    } catch (XMLStreamException exception) {
       throw new RuntimeException("Could not parse xml document", exception);
     }
-    Element element = doc.getDocumentElement();
-    element.setAttributeNS(
-        "http://www.w3.org/2000/xmlns/", "xmlns:rrm", "http://registry-regulation-management");
-    element.setAttributeNS(
-        "http://registry-regulation-management",
-        PROCESS_MODIFIED_PATH,
-        modified.format(JacksonConfig.DATE_TIME_FORMATTER));
-    element.setAttributeNS(
-        "http://registry-regulation-management",
-        PROCESS_CREATED_PATH,
-        created.format(JacksonConfig.DATE_TIME_FORMATTER));
-    doc.setXmlStandalone(true);
-    return getStringFromDocument(doc);
-  }
-
-  private String getStringFromDocument(Document doc) {
-    try {
-      DOMSource domSource = new DOMSource(doc);
-      StringWriter writer = new StringWriter();
-      StreamResult result = new StreamResult(writer);
-      TransformerFactory tf = TransformerFactory.newInstance();
-      Transformer transformer = tf.newTransformer();
-      transformer.transform(domSource, result);
-      return writer.toString();
-    } catch (TransformerException ex) {
-      throw new RuntimeException("Could not parse xml document", ex);
-    }
   }
 }
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.util;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Objects;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.text.StringEscapeUtils;
+import org.springframework.lang.Nullable;
+
+/**
+ * Compares two business process xml contents event by event ignoring formatting, prefixes,
+ * attributes order and rrm:created and rrm:modified attributes of the root element. Both contents
+ * are streamed in parallel without loading the documents into memory and the comparison stops on
+ * the first difference.
+ * <p>
+ * Values that differ only in java escape sequences (e.g. an escaped unicode apostrophe stored
+ * instead of the apostrophe itself) are considered equal.
+ */
+@Slf4j
+public class BusinessProcessContentComparator {
+
+  private static final String CREATED_ATTRIBUTE = "created";
+  private static final String MODIFIED_ATTRIBUTE = "modified";
+
+  private BusinessProcessContentComparator() {
+  }
+
+  /**
+   * Check if the business process contents are equal except for metadata attributes
+   *
+   * @param firstContent  first business process xml content
+   * @param secondContent second business process xml content
+   * @return true if the contents are equal except for metadata attributes, false if they differ or
+   * any of them isn't a valid xml
+   */
+  public static boolean isEqualIgnoringMetadata(String firstContent, String secondContent) {
+    if (Objects.isNull(firstContent) || Objects.isNull(secondContent)) {
+      return Objects.equals(firstContent, secondContent);
+    }
+    XMLStreamReader first = null;
+    XMLStreamReader second = null;
+    try {
+      first = createReader(firstContent);
+      second = createReader(secondContent);
+      var depth = 0;
+      while (true) {
+        var event = nextEvent(first);
+        if (event != nextEvent(second)) {
+          return false;
+        }
+        switch (event) {
+          case XMLStreamConstants.START_ELEMENT:
+            depth++;
+            if (!isSameElement(first, second, depth == 1)) {
+              return false;
+            }
+            break;
+          case XMLStreamConstants.END_ELEMENT:
+            depth--;
+            break;
+          case XMLStreamConstants.CHARACTERS:
+          case XMLStreamConstants.COMMENT:
+            if (!isSameText(first, second)) {
+              return false;
+            }
+            break;
+          case XMLStreamConstants.PROCESSING_INSTRUCTION:
+            if (!Objects.equals(first.getPITarget(), second.getPITarget())
+                || !Objects.equals(first.getPIData(), second.getPIData())) {
+              return false;
+            }
+            break;
+          case XMLStreamConstants.END_DOCUMENT:
+            return true;
+          default:
+            return false;
+        }
+      }
+    } catch (XMLStreamException exception) {
+      log.warn("Business process xml contents could not be compared: {}", exception.getMessage());
+      return false;
+    } finally {
+      close(first);
+      close(second);
+    }
+  }
+
+  private static XMLStreamReader createReader(String content) throws XMLStreamException {
+    return XmlStreamFactories.COALESCING_INPUT_FACTORY.createXMLStreamReader(
+        new StringReader(content));
+  }
+
+  private static int nextEvent(XMLStreamReader reader) throws XMLStreamException {
+    var event = reader.next();
+    while (event == XMLStreamConstants.SPACE
+        || event == XMLStreamConstants.CHARACTERS && reader.isWhiteSpace()) {
+      event = reader.next();
+    }
+    return event;
+  }
+
+  private static boolean isSameElement(XMLStreamReader first, XMLStreamReader second,
+      boolean isRoot) {
+    if (!first.getLocalName().equals(second.getLocalName())
+        || !namespaceOf(first.getNamespaceURI()).equals(namespaceOf(second.getNamespaceURI()))) {
+      return false;
+    }
+    var attributeCount = 0;
+    for (int i = 0; i < first.getAttributeCount(); i++) {
+      if (isMetadataAttribute(first, i, isRoot)) {
+        continue;
+      }
+      attributeCount++;
+      var value = getAttributeValue(second, namespaceOf(first.getAttributeNamespace(i)),
+          first.getAttributeLocalName(i));
+      if (!isSameValue(first.getAttributeValue(i), value)) {
+        return false;
+      }
+    }
+    for (int i = 0; i < second.getAttributeCount(); i++) {
+      if (!isMetadataAttribute(second, i, isRoot)) {
+        attributeCount--;
+      }
+    }
+    return attributeCount == 0;
+  }
+
+  private static boolean isMetadataAttribute(XMLStreamReader reader, int index, boolean isRoot) {
+    if (!isRoot || !BusinessProcessMetadataReader.RRM_NAMESPACE.equals(
+        reader.getAttributeNamespace(index))) {
+      return false;
+    }
+    var localName = reader.getAttributeLocalName(index);
+    return CREATED_ATTRIBUTE.equals(localName) || MODIFIED_ATTRIBUTE.equals(localName);
+  }
+
+  @Nullable
+  private static String getAttributeValue(XMLStreamReader reader, String namespace,
+      String localName) {
+    for (int i = 0; i < reader.getAttributeCount(); i++) {
+      if (localName.equals(reader.getAttributeLocalName(i))
+          && namespace.equals(namespaceOf(reader.getAttributeNamespace(i)))) {
+        return reader.getAttributeValue(i);
+      }
+    }
+    return null;
+  }
+
+  private static String namespaceOf(String namespace) {
+    return Objects.requireNonNullElse(namespace, "");
+  }
+
+  private static boolean isSameText(XMLStreamReader first, XMLStreamReader second) {
+    var length = first.getTextLength();
+    var firstStart = first.getTextStart();
+    var secondStart = second.getTextStart();
+    if (length == second.getTextLength() && Arrays.equals(
+        first.getTextCharacters(), firstStart, firstStart + length,
+        second.getTextCharacters(), secondStart, secondStart + length)) {
+      return true;
+    }
+    return isSameUnescaped(first.getText(), second.getText());
+  }
+
+  private static boolean isSameValue(String first, @Nullable String second) {
+    if (Objects.isNull(second)) {
+      return false;
+    }
+    return first.equals(second) || isSameUnescaped(first, second);
+  }
+
+  private static boolean isSameUnescaped(String first, String second) {
+    if (first.indexOf('\\') < 0 && second.indexOf('\\') < 0) {
+      return false;
+    }
+    return StringEscapeUtils.unescapeJava(first).equals(StringEscapeUtils.unescapeJava(second));
+  }
+
+  private static void close(@Nullable XMLStreamReader reader) {
+    if (Objects.isNull(reader)) {
+      return;
+    }
+    try {
+      reader.close();
+    } catch (XMLStreamException exception) {
+      log.trace("Could not close xml stream reader", exception);
+    }
+  }
+}
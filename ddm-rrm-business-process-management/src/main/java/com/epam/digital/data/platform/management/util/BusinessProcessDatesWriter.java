@@ -0,0 +1,194 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.util;
+
+import com.epam.digital.data.platform.management.core.config.JacksonConfig;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.stream.events.Attribute;
+import javax.xml.stream.events.Characters;
+import javax.xml.stream.events.Comment;
+import javax.xml.stream.events.Namespace;
+import javax.xml.stream.events.ProcessingInstruction;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+
+/**
+ * Writes rrm:created and rrm:modified dates to the root element of the business process. The
+ * document is copied event by event and only the root element is changed, so the rest of the
+ * document is never loaded into memory as a tree.
+ */
+public class BusinessProcessDatesWriter {
+
+  private static final String RRM_PREFIX = "rrm";
+  private static final String CREATED_ATTRIBUTE = "created";
+  private static final String MODIFIED_ATTRIBUTE = "modified";
+
+  private BusinessProcessDatesWriter() {
+  }
+
+  /**
+   * Set created and modified dates of the business process
+   *
+   * @param processContent business process xml content
+   * @param created        date of the process creation
+   * @param modified       date of the process last modification
+   * @return process content with the dates
+   * @throws XMLStreamException if the content isn't a valid xml or contains a DTD
+   */
+  public static String writeDates(String processContent, LocalDateTime created,
+      LocalDateTime modified) throws XMLStreamException {
+    var result = new StringWriter();
+    XMLEventReader reader = null;
+    XMLStreamWriter writer = null;
+    try {
+      reader = XmlStreamFactories.INPUT_FACTORY.createXMLEventReader(
+          new StringReader(processContent));
+      writer = XmlStreamFactories.OUTPUT_FACTORY.createXMLStreamWriter(result);
+      var rootElementWritten = false;
+      while (reader.hasNext()) {
+        var event = reader.nextEvent();
+        switch (event.getEventType()) {
+          case XMLEvent.START_DOCUMENT:
+            writer.writeStartDocument("UTF-8", "1.0");
+            break;
+          case XMLEvent.END_DOCUMENT:
+            writer.writeEndDocument();
+            break;
+          case XMLEvent.START_ELEMENT:
+            var startElement = event.asStartElement();
+            var empty = reader.peek().isEndElement();
+            writeStartElement(writer, startElement, empty);
+            if (rootElementWritten) {
+              writeNamespacesAndAttributes(writer, startElement);
+            } else {
+              writeRootNamespacesAndAttributes(writer, startElement, created, modified);
+              rootElementWritten = true;
+            }
+            if (empty) {
+              reader.nextEvent();
+            }
+            break;
+          case XMLEvent.END_ELEMENT:
+            writer.writeEndElement();
+            break;
+          case XMLEvent.CHARACTERS:
+          case XMLEvent.SPACE:
+            writer.writeCharacters(event.asCharacters().getData());
+            break;
+          case XMLEvent.CDATA:
+            writer.writeCData(((Characters) event).getData());
+            break;
+          case XMLEvent.COMMENT:
+            writer.writeComment(((Comment) event).getText());
+            break;
+          case XMLEvent.PROCESSING_INSTRUCTION:
+            var instruction = (ProcessingInstruction) event;
+            writer.writeProcessingInstruction(instruction.getTarget(), instruction.getData());
+            break;
+          case XMLEvent.DTD:
+            throw new XMLStreamException("DOCTYPE is not allowed", event.getLocation());
+          default:
+            throw new XMLStreamException(
+                "Unsupported xml event type " + event.getEventType(), event.getLocation());
+        }
+      }
+      writer.flush();
+    } finally {
+      if (Objects.nonNull(writer)) {
+        writer.close();
+      }
+      if (Objects.nonNull(reader)) {
+        reader.close();
+      }
+    }
+    return result.toString();
+  }
+
+  private static void writeStartElement(XMLStreamWriter writer, StartElement element,
+      boolean empty) throws XMLStreamException {
+    var name = element.getName();
+    if (empty) {
+      writer.writeEmptyElement(name.getPrefix(), name.getLocalPart(), name.getNamespaceURI());
+    } else {
+      writer.writeStartElement(name.getPrefix(), name.getLocalPart(), name.getNamespaceURI());
+    }
+  }
+
+  private static void writeNamespacesAndAttributes(XMLStreamWriter writer, StartElement element)
+      throws XMLStreamException {
+    for (var namespaces = element.getNamespaces(); namespaces.hasNext(); ) {
+      writeNamespace(writer, (Namespace) namespaces.next());
+    }
+    for (var attributes = element.getAttributes(); attributes.hasNext(); ) {
+      writeAttribute(writer, (Attribute) attributes.next());
+    }
+  }
+
+  private static void writeRootNamespacesAndAttributes(XMLStreamWriter writer,
+      StartElement element, LocalDateTime created, LocalDateTime modified)
+      throws XMLStreamException {
+    var rrmNamespaceDeclared = false;
+    for (var namespaces = element.getNamespaces(); namespaces.hasNext(); ) {
+      var namespace = (Namespace) namespaces.next();
+      rrmNamespaceDeclared |= RRM_PREFIX.equals(namespace.getPrefix())
+          && BusinessProcessMetadataReader.RRM_NAMESPACE.equals(namespace.getNamespaceURI());
+      writeNamespace(writer, namespace);
+    }
+    if (!rrmNamespaceDeclared) {
+      writer.writeNamespace(RRM_PREFIX, BusinessProcessMetadataReader.RRM_NAMESPACE);
+    }
+    for (var attributes = element.getAttributes(); attributes.hasNext(); ) {
+      var attribute = (Attribute) attributes.next();
+      if (!isDateAttribute(attribute.getName())) {
+        writeAttribute(writer, attribute);
+      }
+    }
+    writer.writeAttribute(RRM_PREFIX, BusinessProcessMetadataReader.RRM_NAMESPACE,
+        MODIFIED_ATTRIBUTE, modified.format(JacksonConfig.DATE_TIME_FORMATTER));
+    writer.writeAttribute(RRM_PREFIX, BusinessProcessMetadataReader.RRM_NAMESPACE,
+        CREATED_ATTRIBUTE, created.format(JacksonConfig.DATE_TIME_FORMATTER));
+  }
+
+  private static boolean isDateAttribute(QName name) {
+    return BusinessProcessMetadataReader.RRM_NAMESPACE.equals(name.getNamespaceURI())
+        && (CREATED_ATTRIBUTE.equals(name.getLocalPart())
+        || MODIFIED_ATTRIBUTE.equals(name.getLocalPart()));
+  }
+
+  private static void writeNamespace(XMLStreamWriter writer, Namespace namespace)
+      throws XMLStreamException {
+    if (namespace.isDefaultNamespaceDeclaration()) {
+      writer.writeDefaultNamespace(namespace.getNamespaceURI());
+    } else {
+      writer.writeNamespace(namespace.getPrefix(), namespace.getNamespaceURI());
+    }
+  }
+
+  private static void writeAttribute(XMLStreamWriter writer, Attribute attribute)
+      throws XMLStreamException {
+    var name = attribute.getName();
+    writer.writeAttribute(name.getPrefix(), name.getNamespaceURI(), name.getLocalPart(),
+        attribute.getValue());
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.util;
+
+import com.epam.digital.data.platform.management.core.config.JacksonConfig;
+import com.epam.digital.data.platform.management.model.dto.BusinessProcessMetadataDto;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+/**
+ * Reads business process metadata (rrm:created and rrm:modified attributes of the root element and
+ * the name of the first bpmn:process element) from the process xml event stream. The document is
+ * not loaded into memory and reading stops at the first process element, so the diagram part of
+ * the document is never read. Hence, the reader doesn't detect errors in the document after the
+ * first process element, it's up to the process validation on save.
+ */
+@Slf4j
+public class BusinessProcessMetadataReader {
+
+  public static final String RRM_NAMESPACE = "http://registry-regulation-management";
+  public static final String BPMN_NAMESPACE = "http://www.omg.org/spec/BPMN/20100524/MODEL";
+
+  private static final String CREATED_ATTRIBUTE = "created";
+  private static final String MODIFIED_ATTRIBUTE = "modified";
+  private static final String PROCESS_ELEMENT = "process";
+  private static final String NAME_ATTRIBUTE = "name";
+
+  private BusinessProcessMetadataReader() {
+  }
+
+  /**
+   * Read metadata of the business process
+   *
+   * @param processContent business process xml content
+   * @return {@link BusinessProcessMetadataDto} process metadata or null if the content isn't a
+   * valid xml up to the first process element
+   */
+  @Nullable
+  public static BusinessProcessMetadataDto read(String processContent) {
+    if (Objects.isNull(processContent)) {
+      return null;
+    }
+    XMLStreamReader reader = null;
+    try {
+      reader = XmlStreamFactories.INPUT_FACTORY.createXMLStreamReader(
+          new StringReader(processContent));
+      reader.nextTag();
+      var metadata = BusinessProcessMetadataDto.builder()
+          .created(parseDate(reader.getAttributeValue(RRM_NAMESPACE, CREATED_ATTRIBUTE)))
+          .modified(parseDate(reader.getAttributeValue(RRM_NAMESPACE, MODIFIED_ATTRIBUTE)));
+      while (reader.hasNext()) {
+        if (reader.next() == XMLStreamConstants.START_ELEMENT
+            && PROCESS_ELEMENT.equals(reader.getLocalName())
+            && BPMN_NAMESPACE.equals(reader.getNamespaceURI())) {
+          metadata.title(reader.getAttributeValue(null, NAME_ATTRIBUTE));
+          break;
+        }
+      }
+      return metadata.build();
+    } catch (XMLStreamException exception) {
+      log.warn("Exception during processing xml document : {}", exception.getMessage());
+      return null;
+    } finally {
+      close(reader);
+    }
+  }
+
+  @Nullable
+  private static LocalDateTime parseDate(@Nullable String date) {
+    return Objects.isNull(date) ? null
+        : LocalDateTime.parse(date, JacksonConfig.DATE_TIME_FORMATTER);
+  }
+
+  private static void close(@Nullable XMLStreamReader reader) {
+    if (Objects.isNull(reader)) {
+      return;
+    }
+    try {
+      reader.close();
+    } catch (XMLStreamException exception) {
+      log.trace("Could not close xml stream reader", exception);
+    }
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.util;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+
+/**
+ * Shared StAX factories. The factories are thread-safe once configured, so they are created only
+ * once instead of looking up the implementation on every use. Input factories don't support DTDs
+ * and external entities.
+ */
+final class XmlStreamFactories {
+
+  static final XMLInputFactory INPUT_FACTORY = createInputFactory(false);
+  /**
+   * Input factory that reports adjacent text and CDATA sections as one characters event
+   */
+  static final XMLInputFactory COALESCING_INPUT_FACTORY = createInputFactory(true);
+  static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
+  private XmlStreamFactories() {
+  }
+
+  private static XMLInputFactory createInputFactory(boolean coalescing) {
+    var xmlInputFactory = XMLInputFactory.newInstance();
+    xmlInputFactory.setProperty(XMLInputFactory.IS_COALESCING, coalescing);
+    xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    xmlInputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+    return xmlInputFactory;
+  }
+}
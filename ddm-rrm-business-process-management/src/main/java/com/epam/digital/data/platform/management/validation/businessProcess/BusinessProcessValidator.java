@@ -16,25 +16,30 @@
 
 package com.epam.digital.data.platform.management.validation.businessProcess;
 
+import com.epam.digital.data.platform.management.core.utils.LazySchema;
 import java.io.IOException;
 import java.io.StringReader;
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
-import javax.xml.XMLConstants;
 import javax.xml.transform.stream.StreamSource;
-import javax.xml.validation.SchemaFactory;
-import javax.xml.validation.Validator;
+import javax.xml.validation.Schema;
 import org.xml.sax.SAXException;
 
+/**
+ * Validates business process content against {@link #DDM_BP_SCHEMA}
+ */
 public class BusinessProcessValidator implements ConstraintValidator<BusinessProcess, String> {
 
   public static final String SCHEMA_PATH = "/org/camunda/bpm/model/bpmn/schema/";
   public static final String DDM_BP_SCHEMA = SCHEMA_PATH + "bp-schema.xsd";
 
+  private static final LazySchema SCHEMA = new LazySchema(
+      BusinessProcessValidator.class.getResource(DDM_BP_SCHEMA), new SchemaResolver(SCHEMA_PATH));
+
   @Override
   public boolean isValid(String bpContent, ConstraintValidatorContext constraintValidatorContext) {
     try (var businessProcessReader = new StringReader(bpContent)) {
-      var validator = initValidator();
+      var validator = getSchema().newValidator();
       validator.validate(new StreamSource(businessProcessReader));
     } catch (SAXException | IOException e) {
       constraintValidatorContext.disableDefaultConstraintViolation();
@@ -45,11 +50,13 @@ public class BusinessProcessValidator implements ConstraintValidator<BusinessPro
     return true;
   }
 
-  private Validator initValidator() throws SAXException, IOException {
-    var resourceDdm = getClass().getResource(DDM_BP_SCHEMA);
-    var factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-    factory.setResourceResolver(new SchemaResolver(SCHEMA_PATH));
-    var schema = factory.newSchema(new StreamSource(resourceDdm.toExternalForm()));
-    return schema.newValidator();
+  /**
+   * Returns compiled business process schema
+   *
+   * @return compiled {@link Schema}
+   * @throws SAXException if the schema could not be compiled
+   */
+  static Schema getSchema() throws SAXException {
+    return SCHEMA.get();
   }
 }
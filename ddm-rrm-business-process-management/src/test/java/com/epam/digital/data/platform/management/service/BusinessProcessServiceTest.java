@@ -22,23 +22,26 @@ import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.never;
 import static org.springframework.util.StreamUtils.copyToString;
 
-import com.epam.digital.data.platform.management.config.XmlParserConfig;
 import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
 import com.epam.digital.data.platform.management.core.context.VersionContextComponentManager;
+import com.epam.digital.data.platform.management.core.model.VersionConflicts;
 import com.epam.digital.data.platform.management.core.service.CacheService;
 import com.epam.digital.data.platform.management.exception.BusinessProcessAlreadyExistsException;
 import com.epam.digital.data.platform.management.exception.ProcessNotFoundException;
 import com.epam.digital.data.platform.management.filemanagement.model.FileStatus;
 import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileDatesDto;
 import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileInfoDto;
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileListRequest;
 import com.epam.digital.data.platform.management.filemanagement.service.VersionedFileRepository;
+import com.epam.digital.data.platform.management.index.BusinessProcessIndex;
 import com.epam.digital.data.platform.management.mapper.BusinessProcessMapper;
 import com.epam.digital.data.platform.management.model.dto.BusinessProcessInfoDto;
 import com.epam.digital.data.platform.management.service.impl.BusinessProcessServiceImpl;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
-import javax.xml.parsers.DocumentBuilder;
+import java.util.Map;
+import java.util.Set;
 import lombok.SneakyThrows;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -50,13 +53,10 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.Spy;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Import;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.xmlunit.builder.DiffBuilder;
 import org.xmlunit.diff.Diff;
 
-@Import(XmlParserConfig.class)
 @ExtendWith(SpringExtension.class)
 public class BusinessProcessServiceTest {
 
@@ -80,8 +80,6 @@ public class BusinessProcessServiceTest {
   private GerritPropertiesConfig gerritPropertiesConfig;
   @Mock
   private CacheService cacheService;
-  @Autowired
-  private DocumentBuilder documentBuilder;
 
   @Spy
   private BusinessProcessMapper businessProcessMapper =
@@ -97,7 +95,6 @@ public class BusinessProcessServiceTest {
             versionContextComponentManager,
             businessProcessMapper,
             gerritPropertiesConfig,
-            documentBuilder,
             cacheService);
     Mockito.when(
             versionContextComponentManager.getComponent(VERSION_ID, VersionedFileRepository.class))
@@ -106,6 +103,10 @@ public class BusinessProcessServiceTest {
             versionContextComponentManager.getComponent(
                 gerritPropertiesConfig.getHeadBranch(), VersionedFileRepository.class))
         .thenReturn(masterRepository);
+    Mockito.when(
+            versionContextComponentManager.getComponent(VERSION_ID, BusinessProcessIndex.class))
+        .thenReturn(new BusinessProcessIndex());
+    Mockito.when(cacheService.getConflictsCache(VERSION_ID)).thenReturn(VersionConflicts.EMPTY);
   }
 
   @Test
@@ -143,6 +144,67 @@ public class BusinessProcessServiceTest {
         .isEqualTo(expectedBusinessProcess);
   }
 
+  @Test
+  @SneakyThrows
+  void getBusinessProcessesPageByVersionTest() {
+    var firstProcess = VersionedFileInfoDto.builder().name("a-process")
+        .path("bpmn/a-process." + BPMN_FILE_EXTENSION).status(FileStatus.NEW).build();
+    var secondProcess = VersionedFileInfoDto.builder().name("b-process")
+        .path("bpmn/b-process." + BPMN_FILE_EXTENSION).status(FileStatus.CHANGED).build();
+    var thirdProcess = VersionedFileInfoDto.builder().name("c-process")
+        .path("bpmn/c-process." + BPMN_FILE_EXTENSION).status(FileStatus.UNCHANGED).build();
+    Mockito.doReturn(List.of(firstProcess, secondProcess, thirdProcess))
+        .when(repository).getFileList("bpmn");
+    Mockito.doReturn(PROCESS_CONTENT).when(repository).readFile(anyString());
+
+    var page = businessProcessService.getProcessesByVersion(VERSION_ID,
+        VersionedFileListRequest.builder().limit(1).search("really").build());
+
+    Assertions.assertThat(page.getItems()).extracting(BusinessProcessInfoDto::getName)
+        .containsExactly("a-process");
+    Assertions.assertThat(page.getNextCursor()).isEqualTo("a-process");
+    Mockito.verify(repository, never()).readFile("bpmn/b-process." + BPMN_FILE_EXTENSION);
+    Mockito.verify(repository, never()).readFile("bpmn/c-process." + BPMN_FILE_EXTENSION);
+
+    var nextPage = businessProcessService.getProcessesByVersion(VERSION_ID,
+        VersionedFileListRequest.builder()
+            .cursor("a-process")
+            .statuses(Set.of(FileStatus.UNCHANGED))
+            .build());
+
+    Assertions.assertThat(nextPage.getItems()).extracting(BusinessProcessInfoDto::getName)
+        .containsExactly("c-process");
+    Assertions.assertThat(nextPage.getNextCursor()).isNull();
+  }
+
+  @Test
+  @SneakyThrows
+  void getBusinessProcessesLastPageByVersionTest() {
+    var firstProcess = VersionedFileInfoDto.builder().name("a-process")
+        .path("bpmn/a-process." + BPMN_FILE_EXTENSION).status(FileStatus.NEW).build();
+    var invalidProcess = VersionedFileInfoDto.builder().name("b-process")
+        .path("bpmn/b-process." + BPMN_FILE_EXTENSION).status(FileStatus.CHANGED).build();
+    Mockito.doReturn(List.of(firstProcess, invalidProcess)).when(repository).getFileList("bpmn");
+    Mockito.doReturn(PROCESS_CONTENT).when(repository)
+        .readFile("bpmn/a-process." + BPMN_FILE_EXTENSION);
+    Mockito.doReturn("invalid").when(repository)
+        .readFile("bpmn/b-process." + BPMN_FILE_EXTENSION);
+
+    var page = businessProcessService.getProcessesByVersion(VERSION_ID,
+        VersionedFileListRequest.builder().limit(1).build());
+
+    Assertions.assertThat(page.getItems()).extracting(BusinessProcessInfoDto::getName)
+        .containsExactly("a-process");
+    Assertions.assertThat(page.getNextCursor()).isEqualTo("a-process");
+    Mockito.verify(repository, never()).readFile("bpmn/b-process." + BPMN_FILE_EXTENSION);
+
+    var nextPage = businessProcessService.getProcessesByVersion(VERSION_ID,
+        VersionedFileListRequest.builder().cursor("a-process").limit(1).build());
+
+    Assertions.assertThat(nextPage.getItems()).isEmpty();
+    Assertions.assertThat(nextPage.getNextCursor()).isNull();
+  }
+
   @Test
   @SneakyThrows
   void getBusinessProcessesListByVersionTest_noDatesInContent() {
@@ -163,8 +225,9 @@ public class BusinessProcessServiceTest {
         .getFileList("bpmn");
     Mockito.doReturn(PROCESS_CONTENT_WITHOUT_DATES).when(repository)
         .readFile("bpmn/business-process." + BPMN_FILE_EXTENSION);
-    Mockito.doReturn(newProcessDates).when(repository)
-        .getVersionedFileDates("bpmn/business-process." + BPMN_FILE_EXTENSION);
+    Mockito.doReturn(Map.of("bpmn/business-process." + BPMN_FILE_EXTENSION, newProcessDates))
+        .when(repository)
+        .getVersionedFileDates(List.of("bpmn/business-process." + BPMN_FILE_EXTENSION));
 
     var expectedBusinessProcessesList = businessProcessService.getProcessesByVersion(VERSION_ID);
     var expectedBusinessProcess = BusinessProcessInfoDto.builder()
@@ -180,6 +243,8 @@ public class BusinessProcessServiceTest {
         .hasSize(1)
         .element(0)
         .isEqualTo(expectedBusinessProcess);
+    Mockito.verify(repository)
+        .getVersionedFileDates(List.of("bpmn/business-process." + BPMN_FILE_EXTENSION));
   }
 
   @Test
@@ -221,7 +286,7 @@ public class BusinessProcessServiceTest {
     Mockito.when(masterRepository.readFile("bpmn/business-process." + BPMN_FILE_EXTENSION))
         .thenReturn(PROCESS_CONTENT);
     Mockito.when(cacheService.getConflictsCache(VERSION_ID))
-        .thenReturn(List.of("bpmn/business-process." + BPMN_FILE_EXTENSION));
+        .thenReturn(VersionConflicts.of(List.of("bpmn/business-process." + BPMN_FILE_EXTENSION)));
 
     List<BusinessProcessInfoDto> expectedBusinessProcessesList =
         businessProcessService.getChangedProcessesByVersion(VERSION_ID);
@@ -316,6 +381,40 @@ public class BusinessProcessServiceTest {
         .hasMessage("Process business-process not found");
   }
 
+  @Test
+  @SneakyThrows
+  void getBusinessProcessETagTest() {
+    Mockito.when(repository.getFileETag("bpmn/business-process." + BPMN_FILE_EXTENSION))
+        .thenReturn("\"1\"");
+
+    Assertions.assertThat(businessProcessService.getProcessETag("business-process", VERSION_ID))
+        .isEqualTo("\"1\"");
+    Mockito.verify(repository, never()).updateRepository();
+    Mockito.verify(repository, never()).readFile(anyString());
+  }
+
+  @Test
+  @SneakyThrows
+  void getBusinessProcessListETagTest() {
+    Mockito.when(repository.getHeadCommitId()).thenReturn("versionCommitId");
+    Mockito.when(masterRepository.getHeadCommitId()).thenReturn("masterCommitId");
+    Mockito.when(repository.getChangeRevision()).thenReturn("refs/changes/01/1/1");
+
+    var eTag = businessProcessService.getProcessListETag(VERSION_ID);
+    Assertions.assertThat(eTag).startsWith("W/");
+    Assertions.assertThat(businessProcessService.getProcessListETag(VERSION_ID)).isEqualTo(eTag);
+
+    Mockito.when(repository.getHeadCommitId()).thenReturn("newVersionCommitId");
+    var newCommitETag = businessProcessService.getProcessListETag(VERSION_ID);
+    Assertions.assertThat(newCommitETag).isNotEqualTo(eTag);
+
+    Mockito.when(repository.getChangeRevision()).thenReturn("refs/changes/01/1/2");
+    Assertions.assertThat(businessProcessService.getProcessListETag(VERSION_ID))
+        .isNotEqualTo(eTag)
+        .isNotEqualTo(newCommitETag);
+    Mockito.verify(repository, never()).getFileList(anyString());
+  }
+
   @Test
   @SneakyThrows
   void updateBusinessProcessNoErrorTest() {
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.util;
+
+import com.epam.digital.data.platform.management.TestUtils;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BusinessProcessContentComparator#isEqualIgnoringMetadata(String, String)")
+class BusinessProcessContentComparatorTest {
+
+  private static final String PROCESS_CONTENT = TestUtils.getContent("bp-sample.bpmn");
+
+  @Test
+  @DisplayName("should ignore root dates, formatting, prefixes, attributes order and escaping")
+  void equalIgnoringMetadataTest() {
+    Assertions.assertThat(BusinessProcessContentComparator.isEqualIgnoringMetadata(
+        PROCESS_CONTENT, TestUtils.getContent("bp-sample-unicode.bpmn"))).isTrue();
+    Assertions.assertThat(BusinessProcessContentComparator.isEqualIgnoringMetadata(
+        PROCESS_CONTENT, TestUtils.getContent("bp-sample-without-dates.bpmn"))).isTrue();
+    Assertions.assertThat(BusinessProcessContentComparator.isEqualIgnoringMetadata(
+        "<p:a xmlns:p=\"urn:a\" xmlns:rrm=\"http://registry-regulation-management\" "
+            + "rrm:modified=\"2022-10-03T14:41:20.128Z\" x=\"1\" y=\"2\"><p:b/></p:a>",
+        "<a xmlns=\"urn:a\" y=\"2\" x=\"1\">\n  <b></b>\n</a>")).isTrue();
+    Assertions.assertThat(BusinessProcessContentComparator.isEqualIgnoringMetadata(
+        "<a>text<![CDATA[ & more]]></a>", "<a>text &amp; more</a>")).isTrue();
+  }
+
+  @Test
+  @DisplayName("should detect changes of elements, attributes and text")
+  void notEqualTest() {
+    var changedBounds = PROCESS_CONTENT.replaceFirst(
+        "<dc:Bounds x=\"179\" y=\"79\" width=\"36\" height=\"36\" />",
+        "<dc:Bounds x=\"179\" y=\"791\" width=\"36\" height=\"36\" />");
+
+    Assertions.assertThat(BusinessProcessContentComparator.isEqualIgnoringMetadata(
+        PROCESS_CONTENT, changedBounds)).isFalse();
+    Assertions.assertThat(BusinessProcessContentComparator.isEqualIgnoringMetadata(
+        "<a x=\"1\"/>", "<a x=\"1\" y=\"2\"/>")).isFalse();
+    Assertions.assertThat(BusinessProcessContentComparator.isEqualIgnoringMetadata(
+        "<a>text</a>", "<a>test</a>")).isFalse();
+    Assertions.assertThat(BusinessProcessContentComparator.isEqualIgnoringMetadata(
+        "<p:a xmlns:p=\"urn:a\"/>", "<p:a xmlns:p=\"urn:b\"/>")).isFalse();
+  }
+
+  @Test
+  @DisplayName("should not ignore dates of nested elements")
+  void nestedMetadataAttributesTest() {
+    Assertions.assertThat(BusinessProcessContentComparator.isEqualIgnoringMetadata(
+        "<a><b xmlns:rrm=\"http://registry-regulation-management\" rrm:modified=\"1\"/></a>",
+        "<a><b/></a>")).isFalse();
+  }
+
+  @Test
+  @DisplayName("should return false if any content is not a valid xml")
+  void invalidContentTest() {
+    Assertions.assertThat(BusinessProcessContentComparator.isEqualIgnoringMetadata(
+        "<a>", "<a/>")).isFalse();
+    Assertions.assertThat(BusinessProcessContentComparator.isEqualIgnoringMetadata(
+        "<!DOCTYPE a><a/>", "<a/>")).isFalse();
+    Assertions.assertThat(BusinessProcessContentComparator.isEqualIgnoringMetadata(
+        PROCESS_CONTENT, null)).isFalse();
+  }
+}
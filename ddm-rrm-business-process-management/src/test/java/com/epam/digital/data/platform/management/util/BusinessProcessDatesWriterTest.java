@@ -0,0 +1,128 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.util;
+
+import com.epam.digital.data.platform.management.TestUtils;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.xml.stream.XMLStreamException;
+import lombok.SneakyThrows;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.xmlunit.builder.DiffBuilder;
+
+@DisplayName("BusinessProcessDatesWriter#writeDates(String, LocalDateTime, LocalDateTime)")
+class BusinessProcessDatesWriterTest {
+
+  private static final LocalDateTime CREATED = LocalDateTime.of(2023, 1, 2, 10, 20, 30);
+  private static final LocalDateTime MODIFIED = LocalDateTime.of(2023, 2, 3, 11, 21, 31);
+
+  @Test
+  @DisplayName("should replace dates of the root element and keep the rest of the document")
+  @SneakyThrows
+  void writeDatesTest() {
+    var content = TestUtils.getContent("bp-sample.bpmn");
+
+    var result = BusinessProcessDatesWriter.writeDates(content, CREATED, MODIFIED);
+
+    var metadata = BusinessProcessMetadataReader.read(result);
+    Assertions.assertThat(metadata).isNotNull();
+    Assertions.assertThat(metadata.getCreated()).isEqualTo(CREATED);
+    Assertions.assertThat(metadata.getModified()).isEqualTo(MODIFIED);
+    var diff = DiffBuilder.compare(content)
+        .withTest(result)
+        .withAttributeFilter(attr -> !"http://registry-regulation-management"
+            .equals(attr.getNamespaceURI()))
+        .build();
+    Assertions.assertThat(diff.hasDifferences()).isFalse();
+    Assertions.assertThat(result).containsOnlyOnce("xmlns:rrm=");
+  }
+
+  @Test
+  @DisplayName("should declare rrm namespace if there are no dates in the document")
+  @SneakyThrows
+  void writeDatesWithoutNamespaceTest() {
+    var result = BusinessProcessDatesWriter.writeDates(
+        "<definitions xmlns=\"http://www.omg.org/spec/BPMN/20100524/MODEL\">"
+            + "<process name=\"p\"><![CDATA[a < b]]><!-- comment --><task/></process>"
+            + "</definitions>", CREATED, MODIFIED);
+
+    Assertions.assertThat(result)
+        .startsWith("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+        .contains("xmlns:rrm=\"http://registry-regulation-management\"")
+        .contains("rrm:created=\"2023-01-02T10:20:30.000Z\"")
+        .contains("rrm:modified=\"2023-02-03T11:21:31.000Z\"")
+        .contains("<!-- comment --><task/></process>");
+    Assertions.assertThat(BusinessProcessMetadataReader.read(result))
+        .extracting("title").isEqualTo("p");
+  }
+
+  @Test
+  @DisplayName("should fail on invalid documents and doctype declarations")
+  void writeDatesInvalidContentTest() {
+    Assertions.assertThatThrownBy(
+            () -> BusinessProcessDatesWriter.writeDates("Invalid content", CREATED, MODIFIED))
+        .isInstanceOf(XMLStreamException.class);
+    Assertions.assertThatThrownBy(
+            () -> BusinessProcessDatesWriter.writeDates("<a><b></a>", CREATED, MODIFIED))
+        .isInstanceOf(XMLStreamException.class);
+    Assertions.assertThatThrownBy(() -> BusinessProcessDatesWriter.writeDates(
+            "<!DOCTYPE foo [<!ENTITY xxe SYSTEM \"file:///etc/passwd\">]><foo>&xxe;</foo>",
+            CREATED, MODIFIED))
+        .isInstanceOf(XMLStreamException.class);
+  }
+
+  @Test
+  @DisplayName("should write dates from many threads at the same time")
+  @SneakyThrows
+  void writeDatesConcurrentlyTest() {
+    var content = TestUtils.getContent("bp-sample.bpmn");
+    var threads = 8;
+    var executorService = Executors.newFixedThreadPool(threads);
+    try {
+      var tasks = new ArrayList<Callable<Integer>>();
+      for (var thread = 0; thread < threads; thread++) {
+        var created = CREATED.plusDays(thread);
+        tasks.add(() -> {
+          var mismatches = 0;
+          for (var i = 0; i < 500; i++) {
+            var modified = MODIFIED.plusSeconds(i);
+            var metadata = BusinessProcessMetadataReader.read(
+                BusinessProcessDatesWriter.writeDates(content, created, modified));
+            if (metadata == null || !created.equals(metadata.getCreated())
+                || !modified.equals(metadata.getModified())) {
+              mismatches++;
+            }
+          }
+          return mismatches;
+        });
+      }
+      var mismatches = 0;
+      for (var future : executorService.invokeAll(tasks)) {
+        mismatches += future.get();
+      }
+      Assertions.assertThat(mismatches).isZero();
+    } finally {
+      executorService.shutdownNow();
+      Assertions.assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.util;
+
+import com.epam.digital.data.platform.management.TestUtils;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BusinessProcessMetadataReader#read(String)")
+class BusinessProcessMetadataReaderTest {
+
+  private static final int THREADS = 8;
+  private static final int DOCUMENTS_PER_THREAD = 500;
+
+  @Test
+  @DisplayName("should read dates of the root element and name of the first process")
+  void readTest() {
+    var metadata = BusinessProcessMetadataReader.read(TestUtils.getContent("bp-sample.bpmn"));
+
+    Assertions.assertThat(metadata).isNotNull();
+    Assertions.assertThat(metadata.getTitle()).isEqualTo("Really test name");
+    Assertions.assertThat(metadata.getCreated())
+        .isEqualTo(LocalDateTime.of(2022, 10, 3, 14, 41, 20, 128_000_000));
+    Assertions.assertThat(metadata.getModified())
+        .isEqualTo(LocalDateTime.of(2022, 10, 3, 14, 41, 20, 128_000_000));
+  }
+
+  @Test
+  @DisplayName("should return null dates if there are no dates in the process")
+  void readWithoutDatesTest() {
+    var metadata = BusinessProcessMetadataReader.read(
+        TestUtils.getContent("bp-sample-without-dates.bpmn"));
+
+    Assertions.assertThat(metadata).isNotNull();
+    Assertions.assertThat(metadata.getTitle()).isEqualTo("Really test name");
+    Assertions.assertThat(metadata.getCreated()).isNull();
+    Assertions.assertThat(metadata.getModified()).isNull();
+  }
+
+  @Test
+  @DisplayName("should match elements and attributes by namespace and stop at the first process")
+  void readOtherPrefixesTest() {
+    var metadata = BusinessProcessMetadataReader.read("<definitions"
+        + " xmlns=\"http://www.omg.org/spec/BPMN/20100524/MODEL\""
+        + " xmlns:reg=\"http://registry-regulation-management\""
+        + " reg:created=\"2022-10-03T14:41:20.128Z\">"
+        + "<process id=\"first\" name=\"First process\"/>"
+        + "<process id=\"second\" name=\"Second process\"/><broken");
+
+    Assertions.assertThat(metadata).isNotNull();
+    Assertions.assertThat(metadata.getTitle()).isEqualTo("First process");
+    Assertions.assertThat(metadata.getCreated())
+        .isEqualTo(LocalDateTime.of(2022, 10, 3, 14, 41, 20, 128_000_000));
+    Assertions.assertThat(metadata.getModified()).isNull();
+  }
+
+  @Test
+  @DisplayName("should read metadata of document that is malformed after the first process")
+  void readMalformedAfterProcessTest() {
+    var metadata = BusinessProcessMetadataReader.read("<bpmn:definitions"
+        + " xmlns:bpmn=\"http://www.omg.org/spec/BPMN/20100524/MODEL\">"
+        + "<bpmn:process id=\"process\" name=\"Process\"></bpmn:process>"
+        + "<bpmndi:BPMNDiagram id=\"diagram\"></bpmn:definitions>");
+
+    Assertions.assertThat(metadata).isNotNull();
+    Assertions.assertThat(metadata.getTitle()).isEqualTo("Process");
+  }
+
+  @Test
+  @DisplayName("should return null if document is malformed before the first process")
+  void readMalformedBeforeProcessTest() {
+    var metadata = BusinessProcessMetadataReader.read("<bpmn:definitions"
+        + " xmlns:bpmn=\"http://www.omg.org/spec/BPMN/20100524/MODEL\">"
+        + "<bpmn:message id=\"message\"></bpmn:definitions>"
+        + "<bpmn:process id=\"process\" name=\"Process\"></bpmn:process>");
+
+    Assertions.assertThat(metadata).isNull();
+  }
+
+  @Test
+  @DisplayName("should return null if content is not a valid xml")
+  void readInvalidContentTest() {
+    Assertions.assertThat(BusinessProcessMetadataReader.read("Invalid content")).isNull();
+    Assertions.assertThat(BusinessProcessMetadataReader.read(
+        "<!DOCTYPE foo [<!ENTITY xxe SYSTEM \"file:///etc/passwd\">]><foo>&xxe;</foo>")).isNull();
+    Assertions.assertThat(BusinessProcessMetadataReader.read(null)).isNull();
+  }
+
+  @Test
+  @DisplayName("should read documents from many threads at the same time")
+  @SneakyThrows
+  void readConcurrentlyTest() {
+    var executorService = Executors.newFixedThreadPool(THREADS);
+    try {
+      var tasks = new ArrayList<Callable<Integer>>();
+      for (var thread = 0; thread < THREADS; thread++) {
+        var threadNumber = thread;
+        tasks.add(() -> {
+          var mismatches = 0;
+          for (var i = 0; i < DOCUMENTS_PER_THREAD; i++) {
+            var name = threadNumber + "-" + i;
+            var metadata = BusinessProcessMetadataReader.read(createDocument(name));
+            if (metadata == null || !name.equals(metadata.getTitle())) {
+              mismatches++;
+            }
+          }
+          return mismatches;
+        });
+      }
+      var mismatches = 0;
+      for (var future : executorService.invokeAll(tasks)) {
+        mismatches += future.get();
+      }
+      Assertions.assertThat(mismatches).isZero();
+    } finally {
+      executorService.shutdownNow();
+      Assertions.assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+  }
+
+  @Test
+  @DisplayName("should keep reading after an invalid document")
+  void readAfterInvalidContentTest() {
+    Assertions.assertThat(BusinessProcessMetadataReader.read("<definitions")).isNull();
+
+    var metadata = BusinessProcessMetadataReader.read(createDocument("valid"));
+
+    Assertions.assertThat(metadata).isNotNull();
+    Assertions.assertThat(metadata.getTitle()).isEqualTo("valid");
+  }
+
+  private static String createDocument(String name) {
+    var content = new StringBuilder("<definitions xmlns=\"")
+        .append(BusinessProcessMetadataReader.BPMN_NAMESPACE)
+        .append("\"><process id=\"process\" name=\"").append(name).append("\">");
+    for (var i = 0; i < 50; i++) {
+      content.append("<task name=\"").append(name).append('-').append(i).append("\"/>");
+    }
+    return content.append("</process></definitions>").toString();
+  }
+}
@@ -21,6 +21,9 @@ import static org.mockito.ArgumentMatchers.anyString;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.validation.ConstraintValidatorContext;
 import lombok.SneakyThrows;
 import org.assertj.core.api.Assertions;
@@ -111,6 +114,40 @@ public class BusinessProcessValidatorTest {
     //check if there is no error, but not real value
   }
 
+  @Test
+  @SneakyThrows
+  void testBpSchemaIsCompiledOnceTest() {
+    new BusinessProcessSchemaWarmUpListener().handleApplicationStartedEvent(null);
+    var warmedSchema = BusinessProcessValidator.getSchema();
+
+    var content = Files.readString(getFile("bp-no-dates.xml").toPath(), StandardCharsets.UTF_8);
+    Assertions.assertThat(new BusinessProcessValidator().isValid(content, context)).isTrue();
+
+    Assertions.assertThat(BusinessProcessValidator.getSchema()).isSameAs(warmedSchema);
+  }
+
+  @Test
+  @SneakyThrows
+  void testBpValidationConcurrentTest() {
+    var valid = Files.readString(getFile("bp-no-dates.xml").toPath(), StandardCharsets.UTF_8);
+    var invalid = Files.readString(getFile("bp-incorrect-tag.xml").toPath(),
+        StandardCharsets.UTF_8);
+
+    var executor = Executors.newFixedThreadPool(8);
+    try {
+      var results = new ArrayList<Future<Boolean>>();
+      for (int i = 0; i < 32; i++) {
+        var content = i % 2 == 0 ? valid : invalid;
+        results.add(executor.submit(() -> businessProcessValidator.isValid(content, context)));
+      }
+      for (int i = 0; i < results.size(); i++) {
+        Assertions.assertThat(results.get(i).get()).isEqualTo(i % 2 == 0);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   private File getFile(String location) {
     return new File(getClass().getClassLoader().getResource(location).getFile());
   }
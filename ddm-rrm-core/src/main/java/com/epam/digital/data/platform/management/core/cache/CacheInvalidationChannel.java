@@ -0,0 +1,40 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.core.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Channel that delivers {@link CacheInvalidationMessage cache invalidation messages} between
+ * replicas
+ */
+public interface CacheInvalidationChannel {
+
+  /**
+   * Send invalidation message to every subscriber of the channel including the sender itself
+   *
+   * @param message invalidation message
+   */
+  void publish(CacheInvalidationMessage message);
+
+  /**
+   * Register invalidation message listener
+   *
+   * @param listener invalidation message listener
+   */
+  void subscribe(Consumer<CacheInvalidationMessage> listener);
+}
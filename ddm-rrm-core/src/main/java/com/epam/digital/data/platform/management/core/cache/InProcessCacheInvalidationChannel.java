@@ -0,0 +1,40 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.core.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * {@link CacheInvalidationChannel} that delivers messages synchronously inside a single JVM. It
+ * can be shared between several {@link NearCacheManager near cache managers} to emulate replicas.
+ */
+public class InProcessCacheInvalidationChannel implements CacheInvalidationChannel {
+
+  private final List<Consumer<CacheInvalidationMessage>> listeners = new CopyOnWriteArrayList<>();
+
+  @Override
+  public void publish(CacheInvalidationMessage message) {
+    listeners.forEach(listener -> listener.accept(message));
+  }
+
+  @Override
+  public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+    listeners.add(listener);
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.core.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.lang.NonNull;
+
+/**
+ * {@link CaffeineCacheManager} that binds hit/miss/eviction metrics of every region at the moment
+ * the region is created, so regions registered up front, regions created on demand and local tiers
+ * of {@link NearCache near caches} are reported the same way.
+ * <p>
+ * Metrics are tagged as actuator tags metrics of the {@code cacheManager} bean, so the regions that
+ * actuator binds on startup aren't reported twice.
+ */
+public class MeteredCaffeineCacheManager extends CaffeineCacheManager {
+
+  static final String CACHE_MANAGER_TAG = "cacheManager";
+  static final String CACHE_MANAGER_NAME = "cacheManager";
+
+  private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+  public MeteredCaffeineCacheManager(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+    this.meterRegistryProvider = meterRegistryProvider;
+  }
+
+  @Override
+  @NonNull
+  protected Cache adaptCaffeineCache(@NonNull String name,
+      @NonNull com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+    meterRegistryProvider.ifAvailable(meterRegistry -> CaffeineCacheMetrics.monitor(meterRegistry,
+        cache, name, Tags.of(CACHE_MANAGER_TAG, CACHE_MANAGER_NAME)));
+    return super.adaptCaffeineCache(name, cache);
+  }
+}
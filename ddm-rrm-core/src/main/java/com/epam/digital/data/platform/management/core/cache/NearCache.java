@@ -0,0 +1,167 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.core.cache;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Two-tier {@link Cache}: values are read from the replica-local cache first and from the cache
+ * shared between replicas on local miss. Every change of the shared tier is announced to other
+ * replicas so they drop their local copies of the version.
+ * <p>
+ * Shared tier failures don't break the cache, it degrades to the local tier only.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class NearCache implements Cache {
+
+  private final Cache localCache;
+  private final Cache sharedCache;
+  private final Consumer<String> invalidationPublisher;
+
+  @Override
+  @NonNull
+  public String getName() {
+    return localCache.getName();
+  }
+
+  @Override
+  @NonNull
+  public Object getNativeCache() {
+    return sharedCache.getNativeCache();
+  }
+
+  @Override
+  @Nullable
+  public ValueWrapper get(@NonNull Object key) {
+    var localValue = localCache.get(key);
+    if (Objects.nonNull(localValue)) {
+      return localValue;
+    }
+    var sharedValue = getShared(key);
+    if (Objects.nonNull(sharedValue)) {
+      localCache.put(key, sharedValue.get());
+    }
+    return sharedValue;
+  }
+
+  @Override
+  @Nullable
+  @SuppressWarnings("unchecked")
+  public <T> T get(@NonNull Object key, @Nullable Class<T> type) {
+    var valueWrapper = get(key);
+    var value = Objects.isNull(valueWrapper) ? null : valueWrapper.get();
+    if (Objects.nonNull(value) && Objects.nonNull(type) && !type.isInstance(value)) {
+      throw new IllegalStateException(
+          "Cached value is not of required type [" + type.getName() + "]: " + value);
+    }
+    return (T) value;
+  }
+
+  @Override
+  @Nullable
+  @SuppressWarnings("unchecked")
+  public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+    var valueWrapper = get(key);
+    if (Objects.nonNull(valueWrapper)) {
+      return (T) valueWrapper.get();
+    }
+    T value;
+    try {
+      value = valueLoader.call();
+    } catch (Exception e) {
+      throw new ValueRetrievalException(key, valueLoader, e);
+    }
+    put(key, value);
+    return value;
+  }
+
+  @Override
+  public void put(@NonNull Object key, @Nullable Object value) {
+    runShared(() -> sharedCache.put(key, value), "put", key);
+    localCache.put(key, value);
+    invalidationPublisher.accept(key.toString());
+  }
+
+  @Override
+  public void evict(@NonNull Object key) {
+    runShared(() -> sharedCache.evict(key), "evict", key);
+    localCache.evict(key);
+    invalidationPublisher.accept(key.toString());
+  }
+
+  @Override
+  public boolean evictIfPresent(@NonNull Object key) {
+    var sharedEvicted = false;
+    try {
+      sharedEvicted = sharedCache.evictIfPresent(key);
+    } catch (RuntimeException e) {
+      log.warn("Couldn't evict {} in shared cache {}: {}", key, getName(), e.getMessage());
+    }
+    var localEvicted = localCache.evictIfPresent(key);
+    invalidationPublisher.accept(key.toString());
+    return sharedEvicted || localEvicted;
+  }
+
+  @Override
+  public void clear() {
+    runShared(sharedCache::clear, "clear", "*");
+    localCache.clear();
+    invalidationPublisher.accept(null);
+  }
+
+  /**
+   * Drop local copy of the version value after it was changed by another replica
+   *
+   * @param key version id or null if the whole cache was cleared
+   */
+  public void invalidateLocal(@Nullable String key) {
+    if (Objects.isNull(key)) {
+      localCache.clear();
+    } else {
+      localCache.evict(key);
+    }
+  }
+
+  @Nullable
+  private ValueWrapper getShared(Object key) {
+    try {
+      var value = sharedCache.get(key);
+      return Objects.isNull(value) ? null : new SimpleValueWrapper(value.get());
+    } catch (RuntimeException e) {
+      log.warn("Couldn't read {} from shared cache {}: {}", key, getName(), e.getMessage());
+      return null;
+    }
+  }
+
+  private void runShared(Runnable operation, String operationName, Object key) {
+    try {
+      operation.run();
+    } catch (RuntimeException e) {
+      log.warn("Couldn't {} {} in shared cache {}: {}", operationName, key, getName(),
+          e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.core.cache;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link CacheManager} of {@link NearCache near caches} that combine replica-local caches of
+ * {@code localCacheManager} with shared caches of {@code sharedCacheManager}.
+ * <p>
+ * Local copies are invalidated by {@link CacheInvalidationMessage messages} of other replicas
+ * received through {@link CacheInvalidationChannel}. Region metrics are the ones of its local tier,
+ * see {@link MeteredCaffeineCacheManager}.
+ */
+public class NearCacheManager implements CacheManager {
+
+  private final String instanceId = UUID.randomUUID().toString();
+  private final ConcurrentMap<String, NearCache> caches = new ConcurrentHashMap<>();
+
+  private final CacheManager localCacheManager;
+  private final CacheManager sharedCacheManager;
+  private final CacheInvalidationChannel invalidationChannel;
+
+  public NearCacheManager(CacheManager localCacheManager, CacheManager sharedCacheManager,
+      CacheInvalidationChannel invalidationChannel) {
+    this.localCacheManager = localCacheManager;
+    this.sharedCacheManager = sharedCacheManager;
+    this.invalidationChannel = invalidationChannel;
+    invalidationChannel.subscribe(this::onInvalidation);
+  }
+
+  @Override
+  @Nullable
+  public Cache getCache(@NonNull String name) {
+    return caches.computeIfAbsent(name, this::createCache);
+  }
+
+  @Override
+  @NonNull
+  public Collection<String> getCacheNames() {
+    return Stream.concat(localCacheManager.getCacheNames().stream(), caches.keySet().stream())
+        .collect(Collectors.toUnmodifiableSet());
+  }
+
+  private NearCache createCache(String name) {
+    var localCache = Objects.requireNonNull(localCacheManager.getCache(name),
+        () -> String.format("Local cache '%s' is not registered", name));
+    var sharedCache = Objects.requireNonNull(sharedCacheManager.getCache(name),
+        () -> String.format("Shared cache '%s' is not registered", name));
+    return new NearCache(localCache, sharedCache, key -> invalidationChannel.publish(
+        new CacheInvalidationMessage(instanceId, name, key)));
+  }
+
+  private void onInvalidation(CacheInvalidationMessage message) {
+    if (instanceId.equals(message.getSourceId())) {
+      return;
+    }
+    var cache = caches.get(message.getRegion());
+    if (Objects.nonNull(cache)) {
+      cache.invalidateLocal(message.getVersionId());
+    }
+  }
+}
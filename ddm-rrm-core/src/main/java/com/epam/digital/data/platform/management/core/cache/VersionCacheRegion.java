@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.core.cache;
+
+import java.util.Objects;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Typed cache region which values are stored by version id.
+ *
+ * @param <V> type of the cached values
+ */
+@RequiredArgsConstructor
+public class VersionCacheRegion<V> {
+
+  private final CacheManager cacheManager;
+  @Getter
+  private final String name;
+
+  /**
+   * Get cached value of the version
+   *
+   * @param versionId version id
+   * @return cached value or null if there is no cached value for the version
+   */
+  @Nullable
+  @SuppressWarnings("unchecked")
+  public V get(@NonNull String versionId) {
+    var valueWrapper = getCache().get(versionId);
+    return Objects.isNull(valueWrapper) ? null : (V) valueWrapper.get();
+  }
+
+  /**
+   * Get cached value of the version if it has the requested type
+   *
+   * @param versionId version id
+   * @param type      type of the cached value
+   * @return cached value or null if there is no cached value for the version
+   *
+   * @throws IllegalStateException if cached value has another type
+   */
+  @Nullable
+  public <T extends V> T get(@NonNull String versionId, @NonNull Class<T> type) {
+    return getCache().get(versionId, type);
+  }
+
+  /**
+   * Replace cached value of the version. Null value just evicts the cached one.
+   *
+   * @param versionId version id
+   * @param value     value to cache
+   */
+  public void put(@NonNull String versionId, @Nullable V value) {
+    if (Objects.isNull(value)) {
+      evict(versionId);
+      return;
+    }
+    getCache().put(versionId, value);
+  }
+
+  /**
+   * Evict cached value of the version
+   *
+   * @param versionId version id
+   */
+  public void evict(@NonNull String versionId) {
+    getCache().evictIfPresent(versionId);
+  }
+
+  private Cache getCache() {
+    return Objects.requireNonNull(cacheManager.getCache(name),
+        () -> String.format("Cache region '%s' is not registered", name));
+  }
+}
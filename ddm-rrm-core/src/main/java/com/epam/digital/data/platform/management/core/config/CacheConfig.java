@@ -16,13 +16,68 @@
 
 package com.epam.digital.data.platform.management.core.config;
 
+import com.epam.digital.data.platform.management.core.cache.MeteredCaffeineCacheManager;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Objects;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties({CacheRegionProperties.class, CacheProperties.class})
 @ConditionalOnProperty(prefix = "registry-regulation-management.caching", name = "enabled", havingValue = "true", matchIfMissing = true)
 public class CacheConfig {
 
+  /**
+   * Caffeine cache manager with separately tuned cache regions. Every region records statistics
+   * and hit/miss/eviction metrics are bound to it on creation.
+   * <p>
+   * If {@code spring.cache.cache-names} is set only the listed regions are available, otherwise
+   * regions are created on demand.
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "registry-regulation-management.cache", name = "backend", havingValue = "local", matchIfMissing = true)
+  public CacheManager cacheManager(CacheRegionProperties cacheRegionProperties,
+      CacheProperties cacheProperties, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+    return localCacheManager(cacheRegionProperties, cacheProperties, meterRegistryProvider);
+  }
+
+  /**
+   * Creates replica-local cache manager tuned by region settings. It's also used as the local tier
+   * of other cache backends.
+   */
+  public static CaffeineCacheManager localCacheManager(
+      CacheRegionProperties cacheRegionProperties, CacheProperties cacheProperties,
+      ObjectProvider<MeterRegistry> meterRegistryProvider) {
+    var cacheManager = new MeteredCaffeineCacheManager(meterRegistryProvider);
+    cacheManager.setCaffeine(toCaffeine(cacheRegionProperties.getDefaults()));
+    if (!cacheProperties.getCacheNames().isEmpty()) {
+      cacheManager.setCacheNames(cacheProperties.getCacheNames());
+    }
+    cacheRegionProperties.getRegions().forEach((name, region) ->
+        cacheManager.registerCustomCache(name, toCaffeine(region).build()));
+    return cacheManager;
+  }
+
+  private static Caffeine<Object, Object> toCaffeine(CacheRegionProperties.Region region) {
+    var caffeine = Caffeine.newBuilder().recordStats();
+    if (Objects.nonNull(region.getMaximumSize())) {
+      caffeine.maximumSize(region.getMaximumSize());
+    }
+    if (Objects.nonNull(region.getExpireAfterAccess())) {
+      caffeine.expireAfterAccess(region.getExpireAfterAccess());
+    }
+    if (Objects.nonNull(region.getExpireAfterWrite())) {
+      caffeine.expireAfterWrite(region.getExpireAfterWrite());
+    }
+    return caffeine;
+  }
 }
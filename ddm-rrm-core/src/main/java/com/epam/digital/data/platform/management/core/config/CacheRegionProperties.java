@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.core.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Per-region settings of version based caches. Regions that aren't configured explicitly use
+ * {@link #defaults}.
+ * <p>
+ * With {@link Backend#REDIS} backend region settings are applied to the replica-local near cache
+ * while the shared tier keeps entries for {@link #sharedTimeToLive}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "registry-regulation-management.cache")
+public class CacheRegionProperties {
+
+  private Backend backend = Backend.LOCAL;
+  private Duration sharedTimeToLive = Duration.ofDays(1);
+  private String invalidationTopic = "registry-regulation-management:cache-invalidation";
+  private Region defaults = new Region(null, Duration.ofDays(1), null);
+  private Map<String, Region> regions = new HashMap<>();
+
+  public enum Backend {
+    /**
+     * Caches are kept in memory of every replica
+     */
+    LOCAL,
+    /**
+     * Caches are shared between replicas through Redis with replica-local near cache
+     */
+    REDIS
+  }
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Region {
+
+    private Long maximumSize;
+    private Duration expireAfterAccess;
+    private Duration expireAfterWrite;
+  }
+}
@@ -46,6 +46,15 @@ public interface VersionComponentFactory<T> {
     return false;
   }
 
+  /**
+   * Releases any state the factory keeps for the version outside of the created component. Is
+   * called by {@link VersionContextComponentManager#destroyContext(String)}
+   *
+   * @param versionId id of a version which context is destroyed
+   */
+  default void destroyComponent(@NonNull String versionId) {
+  }
+
   /**
    * @return class object that represents a component type
    */
@@ -75,12 +75,14 @@ public class VersionContextComponentManager {
   }
 
   /**
-   * Deletes all stored components that are corresponded to specified version
+   * Deletes all stored components that are corresponded to specified version and lets every
+   * registered {@link VersionComponentFactory} release its version state
    *
    * @param versionId id of the version which context must be deleted
    */
   public void destroyContext(@NonNull String versionId) {
     contextMap.remove(versionId);
+    componentFactories.values().forEach(factory -> factory.destroyComponent(versionId));
   }
 
   @Slf4j
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.core.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Application event that has to be published when remote repository of a version is changed
+ * outside of the application, e.g. new patch set of version candidate is created or head branch is
+ * updated
+ */
+public class VersionRepositoryChangedEvent extends ApplicationEvent {
+
+  @Getter
+  private final String versionId;
+
+  public VersionRepositoryChangedEvent(Object source, String versionId) {
+    super(source);
+    this.versionId = versionId;
+  }
+}
@@ -17,6 +17,7 @@
 package com.epam.digital.data.platform.management.core.event.publisher;
 
 import com.epam.digital.data.platform.management.core.event.VersionCandidateCreatedEvent;
+import com.epam.digital.data.platform.management.core.event.VersionRepositoryChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -25,6 +26,7 @@ import org.springframework.stereotype.Component;
 /**
  * Class that is used for publishing application events such as:
  * <li>{@link VersionCandidateCreatedEvent Version candindate created event}</li>
+ * <li>{@link VersionRepositoryChangedEvent Version remote repository changed event}</li>
  */
 @Slf4j
 @Component
@@ -38,4 +40,10 @@ public class RegistryRegulationManagementEventPublisher {
     var event = new VersionCandidateCreatedEvent(this, versionCandidateNumber);
     applicationEventPublisher.publishEvent(event);
   }
+
+  public void publishVersionRepositoryChangedEvent(String versionId) {
+    log.debug("Publish version {} repository changed event", versionId);
+    var event = new VersionRepositoryChangedEvent(this, versionId);
+    applicationEventPublisher.publishEvent(event);
+  }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.core.model;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Immutable set of conflicted file paths of a version. Paths are also indexed by their parent
+ * directory, so both file and directory lookups don't depend on the amount of conflicts.
+ */
+@ToString(onlyExplicitlyIncluded = true)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public final class VersionConflicts implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  public static final VersionConflicts EMPTY = new VersionConflicts(Set.of());
+
+  @ToString.Include
+  @EqualsAndHashCode.Include
+  private final Set<String> paths;
+  private final Map<String, Set<String>> pathsByDirectory;
+
+  private VersionConflicts(Set<String> paths) {
+    this.paths = paths;
+    var byDirectory = new HashMap<String, Set<String>>();
+    for (var path : paths) {
+      byDirectory.computeIfAbsent(getDirectory(path), directory -> new HashSet<>()).add(path);
+    }
+    this.pathsByDirectory = byDirectory.entrySet().stream()
+        .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> Set.copyOf(e.getValue())));
+  }
+
+  /**
+   * Create conflicts from the list of conflicted file paths
+   *
+   * @param paths version relative paths of conflicted files
+   * @return version conflicts, empty if there are no paths
+   */
+  @NonNull
+  public static VersionConflicts of(@Nullable Collection<String> paths) {
+    if (Objects.isNull(paths) || paths.isEmpty()) {
+      return EMPTY;
+    }
+    return new VersionConflicts(paths.stream()
+        .filter(Objects::nonNull)
+        .collect(Collectors.toUnmodifiableSet()));
+  }
+
+  /**
+   * Check if file is conflicted
+   *
+   * @param path version relative path of the file
+   * @return true if the file is conflicted
+   */
+  public boolean contains(@Nullable String path) {
+    return Objects.nonNull(path) && paths.contains(path);
+  }
+
+  /**
+   * @return all conflicted file paths of the version
+   */
+  @NonNull
+  public Set<String> getPaths() {
+    return paths;
+  }
+
+  /**
+   * Get conflicted files located directly in the directory
+   *
+   * @param directory version relative path of the directory
+   * @return paths of the conflicted files of the directory
+   */
+  @NonNull
+  public Set<String> getPaths(@NonNull String directory) {
+    var normalized = directory.endsWith("/")
+        ? directory.substring(0, directory.length() - 1) : directory;
+    return pathsByDirectory.getOrDefault(normalized, Set.of());
+  }
+
+  public boolean isEmpty() {
+    return paths.isEmpty();
+  }
+
+  private static String getDirectory(String path) {
+    var separatorIndex = path.lastIndexOf('/');
+    return separatorIndex < 0 ? "" : path.substring(0, separatorIndex);
+  }
+}
@@ -16,15 +16,26 @@
 
 package com.epam.digital.data.platform.management.core.service;
 
-import schemacrawler.schema.Catalog;
-
+import com.epam.digital.data.platform.management.core.model.VersionConflicts;
 import java.time.LocalDateTime;
 import java.util.List;
 
 /** Provide methods to work with cache */
 public interface CacheService {
 
-  List<String> getConflictsCache(String cacheKey);
+  /**
+   * Name of the cache region with version data models. Values of the region are read and written
+   * by the data model module, the region is only evicted here when version data changes
+   */
+  String CATALOG_CACHE_NAME = "catalog";
+
+  /**
+   * Get conflicted files of the version
+   *
+   * @param cacheKey version id
+   * @return conflicted files, empty if there are no cached conflicts for the version
+   */
+  VersionConflicts getConflictsCache(String cacheKey);
 
   void updateConflictsCache(String cacheKey, List<String> conflicts);
 
@@ -32,7 +43,8 @@ public interface CacheService {
 
   void updateLatestRebaseCache(String cacheKey, LocalDateTime latestRebase);
 
-  Catalog getCatalogCache(String cacheKey);
-  void updateCatalogCache(String cacheKey, Catalog catalog);
   void clearCatalogCache(String cacheKey);
+
+  /** Evict cached values of the version from every cache region */
+  void evictVersionCaches(String versionId);
 }
@@ -16,83 +16,62 @@
 
 package com.epam.digital.data.platform.management.core.service;
 
+import com.epam.digital.data.platform.management.core.cache.VersionCacheRegion;
+import com.epam.digital.data.platform.management.core.model.VersionConflicts;
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-
-import schemacrawler.schema.Catalog;
-import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
 
-import lombok.RequiredArgsConstructor;
-
 @Component
-@RequiredArgsConstructor
 public class CacheServiceImpl implements CacheService {
 
   private static final String CONFLICTS_CACHE_NAME = "conflicts";
   private static final String LATEST_REBASE_CACHE_NAME = "latestRebase";
-  private static final String CATALOG_CACHE_NAME = "catalog";
 
   private final CacheManager cacheManager;
+  private final VersionCacheRegion<VersionConflicts> conflictsRegion;
+  private final VersionCacheRegion<LocalDateTime> latestRebaseRegion;
+
+  public CacheServiceImpl(CacheManager cacheManager) {
+    this.cacheManager = cacheManager;
+    this.conflictsRegion = new VersionCacheRegion<>(cacheManager, CONFLICTS_CACHE_NAME);
+    this.latestRebaseRegion = new VersionCacheRegion<>(cacheManager, LATEST_REBASE_CACHE_NAME);
+  }
 
   @Override
-  public List<String> getConflictsCache(String cacheKey) {
-    Cache.ValueWrapper valueWrapper = cacheManager.getCache(CONFLICTS_CACHE_NAME).get(cacheKey);
-    if (Objects.nonNull(valueWrapper)) {
-      return (List<String>) valueWrapper.get();
-    } else {
-      return Collections.emptyList();
-    }
+  public VersionConflicts getConflictsCache(String cacheKey) {
+    var conflicts = conflictsRegion.get(cacheKey, VersionConflicts.class);
+    return Objects.isNull(conflicts) ? VersionConflicts.EMPTY : conflicts;
   }
 
   @Override
   public void updateConflictsCache(String cacheKey, List<String> conflicts) {
-    Cache conflictCache = cacheManager.getCache(CONFLICTS_CACHE_NAME);
-    conflictCache.evictIfPresent(cacheKey);
-    if (Objects.nonNull(conflicts)) {
-      conflictCache.put(cacheKey, conflicts);
-    }
+    conflictsRegion.put(cacheKey,
+        Objects.isNull(conflicts) ? null : VersionConflicts.of(conflicts));
   }
 
   @Override
   public LocalDateTime getLatestRebaseCache(String cacheKey) {
-    Cache.ValueWrapper valueWrapper = cacheManager.getCache(LATEST_REBASE_CACHE_NAME).get(cacheKey);
-    if (Objects.nonNull(valueWrapper)) {
-      return (LocalDateTime) valueWrapper.get();
-    } else {
-      return null;
-    }
+    return latestRebaseRegion.get(cacheKey);
   }
 
   @Override
   public void updateLatestRebaseCache(String cacheKey, LocalDateTime latestRebase) {
-    Cache conflictCache = cacheManager.getCache(LATEST_REBASE_CACHE_NAME);
-    conflictCache.evictIfPresent(cacheKey);
-    conflictCache.put(cacheKey, latestRebase);
+    latestRebaseRegion.put(cacheKey, latestRebase);
   }
 
   @Override
-  public Catalog getCatalogCache(String versionId) {
-    Cache.ValueWrapper valueWrapper = cacheManager.getCache(CATALOG_CACHE_NAME).get(versionId);
-    if (Objects.nonNull(valueWrapper)) {
-      return (Catalog) valueWrapper.get();
-    } else {
-      return null;
-    }
-  }
-
-  @Override
-  public void updateCatalogCache(String versionId, Catalog catalog) {
-    Cache cache = cacheManager.getCache(CATALOG_CACHE_NAME);
-    cache.evictIfPresent(versionId);
-    cache.put(versionId, catalog);
+  public void clearCatalogCache(String versionId) {
+    Objects.requireNonNull(cacheManager.getCache(CATALOG_CACHE_NAME)).evictIfPresent(versionId);
   }
 
   @Override
-  public void clearCatalogCache(String versionId) {
-    cacheManager.getCache(CATALOG_CACHE_NAME).evictIfPresent(versionId);
+  public void evictVersionCaches(String versionId) {
+    cacheManager.getCacheNames().stream()
+        .map(cacheManager::getCache)
+        .filter(Objects::nonNull)
+        .forEach(cache -> cache.evictIfPresent(versionId));
   }
 }
@@ -16,12 +16,52 @@
 
 package com.epam.digital.data.platform.management.core.utils;
 
+import java.util.Arrays;
+import java.util.Objects;
+import org.springframework.lang.Nullable;
+
 public final class ETagUtils {
 
+  private static final String WEAK_PREFIX = "W/";
+  private static final String ANY = "*";
+
   private ETagUtils() {
   }
 
   public static String getETagFromContent(String content) {
     return String.format("\"%s\"", content.hashCode());
   }
+
+  /**
+   * Builds a weak ETag for a representation that is derived from the content but isn't guaranteed
+   * to be byte-for-byte the same for the same content, e.g. a listing
+   *
+   * @param content content that defines the representation
+   * @return weak ETag
+   */
+  public static String getWeakETagFromContent(String content) {
+    return WEAK_PREFIX + getETagFromContent(content);
+  }
+
+  /**
+   * Checks {@code If-None-Match} header value against the current ETag of the resource using the
+   * weak comparison, so weak and strong forms of the same ETag match each other
+   *
+   * @param ifNoneMatch {@code If-None-Match} header value, comma separated ETags or {@code *}
+   * @param eTag        current ETag of the resource or null if there is no resource
+   * @return true if the resource isn't modified and the response body can be omitted
+   */
+  public static boolean isNotModified(@Nullable String ifNoneMatch, @Nullable String eTag) {
+    if (Objects.isNull(ifNoneMatch) || Objects.isNull(eTag)) {
+      return false;
+    }
+    var opaqueTag = getOpaqueTag(eTag);
+    return Arrays.stream(ifNoneMatch.split(","))
+        .map(String::trim)
+        .anyMatch(tag -> ANY.equals(tag) || getOpaqueTag(tag).equals(opaqueTag));
+  }
+
+  private static String getOpaqueTag(String eTag) {
+    return eTag.startsWith(WEAK_PREFIX) ? eTag.substring(WEAK_PREFIX.length()) : eTag;
+  }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.digital.data.platform.management.gerritintegration.service;
+
+package com.epam.digital.data.platform.management.core.utils;
+
+import java.net.URL;
+import java.util.Objects;
+import javax.xml.XMLConstants;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import org.springframework.lang.Nullable;
+import org.w3c.dom.ls.LSResourceResolver;
+import org.xml.sax.SAXException;
+
+/**
+ * XSD schema that is compiled on the first use and then shared.
+ * <p>
+ * {@link Schema} is immutable and thread-safe, so a single instance can be used by all the
+ * threads, while {@link javax.xml.validation.Validator} is not and has to be created from the
+ * schema per validation. If the compilation has failed it's retried on the next use.
+ */
+public class LazySchema {
+
+  private final URL schemaLocation;
+  @Nullable
+  private final LSResourceResolver resourceResolver;
+  private volatile Schema schema;
+
+  public LazySchema(URL schemaLocation, @Nullable LSResourceResolver resourceResolver) {
+    this.schemaLocation = Objects.requireNonNull(schemaLocation);
+    this.resourceResolver = resourceResolver;
+  }
+
+  /**
+   * Returns compiled schema compiling it on the first call
+   *
+   * @return compiled {@link Schema}
+   * @throws SAXException if the schema could not be compiled
+   */
+  public Schema get() throws SAXException {
+    var compiled = schema;
+    if (Objects.isNull(compiled)) {
+      synchronized (this) {
+        compiled = schema;
+        if (Objects.isNull(compiled)) {
+          compiled = compile();
+          schema = compiled;
+        }
+      }
+    }
+    return compiled;
+  }
+
+  private Schema compile() throws SAXException {
+    var factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+    if (Objects.nonNull(resourceResolver)) {
+      factory.setResourceResolver(resourceResolver);
+    }
+    return factory.newSchema(new StreamSource(schemaLocation.toExternalForm()));
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.core.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class MeteredCaffeineCacheManagerTest {
+
+  private static final String REGION = "conflicts";
+  private static final String VERSION_ID = "42";
+
+  private MeterRegistry meterRegistry;
+  private MeteredCaffeineCacheManager cacheManager;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    var beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry));
+    cacheManager = new MeteredCaffeineCacheManager(
+        beanFactory.getBeanProvider(MeterRegistry.class));
+  }
+
+  @Test
+  void shouldReportMetricsOfRegionCreatedOnDemand() {
+    var cache = cacheManager.getCache(REGION);
+    cache.get(VERSION_ID);
+    cache.put(VERSION_ID, List.of("file"));
+    cache.get(VERSION_ID);
+
+    assertThat(getCount("miss")).isEqualTo(1);
+    assertThat(getCount("hit")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldReportMetricsOfNearCacheRegion() {
+    var nearCacheManager = new NearCacheManager(cacheManager, new ConcurrentMapCacheManager(),
+        new InProcessCacheInvalidationChannel());
+
+    var cache = nearCacheManager.getCache(REGION);
+    cache.get(VERSION_ID);
+    cache.put(VERSION_ID, List.of("file"));
+    cache.get(VERSION_ID);
+
+    assertThat(getCount("miss")).isEqualTo(1);
+    assertThat(getCount("hit")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotFailWithoutMeterRegistry() {
+    var cacheManagerWithoutMetrics = new MeteredCaffeineCacheManager(
+        new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+
+    assertThat(cacheManagerWithoutMetrics.getCache(REGION)).isNotNull();
+    assertThat(meterRegistry.find("cache.gets").meters()).isEmpty();
+  }
+
+  private double getCount(String result) {
+    return meterRegistry.get("cache.gets")
+        .tags("cache", REGION, "result", result, "cacheManager", "cacheManager")
+        .functionCounter().count();
+  }
+}
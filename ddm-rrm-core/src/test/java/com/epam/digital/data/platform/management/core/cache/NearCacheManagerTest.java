@@ -0,0 +1,105 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.core.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class NearCacheManagerTest {
+
+  private static final String REGION = "conflicts";
+  private static final String VERSION_ID = "42";
+
+  private CacheManager sharedCacheManager;
+  private NearCacheManager firstReplica;
+  private NearCacheManager secondReplica;
+
+  @BeforeEach
+  void setUp() {
+    sharedCacheManager = new ConcurrentMapCacheManager();
+    var channel = new InProcessCacheInvalidationChannel();
+    firstReplica = new NearCacheManager(new CaffeineCacheManager(), sharedCacheManager, channel);
+    secondReplica = new NearCacheManager(new CaffeineCacheManager(), sharedCacheManager, channel);
+  }
+
+  @Test
+  void shouldReadValuePutByAnotherReplica() {
+    firstReplica.getCache(REGION).put(VERSION_ID, List.of("file"));
+
+    assertThat(secondReplica.getCache(REGION).get(VERSION_ID, List.class))
+        .containsExactly("file");
+  }
+
+  @Test
+  void shouldInvalidateNearCacheOnUpdateByAnotherReplica() {
+    firstReplica.getCache(REGION).put(VERSION_ID, List.of("file"));
+    var secondCache = secondReplica.getCache(REGION);
+    assertThat(secondCache.get(VERSION_ID, List.class)).containsExactly("file");
+
+    firstReplica.getCache(REGION).put(VERSION_ID, List.of("anotherFile"));
+
+    assertThat(secondCache.get(VERSION_ID, List.class)).containsExactly("anotherFile");
+  }
+
+  @Test
+  void shouldInvalidateOnlyChangedVersion() {
+    var secondCache = secondReplica.getCache(REGION);
+    secondCache.put(VERSION_ID, List.of("file"));
+    secondCache.put("43", List.of("file"));
+    sharedCacheManager.getCache(REGION).clear();
+
+    firstReplica.getCache(REGION).evict(VERSION_ID);
+
+    assertThat(secondCache.get(VERSION_ID)).isNull();
+    assertThat(secondCache.get("43", List.class)).containsExactly("file");
+  }
+
+  @Test
+  void shouldInvalidateNearCacheOnClearByAnotherReplica() {
+    secondReplica.getCache(REGION).put(VERSION_ID, List.of("file"));
+
+    firstReplica.getCache(REGION).clear();
+
+    assertThat(secondReplica.getCache(REGION).get(VERSION_ID)).isNull();
+  }
+
+  @Test
+  void shouldUseNearCacheIfSharedCacheIsUnavailable() {
+    var sharedCache = Mockito.mock(Cache.class);
+    Mockito.doThrow(RuntimeException.class).when(sharedCache).get(VERSION_ID);
+    Mockito.doThrow(RuntimeException.class).when(sharedCache).put(Mockito.any(), Mockito.any());
+    var unavailableSharedCacheManager = Mockito.mock(CacheManager.class);
+    Mockito.doReturn(sharedCache).when(unavailableSharedCacheManager).getCache(REGION);
+    var replica = new NearCacheManager(new CaffeineCacheManager(),
+        unavailableSharedCacheManager, new InProcessCacheInvalidationChannel());
+    var cache = replica.getCache(REGION);
+
+    assertThatCode(() -> cache.put(VERSION_ID, List.of("file"))).doesNotThrowAnyException();
+    assertThat(cache.get(VERSION_ID, List.class)).containsExactly("file");
+    cache.evict(VERSION_ID);
+    assertThat(cache.get(VERSION_ID)).isNull();
+  }
+}
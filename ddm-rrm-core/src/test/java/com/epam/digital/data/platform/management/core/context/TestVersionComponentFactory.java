@@ -16,6 +16,8 @@
 
 package com.epam.digital.data.platform.management.core.context;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import net.bytebuddy.utility.RandomString;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
@@ -23,12 +25,19 @@ import org.springframework.stereotype.Component;
 @Component
 public class TestVersionComponentFactory implements VersionComponentFactory<String> {
 
+  final Set<String> destroyedVersions = ConcurrentHashMap.newKeySet();
+
   @Override
   @NonNull
   public String createComponent(@NonNull String versionId) {
     return versionId + RandomString.make();
   }
 
+  @Override
+  public void destroyComponent(@NonNull String versionId) {
+    destroyedVersions.add(versionId);
+  }
+
   @Override
   @NonNull
   public Class<String> getComponentType() {
@@ -39,6 +39,8 @@ class VersionContextComponentManagerTest {
 
   @Autowired
   VersionContextComponentManager versionContextComponentManager;
+  @Autowired
+  TestVersionComponentFactory testVersionComponentFactory;
 
   @Test
   @DisplayName("should return the same object for same parameters if recreate - false")
@@ -112,5 +114,8 @@ class VersionContextComponentManagerTest {
     Assertions.assertThat(contextMap)
         .doesNotContainKey(version1)
         .containsKey(version2);
+    Assertions.assertThat(testVersionComponentFactory.destroyedVersions)
+        .contains(version1)
+        .doesNotContain(version2);
   }
 }
@@ -17,6 +17,7 @@
 package com.epam.digital.data.platform.management.core.event.publisher;
 
 import com.epam.digital.data.platform.management.core.event.VersionCandidateCreatedEvent;
+import com.epam.digital.data.platform.management.core.event.VersionRepositoryChangedEvent;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.internal.bytebuddy.utility.RandomString;
 import org.junit.jupiter.api.Test;
@@ -41,6 +42,9 @@ class RegistryRegulationManagementEventPublisherTest {
   @Captor
   ArgumentCaptor<VersionCandidateCreatedEvent> versionCandidateCreatedEventArgumentCaptor;
 
+  @Captor
+  ArgumentCaptor<VersionRepositoryChangedEvent> versionRepositoryChangedEventArgumentCaptor;
+
   @Test
   void publishVersionCandidateCreatedEvent() {
     final var versionCandidateNumber = RandomString.make();
@@ -56,4 +60,20 @@ class RegistryRegulationManagementEventPublisherTest {
         .hasFieldOrPropertyWithValue("source", publisher)
         .hasFieldOrPropertyWithValue("versionCandidateNumber", versionCandidateNumber);
   }
+
+  @Test
+  void publishVersionRepositoryChangedEvent() {
+    final var versionId = RandomString.make();
+
+    publisher.publishVersionRepositoryChangedEvent(versionId);
+
+    Mockito.verify(applicationEventPublisher)
+        .publishEvent(versionRepositoryChangedEventArgumentCaptor.capture());
+
+    final var actualEvent = versionRepositoryChangedEventArgumentCaptor.getValue();
+
+    Assertions.assertThat(actualEvent)
+        .hasFieldOrPropertyWithValue("source", publisher)
+        .hasFieldOrPropertyWithValue("versionId", versionId);
+  }
 }
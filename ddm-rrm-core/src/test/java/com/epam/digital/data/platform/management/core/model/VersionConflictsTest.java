@@ -0,0 +1,78 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.core.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import lombok.SneakyThrows;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("VersionConflicts Test")
+class VersionConflictsTest {
+
+  private static final VersionConflicts CONFLICTS = VersionConflicts.of(
+      List.of("forms/a.json", "forms/b.json", "bpmn/a.bpmn", "settings.yml"));
+
+  @Test
+  @DisplayName("should find conflicted file by path")
+  void containsTest() {
+    Assertions.assertThat(CONFLICTS.contains("forms/a.json")).isTrue();
+    Assertions.assertThat(CONFLICTS.contains("forms/c.json")).isFalse();
+    Assertions.assertThat(CONFLICTS.contains(null)).isFalse();
+  }
+
+  @Test
+  @DisplayName("should return conflicted files of the directory")
+  void getPathsOfDirectoryTest() {
+    Assertions.assertThat(CONFLICTS.getPaths("forms"))
+        .containsExactlyInAnyOrder("forms/a.json", "forms/b.json");
+    Assertions.assertThat(CONFLICTS.getPaths("bpmn/")).containsExactly("bpmn/a.bpmn");
+    Assertions.assertThat(CONFLICTS.getPaths("")).containsExactly("settings.yml");
+    Assertions.assertThat(CONFLICTS.getPaths("data-model")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("should be empty if there are no conflicted paths")
+  void emptyTest() {
+    Assertions.assertThat(VersionConflicts.of(null)).isSameAs(VersionConflicts.EMPTY);
+    Assertions.assertThat(VersionConflicts.of(List.of())).isSameAs(VersionConflicts.EMPTY);
+    Assertions.assertThat(VersionConflicts.EMPTY.isEmpty()).isTrue();
+    Assertions.assertThat(VersionConflicts.EMPTY.getPaths("forms")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("should keep conflicts after serialization to the shared cache")
+  @SneakyThrows
+  void serializationTest() {
+    var bytes = new ByteArrayOutputStream();
+    try (var out = new ObjectOutputStream(bytes)) {
+      out.writeObject(CONFLICTS);
+    }
+    try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      var restored = (VersionConflicts) in.readObject();
+
+      Assertions.assertThat(restored).isEqualTo(CONFLICTS);
+      Assertions.assertThat(restored.getPaths("forms"))
+          .containsExactlyInAnyOrder("forms/a.json", "forms/b.json");
+    }
+  }
+}
@@ -16,6 +16,7 @@
 
 package com.epam.digital.data.platform.management.core.service;
 
+import com.epam.digital.data.platform.management.core.model.VersionConflicts;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -25,14 +26,16 @@ import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
-import schemacrawler.schema.Catalog;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.mock;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -42,7 +45,6 @@ class CacheServiceImplTest {
 
   private static final String CONFLICTS_CACHE_NAME = "conflicts";
   private static final String LATEST_REBASE_CACHE_NAME = "latestRebase";
-  private static final String CATALOG_CACHE_NAME = "catalog";
   private static final String CACHE_KEY = "key";
 
   @Autowired CacheServiceImpl cacheService;
@@ -53,34 +55,53 @@ class CacheServiceImplTest {
   @Test
   void getConflictsCacheTest() {
     when(cacheManager.getCache(CONFLICTS_CACHE_NAME)).thenReturn(cache);
-    when(cache.get(CACHE_KEY)).thenReturn(valueWrapper);
-    List<String> fileNames = List.of("fileName1", "fileName2");
-    when(valueWrapper.get()).thenReturn(fileNames);
+    var conflicts = VersionConflicts.of(List.of("fileName1", "fileName2"));
+    when(cache.get(CACHE_KEY, VersionConflicts.class)).thenReturn(conflicts);
 
     var result = cacheService.getConflictsCache(CACHE_KEY);
 
-    assertThat(result).isEqualTo(fileNames);
+    assertThat(result).isSameAs(conflicts);
+  }
+
+  @Test
+  void getConflictsCacheTest_cachedUnknownType() {
+    when(cacheManager.getCache(CONFLICTS_CACHE_NAME)).thenReturn(cache);
+    when(cache.get(CACHE_KEY, VersionConflicts.class)).thenThrow(IllegalStateException.class);
+
+    assertThatThrownBy(() -> cacheService.getConflictsCache(CACHE_KEY))
+        .isInstanceOf(IllegalStateException.class);
+    verify(cache, never()).get(CACHE_KEY, List.class);
   }
 
   @Test
   void getConflictsCacheTest_cacheNull() {
     when(cacheManager.getCache(CONFLICTS_CACHE_NAME)).thenReturn(cache);
-    when(cache.get(CACHE_KEY)).thenReturn(null);
+    when(cache.get(CACHE_KEY, VersionConflicts.class)).thenReturn(null);
 
     var result = cacheService.getConflictsCache(CACHE_KEY);
 
-    assertThat(result).isEqualTo(Collections.emptyList());
+    assertThat(result).isEqualTo(VersionConflicts.EMPTY);
   }
 
   @Test
   void updateConflictsCache() {
     when(cacheManager.getCache(CONFLICTS_CACHE_NAME)).thenReturn(cache);
-    List<String> conflicts = Collections.emptyList();
+    List<String> conflicts = List.of("forms/form.json");
 
     cacheService.updateConflictsCache(CACHE_KEY, conflicts);
 
+    verify(cache, never()).evictIfPresent(CACHE_KEY);
+    verify(cache).put(CACHE_KEY, VersionConflicts.of(conflicts));
+  }
+
+  @Test
+  void updateConflictsCache_null() {
+    when(cacheManager.getCache(CONFLICTS_CACHE_NAME)).thenReturn(cache);
+
+    cacheService.updateConflictsCache(CACHE_KEY, null);
+
     verify(cache).evictIfPresent(CACHE_KEY);
-    verify(cache).put(CACHE_KEY, conflicts);
+    verify(cache, never()).put(eq(CACHE_KEY), any());
   }
 
   @Test
@@ -112,49 +133,28 @@ class CacheServiceImplTest {
 
     cacheService.updateLatestRebaseCache(CACHE_KEY, latestRebase);
 
-    verify(cache).evictIfPresent(CACHE_KEY);
+    verify(cache, never()).evictIfPresent(CACHE_KEY);
     verify(cache).put(CACHE_KEY, latestRebase);
   }
 
   @Test
-  void getCatalogCache() {
-    when(cacheManager.getCache(CATALOG_CACHE_NAME)).thenReturn(cache);
-    when(cache.get(CACHE_KEY)).thenReturn(valueWrapper);
-    Catalog expected = mock(Catalog.class);
-    when(valueWrapper.get()).thenReturn(expected);
-
-    Catalog result = cacheService.getCatalogCache(CACHE_KEY);
-
-    assertThat(result).isEqualTo(expected);
-  }
-
-  @Test
-  void getCatalogCache_cacheNull() {
-    when(cacheManager.getCache(CATALOG_CACHE_NAME)).thenReturn(cache);
-    when(cache.get(CACHE_KEY)).thenReturn(null);
-
-    Catalog result = cacheService.getCatalogCache(CACHE_KEY);
-
-    assertThat(result).isNull();
-  }
-
-  @Test
-  void updateCatalogCache() {
-    when(cacheManager.getCache(CATALOG_CACHE_NAME)).thenReturn(cache);
-    Catalog catalog = mock(Catalog.class);
+  void clearCatalogCache() {
+    when(cacheManager.getCache(CacheService.CATALOG_CACHE_NAME)).thenReturn(cache);
 
-    cacheService.updateCatalogCache(CACHE_KEY, catalog);
+    cacheService.clearCatalogCache(CACHE_KEY);
 
     verify(cache).evictIfPresent(CACHE_KEY);
-    verify(cache).put(CACHE_KEY, catalog);
   }
 
   @Test
-  void clearCatalogCache() {
-    when(cacheManager.getCache(CATALOG_CACHE_NAME)).thenReturn(cache);
+  void evictVersionCaches() {
+    when(cacheManager.getCacheNames())
+        .thenReturn(List.of(CONFLICTS_CACHE_NAME, CacheService.CATALOG_CACHE_NAME));
+    when(cacheManager.getCache(CONFLICTS_CACHE_NAME)).thenReturn(cache);
+    when(cacheManager.getCache(CacheService.CATALOG_CACHE_NAME)).thenReturn(cache);
 
-    cacheService.clearCatalogCache(CACHE_KEY);
+    cacheService.evictVersionCaches(CACHE_KEY);
 
-    verify(cache).evictIfPresent(CACHE_KEY);
+    verify(cache, times(2)).evictIfPresent(CACHE_KEY);
   }
 }
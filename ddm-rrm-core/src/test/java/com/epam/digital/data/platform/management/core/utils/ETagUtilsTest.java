@@ -0,0 +1,61 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.digital.data.platform.management.core.utils;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ETagUtils Test")
+class ETagUtilsTest {
+
+  private static final String CONTENT = "{\"name\":\"form\"}";
+
+  @Test
+  @DisplayName("should build strong and weak ETags from content")
+  void getETagFromContentTest() {
+    var hash = CONTENT.hashCode();
+
+    Assertions.assertThat(ETagUtils.getETagFromContent(CONTENT)).isEqualTo("\"" + hash + "\"");
+    Assertions.assertThat(ETagUtils.getWeakETagFromContent(CONTENT))
+        .isEqualTo("W/\"" + hash + "\"");
+  }
+
+  @Test
+  @DisplayName("should match If-None-Match using weak comparison")
+  void isNotModifiedTest() {
+    var eTag = ETagUtils.getETagFromContent(CONTENT);
+    var weakETag = ETagUtils.getWeakETagFromContent(CONTENT);
+
+    Assertions.assertThat(ETagUtils.isNotModified(eTag, eTag)).isTrue();
+    Assertions.assertThat(ETagUtils.isNotModified(weakETag, eTag)).isTrue();
+    Assertions.assertThat(ETagUtils.isNotModified(eTag, weakETag)).isTrue();
+    Assertions.assertThat(ETagUtils.isNotModified("\"1\", " + weakETag, eTag)).isTrue();
+    Assertions.assertThat(ETagUtils.isNotModified("*", eTag)).isTrue();
+  }
+
+  @Test
+  @DisplayName("should not match If-None-Match if ETags differ or are absent")
+  void isNotModifiedTest_modified() {
+    var eTag = ETagUtils.getETagFromContent(CONTENT);
+
+    Assertions.assertThat(ETagUtils.isNotModified("\"1\", W/\"2\"", eTag)).isFalse();
+    Assertions.assertThat(ETagUtils.isNotModified(null, eTag)).isFalse();
+    Assertions.assertThat(ETagUtils.isNotModified("*", null)).isFalse();
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.digital.data.platform.management.gerritintegration.service;
+
+package com.epam.digital.data.platform.management.core.utils;
+
+import java.io.File;
+import java.io.StringReader;
+import java.nio.file.Files;
+import javax.xml.transform.stream.StreamSource;
+import lombok.SneakyThrows;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.xml.sax.SAXException;
+
+@DisplayName("LazySchema Test")
+class LazySchemaTest {
+
+  @TempDir
+  File tempDir;
+
+  @Test
+  @DisplayName("should compile schema once and validate with it")
+  @SneakyThrows
+  void getTest() {
+    var schemaFile = new File(tempDir, "schema.xsd");
+    Files.writeString(schemaFile.toPath(),
+        "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\">"
+            + "<xs:element name=\"form\" type=\"xs:string\"/></xs:schema>");
+    var lazySchema = new LazySchema(schemaFile.toURI().toURL(), null);
+
+    var schema = lazySchema.get();
+
+    Assertions.assertThat(lazySchema.get()).isSameAs(schema);
+    Assertions.assertThatCode(() -> schema.newValidator()
+            .validate(new StreamSource(new StringReader("<form>name</form>"))))
+        .doesNotThrowAnyException();
+    Assertions.assertThatThrownBy(() -> schema.newValidator()
+            .validate(new StreamSource(new StringReader("<process/>"))))
+        .isInstanceOf(SAXException.class);
+  }
+
+  @Test
+  @DisplayName("should retry compilation after it has failed")
+  @SneakyThrows
+  void getRetryTest() {
+    var schemaFile = new File(tempDir, "schema.xsd");
+    Files.writeString(schemaFile.toPath(), "<xs:schema");
+    var lazySchema = new LazySchema(schemaFile.toURI().toURL(), null);
+
+    Assertions.assertThatThrownBy(lazySchema::get).isInstanceOf(SAXException.class);
+
+    Files.writeString(schemaFile.toPath(),
+        "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\"/>");
+    Assertions.assertThat(lazySchema.get()).isNotNull();
+  }
+}
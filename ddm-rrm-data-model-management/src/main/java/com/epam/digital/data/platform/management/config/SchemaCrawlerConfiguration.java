@@ -37,14 +37,20 @@ public class SchemaCrawlerConfiguration {
         .includeColumns(includeFields(config));
   }
 
-  private InclusionRule includeTables(SchemaCrawlerProperties config) {
+  /**
+   * @return inclusion rule for fully qualified table names based on configured exclusions
+   */
+  public static InclusionRule includeTables(SchemaCrawlerProperties config) {
     return name -> !config.getExcludeTables().contains(name)
         && config.getExcludeTablePrefixes().stream()
         .noneMatch(prfx -> name.startsWith(config.getSchema() + "." + prfx))
         && config.getExcludeTableSuffixes().stream().noneMatch(name::endsWith);
   }
 
-  private InclusionRule includeFields(SchemaCrawlerProperties config) {
+  /**
+   * @return inclusion rule for fully qualified column names based on configured exclusions
+   */
+  public static InclusionRule includeFields(SchemaCrawlerProperties config) {
     return fieldName -> Arrays.stream(fieldName.split("\\."))
         .reduce((acc, cleanFieldName) -> cleanFieldName)
         .map(cleanColumnName -> config.getExcludeFieldPrefixes().stream()
@@ -32,4 +32,9 @@ public class SchemaCrawlerProperties {
   private List<String> excludeTableSuffixes;
   private List<String> excludeTables;
   private List<String> excludeFieldPrefixes;
+  /**
+   * If enabled, table details are crawled only for the requested table and table list is read
+   * directly from {@code information_schema} instead of crawling the whole schema
+   */
+  private boolean lazyTableCrawl;
 }
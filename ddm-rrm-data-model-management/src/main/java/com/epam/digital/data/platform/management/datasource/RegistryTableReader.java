@@ -0,0 +1,134 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.datasource;
+
+import com.epam.digital.data.platform.liquibase.extension.DdmConstants;
+import com.epam.digital.data.platform.management.config.SchemaCrawlerConfiguration;
+import com.epam.digital.data.platform.management.config.SchemaCrawlerProperties;
+import com.epam.digital.data.platform.management.model.dto.TableShortInfoDto;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.utility.SchemaCrawlerUtility;
+
+/**
+ * Component that is used for reading registry tables without crawling the whole registry schema.
+ * <p>
+ * Table list is read directly from {@code information_schema} and table details are crawled with
+ * limit options that include only the requested table.
+ */
+@Component
+@RequiredArgsConstructor
+public class RegistryTableReader {
+
+  static final String TABLE_LIST_QUERY = "SELECT t.table_name, "
+      + "obj_description(format('%I.%I', t.table_schema, t.table_name)::regclass, 'pg_class'), "
+      + "EXISTS (SELECT 1 FROM pg_catalog.pg_constraint con "
+      + "JOIN pg_catalog.pg_class target ON target.oid = con.confrelid "
+      + "WHERE con.contype = 'f' "
+      + "AND con.conrelid = format('%I.%I', t.table_schema, t.table_name)::regclass "
+      + "AND target.relname = ?) "
+      + "FROM information_schema.tables t "
+      + "WHERE t.table_schema = ? AND t.table_type IN ('BASE TABLE', 'VIEW') "
+      + "ORDER BY t.table_name";
+
+  private final SchemaCrawlerProperties schemaCrawlerProperties;
+  private final LoadOptionsBuilder loadOptionsBuilder;
+
+  @Value("${registry-regulation-management.subject-table-name:subject}")
+  private String subjectTable;
+
+  /**
+   * Reads short info of all included registry tables sorted by table name
+   *
+   * @param connection connection to the registry database
+   * @return {@link List} of {@link TableShortInfoDto}
+   *
+   * @throws SQLException in case of any error during query execution
+   */
+  @NonNull
+  public List<TableShortInfoDto> readTableShortInfos(@NonNull Connection connection)
+      throws SQLException {
+    var schema = schemaCrawlerProperties.getSchema();
+    var tableInclusionRule = SchemaCrawlerConfiguration.includeTables(schemaCrawlerProperties);
+    var tables = new ArrayList<TableShortInfoDto>();
+    try (var statement = connection.prepareStatement(TABLE_LIST_QUERY)) {
+      statement.setString(1, subjectTable);
+      statement.setString(2, schema);
+      try (var resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          var tableName = resultSet.getString(1);
+          if (tableName.endsWith(DdmConstants.SUFFIX_VIEW)
+              || !tableInclusionRule.test(schema + "." + tableName)) {
+            continue;
+          }
+          tables.add(TableShortInfoDto.builder()
+              .name(tableName)
+              .description(resultSet.getString(2))
+              .objectReference(resultSet.getBoolean(3))
+              .build());
+        }
+      }
+    }
+    return tables;
+  }
+
+  /**
+   * Crawls the only requested registry table
+   *
+   * @param connection connection to the registry database
+   * @param tableName  name of the table to crawl
+   * @return {@link Optional} of crawled {@link Table} or empty if the table doesn't exist or is
+   * excluded
+   *
+   * @throws SchemaCrawlerException in case of any error during crawling
+   */
+  @NonNull
+  public Optional<Table> crawlTable(@NonNull Connection connection, @NonNull String tableName)
+      throws SchemaCrawlerException {
+    var catalog = SchemaCrawlerUtility.getCatalog(connection, singleTableOptions(tableName));
+    return catalog.getTables().stream()
+        .filter(table -> table.getName().equals(tableName))
+        .findFirst();
+  }
+
+  private SchemaCrawlerOptions singleTableOptions(String tableName) {
+    var schema = schemaCrawlerProperties.getSchema();
+    var fullTableName = schema + "." + tableName;
+    var tableInclusionRule = SchemaCrawlerConfiguration.includeTables(schemaCrawlerProperties);
+    var limitOptionsBuilder = LimitOptionsBuilder.builder()
+        .includeSchemas(new RegularExpressionInclusionRule(schema))
+        .includeTables(name -> fullTableName.equals(name) && tableInclusionRule.test(name))
+        .includeColumns(SchemaCrawlerConfiguration.includeFields(schemaCrawlerProperties));
+    return SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+        .withLimitOptions(limitOptionsBuilder.toOptions())
+        .withLoadOptions(loadOptionsBuilder.toOptions());
+  }
+}
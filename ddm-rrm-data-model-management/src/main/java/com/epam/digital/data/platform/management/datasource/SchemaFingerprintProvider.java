@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.datasource;
+
+import com.epam.digital.data.platform.management.config.SchemaCrawlerProperties;
+import java.sql.Connection;
+import java.sql.SQLException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Component that is used for calculating a cheap fingerprint of the registry schema structure.
+ * <p>
+ * Fingerprint is a md5 hash over {@code pg_catalog} rows (relations, columns, constraints, indices
+ * and comments) of the schema configured in {@link SchemaCrawlerProperties#getSchema()}, so it
+ * changes only if DDL was applied to the schema.
+ */
+@Component
+@RequiredArgsConstructor
+public class SchemaFingerprintProvider {
+
+  static final String FINGERPRINT_QUERY = "SELECT md5(concat_ws('|', "
+      + "(SELECT string_agg(c.relname || ':' || c.relkind || ':' "
+      + "|| coalesce(obj_description(c.oid, 'pg_class'), ''), ',' ORDER BY c.relname) "
+      + "FROM pg_catalog.pg_class c WHERE c.relnamespace = n.oid), "
+      + "(SELECT string_agg(c.relname || '.' || a.attname || ':' || a.attnum || ':' "
+      + "|| format_type(a.atttypid, a.atttypmod) || ':' || a.attnotnull || ':' "
+      + "|| coalesce(pg_get_expr(d.adbin, d.adrelid), '') || ':' "
+      + "|| coalesce(col_description(c.oid, a.attnum), ''), ',' ORDER BY c.relname, a.attnum) "
+      + "FROM pg_catalog.pg_class c "
+      + "JOIN pg_catalog.pg_attribute a ON a.attrelid = c.oid AND a.attnum > 0 AND NOT a.attisdropped "
+      + "LEFT JOIN pg_catalog.pg_attrdef d ON d.adrelid = c.oid AND d.adnum = a.attnum "
+      + "WHERE c.relnamespace = n.oid), "
+      + "(SELECT string_agg(con.conname || ':' || pg_get_constraintdef(con.oid), ',' "
+      + "ORDER BY con.conname) "
+      + "FROM pg_catalog.pg_constraint con WHERE con.connamespace = n.oid), "
+      + "(SELECT string_agg(pg_get_indexdef(i.indexrelid), ',' ORDER BY i.indexrelid::regclass::text) "
+      + "FROM pg_catalog.pg_index i JOIN pg_catalog.pg_class ic ON ic.oid = i.indexrelid "
+      + "WHERE ic.relnamespace = n.oid))) "
+      + "FROM pg_catalog.pg_namespace n WHERE n.nspname = ?";
+
+  private final SchemaCrawlerProperties schemaCrawlerProperties;
+
+  /**
+   * Calculates the fingerprint of the registry schema structure using given connection
+   *
+   * @param connection connection to the registry database
+   * @return the schema fingerprint or empty string if there is no such schema in database
+   *
+   * @throws SQLException in case of any error during query execution
+   */
+  @NonNull
+  public String getFingerprint(@NonNull Connection connection) throws SQLException {
+    try (var statement = connection.prepareStatement(FINGERPRINT_QUERY)) {
+      statement.setString(1, schemaCrawlerProperties.getSchema());
+      try (var resultSet = statement.executeQuery()) {
+        return resultSet.next() ? resultSet.getString(1) : "";
+      }
+    }
+  }
+}
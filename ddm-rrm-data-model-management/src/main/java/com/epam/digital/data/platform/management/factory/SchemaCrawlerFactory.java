@@ -20,8 +20,15 @@ import com.epam.digital.data.platform.management.core.context.VersionComponentFa
 import com.epam.digital.data.platform.management.core.context.VersionContextComponentManager;
 import com.epam.digital.data.platform.management.core.exception.VersionComponentCreationException;
 import com.epam.digital.data.platform.management.datasource.RegistryDataSource;
+import com.epam.digital.data.platform.management.datasource.SchemaFingerprintProvider;
+import com.epam.digital.data.platform.management.mapper.SchemaCrawlerMapper;
+import com.epam.digital.data.platform.management.model.dto.DataModelSnapshot;
 import java.sql.SQLException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.lang.NonNull;
@@ -32,43 +39,79 @@ import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.utility.SchemaCrawlerUtility;
 
 /**
- * Factory that is used for creating version based {@link Catalog}
+ * Factory that is used for creating version based {@link DataModelSnapshot}.
+ * <p>
+ * The schema crawler {@link Catalog} is crawled and mapped during the component creation only, so
+ * the version context doesn't keep the catalog object graph.
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
-public class SchemaCrawlerFactory implements VersionComponentFactory<Catalog> {
+public class SchemaCrawlerFactory implements VersionComponentFactory<DataModelSnapshot> {
+
+  private final ConcurrentMap<String, String> catalogFingerprints = new ConcurrentHashMap<>();
 
   @Lazy
   @Autowired
   private VersionContextComponentManager versionContextComponentManager;
   private final SchemaCrawlerOptions options;
+  private final SchemaFingerprintProvider schemaFingerprintProvider;
+  private final SchemaCrawlerMapper mapper;
 
   @Override
   @NonNull
-  public Catalog createComponent(@NonNull String versionId) {
+  public DataModelSnapshot createComponent(@NonNull String versionId) {
     var registryDs = versionContextComponentManager.getComponent(versionId, RegistryDataSource.class);
 
+    Catalog catalog;
+    String fingerprint;
     try (var conn = registryDs.getConnection()) {
-      return SchemaCrawlerUtility.getCatalog(conn, options);
+      fingerprint = schemaFingerprintProvider.getFingerprint(conn);
+      catalog = SchemaCrawlerUtility.getCatalog(conn, options);
     } catch (SchemaCrawlerException | SQLException e) {
+      catalogFingerprints.remove(versionId);
       throw new VersionComponentCreationException(
           String.format("Schema crawler catalog couldn't be created: %s", e.getMessage()), e);
     }
+    var dataModel = mapper.toDataModelSnapshot(versionId, fingerprint, catalog);
+    catalogFingerprints.put(versionId, fingerprint);
+    return dataModel;
   }
 
   /**
-   * Should be recreated every time as it connects to database during creation
+   * Should be recreated only if the registry schema fingerprint has changed since the last catalog
+   * crawling or if the fingerprint couldn't be calculated
    *
-   * @return true
+   * @return true if data model is outdated
    */
   @Override
   public boolean shouldBeRecreated(@NonNull String versionId) {
-    return true;
+    var lastFingerprint = catalogFingerprints.get(versionId);
+    if (Objects.isNull(lastFingerprint)) {
+      return true;
+    }
+    var registryDs = versionContextComponentManager.getComponent(versionId, RegistryDataSource.class);
+    try (var conn = registryDs.getConnection()) {
+      var actualFingerprint = schemaFingerprintProvider.getFingerprint(conn);
+      var changed = !lastFingerprint.equals(actualFingerprint);
+      log.trace("Schema fingerprint for version '{}' changed: {}", versionId, changed);
+      return changed;
+    } catch (SQLException e) {
+      log.warn("Couldn't calculate schema fingerprint for version {}: {}", versionId,
+          e.getMessage());
+      catalogFingerprints.remove(versionId);
+      return true;
+    }
+  }
+
+  @Override
+  public void destroyComponent(@NonNull String versionId) {
+    catalogFingerprints.remove(versionId);
   }
 
   @Override
   @NonNull
-  public Class<Catalog> getComponentType() {
-    return Catalog.class;
+  public Class<DataModelSnapshot> getComponentType() {
+    return DataModelSnapshot.class;
   }
 }
@@ -18,6 +18,7 @@ package com.epam.digital.data.platform.management.mapper;
 
 import com.epam.digital.data.platform.liquibase.extension.DdmConstants;
 import com.epam.digital.data.platform.management.model.dto.ColumnShortInfoDto;
+import com.epam.digital.data.platform.management.model.dto.DataModelSnapshot;
 import com.epam.digital.data.platform.management.model.dto.ForeignKeyShortInfoDto;
 import com.epam.digital.data.platform.management.model.dto.IndexShortInfoDto;
 import com.epam.digital.data.platform.management.model.dto.PrimaryKeyConstraintShortInfoDto;
@@ -25,20 +26,19 @@ import com.epam.digital.data.platform.management.model.dto.TableInfoDto;
 import com.epam.digital.data.platform.management.model.dto.TableShortInfoDto;
 import com.epam.digital.data.platform.management.model.dto.UniqueConstraintShortInfoDto;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import org.mapstruct.AfterMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
-import org.mapstruct.MappingTarget;
-import org.mapstruct.Named;
 import org.mapstruct.ReportingPolicy;
 import org.mapstruct.ValueMapping;
 import org.springframework.beans.factory.annotation.Value;
 import schemacrawler.schema.BaseForeignKey;
+import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.ColumnReference;
 import schemacrawler.schema.ContainedObject;
@@ -51,7 +51,7 @@ import schemacrawler.schema.NamedObject;
 import schemacrawler.schema.Table;
 
 /**
- * Mapper that is used to map {@link schemacrawler.schema.Catalog} object to collection of
+ * Mapper that is used to map {@link Catalog} object to {@link DataModelSnapshot} or collection of
  * {@link TableInfoDto} or {@link TableShortInfoDto}
  */
 @Mapper(unmappedTargetPolicy = ReportingPolicy.IGNORE, componentModel = "spring")
@@ -60,6 +60,32 @@ public abstract class SchemaCrawlerMapper {
   @Value("${registry-regulation-management.subject-table-name:subject}")
   private String subjectTable;
 
+  /**
+   * Maps all catalog tables to the immutable version data model with table-name index of
+   * {@link TableInfoDto} and list of {@link TableShortInfoDto} sorted by table name
+   *
+   * @throws IllegalStateException if there are several tables with same name in catalog
+   */
+  public DataModelSnapshot toDataModelSnapshot(String versionId, String fingerprint,
+      Catalog catalog) {
+    var tablesByName = catalog.getTables().stream()
+        .collect(Collectors.toMap(NamedObject::getName, Function.identity(), (t, t2) -> {
+          throw new IllegalStateException("There cannot be several tables with same name");
+        }));
+    var tables = toTableShortInfoDtos(tablesByName.values());
+    tables.sort(Comparator.comparing(TableShortInfoDto::getName));
+    var tableInfos = tablesByName.values().stream()
+        .map(this::toTableInfoDto)
+        .collect(Collectors.toMap(TableInfoDto::getName, Function.identity()));
+    return DataModelSnapshot.builder()
+        .formatVersion(DataModelSnapshot.FORMAT_VERSION)
+        .versionId(versionId)
+        .fingerprint(fingerprint)
+        .tables(tables)
+        .tableInfos(tableInfos)
+        .build();
+  }
+
   public List<TableShortInfoDto> toTableShortInfoDtos(Collection<Table> tables) {
     return tables.stream()
         .filter(table -> !table.getName().endsWith(DdmConstants.SUFFIX_VIEW))
@@ -71,11 +97,19 @@ public abstract class SchemaCrawlerMapper {
   @Mapping(target = "objectReference", source = "importedForeignKeys")
   public abstract TableShortInfoDto toTableShortInfoDto(Table table);
 
-  @Mapping(target = "description", source = "remarks")
-  @Mapping(target = "objectReference", source = "importedForeignKeys")
-  @Mapping(target = "columns", qualifiedByName = "toColumnMap")
-  @Mapping(target = "foreignKeys", source = "importedForeignKeys", qualifiedByName = "toForeignKeyMap")
-  public abstract TableInfoDto toTableInfoDto(Table table);
+  public TableInfoDto toTableInfoDto(Table table) {
+    if (Objects.isNull(table)) {
+      return null;
+    }
+    var tableInfoDto = TableInfoDto.builder()
+        .name(table.getName())
+        .description(table.getRemarks())
+        .objectReference(isObject(table.getImportedForeignKeys()))
+        .columns(toColumnMap(table.getColumns()))
+        .foreignKeys(toForeignKeyMap(table.getImportedForeignKeys()));
+    table.getIndexes().forEach(index -> mapIndex(tableInfoDto, index));
+    return tableInfoDto.build();
+  }
 
   /**
    * @return true if there is a foreign key to subject table in the foreign key list
@@ -90,7 +124,6 @@ public abstract class SchemaCrawlerMapper {
         .anyMatch(subjectTable::equals);
   }
 
-  @Named("toColumnMap")
   public Map<String, ColumnShortInfoDto> toColumnMap(Collection<Column> columns) {
     return mapColumns(toMap(columns));
   }
@@ -103,7 +136,6 @@ public abstract class SchemaCrawlerMapper {
   @Mapping(target = "notNullFlag", expression = "java(!column.isNullable())")
   public abstract ColumnShortInfoDto toColumnShortInfoDto(Column column);
 
-  @Named("toForeignKeyMap")
   public Map<String, ForeignKeyShortInfoDto> toForeignKeyMap(Collection<ForeignKey> foreignKeys) {
     return mapForeignKeys(toMap(foreignKeys));
   }
@@ -115,14 +147,12 @@ public abstract class SchemaCrawlerMapper {
     if (Objects.isNull(foreignKey)) {
       return null;
     }
-    var foreignKeyShortInfoDto = new ForeignKeyShortInfoDto();
-    foreignKeyShortInfoDto.setName(foreignKey.getName());
-    foreignKeyShortInfoDto.setTargetTable(
-        foreignKey.getColumnReferences().get(0).getPrimaryKeyColumn().getParent().getName());
-
-    foreignKeyShortInfoDto.setColumnPairs(mapColumnPairs(foreignKey.getColumnReferences()));
-
-    return foreignKeyShortInfoDto;
+    return ForeignKeyShortInfoDto.builder()
+        .name(foreignKey.getName())
+        .targetTable(
+            foreignKey.getColumnReferences().get(0).getPrimaryKeyColumn().getParent().getName())
+        .columnPairs(mapColumnPairs(foreignKey.getColumnReferences()))
+        .build();
   }
 
   public abstract List<ForeignKeyShortInfoDto.ColumnPair> mapColumnPairs(
@@ -137,25 +167,19 @@ public abstract class SchemaCrawlerMapper {
     return collection.stream().collect(Collectors.toMap(NamedObject::getName, Function.identity()));
   }
 
-  @AfterMapping
-  public void mapIndices(@MappingTarget TableInfoDto tableInfoDto, Table table) {
-    table.getIndexes().forEach(index -> mapIndex(tableInfoDto, index));
-  }
-
-  @AfterMapping
-  public void mapIndex(@MappingTarget TableInfoDto tableInfoDto, Index index) {
+  private void mapIndex(TableInfoDto.TableInfoDtoBuilder tableInfoDto, Index index) {
     if (index.getName().endsWith(DdmConstants.SUFFIX_M2M)) {
       return;
     }
 
     if (index.getName().equals(index.getParent().getPrimaryKey().getName())) {
-      tableInfoDto.setPrimaryKey(toPrimaryKeyConstraint(index));
+      tableInfoDto.primaryKey(toPrimaryKeyConstraint(index));
     } else if (index.isUnique()) {
       var constraint = toUniqueConstraint(index);
-      tableInfoDto.getUniqueConstraints().put(constraint.getName(), constraint);
+      tableInfoDto.uniqueConstraint(constraint.getName(), constraint);
     } else {
       var indexShortInfoDto = toIndexShortInfoDto(index);
-      tableInfoDto.getIndices().put(indexShortInfoDto.getName(), indexShortInfoDto);
+      tableInfoDto.index(indexShortInfoDto.getName(), indexShortInfoDto);
     }
   }
 
@@ -163,30 +187,30 @@ public abstract class SchemaCrawlerMapper {
     if (Objects.isNull(index)) {
       return null;
     }
-    var primaryKey = new PrimaryKeyConstraintShortInfoDto();
-    primaryKey.setName(index.getName());
-    primaryKey.setColumns(toDdmIndexColumns(index.getColumns()));
-    return primaryKey;
+    return PrimaryKeyConstraintShortInfoDto.builder()
+        .name(index.getName())
+        .columns(toDdmIndexColumns(index.getColumns()))
+        .build();
   }
 
   public UniqueConstraintShortInfoDto toUniqueConstraint(Index index) {
     if (Objects.isNull(index)) {
       return null;
     }
-    var uniqueConstraint = new UniqueConstraintShortInfoDto();
-    uniqueConstraint.setName(index.getName());
-    uniqueConstraint.setColumns(toDdmIndexColumns(index.getColumns()));
-    return uniqueConstraint;
+    return UniqueConstraintShortInfoDto.builder()
+        .name(index.getName())
+        .columns(toDdmIndexColumns(index.getColumns()))
+        .build();
   }
 
   public IndexShortInfoDto toIndexShortInfoDto(Index index) {
     if (Objects.isNull(index)) {
       return null;
     }
-    var indexShortInfoDto = new IndexShortInfoDto();
-    indexShortInfoDto.setName(index.getName());
-    indexShortInfoDto.setColumns(toDdmIndexColumns(index.getColumns()));
-    return indexShortInfoDto;
+    return IndexShortInfoDto.builder()
+        .name(index.getName())
+        .columns(toDdmIndexColumns(index.getColumns()))
+        .build();
   }
 
   public abstract List<IndexShortInfoDto.Column> toDdmIndexColumns(List<IndexColumn> indexColumn);
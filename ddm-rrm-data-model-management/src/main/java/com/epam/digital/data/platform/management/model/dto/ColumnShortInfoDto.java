@@ -15,14 +15,19 @@
  */
 package com.epam.digital.data.platform.management.model.dto;
 
-import lombok.Data;
+import java.io.Serializable;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
-@Data
-public class ColumnShortInfoDto {
+@Value
+@Builder
+@Jacksonized
+public class ColumnShortInfoDto implements Serializable {
 
-  private String name;
-  private String description;
-  private String type; // enum with possible types
-  private String defaultValue;
-  private Boolean notNullFlag;
+  String name;
+  String description;
+  String type; // enum with possible types
+  String defaultValue;
+  Boolean notNullFlag;
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.digital.data.platform.management.model.dto;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Immutable mapped data model of a version with table-name index of {@link TableInfoDto} and list
+ * of {@link TableShortInfoDto} sorted by table name.
+ * <p>
+ * It's cached in memory and stored on the persistent volume to avoid recrawling the registry
+ * database after restart. Stored snapshot is valid only while the registry schema fingerprint is
+ * equal to {@link #fingerprint}.
+ */
+@Getter
+public class DataModelSnapshot implements Serializable {
+
+  /**
+   * Snapshot serialization format version. Snapshots with another format version are discarded.
+   */
+  public static final int FORMAT_VERSION = 1;
+
+  private final int formatVersion;
+  private final String versionId;
+  private final String fingerprint;
+  private final List<TableShortInfoDto> tables;
+  private final Map<String, TableInfoDto> tableInfos;
+
+  @Builder
+  @Jacksonized
+  private DataModelSnapshot(int formatVersion, String versionId, String fingerprint,
+      List<TableShortInfoDto> tables, Map<String, TableInfoDto> tableInfos) {
+    this.formatVersion = formatVersion;
+    this.versionId = versionId;
+    this.fingerprint = fingerprint;
+    this.tables = List.copyOf(tables);
+    this.tableInfos = Map.copyOf(tableInfos);
+  }
+}
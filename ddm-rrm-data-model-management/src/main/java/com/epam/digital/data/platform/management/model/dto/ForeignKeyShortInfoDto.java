@@ -15,21 +15,29 @@
  */
 package com.epam.digital.data.platform.management.model.dto;
 
-import java.util.ArrayList;
+import java.io.Serializable;
 import java.util.List;
-import lombok.Data;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
-@Data
-public class ForeignKeyShortInfoDto {
+@Value
+@Builder
+@Jacksonized
+public class ForeignKeyShortInfoDto implements Serializable {
 
-  private String name;
-  private String targetTable;
-  private List<ColumnPair> columnPairs = new ArrayList<>();
+  String name;
+  String targetTable;
+  @Singular
+  List<ColumnPair> columnPairs;
 
-  @Data
-  public static class ColumnPair {
+  @Value
+  @Builder
+  @Jacksonized
+  public static class ColumnPair implements Serializable {
 
-    private String sourceColumnName;
-    private String targetColumnName;
+    String sourceColumnName;
+    String targetColumnName;
   }
 }
@@ -15,20 +15,35 @@
  */
 package com.epam.digital.data.platform.management.model.dto;
 
+import java.io.Serializable;
 import java.util.List;
-import lombok.Data;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Singular;
+import lombok.ToString;
+import lombok.Value;
+import lombok.experimental.SuperBuilder;
+import lombok.extern.jackson.Jacksonized;
 
-@Data
-public class IndexShortInfoDto {
+@Getter
+@ToString
+@EqualsAndHashCode
+@SuperBuilder
+@Jacksonized
+public class IndexShortInfoDto implements Serializable {
 
-  private String name;
-  private List<Column> columns;
+  private final String name;
+  @Singular
+  private final List<Column> columns;
 
-  @Data
-  public static class Column {
+  @Value
+  @Builder
+  @Jacksonized
+  public static class Column implements Serializable {
 
-    private String name;
-    private Sorting sorting;
+    String name;
+    Sorting sorting;
 
     public enum Sorting {
       ASC, DESC, NONE
@@ -15,22 +15,29 @@
  */
 package com.epam.digital.data.platform.management.model.dto;
 
-import java.util.HashMap;
+import java.io.Serializable;
 import java.util.Map;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
-@Data
-@NoArgsConstructor
-public class TableInfoDto {
+@Value
+@Builder
+@Jacksonized
+public class TableInfoDto implements Serializable {
 
-  private String name;
-  private Boolean objectReference;
-  private String description;
+  String name;
+  Boolean objectReference;
+  String description;
 
-  private Map<String, ColumnShortInfoDto> columns = new HashMap<>();
-  private Map<String, ForeignKeyShortInfoDto> foreignKeys = new HashMap<>();
-  private PrimaryKeyConstraintShortInfoDto primaryKey;
-  private Map<String, UniqueConstraintShortInfoDto> uniqueConstraints = new HashMap<>();
-  private Map<String, IndexShortInfoDto> indices = new HashMap<>();
+  @Singular
+  Map<String, ColumnShortInfoDto> columns;
+  @Singular
+  Map<String, ForeignKeyShortInfoDto> foreignKeys;
+  PrimaryKeyConstraintShortInfoDto primaryKey;
+  @Singular
+  Map<String, UniqueConstraintShortInfoDto> uniqueConstraints;
+  @Singular("index")
+  Map<String, IndexShortInfoDto> indices;
 }
@@ -15,15 +15,16 @@
  */
 package com.epam.digital.data.platform.management.model.dto;
 
+import java.io.Serializable;
 import lombok.Builder;
-import lombok.Getter;
-import lombok.Setter;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
-@Getter
-@Setter
+@Value
 @Builder
-public class TableShortInfoDto {
-  private String name;
-  private String description;
-  private Boolean objectReference;
+@Jacksonized
+public class TableShortInfoDto implements Serializable {
+  String name;
+  String description;
+  Boolean objectReference;
 }
@@ -15,6 +15,11 @@
  */
 package com.epam.digital.data.platform.management.model.dto;
 
+import lombok.experimental.SuperBuilder;
+import lombok.extern.jackson.Jacksonized;
+
+@SuperBuilder
+@Jacksonized
 public class UniqueConstraintShortInfoDto extends IndexShortInfoDto {
 
 }
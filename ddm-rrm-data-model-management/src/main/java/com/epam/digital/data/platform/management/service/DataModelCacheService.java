@@ -0,0 +1,46 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.service;
+
+import com.epam.digital.data.platform.management.model.dto.DataModelSnapshot;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Provides methods to work with cached {@link DataModelSnapshot version data models}. Cached data
+ * model of a version is evicted by
+ * {@link com.epam.digital.data.platform.management.core.service.CacheService#clearCatalogCache(String)}
+ */
+public interface DataModelCacheService {
+
+  /**
+   * Get cached data model of the version
+   *
+   * @param versionId version id
+   * @return cached data model or null if there is no cached data model for the version
+   */
+  @Nullable
+  DataModelSnapshot getDataModel(@NonNull String versionId);
+
+  /**
+   * Replace cached data model of the version
+   *
+   * @param versionId version id
+   * @param dataModel data model to cache
+   */
+  void updateDataModel(@NonNull String versionId, @NonNull DataModelSnapshot dataModel);
+}
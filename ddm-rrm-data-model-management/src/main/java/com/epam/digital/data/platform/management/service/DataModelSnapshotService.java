@@ -0,0 +1,56 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.service;
+
+import com.epam.digital.data.platform.management.model.dto.DataModelSnapshot;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Provides methods to work with persistent {@link DataModelSnapshot data model snapshots}
+ */
+public interface DataModelSnapshotService {
+
+  /**
+   * Get stored snapshot of the version data model. The snapshot is returned only if its fingerprint
+   * is equal to the actual registry schema fingerprint
+   *
+   * @param versionId id of version to get snapshot for
+   * @return stored {@link DataModelSnapshot} or null if there is no snapshot, the snapshot is
+   * outdated, the schema fingerprint couldn't be calculated or snapshots are disabled
+   */
+  @Nullable
+  DataModelSnapshot getSnapshot(@NonNull String versionId);
+
+  /**
+   * Store the version data model snapshot if its schema fingerprint differs from the stored one
+   *
+   * @param snapshot data model snapshot mapped from crawled version catalog
+   */
+  void saveSnapshot(@NonNull DataModelSnapshot snapshot);
+
+  /**
+   * Load all stored snapshots from the persistent volume
+   */
+  void loadSnapshots();
+
+  /**
+   * Recreate every stored snapshot which fingerprint doesn't match the actual registry schema
+   * fingerprint and delete snapshots of versions which repositories no longer exist
+   */
+  void revalidateSnapshots();
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.service.impl;
+
+import com.epam.digital.data.platform.management.core.cache.VersionCacheRegion;
+import com.epam.digital.data.platform.management.core.service.CacheService;
+import com.epam.digital.data.platform.management.model.dto.DataModelSnapshot;
+import com.epam.digital.data.platform.management.service.DataModelCacheService;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+@Service
+public class DataModelCacheServiceImpl implements DataModelCacheService {
+
+  private final VersionCacheRegion<DataModelSnapshot> dataModelRegion;
+
+  public DataModelCacheServiceImpl(CacheManager cacheManager) {
+    this.dataModelRegion = new VersionCacheRegion<>(cacheManager,
+        CacheService.CATALOG_CACHE_NAME);
+  }
+
+  @Override
+  @Nullable
+  public DataModelSnapshot getDataModel(@NonNull String versionId) {
+    return dataModelRegion.get(versionId, DataModelSnapshot.class);
+  }
+
+  @Override
+  public void updateDataModel(@NonNull String versionId, @NonNull DataModelSnapshot dataModel) {
+    dataModelRegion.put(versionId, dataModel);
+  }
+}
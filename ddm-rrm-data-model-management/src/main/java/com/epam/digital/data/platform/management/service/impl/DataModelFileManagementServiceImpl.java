@@ -100,7 +100,7 @@ public class DataModelFileManagementServiceImpl implements DataModelFileManageme
 
     List<DataModelFileDto> dataModels = new ArrayList<>();
 
-    List<String> conflicts = cacheService.getConflictsCache(versionId);
+    var conflicts = cacheService.getConflictsCache(versionId);
     for (VersionedFileInfoDto versionedFileInfoDto : foundFiles) {
       dataModels.add(
           mapper.toChangedDataModelFileDto(
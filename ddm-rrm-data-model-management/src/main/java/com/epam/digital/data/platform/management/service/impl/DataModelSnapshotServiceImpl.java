@@ -0,0 +1,268 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.service.impl;
+
+import com.epam.digital.data.platform.management.config.DataModelSnapshotProperties;
+import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.epam.digital.data.platform.management.core.context.VersionContextComponentManager;
+import com.epam.digital.data.platform.management.core.event.ApplicationStartedEventListener;
+import com.epam.digital.data.platform.management.core.exception.VersionComponentCreationException;
+import com.epam.digital.data.platform.management.core.service.CacheService;
+import com.epam.digital.data.platform.management.datasource.RegistryDataSource;
+import com.epam.digital.data.platform.management.datasource.SchemaFingerprintProvider;
+import com.epam.digital.data.platform.management.model.dto.DataModelSnapshot;
+import com.epam.digital.data.platform.management.service.DataModelSnapshotService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DataModelSnapshotServiceImpl implements DataModelSnapshotService,
+    ApplicationStartedEventListener {
+
+  private static final String SNAPSHOT_FILE_EXTENSION = ".json";
+
+  private final ConcurrentMap<String, StoredSnapshot> snapshots = new ConcurrentHashMap<>();
+
+  private final DataModelSnapshotProperties snapshotProperties;
+  private final GerritPropertiesConfig gerritPropertiesConfig;
+  private final VersionContextComponentManager versionContextComponentManager;
+  private final SchemaFingerprintProvider schemaFingerprintProvider;
+  private final CacheService cacheService;
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public void handleApplicationStartedEvent(ApplicationStartedEvent event) {
+    loadSnapshots();
+  }
+
+  @Override
+  @Nullable
+  public DataModelSnapshot getSnapshot(@NonNull String versionId) {
+    if (!snapshotProperties.isEnabled()) {
+      return null;
+    }
+    var snapshot = refreshSnapshot(versionId);
+    if (Objects.isNull(snapshot)) {
+      return null;
+    }
+    if (!snapshot.getFingerprint().equals(getActualFingerprint(versionId))) {
+      log.debug("Data model snapshot for version '{}' doesn't match registry schema", versionId);
+      return null;
+    }
+    log.trace("Getting data model for version '{}' from snapshot", versionId);
+    return snapshot;
+  }
+
+  @Override
+  public void saveSnapshot(@NonNull DataModelSnapshot snapshot) {
+    var fingerprint = snapshot.getFingerprint();
+    if (!snapshotProperties.isEnabled() || Objects.isNull(fingerprint)) {
+      return;
+    }
+    var versionId = snapshot.getVersionId();
+    var storedSnapshot = snapshots.get(versionId);
+    if (Objects.nonNull(storedSnapshot)
+        && fingerprint.equals(storedSnapshot.snapshot.getFingerprint())) {
+      return;
+    }
+
+    var modifiedTime = writeSnapshot(snapshot);
+    if (Objects.nonNull(modifiedTime)) {
+      snapshots.put(versionId, new StoredSnapshot(snapshot, modifiedTime));
+      log.debug("Data model snapshot for version '{}' was saved", versionId);
+    }
+  }
+
+  @Override
+  public void loadSnapshots() {
+    if (!snapshotProperties.isEnabled()) {
+      return;
+    }
+    listSnapshotFiles().forEach(this::loadSnapshot);
+    log.info("There were loaded {} data model snapshots", snapshots.size());
+  }
+
+  @Override
+  public void revalidateSnapshots() {
+    if (!snapshotProperties.isEnabled()) {
+      return;
+    }
+    listSnapshotFiles().stream()
+        .map(file -> file.getFileName().toString())
+        .map(fileName -> fileName.substring(0,
+            fileName.length() - SNAPSHOT_FILE_EXTENSION.length()))
+        .forEach(this::revalidateSnapshot);
+  }
+
+  private void revalidateSnapshot(String versionId) {
+    if (isObsoleteVersion(versionId)) {
+      log.debug("Deleting data model snapshot of obsolete version '{}'", versionId);
+      snapshots.remove(versionId);
+      deleteSnapshotFile(versionId);
+      return;
+    }
+    try {
+      var snapshot = refreshSnapshot(versionId);
+      var actualFingerprint = getActualFingerprint(versionId);
+      if (Objects.isNull(snapshot) || Objects.isNull(actualFingerprint)
+          || actualFingerprint.equals(snapshot.getFingerprint())) {
+        return;
+      }
+      log.debug("Recreating outdated data model snapshot for version '{}'", versionId);
+      saveSnapshot(versionContextComponentManager.getComponent(versionId,
+          DataModelSnapshot.class));
+      cacheService.clearCatalogCache(versionId);
+    } catch (RuntimeException e) {
+      log.warn("Couldn't revalidate data model snapshot for version '{}': {}", versionId,
+          e.getMessage());
+    }
+  }
+
+  private boolean isObsoleteVersion(String versionId) {
+    return !gerritPropertiesConfig.getHeadBranch().equals(versionId)
+        && !Files.exists(Path.of(gerritPropertiesConfig.getRepositoryDirectory(), versionId));
+  }
+
+  @Nullable
+  private String getActualFingerprint(String versionId) {
+    try {
+      var registryDs = versionContextComponentManager.getComponent(versionId,
+          RegistryDataSource.class);
+      try (var conn = registryDs.getConnection()) {
+        return schemaFingerprintProvider.getFingerprint(conn);
+      }
+    } catch (VersionComponentCreationException | SQLException e) {
+      log.debug("Couldn't calculate schema fingerprint for version '{}': {}", versionId,
+          e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * Returns the stored snapshot of the version and reloads it if the snapshot file was rewritten or
+   * deleted, e.g. by the replica that ran the revalidation.
+   */
+  @Nullable
+  private DataModelSnapshot refreshSnapshot(String versionId) {
+    var file = getSnapshotFile(versionId);
+    FileTime modifiedTime;
+    try {
+      modifiedTime = Files.getLastModifiedTime(file);
+    } catch (IOException e) {
+      snapshots.remove(versionId);
+      return null;
+    }
+    var storedSnapshot = snapshots.get(versionId);
+    if (Objects.nonNull(storedSnapshot) && modifiedTime.equals(storedSnapshot.modifiedTime)) {
+      return storedSnapshot.snapshot;
+    }
+    log.trace("Reloading data model snapshot for version '{}'", versionId);
+    return loadSnapshot(file);
+  }
+
+  private List<Path> listSnapshotFiles() {
+    var directory = Path.of(snapshotProperties.getDirectory());
+    if (!Files.isDirectory(directory)) {
+      return List.of();
+    }
+    try (var files = Files.list(directory)) {
+      return files.filter(file -> file.getFileName().toString().endsWith(SNAPSHOT_FILE_EXTENSION))
+          .collect(Collectors.toList());
+    } catch (IOException e) {
+      log.warn("Couldn't list data model snapshots: {}", e.getMessage());
+      return List.of();
+    }
+  }
+
+  @Nullable
+  private DataModelSnapshot loadSnapshot(Path file) {
+    try {
+      var modifiedTime = Files.getLastModifiedTime(file);
+      var snapshot = objectMapper.readValue(file.toFile(), DataModelSnapshot.class);
+      if (snapshot.getFormatVersion() != DataModelSnapshot.FORMAT_VERSION
+          || Objects.isNull(snapshot.getVersionId())
+          || Objects.isNull(snapshot.getFingerprint())) {
+        log.debug("Deleting incompatible data model snapshot {}", file);
+        Files.deleteIfExists(file);
+        return null;
+      }
+      snapshots.put(snapshot.getVersionId(), new StoredSnapshot(snapshot, modifiedTime));
+      return snapshot;
+    } catch (IOException e) {
+      log.warn("Couldn't load data model snapshot {}: {}", file, e.getMessage());
+      return null;
+    }
+  }
+
+  @Nullable
+  private FileTime writeSnapshot(DataModelSnapshot snapshot) {
+    try {
+      var directory = Files.createDirectories(Path.of(snapshotProperties.getDirectory()));
+      var tempFile = Files.createTempFile(directory, snapshot.getVersionId(), ".tmp");
+      objectMapper.writeValue(tempFile.toFile(), snapshot);
+      var file = Files.move(tempFile, getSnapshotFile(snapshot.getVersionId()),
+          StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      return Files.getLastModifiedTime(file);
+    } catch (IOException e) {
+      log.warn("Couldn't write data model snapshot for version '{}': {}",
+          snapshot.getVersionId(), e.getMessage());
+      return null;
+    }
+  }
+
+  private void deleteSnapshotFile(String versionId) {
+    try {
+      Files.deleteIfExists(getSnapshotFile(versionId));
+    } catch (IOException e) {
+      log.warn("Couldn't delete data model snapshot for version '{}': {}", versionId,
+          e.getMessage());
+    }
+  }
+
+  private Path getSnapshotFile(String versionId) {
+    return Path.of(snapshotProperties.getDirectory(), versionId + SNAPSHOT_FILE_EXTENSION);
+  }
+
+  private static final class StoredSnapshot {
+
+    private final DataModelSnapshot snapshot;
+    private final FileTime modifiedTime;
+
+    private StoredSnapshot(DataModelSnapshot snapshot, FileTime modifiedTime) {
+      this.snapshot = snapshot;
+      this.modifiedTime = modifiedTime;
+    }
+  }
+}
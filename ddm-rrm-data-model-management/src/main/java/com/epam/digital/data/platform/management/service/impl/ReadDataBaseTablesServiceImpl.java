@@ -15,28 +15,33 @@
  */
 package com.epam.digital.data.platform.management.service.impl;
 
+import com.epam.digital.data.platform.management.config.SchemaCrawlerProperties;
 import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
 import com.epam.digital.data.platform.management.core.context.VersionContextComponentManager;
 import com.epam.digital.data.platform.management.core.exception.VersionComponentCreationException;
-import com.epam.digital.data.platform.management.core.service.CacheService;
 import com.epam.digital.data.platform.management.datasource.RegistryDataSource;
+import com.epam.digital.data.platform.management.datasource.RegistryTableReader;
 import com.epam.digital.data.platform.management.exception.RegistryDataBaseConnectionException;
 import com.epam.digital.data.platform.management.exception.TableNotFoundException;
 import com.epam.digital.data.platform.management.mapper.SchemaCrawlerMapper;
+import com.epam.digital.data.platform.management.model.dto.DataModelSnapshot;
 import com.epam.digital.data.platform.management.model.dto.TableInfoDto;
 import com.epam.digital.data.platform.management.model.dto.TableShortInfoDto;
+import com.epam.digital.data.platform.management.service.DataModelCacheService;
+import com.epam.digital.data.platform.management.service.DataModelSnapshotService;
 import com.epam.digital.data.platform.management.service.ReadDataBaseTablesService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
-import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
 
 import java.sql.SQLException;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -46,21 +51,28 @@ public class ReadDataBaseTablesServiceImpl implements ReadDataBaseTablesService
   private final GerritPropertiesConfig gerritPropertiesConfig;
   private final VersionContextComponentManager versionContextComponentManager;
   private final SchemaCrawlerMapper mapper;
-  private final CacheService cacheService;
+  private final DataModelCacheService dataModelCacheService;
+  private final SchemaCrawlerProperties schemaCrawlerProperties;
+  private final RegistryTableReader registryTableReader;
+  private final DataModelSnapshotService dataModelSnapshotService;
 
   @Override
   @NonNull
   public List<TableShortInfoDto> listTables(@NonNull String versionId, boolean isSuccessBuild) {
     log.debug("Trying to get list of tables in version '{}'", versionId);
 
-    var catalog = getCatalog(versionId, isSuccessBuild);
-    if (Objects.isNull(catalog)) {
+    var dataModel = getStoredDataModel(versionId, isSuccessBuild);
+    if (Objects.isNull(dataModel)) {
+      if (schemaCrawlerProperties.isLazyTableCrawl()) {
+        return listTablesLazily(versionId);
+      }
+      dataModel = loadDataModel(versionId, isSuccessBuild);
+    }
+    if (Objects.isNull(dataModel)) {
       return List.of();
     }
 
-    var tablesDetails = mapper.toTableShortInfoDtos(catalog.getTables());
-    tablesDetails.sort(Comparator.comparing(TableShortInfoDto::getName));
-
+    var tablesDetails = dataModel.getTables();
     log.debug("There were found {} tables for version '{}'", tablesDetails.size(), versionId);
     return tablesDetails;
   }
@@ -69,46 +81,103 @@ public class ReadDataBaseTablesServiceImpl implements ReadDataBaseTablesService
   @NonNull
   public TableInfoDto getTable(@NonNull String versionId, @NonNull String tableName, boolean isSuccessBuild) {
     log.debug("Trying to get table with name '{}' in version '{}'", tableName, versionId);
-    var catalog = getCatalog(versionId, isSuccessBuild);
-    if (Objects.isNull(catalog)) {
+
+    var dataModel = getStoredDataModel(versionId, isSuccessBuild);
+    if (Objects.isNull(dataModel)) {
+      if (schemaCrawlerProperties.isLazyTableCrawl()) {
+        return getTableLazily(versionId, tableName);
+      }
+      dataModel = loadDataModel(versionId, isSuccessBuild);
+    }
+    if (Objects.isNull(dataModel)) {
+      throw tableNotFoundException(versionId, tableName);
+    }
+
+    var table = dataModel.getTableInfos().get(tableName);
+    if (Objects.isNull(table)) {
       throw tableNotFoundException(versionId, tableName);
     }
 
-    var table = catalog.getTables().stream()
-        .filter(t -> t.getName().equals(tableName))
-        .reduce((t, t2) -> {
-          throw new IllegalStateException("There cannot be several tables with same name");
-        }).orElseThrow(() -> tableNotFoundException(versionId, tableName));
+    log.debug("Table with name '{}' was found in version '{}'", tableName, versionId);
+    return table;
+  }
+
+  private List<TableShortInfoDto> listTablesLazily(String versionId) {
+    log.trace("reading list of tables for version '{}' from information schema", versionId);
+    try (var conn = getRegistryDataSource(versionId).getConnection()) {
+      var tablesDetails = registryTableReader.readTableShortInfos(conn);
+      log.debug("There were found {} tables for version '{}'", tablesDetails.size(), versionId);
+      return tablesDetails;
+    } catch (VersionComponentCreationException | SQLException e) {
+      handleConnectionError(versionId, e);
+      return List.of();
+    }
+  }
+
+  private TableInfoDto getTableLazily(String versionId, String tableName) {
+    log.trace("crawling table '{}' for version '{}' from db", tableName, versionId);
+    Optional<Table> table;
+    try (var conn = getRegistryDataSource(versionId).getConnection()) {
+      table = registryTableReader.crawlTable(conn, tableName);
+    } catch (VersionComponentCreationException | SQLException | SchemaCrawlerException e) {
+      handleConnectionError(versionId, e);
+      table = Optional.empty();
+    }
 
+    var tableInfo = table.map(mapper::toTableInfoDto)
+        .orElseThrow(() -> tableNotFoundException(versionId, tableName));
     log.debug("Table with name '{}' was found in version '{}'", tableName, versionId);
-    return mapper.toTableInfoDto(table);
+    return tableInfo;
+  }
+
+  private RegistryDataSource getRegistryDataSource(String versionId) {
+    return versionContextComponentManager.getComponent(versionId, RegistryDataSource.class);
   }
 
   @Nullable
-  private Catalog getCatalog(String versionId, boolean isSuccessBuild) {
-    Catalog catalog = cacheService.getCatalogCache(versionId);
-    if (Objects.nonNull(catalog)){
-      log.trace("getting schema catalog for version '{}' from cache", versionId);
-      return catalog;
+  private DataModelSnapshot getStoredDataModel(String versionId, boolean isSuccessBuild) {
+    var dataModel = dataModelCacheService.getDataModel(versionId);
+    if (Objects.nonNull(dataModel)) {
+      log.trace("getting data model for version '{}' from cache", versionId);
+      return dataModel;
+    }
+    if (!isSuccessBuild) {
+      return null;
+    }
+    dataModel = dataModelSnapshotService.getSnapshot(versionId);
+    if (Objects.nonNull(dataModel)) {
+      log.trace("updating data model in cache from snapshot");
+      dataModelCacheService.updateDataModel(versionId, dataModel);
     }
+    return dataModel;
+  }
+
+  @Nullable
+  private DataModelSnapshot loadDataModel(String versionId, boolean isSuccessBuild) {
     try {
-      log.trace("trying getting schema catalog for version '{}' from db", versionId);
-      catalog = versionContextComponentManager.getComponent(versionId, Catalog.class);
+      log.trace("trying getting data model for version '{}' from db", versionId);
+      var dataModel = versionContextComponentManager.getComponent(versionId,
+          DataModelSnapshot.class);
       if (isSuccessBuild) {
-        log.trace("updating schema catalog in cache");
-        cacheService.updateCatalogCache(versionId, catalog);
+        log.trace("updating data model in cache");
+        dataModelCacheService.updateDataModel(versionId, dataModel);
+        dataModelSnapshotService.saveSnapshot(dataModel);
       }
-      return catalog;
+      return dataModel;
     } catch (VersionComponentCreationException e) {
-      if (gerritPropertiesConfig.getHeadBranch().equals(versionId)) {
-        log.error("Couldn't connect to master version data-base: {}", e.getMessage());
-        throw registryDataBaseConnectionException(e);
-      } else {
-        log.warn("Couldn't connect to version-candidate {} data-base: {}", versionId,
-            e.getMessage());
-        checkMainDataBaseConnection();
-        return null;
-      }
+      handleConnectionError(versionId, e);
+      return null;
+    }
+  }
+
+  private void handleConnectionError(String versionId, Exception e) {
+    if (gerritPropertiesConfig.getHeadBranch().equals(versionId)) {
+      log.error("Couldn't connect to master version data-base: {}", e.getMessage());
+      throw registryDataBaseConnectionException(e);
+    } else {
+      log.warn("Couldn't connect to version-candidate {} data-base: {}", versionId,
+          e.getMessage());
+      checkMainDataBaseConnection();
     }
   }
 
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.validation;
+
+import com.epam.digital.data.platform.management.core.event.ApplicationStartedEventListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.stereotype.Component;
+import org.xml.sax.SAXException;
+
+/**
+ * Async listener of the {@link ApplicationStartedEvent}.
+ * <p>
+ * Compiles liquibase changelog schema right after application is started so the first data-model
+ * file validation doesn't have to wait for it. If the compilation has failed it will be retried on
+ * the first validation.
+ */
+@Slf4j
+@Component
+public class ChangelogSchemaWarmUpListener implements ApplicationStartedEventListener {
+
+  @Override
+  public void handleApplicationStartedEvent(ApplicationStartedEvent event) {
+    log.debug("Compiling liquibase changelog schema");
+    try {
+      DDMExtensionChangelogFileValidator.getDbChangelogSchema();
+    } catch (SAXException e) {
+      log.warn("Liquibase changelog schema compilation has been failed: {}", e.getMessage(), e);
+    }
+  }
+}
@@ -17,14 +17,13 @@
 
 package com.epam.digital.data.platform.management.validation;
 
+import com.epam.digital.data.platform.management.core.utils.LazySchema;
 import java.io.IOException;
 import java.io.StringReader;
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
-import javax.xml.XMLConstants;
 import javax.xml.transform.stream.StreamSource;
-import javax.xml.validation.SchemaFactory;
-import javax.xml.validation.Validator;
+import javax.xml.validation.Schema;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.xml.sax.SAXException;
@@ -43,10 +42,13 @@ public class DDMExtensionChangelogFileValidator implements
   private static final String DB_CHANGELOG_SCHEMA = SCHEMA_PATH + "/dbchangelog.xsd";
   private static final String LIQUIBASE_EXT_SCHEMA = SCHEMA_PATH + "/liquibase-ext-schema.xsd";
 
+  private static final LazySchema DB_CHANGELOG = new LazySchema(
+      DDMExtensionChangelogFileValidator.class.getResource(DB_CHANGELOG_SCHEMA), null);
+
   @Override
   public boolean isValid(String changeLogContent, ConstraintValidatorContext context) {
     try (var businessProcessReader = new StringReader(changeLogContent)) {
-      var dbChangelog = initValidator(DB_CHANGELOG_SCHEMA);
+      var dbChangelog = getDbChangelogSchema().newValidator();
       dbChangelog.validate(new StreamSource(businessProcessReader));
       // TODO uncomment when fix "Error for type 'whereType'. Multiple elements with name
       //  'condition', with different types, appear in the model group."
@@ -60,10 +62,13 @@ public class DDMExtensionChangelogFileValidator implements
     return true;
   }
 
-  private Validator initValidator(String dbChangeLogSchema) throws SAXException {
-    var resourceDdm = getClass().getResource(dbChangeLogSchema);
-    var factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-    var schema = factory.newSchema(new StreamSource(resourceDdm.toExternalForm()));
-    return schema.newValidator();
+  /**
+   * Returns compiled {@code dbchangelog.xsd} schema
+   *
+   * @return compiled {@link Schema}
+   * @throws SAXException if the schema could not be compiled
+   */
+  static Schema getDbChangelogSchema() throws SAXException {
+    return DB_CHANGELOG.get();
   }
 }
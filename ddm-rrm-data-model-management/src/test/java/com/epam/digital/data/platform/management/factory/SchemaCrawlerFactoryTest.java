@@ -0,0 +1,131 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.factory;
+
+import com.epam.digital.data.platform.management.core.context.VersionContextComponentManager;
+import com.epam.digital.data.platform.management.datasource.RegistryDataSource;
+import com.epam.digital.data.platform.management.datasource.SchemaFingerprintProvider;
+import com.epam.digital.data.platform.management.mapper.SchemaCrawlerMapper;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Schema crawler factory test")
+class SchemaCrawlerFactoryTest {
+
+  static final String VERSION_ID = "42";
+
+  @Mock
+  VersionContextComponentManager versionContextComponentManager;
+  @Mock
+  SchemaCrawlerOptions options;
+  @Mock
+  SchemaFingerprintProvider schemaFingerprintProvider;
+  @Mock
+  SchemaCrawlerMapper mapper;
+  @Mock
+  RegistryDataSource registryDataSource;
+  @Mock
+  Connection connection;
+
+  SchemaCrawlerFactory factory;
+
+  @BeforeEach
+  void setUp() {
+    factory = new SchemaCrawlerFactory(options, schemaFingerprintProvider, mapper);
+    ReflectionTestUtils.setField(factory, "versionContextComponentManager",
+        versionContextComponentManager);
+  }
+
+  @Test
+  @DisplayName("should be recreated if catalog has never been created for version")
+  void shouldBeRecreatedTest_noFingerprint() {
+    Assertions.assertThat(factory.shouldBeRecreated(VERSION_ID)).isTrue();
+
+    Mockito.verifyNoInteractions(versionContextComponentManager, schemaFingerprintProvider);
+  }
+
+  @Test
+  @DisplayName("should not be recreated if schema fingerprint hasn't changed")
+  void shouldBeRecreatedTest_sameFingerprint() throws SQLException {
+    putFingerprint("fingerprint");
+    mockConnection();
+    Mockito.doReturn("fingerprint").when(schemaFingerprintProvider).getFingerprint(connection);
+
+    Assertions.assertThat(factory.shouldBeRecreated(VERSION_ID)).isFalse();
+
+    Mockito.verify(connection).close();
+  }
+
+  @Test
+  @DisplayName("should be recreated if schema fingerprint has changed")
+  void shouldBeRecreatedTest_changedFingerprint() throws SQLException {
+    putFingerprint("fingerprint");
+    mockConnection();
+    Mockito.doReturn("newFingerprint").when(schemaFingerprintProvider).getFingerprint(connection);
+
+    Assertions.assertThat(factory.shouldBeRecreated(VERSION_ID)).isTrue();
+  }
+
+  @Test
+  @DisplayName("should be recreated if schema fingerprint couldn't be calculated")
+  void shouldBeRecreatedTest_fingerprintFailed() throws SQLException {
+    putFingerprint("fingerprint");
+    mockConnection();
+    Mockito.doThrow(SQLException.class).when(schemaFingerprintProvider).getFingerprint(connection);
+
+    Assertions.assertThat(factory.shouldBeRecreated(VERSION_ID)).isTrue();
+    Assertions.assertThat(factory.shouldBeRecreated(VERSION_ID)).isTrue();
+
+    Mockito.verify(schemaFingerprintProvider).getFingerprint(connection);
+  }
+
+  @Test
+  @DisplayName("should forget schema fingerprint when version context is destroyed")
+  void destroyComponentTest() {
+    putFingerprint("fingerprint");
+
+    factory.destroyComponent(VERSION_ID);
+
+    Assertions.assertThat(factory.shouldBeRecreated(VERSION_ID)).isTrue();
+    Mockito.verifyNoInteractions(versionContextComponentManager, schemaFingerprintProvider);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void putFingerprint(String fingerprint) {
+    var fingerprints = (Map<String, String>) ReflectionTestUtils.getField(factory,
+        "catalogFingerprints");
+    fingerprints.put(VERSION_ID, fingerprint);
+  }
+
+  private void mockConnection() throws SQLException {
+    Mockito.doReturn(registryDataSource).when(versionContextComponentManager)
+        .getComponent(VERSION_ID, RegistryDataSource.class);
+    Mockito.doReturn(connection).when(registryDataSource).getConnection();
+  }
+}
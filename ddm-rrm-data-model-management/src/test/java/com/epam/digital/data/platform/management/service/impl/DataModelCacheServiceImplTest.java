@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.service.impl;
+
+import com.epam.digital.data.platform.management.core.service.CacheService;
+import com.epam.digital.data.platform.management.model.dto.DataModelSnapshot;
+import java.util.List;
+import java.util.Map;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("DataModelCacheServiceImpl test")
+class DataModelCacheServiceImplTest {
+
+  static final String VERSION_ID = "162";
+
+  @Mock
+  CacheManager cacheManager;
+  @Mock
+  Cache cache;
+
+  DataModelCacheServiceImpl dataModelCacheService;
+
+  @BeforeEach
+  void setUp() {
+    Mockito.doReturn(cache).when(cacheManager).getCache(CacheService.CATALOG_CACHE_NAME);
+    dataModelCacheService = new DataModelCacheServiceImpl(cacheManager);
+  }
+
+  @Test
+  @DisplayName("should return cached data model of version")
+  void getDataModelTest() {
+    var dataModel = dataModel();
+    Mockito.doReturn(dataModel).when(cache).get(VERSION_ID, DataModelSnapshot.class);
+
+    Assertions.assertThat(dataModelCacheService.getDataModel(VERSION_ID)).isSameAs(dataModel);
+  }
+
+  @Test
+  @DisplayName("should return null if data model of version isn't cached")
+  void getDataModelTest_notCached() {
+    Assertions.assertThat(dataModelCacheService.getDataModel(VERSION_ID)).isNull();
+  }
+
+  @Test
+  @DisplayName("should put data model of version to catalog cache")
+  void updateDataModelTest() {
+    var dataModel = dataModel();
+
+    dataModelCacheService.updateDataModel(VERSION_ID, dataModel);
+
+    Mockito.verify(cache).put(VERSION_ID, dataModel);
+  }
+
+  private DataModelSnapshot dataModel() {
+    return DataModelSnapshot.builder()
+        .versionId(VERSION_ID)
+        .tables(List.of())
+        .tableInfos(Map.of())
+        .build();
+  }
+}
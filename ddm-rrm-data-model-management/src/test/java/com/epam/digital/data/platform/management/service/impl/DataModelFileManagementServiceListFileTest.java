@@ -18,6 +18,7 @@ package com.epam.digital.data.platform.management.service.impl;
 
 import static com.epam.digital.data.platform.management.constant.DataModelManagementConstants.DATA_MODEL_FOLDER;
 
+import com.epam.digital.data.platform.management.core.model.VersionConflicts;
 import com.epam.digital.data.platform.management.filemanagement.model.FileStatus;
 import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileInfoDto;
 import com.epam.digital.data.platform.management.filemanagement.service.VersionedFileRepository;
@@ -57,7 +58,7 @@ class DataModelFileManagementServiceListFileTest extends DataModelFileManagement
         .when(versionedFileRepository)
         .getFileList(DATA_MODEL_FOLDER);
     Mockito.when(cacheService.getConflictsCache(versionId))
-        .thenReturn(List.of("data-model/new_file_name.xml"));
+        .thenReturn(VersionConflicts.of(List.of("data-model/new_file_name.xml")));
 
     var expectedDataModelFiles =
         List.of(
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.service.impl;
+
+import com.epam.digital.data.platform.management.config.DataModelSnapshotProperties;
+import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.epam.digital.data.platform.management.core.context.VersionContextComponentManager;
+import com.epam.digital.data.platform.management.core.service.CacheService;
+import com.epam.digital.data.platform.management.datasource.RegistryDataSource;
+import com.epam.digital.data.platform.management.datasource.SchemaFingerprintProvider;
+import com.epam.digital.data.platform.management.mapper.SchemaCrawlerMapper;
+import com.epam.digital.data.platform.management.model.dto.DataModelSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.List;
+import lombok.SneakyThrows;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("DataModelSnapshotServiceImpl test")
+class DataModelSnapshotServiceImplTest {
+
+  static final String VERSION_ID = "162";
+  static final String HEAD_BRANCH = "master";
+  static final String TABLE_NAME = "table";
+
+  @TempDir
+  Path tempDir;
+
+  @Mock
+  GerritPropertiesConfig gerritPropertiesConfig;
+  @Mock
+  VersionContextComponentManager versionContextComponentManager;
+  @Mock
+  SchemaFingerprintProvider schemaFingerprintProvider;
+  @Mock
+  RegistryDataSource registryDataSource;
+  @Mock
+  Connection connection;
+  @Mock
+  CacheService cacheService;
+
+  DataModelSnapshotProperties snapshotProperties;
+  SchemaCrawlerMapper mapper = Mappers.getMapper(SchemaCrawlerMapper.class);
+
+  @BeforeEach
+  @SneakyThrows
+  void setUp() {
+    ReflectionTestUtils.setField(mapper, "subjectTable", "subject");
+    snapshotProperties = new DataModelSnapshotProperties();
+    snapshotProperties.setEnabled(true);
+    snapshotProperties.setDirectory(tempDir.resolve(".snapshots").toString());
+
+    Mockito.doReturn(HEAD_BRANCH).when(gerritPropertiesConfig).getHeadBranch();
+    Mockito.doReturn(tempDir.toString()).when(gerritPropertiesConfig).getRepositoryDirectory();
+    Mockito.doReturn(registryDataSource)
+        .when(versionContextComponentManager).getComponent(VERSION_ID, RegistryDataSource.class);
+    Mockito.doReturn(connection).when(registryDataSource).getConnection();
+  }
+
+  @Test
+  @DisplayName("should save snapshot to directory and load it after restart")
+  @SneakyThrows
+  void saveAndLoadSnapshotTest() {
+    Mockito.doReturn("fingerprint").when(schemaFingerprintProvider).getFingerprint(connection);
+
+    createService().saveSnapshot(toSnapshot("fingerprint"));
+    Assertions.assertThat(Path.of(snapshotProperties.getDirectory(), VERSION_ID + ".json"))
+        .exists();
+
+    var restartedService = createService();
+    restartedService.loadSnapshots();
+
+    var snapshot = restartedService.getSnapshot(VERSION_ID);
+    Assertions.assertThat(snapshot).isNotNull();
+    Assertions.assertThat(snapshot.getTables()).hasSize(1)
+        .element(0).hasFieldOrPropertyWithValue("name", TABLE_NAME);
+    Assertions.assertThat(snapshot.getTableInfos()).containsOnlyKeys(TABLE_NAME);
+  }
+
+  @Test
+  @DisplayName("should not return snapshot if it doesn't match registry schema fingerprint")
+  @SneakyThrows
+  void getSnapshotTest_outdated() {
+    Mockito.doReturn("fingerprint", "newFingerprint")
+        .when(schemaFingerprintProvider).getFingerprint(connection);
+    var service = createService();
+    service.saveSnapshot(toSnapshot("fingerprint"));
+
+    Assertions.assertThat(service.getSnapshot(VERSION_ID))
+        .hasFieldOrPropertyWithValue("fingerprint", "fingerprint");
+    Assertions.assertThat(service.getSnapshot(VERSION_ID)).isNull();
+  }
+
+  @Test
+  @DisplayName("should not return snapshot if schema fingerprint couldn't be calculated")
+  @SneakyThrows
+  void getSnapshotTest_noConnection() {
+    Mockito.doThrow(SQLException.class).when(registryDataSource).getConnection();
+    var service = createService();
+    service.saveSnapshot(toSnapshot("fingerprint"));
+
+    Assertions.assertThat(service.getSnapshot(VERSION_ID)).isNull();
+  }
+
+  @Test
+  @DisplayName("should reload snapshot rewritten by another replica")
+  @SneakyThrows
+  void getSnapshotTest_rewrittenByAnotherReplica() {
+    Mockito.doReturn("fingerprint", "newFingerprint")
+        .when(schemaFingerprintProvider).getFingerprint(connection);
+    var service = createService();
+    service.saveSnapshot(toSnapshot("fingerprint"));
+    Assertions.assertThat(service.getSnapshot(VERSION_ID)).isNotNull();
+
+    var snapshotFile = Path.of(snapshotProperties.getDirectory(), VERSION_ID + ".json");
+    createService().saveSnapshot(toSnapshot("newFingerprint"));
+    Files.setLastModifiedTime(snapshotFile, FileTime.from(Instant.now().plusSeconds(1)));
+
+    Assertions.assertThat(service.getSnapshot(VERSION_ID))
+        .hasFieldOrPropertyWithValue("fingerprint", "newFingerprint");
+
+    Files.delete(snapshotFile);
+
+    Assertions.assertThat(service.getSnapshot(VERSION_ID)).isNull();
+  }
+
+  @Test
+  @DisplayName("should recreate outdated snapshot during revalidation")
+  @SneakyThrows
+  void revalidateSnapshotsTest_outdated() {
+    Files.createDirectories(tempDir.resolve(VERSION_ID));
+    Mockito.doReturn("newFingerprint").when(schemaFingerprintProvider).getFingerprint(connection);
+    Mockito.doReturn(toSnapshot("newFingerprint"))
+        .when(versionContextComponentManager).getComponent(VERSION_ID, DataModelSnapshot.class);
+
+    var service = createService();
+    service.saveSnapshot(toSnapshot("fingerprint"));
+    service.revalidateSnapshots();
+
+    Assertions.assertThat(service.getSnapshot(VERSION_ID))
+        .hasFieldOrPropertyWithValue("fingerprint", "newFingerprint");
+    Mockito.verify(cacheService).clearCatalogCache(VERSION_ID);
+  }
+
+  @Test
+  @DisplayName("should delete snapshot of version which repository doesn't exist")
+  @SneakyThrows
+  void revalidateSnapshotsTest_obsoleteVersion() {
+    Mockito.doReturn("fingerprint").when(schemaFingerprintProvider).getFingerprint(connection);
+
+    var service = createService();
+    service.saveSnapshot(toSnapshot("fingerprint"));
+    service.revalidateSnapshots();
+
+    Assertions.assertThat(service.getSnapshot(VERSION_ID)).isNull();
+    Assertions.assertThat(Path.of(snapshotProperties.getDirectory(), VERSION_ID + ".json"))
+        .doesNotExist();
+  }
+
+  @Test
+  @DisplayName("should do nothing if snapshots are disabled")
+  void getSnapshotTest_disabled() {
+    snapshotProperties.setEnabled(false);
+    var service = createService();
+
+    service.saveSnapshot(toSnapshot("fingerprint"));
+
+    Assertions.assertThat(service.getSnapshot(VERSION_ID)).isNull();
+    Mockito.verifyNoInteractions(schemaFingerprintProvider);
+  }
+
+  private DataModelSnapshotServiceImpl createService() {
+    return new DataModelSnapshotServiceImpl(snapshotProperties, gerritPropertiesConfig,
+        versionContextComponentManager, schemaFingerprintProvider, cacheService,
+        new ObjectMapper());
+  }
+
+  private DataModelSnapshot toSnapshot(String fingerprint) {
+    return mapper.toDataModelSnapshot(VERSION_ID, fingerprint, mockCatalog());
+  }
+
+  private Catalog mockCatalog() {
+    var catalog = Mockito.mock(Catalog.class);
+    var table = Mockito.mock(Table.class);
+    Mockito.doReturn(TABLE_NAME).when(table).getName();
+    Mockito.doReturn(List.of(table)).when(catalog).getTables();
+    return catalog;
+  }
+}
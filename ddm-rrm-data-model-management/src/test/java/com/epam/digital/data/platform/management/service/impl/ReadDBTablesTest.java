@@ -16,6 +16,7 @@
 
 package com.epam.digital.data.platform.management.service.impl;
 
+import com.epam.digital.data.platform.management.model.dto.DataModelSnapshot;
 import com.epam.digital.data.platform.management.core.exception.VersionComponentCreationException;
 import com.epam.digital.data.platform.management.datasource.RegistryDataSource;
 import com.epam.digital.data.platform.management.exception.RegistryDataBaseConnectionException;
@@ -46,6 +47,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -67,9 +69,9 @@ class ReadDBTablesTest extends ReadDataBaseTablesServiceBaseTest {
 
     final var resultTableInfoDto = tableService.getTable(versionId, TABLE_SAMPLE, false);
     assertions(resultTableInfoDto);
-    verify(cacheService).getCatalogCache(versionId);
-    verify(versionContextComponentManager).getComponent(versionId, Catalog.class);
-    verify(cacheService, never()).updateCatalogCache(eq(versionId), any());
+    verify(dataModelCacheService).getDataModel(versionId);
+    verify(versionContextComponentManager).getComponent(versionId, DataModelSnapshot.class);
+    verify(dataModelCacheService, never()).updateDataModel(eq(versionId), any());
   }
 
   @ParameterizedTest
@@ -81,9 +83,9 @@ class ReadDBTablesTest extends ReadDataBaseTablesServiceBaseTest {
 
     final var resultTableInfoDto = tableService.getTable(versionId, TABLE_SAMPLE, true);
     assertions(resultTableInfoDto);
-    verify(cacheService).getCatalogCache(versionId);
-    verify(versionContextComponentManager).getComponent(versionId, Catalog.class);
-    verify(cacheService).updateCatalogCache(eq(versionId), any());
+    verify(dataModelCacheService).getDataModel(versionId);
+    verify(versionContextComponentManager).getComponent(versionId, DataModelSnapshot.class);
+    verify(dataModelCacheService).updateDataModel(eq(versionId), any());
   }
 
   @ParameterizedTest
@@ -92,13 +94,14 @@ class ReadDBTablesTest extends ReadDataBaseTablesServiceBaseTest {
   @SneakyThrows
   void getTest_fromCacheWithoutUpdate(String versionId) {
     Catalog catalog = configureMocks(versionId);
-    when(cacheService.getCatalogCache(versionId)).thenReturn(catalog);
+    when(dataModelCacheService.getDataModel(versionId))
+        .thenReturn(mapper.toDataModelSnapshot(versionId, null, catalog));
 
     final var resultTableInfoDto = tableService.getTable(versionId, TABLE_SAMPLE, true);
     assertions(resultTableInfoDto);
-    verify(cacheService).getCatalogCache(versionId);
-    verify(versionContextComponentManager, never()).getComponent(versionId, Catalog.class);
-    verify(cacheService, never()).updateCatalogCache(eq(versionId), any());
+    verify(dataModelCacheService).getDataModel(versionId);
+    verify(versionContextComponentManager, never()).getComponent(versionId, DataModelSnapshot.class);
+    verify(dataModelCacheService, never()).updateDataModel(eq(versionId), any());
   }
 
   private void assertions(TableInfoDto resultTableInfoDto) {
@@ -169,8 +172,8 @@ class ReadDBTablesTest extends ReadDataBaseTablesServiceBaseTest {
   private Catalog configureMocks(String versionId) {
     // mock catalog
     var catalog = mock(Catalog.class);
-    doReturn(catalog)
-        .when(versionContextComponentManager).getComponent(versionId, Catalog.class);
+    doAnswer(invocation -> mapper.toDataModelSnapshot(versionId, null, catalog))
+        .when(versionContextComponentManager).getComponent(versionId, DataModelSnapshot.class);
 
     // mock table 'table_sample' data
     var table = mock(Table.class);
@@ -288,8 +291,8 @@ class ReadDBTablesTest extends ReadDataBaseTablesServiceBaseTest {
   void getTest_objectReference(String versionId) {
     // mock catalog
     var catalog = mock(Catalog.class);
-    doReturn(catalog)
-        .when(versionContextComponentManager).getComponent(versionId, Catalog.class);
+    doAnswer(invocation -> mapper.toDataModelSnapshot(versionId, null, catalog))
+        .when(versionContextComponentManager).getComponent(versionId, DataModelSnapshot.class);
 
     // mock table 'table_with_object_reference' data
     var table = mock(Table.class);
@@ -410,8 +413,8 @@ class ReadDBTablesTest extends ReadDataBaseTablesServiceBaseTest {
   @SneakyThrows
   void getTableNotFoundTest(String versionId) {
     var catalog = mock(Catalog.class);
-    doReturn(catalog)
-        .when(versionContextComponentManager).getComponent(versionId, Catalog.class);
+    doAnswer(invocation -> mapper.toDataModelSnapshot(versionId, null, catalog))
+        .when(versionContextComponentManager).getComponent(versionId, DataModelSnapshot.class);
 
     doReturn(List.of()).when(catalog).getTables();
 
@@ -428,8 +431,8 @@ class ReadDBTablesTest extends ReadDataBaseTablesServiceBaseTest {
   @SneakyThrows
   void getTable_moreThanOneTableFound(String versionId) {
     var catalog = mock(Catalog.class);
-    doReturn(catalog)
-        .when(versionContextComponentManager).getComponent(versionId, Catalog.class);
+    doAnswer(invocation -> mapper.toDataModelSnapshot(versionId, null, catalog))
+        .when(versionContextComponentManager).getComponent(versionId, DataModelSnapshot.class);
 
     final var tableName = "table_sample1";
 
@@ -450,7 +453,7 @@ class ReadDBTablesTest extends ReadDataBaseTablesServiceBaseTest {
   @SneakyThrows
   void listTest_couldNotConnectToVersionCandidateDataBaseButCanToMasterVersionDataBase() {
     doThrow(VersionComponentCreationException.class)
-        .when(versionContextComponentManager).getComponent(VERSION_ID, Catalog.class);
+        .when(versionContextComponentManager).getComponent(VERSION_ID, DataModelSnapshot.class);
 
     var registryDataSource = mock(RegistryDataSource.class);
     var connection = mock(Connection.class);
@@ -469,7 +472,7 @@ class ReadDBTablesTest extends ReadDataBaseTablesServiceBaseTest {
   @SneakyThrows
   void listTest_couldNotConnectToVersionCandidateDataBaseAndToMasterVersionDataBase() {
     doThrow(VersionComponentCreationException.class)
-        .when(versionContextComponentManager).getComponent(VERSION_ID, Catalog.class);
+        .when(versionContextComponentManager).getComponent(VERSION_ID, DataModelSnapshot.class);
 
     var registryDataSource = mock(RegistryDataSource.class);
     doReturn(registryDataSource)
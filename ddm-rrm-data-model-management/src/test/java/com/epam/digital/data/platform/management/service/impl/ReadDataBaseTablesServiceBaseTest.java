@@ -16,10 +16,13 @@
 
 package com.epam.digital.data.platform.management.service.impl;
 
+import com.epam.digital.data.platform.management.config.SchemaCrawlerProperties;
 import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
 import com.epam.digital.data.platform.management.core.context.VersionContextComponentManager;
-import com.epam.digital.data.platform.management.core.service.CacheService;
+import com.epam.digital.data.platform.management.datasource.RegistryTableReader;
 import com.epam.digital.data.platform.management.mapper.SchemaCrawlerMapper;
+import com.epam.digital.data.platform.management.service.DataModelCacheService;
+import com.epam.digital.data.platform.management.service.DataModelSnapshotService;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -42,10 +45,16 @@ public abstract class ReadDataBaseTablesServiceBaseTest {
   VersionContextComponentManager versionContextComponentManager;
   @Mock
   GerritPropertiesConfig gerritPropertiesConfig;
+  @Mock
+  DataModelCacheService dataModelCacheService;
+  @Mock
+  SchemaCrawlerProperties schemaCrawlerProperties;
+  @Mock
+  RegistryTableReader registryTableReader;
+  @Mock
+  DataModelSnapshotService dataModelSnapshotService;
   @Spy
-  CacheService cacheService;
-  @Spy
-  private SchemaCrawlerMapper mapper = Mappers.getMapper(SchemaCrawlerMapper.class);
+  SchemaCrawlerMapper mapper = Mappers.getMapper(SchemaCrawlerMapper.class);
   @InjectMocks
   ReadDataBaseTablesServiceImpl tableService;
 
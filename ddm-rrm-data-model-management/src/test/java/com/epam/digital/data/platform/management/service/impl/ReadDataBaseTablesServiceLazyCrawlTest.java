@@ -0,0 +1,134 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.service.impl;
+
+import com.epam.digital.data.platform.management.model.dto.DataModelSnapshot;
+import com.epam.digital.data.platform.management.datasource.RegistryDataSource;
+import com.epam.digital.data.platform.management.exception.RegistryDataBaseConnectionException;
+import com.epam.digital.data.platform.management.exception.TableNotFoundException;
+import com.epam.digital.data.platform.management.model.dto.TableShortInfoDto;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.SneakyThrows;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import schemacrawler.schema.Table;
+
+@DisplayName("ReadDataBaseTablesServiceImpl with lazy table crawl")
+class ReadDataBaseTablesServiceLazyCrawlTest extends ReadDataBaseTablesServiceBaseTest {
+
+  @Mock
+  RegistryDataSource registryDataSource;
+  @Mock
+  Connection connection;
+
+  @BeforeEach
+  @SneakyThrows
+  void setupLazyCrawl() {
+    Mockito.doReturn(true).when(schemaCrawlerProperties).isLazyTableCrawl();
+    Mockito.doReturn(registryDataSource)
+        .when(versionContextComponentManager).getComponent(VERSION_ID, RegistryDataSource.class);
+    Mockito.doReturn(connection).when(registryDataSource).getConnection();
+  }
+
+  @Test
+  @DisplayName("should read list of tables from information schema without crawling catalog")
+  @SneakyThrows
+  void listTablesTest() {
+    var tables = List.of(TableShortInfoDto.builder().name(SUBJECT_TABLE).build());
+    Mockito.doReturn(tables).when(registryTableReader).readTableShortInfos(connection);
+
+    Assertions.assertThat(tableService.listTables(VERSION_ID, true)).isEqualTo(tables);
+
+    Mockito.verify(versionContextComponentManager, Mockito.never())
+        .getComponent(VERSION_ID, DataModelSnapshot.class);
+    Mockito.verify(connection).close();
+  }
+
+  @Test
+  @DisplayName("should crawl only requested table")
+  @SneakyThrows
+  void getTableTest() {
+    var table = Mockito.mock(Table.class);
+    Mockito.doReturn(SUBJECT_TABLE).when(table).getName();
+    Mockito.doReturn(Optional.of(table)).when(registryTableReader)
+        .crawlTable(connection, SUBJECT_TABLE);
+
+    Assertions.assertThat(tableService.getTable(VERSION_ID, SUBJECT_TABLE, true))
+        .hasFieldOrPropertyWithValue("name", SUBJECT_TABLE);
+
+    Mockito.verify(versionContextComponentManager, Mockito.never())
+        .getComponent(VERSION_ID, DataModelSnapshot.class);
+    Mockito.verify(connection).close();
+  }
+
+  @Test
+  @DisplayName("should throw TableNotFoundException if requested table wasn't crawled")
+  @SneakyThrows
+  void getTableTest_tableNotFound() {
+    Mockito.doReturn(Optional.empty()).when(registryTableReader)
+        .crawlTable(connection, SUBJECT_TABLE);
+
+    Assertions.assertThatThrownBy(() -> tableService.getTable(VERSION_ID, SUBJECT_TABLE, true))
+        .isInstanceOf(TableNotFoundException.class)
+        .hasMessage("Table with name 'subject' doesn't exist in version '162'.");
+  }
+
+  @Test
+  @DisplayName("should not crawl database if data model is cached")
+  @SneakyThrows
+  void listTablesTest_fromCache() {
+    var tables = List.of(TableShortInfoDto.builder().name(SUBJECT_TABLE).build());
+    var dataModel = DataModelSnapshot.builder()
+        .versionId(VERSION_ID)
+        .tables(tables)
+        .tableInfos(Map.of())
+        .build();
+    Mockito.doReturn(null, dataModel)
+        .when(dataModelCacheService).getDataModel(VERSION_ID);
+    Mockito.doReturn(tables).when(registryTableReader).readTableShortInfos(connection);
+
+    Assertions.assertThat(tableService.listTables(VERSION_ID, true)).isEqualTo(tables);
+    Assertions.assertThat(tableService.listTables(VERSION_ID, true)).isEqualTo(tables);
+
+    Mockito.verify(registryTableReader).readTableShortInfos(connection);
+    Mockito.verify(versionContextComponentManager)
+        .getComponent(VERSION_ID, RegistryDataSource.class);
+    Mockito.verify(versionContextComponentManager, Mockito.never())
+        .getComponent(VERSION_ID, DataModelSnapshot.class);
+  }
+
+  @Test
+  @DisplayName("should throw RegistryDataBaseConnectionException if couldn't connect to master version database")
+  @SneakyThrows
+  void listTablesTest_couldNotConnectToMasterDataBase() {
+    Mockito.doReturn(registryDataSource)
+        .when(versionContextComponentManager).getComponent(HEAD_BRANCH, RegistryDataSource.class);
+    Mockito.doThrow(SQLException.class).when(registryDataSource).getConnection();
+
+    Assertions.assertThatThrownBy(() -> tableService.listTables(HEAD_BRANCH, false))
+        .isInstanceOf(RegistryDataBaseConnectionException.class)
+        .hasMessageContaining("Couldn't connect to registry data-base: ");
+  }
+}
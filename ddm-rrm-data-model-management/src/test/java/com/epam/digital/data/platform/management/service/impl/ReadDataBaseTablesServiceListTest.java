@@ -16,6 +16,7 @@
 
 package com.epam.digital.data.platform.management.service.impl;
 
+import com.epam.digital.data.platform.management.model.dto.DataModelSnapshot;
 import com.epam.digital.data.platform.management.core.exception.VersionComponentCreationException;
 import com.epam.digital.data.platform.management.datasource.RegistryDataSource;
 import com.epam.digital.data.platform.management.exception.RegistryDataBaseConnectionException;
@@ -55,9 +56,9 @@ class ReadDataBaseTablesServiceListTest extends ReadDataBaseTablesServiceBaseTes
 
     final var resultList = tableService.listTables(versionId, false);
     assertions(resultList);
-    verify(cacheService).getCatalogCache(versionId);
-    verify(versionContextComponentManager).getComponent(versionId, Catalog.class);
-    verify(cacheService, never()).updateCatalogCache(eq(versionId), any());
+    verify(dataModelCacheService).getDataModel(versionId);
+    verify(versionContextComponentManager).getComponent(versionId, DataModelSnapshot.class);
+    verify(dataModelCacheService, never()).updateDataModel(eq(versionId), any());
   }
 
   @ParameterizedTest
@@ -69,9 +70,9 @@ class ReadDataBaseTablesServiceListTest extends ReadDataBaseTablesServiceBaseTes
 
     final var resultList = tableService.listTables(versionId, true);
     assertions(resultList);
-    verify(cacheService).getCatalogCache(versionId);
-    verify(versionContextComponentManager).getComponent(versionId, Catalog.class);
-    verify(cacheService).updateCatalogCache(eq(versionId), any());
+    verify(dataModelCacheService).getDataModel(versionId);
+    verify(versionContextComponentManager).getComponent(versionId, DataModelSnapshot.class);
+    verify(dataModelCacheService).updateDataModel(eq(versionId), any());
   }
 
   @ParameterizedTest
@@ -80,13 +81,14 @@ class ReadDataBaseTablesServiceListTest extends ReadDataBaseTablesServiceBaseTes
   @SneakyThrows
   void listTest_fromCacheWithoutUpdate(String versionId) {
     Catalog catalog = initMocks(versionId);
-    when(cacheService.getCatalogCache(versionId)).thenReturn(catalog);
+    when(dataModelCacheService.getDataModel(versionId))
+        .thenReturn(mapper.toDataModelSnapshot(versionId, null, catalog));
 
     final var resultList = tableService.listTables(versionId, true);
     assertions(resultList);
-    verify(cacheService).getCatalogCache(versionId);
-    verify(versionContextComponentManager, never()).getComponent(versionId, Catalog.class);
-    verify(cacheService, never()).updateCatalogCache(eq(versionId), any());
+    verify(dataModelCacheService).getDataModel(versionId);
+    verify(versionContextComponentManager, never()).getComponent(versionId, DataModelSnapshot.class);
+    verify(dataModelCacheService, never()).updateDataModel(eq(versionId), any());
   }
 
   private static void assertions(List<TableShortInfoDto> resultList) {
@@ -111,8 +113,8 @@ class ReadDataBaseTablesServiceListTest extends ReadDataBaseTablesServiceBaseTes
 
   private Catalog initMocks(String versionId) {
     var catalog = Mockito.mock(Catalog.class);
-    Mockito.doReturn(catalog)
-        .when(versionContextComponentManager).getComponent(versionId, Catalog.class);
+    Mockito.doAnswer(invocation -> mapper.toDataModelSnapshot(versionId, null, catalog))
+        .when(versionContextComponentManager).getComponent(versionId, DataModelSnapshot.class);
 
     // Mock subject table
     var subjectTable = Mockito.mock(Table.class);
@@ -156,7 +158,7 @@ class ReadDataBaseTablesServiceListTest extends ReadDataBaseTablesServiceBaseTes
   @DisplayName("should throw RegistryDataBaseConnectionException if catalog couldn't be created for master version")
   void listTest_couldNotConnectToMasterDataBase() {
     Mockito.doThrow(VersionComponentCreationException.class)
-        .when(versionContextComponentManager).getComponent(HEAD_BRANCH, Catalog.class);
+        .when(versionContextComponentManager).getComponent(HEAD_BRANCH, DataModelSnapshot.class);
 
     Assertions.assertThatThrownBy(() -> tableService.listTables(HEAD_BRANCH, false))
         .isInstanceOf(RegistryDataBaseConnectionException.class)
@@ -168,8 +170,8 @@ class ReadDataBaseTablesServiceListTest extends ReadDataBaseTablesServiceBaseTes
   @DisplayName("should not contain table with '_v' suffix")
   void listTest_shouldNotContainTableWithViewSuffix(String versionId) {
     var catalog = Mockito.mock(Catalog.class);
-    Mockito.doReturn(catalog)
-        .when(versionContextComponentManager).getComponent(versionId, Catalog.class);
+    Mockito.doAnswer(invocation -> mapper.toDataModelSnapshot(versionId, null, catalog))
+        .when(versionContextComponentManager).getComponent(versionId, DataModelSnapshot.class);
 
     // Mock view
     var view = Mockito.mock(Table.class);
@@ -183,7 +185,7 @@ class ReadDataBaseTablesServiceListTest extends ReadDataBaseTablesServiceBaseTes
   @SneakyThrows
   void listTest_couldNotConnectToVersionCandidateDataBaseButCanToMasterVersionDataBase() {
     Mockito.doThrow(VersionComponentCreationException.class)
-        .when(versionContextComponentManager).getComponent(VERSION_ID, Catalog.class);
+        .when(versionContextComponentManager).getComponent(VERSION_ID, DataModelSnapshot.class);
 
     var registryDataSource = Mockito.mock(RegistryDataSource.class);
     var connection = Mockito.mock(Connection.class);
@@ -201,7 +203,7 @@ class ReadDataBaseTablesServiceListTest extends ReadDataBaseTablesServiceBaseTes
   @SneakyThrows
   void listTest_couldNotConnectToVersionCandidateDataBaseAndToMasterVersionDataBase() {
     Mockito.doThrow(VersionComponentCreationException.class)
-        .when(versionContextComponentManager).getComponent(VERSION_ID, Catalog.class);
+        .when(versionContextComponentManager).getComponent(VERSION_ID, DataModelSnapshot.class);
 
     var registryDataSource = Mockito.mock(RegistryDataSource.class);
     Mockito.doReturn(registryDataSource)
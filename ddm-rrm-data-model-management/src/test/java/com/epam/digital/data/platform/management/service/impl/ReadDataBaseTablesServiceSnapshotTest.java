@@ -0,0 +1,112 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.service.impl;
+
+import com.epam.digital.data.platform.management.exception.TableNotFoundException;
+import com.epam.digital.data.platform.management.model.dto.DataModelSnapshot;
+import com.epam.digital.data.platform.management.model.dto.TableInfoDto;
+import com.epam.digital.data.platform.management.model.dto.TableShortInfoDto;
+import java.util.List;
+import java.util.Map;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import schemacrawler.schema.Catalog;
+
+@DisplayName("ReadDataBaseTablesServiceImpl with data model snapshot")
+class ReadDataBaseTablesServiceSnapshotTest extends ReadDataBaseTablesServiceBaseTest {
+
+  DataModelSnapshot snapshot;
+
+  @BeforeEach
+  void setupSnapshot() {
+    var tableInfo = TableInfoDto.builder().name(SUBJECT_TABLE).build();
+    snapshot = DataModelSnapshot.builder()
+        .versionId(VERSION_ID)
+        .fingerprint("fingerprint")
+        .tables(List.of(TableShortInfoDto.builder().name(SUBJECT_TABLE).build()))
+        .tableInfos(Map.of(SUBJECT_TABLE, tableInfo))
+        .build();
+    Mockito.doReturn(snapshot).when(dataModelSnapshotService).getSnapshot(VERSION_ID);
+  }
+
+  @Test
+  @DisplayName("should return list of tables from snapshot without crawling catalog")
+  void listTablesTest() {
+    Assertions.assertThat(tableService.listTables(VERSION_ID, true))
+        .isEqualTo(snapshot.getTables());
+
+    Mockito.verify(versionContextComponentManager, Mockito.never())
+        .getComponent(VERSION_ID, DataModelSnapshot.class);
+  }
+
+  @Test
+  @DisplayName("should return table from snapshot without crawling catalog")
+  void getTableTest() {
+    Assertions.assertThat(tableService.getTable(VERSION_ID, SUBJECT_TABLE, true))
+        .isSameAs(snapshot.getTableInfos().get(SUBJECT_TABLE));
+
+    Mockito.verify(versionContextComponentManager, Mockito.never())
+        .getComponent(VERSION_ID, DataModelSnapshot.class);
+  }
+
+  @Test
+  @DisplayName("should put snapshot to cache if build is successful")
+  void getTableTest_updateCache() {
+    tableService.getTable(VERSION_ID, SUBJECT_TABLE, true);
+
+    Mockito.verify(dataModelCacheService).updateDataModel(VERSION_ID, snapshot);
+  }
+
+  @Test
+  @DisplayName("should not use snapshot if build isn't successful")
+  void listTablesTest_buildNotSuccessful() {
+    var catalog = Mockito.mock(Catalog.class);
+    Mockito.doAnswer(invocation -> mapper.toDataModelSnapshot(VERSION_ID, null, catalog))
+        .when(versionContextComponentManager).getComponent(VERSION_ID, DataModelSnapshot.class);
+
+    Assertions.assertThat(tableService.listTables(VERSION_ID, false)).isEmpty();
+
+    Mockito.verify(dataModelSnapshotService, Mockito.never()).getSnapshot(VERSION_ID);
+    Mockito.verify(versionContextComponentManager).getComponent(VERSION_ID, DataModelSnapshot.class);
+  }
+
+  @Test
+  @DisplayName("should throw TableNotFoundException if there is no table in snapshot")
+  void getTableTest_tableNotFound() {
+    Assertions.assertThatThrownBy(() -> tableService.getTable(VERSION_ID, "table", true))
+        .isInstanceOf(TableNotFoundException.class)
+        .hasMessage("Table with name 'table' doesn't exist in version '162'.");
+  }
+
+  @Test
+  @DisplayName("should save snapshot after crawling catalog if build is successful")
+  void listTablesTest_saveSnapshot() {
+    var catalog = Mockito.mock(Catalog.class);
+    Mockito.doReturn(null).when(dataModelSnapshotService).getSnapshot(VERSION_ID);
+    Mockito.doAnswer(invocation -> mapper.toDataModelSnapshot(VERSION_ID, null, catalog))
+        .when(versionContextComponentManager).getComponent(VERSION_ID, DataModelSnapshot.class);
+
+    tableService.listTables(VERSION_ID, true);
+
+    Mockito.verify(dataModelSnapshotService).saveSnapshot(Mockito.any(DataModelSnapshot.class));
+    Mockito.verify(dataModelCacheService).updateDataModel(Mockito.eq(VERSION_ID),
+        Mockito.any(DataModelSnapshot.class));
+  }
+}
@@ -71,4 +71,19 @@ class DDMExtensionChangelogFileValidatorTest {
     Mockito.verify(context).buildConstraintViolationWithTemplate(
         "cvc-elt.1.a: Cannot find the declaration of element 'databaseBrokenChangeLog'.");
   }
+
+  @Test
+  @SneakyThrows
+  void shouldCompileSchemaOnce() {
+    new ChangelogSchemaWarmUpListener().handleApplicationStartedEvent(null);
+    var warmedSchema = DDMExtensionChangelogFileValidator.getDbChangelogSchema();
+
+    var content = Files.readString(
+        ResourceUtils.getFile("classpath:changelog-correct.xml").toPath(),
+        StandardCharsets.UTF_8);
+    Assertions.assertThat(validator.isValid(content, context)).isTrue();
+
+    Assertions.assertThat(DDMExtensionChangelogFileValidator.getDbChangelogSchema())
+        .isSameAs(warmedSchema);
+  }
 }
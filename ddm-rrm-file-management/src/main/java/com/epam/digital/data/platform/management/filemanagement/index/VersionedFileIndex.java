@@ -0,0 +1,192 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.filemanagement.index;
+
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileInfoDto;
+import com.epam.digital.data.platform.management.filemanagement.service.VersionedFileRepository;
+import com.epam.digital.data.platform.management.gitintegration.exception.GitCommandException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FilenameUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Version scoped in-memory index of the files of a directory.
+ * <p>
+ * Keeps file info together with the metadata parsed from the file content, so listing the
+ * directory doesn't read and parse every file. Metadata of a file is loaded on first request only,
+ * so files that are never requested are never read. The index is bound to the commits the version
+ * and the head-branch repositories are checked out on and to the revision of the gerrit change the
+ * file statuses are listed against. While none of them is changed listing is just a memory read.
+ * When a file is written, deleted or rolled back, a fetch has changed the tree or a new patch set
+ * has been uploaded, the index is updated incrementally on the next listing: file statuses are
+ * listed again, but loaded metadata is kept for all the files except the ones that differ between
+ * the commits or have changed their status.
+ *
+ * @param <M> type of the file metadata
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class VersionedFileIndex<M> {
+
+  private final String directory;
+
+  private final Object lock = new Object();
+  @Nullable
+  private IndexState state;
+  private Map<String, Entry<M>> entries = Map.of();
+
+  /**
+   * Get indexed files of the directory sorted by name updating the index if any of the
+   * repositories has been changed since the last listing
+   *
+   * @param repo     repository of the version
+   * @param headRepo repository of the head-branch
+   * @return list of indexed files
+   */
+  @NonNull
+  public List<Entry<M>> getEntries(@NonNull VersionedFileRepository repo,
+      @NonNull VersionedFileRepository headRepo) {
+    synchronized (lock) {
+      var currentState = IndexState.of(repo, headRepo);
+      if (Objects.nonNull(currentState) && currentState.equals(state)) {
+        log.trace("Index of {} in version {} is up to date", directory, repo.getVersionId());
+        return List.copyOf(entries.values());
+      }
+      var changedNames = getChangedNames(repo, headRepo, currentState);
+      log.debug("Updating index of {} in version {}, changed files {}", directory,
+          repo.getVersionId(), Objects.isNull(changedNames) ? "unknown" : changedNames);
+
+      var newEntries = new LinkedHashMap<String, Entry<M>>();
+      for (var fileInfo : repo.getFileList(directory)) {
+        var entry = entries.get(fileInfo.getName());
+        newEntries.put(fileInfo.getName(), isChanged(entry, fileInfo, changedNames)
+            ? new Entry<>(fileInfo) : new Entry<>(fileInfo, entry));
+      }
+      entries = newEntries;
+      // if the repositories have been changed during the update the index can't be bound to any
+      // of the states, so it will be fully reloaded on the next listing
+      state = Objects.equals(currentState, IndexState.of(repo, headRepo)) ? currentState : null;
+      return List.copyOf(newEntries.values());
+    }
+  }
+
+  private static boolean isChanged(@Nullable Entry<?> entry, VersionedFileInfoDto fileInfo,
+      @Nullable Set<String> changedNames) {
+    return Objects.isNull(entry) || Objects.isNull(changedNames)
+        || changedNames.contains(fileInfo.getName())
+        || entry.getFileInfo().getStatus() != fileInfo.getStatus();
+  }
+
+  @Nullable
+  private Set<String> getChangedNames(VersionedFileRepository repo,
+      VersionedFileRepository headRepo, @Nullable IndexState newState) {
+    if (Objects.isNull(state) || Objects.isNull(newState)) {
+      return null;
+    }
+    try {
+      var changedPaths = new HashSet<String>();
+      if (!state.versionCommitId.equals(newState.versionCommitId)) {
+        changedPaths.addAll(repo.getChangedPaths(state.versionCommitId, newState.versionCommitId));
+      }
+      if (!state.headCommitId.equals(newState.headCommitId)) {
+        changedPaths.addAll(headRepo.getChangedPaths(state.headCommitId, newState.headCommitId));
+      }
+      var changedNames = new HashSet<String>();
+      for (var path : changedPaths) {
+        if (path.startsWith(directory + "/")) {
+          changedNames.add(FilenameUtils.getBaseName(path));
+        }
+      }
+      return changedNames;
+    } catch (GitCommandException e) {
+      log.warn("Couldn't get changed files of version {}, index of {} will be fully reloaded: {}",
+          repo.getVersionId(), directory, e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * Indexed file with lazily loaded metadata
+   *
+   * @param <M> type of the file metadata
+   */
+  public static final class Entry<M> {
+
+    @Getter
+    private final VersionedFileInfoDto fileInfo;
+    private boolean loaded;
+    @Nullable
+    private M metadata;
+
+    private Entry(VersionedFileInfoDto fileInfo) {
+      this.fileInfo = fileInfo;
+    }
+
+    private Entry(VersionedFileInfoDto fileInfo, Entry<M> previous) {
+      this.fileInfo = fileInfo;
+      synchronized (previous) {
+        this.loaded = previous.loaded;
+        this.metadata = previous.metadata;
+      }
+    }
+
+    /**
+     * Get file metadata loading it on the first call
+     *
+     * @param loader loads metadata of the file, returns null if the file content couldn't be
+     *               parsed
+     * @return file metadata or null if the file content couldn't be parsed
+     */
+    @Nullable
+    public synchronized M getMetadata(@NonNull Function<VersionedFileInfoDto, M> loader) {
+      if (!loaded) {
+        metadata = loader.apply(fileInfo);
+        loaded = true;
+      }
+      return metadata;
+    }
+  }
+
+  @EqualsAndHashCode
+  @RequiredArgsConstructor
+  private static final class IndexState {
+
+    private final String versionCommitId;
+    private final String headCommitId;
+    @Nullable
+    private final String changeRevision;
+
+    @Nullable
+    static IndexState of(VersionedFileRepository repo, VersionedFileRepository headRepo) {
+      var versionCommitId = repo.getHeadCommitId();
+      var headCommitId = repo == headRepo ? versionCommitId : headRepo.getHeadCommitId();
+      return Objects.isNull(versionCommitId) || Objects.isNull(headCommitId) ? null
+          : new IndexState(versionCommitId, headCommitId, repo.getChangeRevision());
+    }
+  }
+}
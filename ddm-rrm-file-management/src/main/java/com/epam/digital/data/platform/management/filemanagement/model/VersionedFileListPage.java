@@ -0,0 +1,41 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.filemanagement.model;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.lang.Nullable;
+
+/**
+ * Page of versioned files listing
+ *
+ * @param <T> type of the listed item
+ */
+@Getter
+@Builder
+public class VersionedFileListPage<T> {
+
+  private final List<T> items;
+  /**
+   * Cursor for requesting the next page or null if it's the last page. It's decided from the file
+   * names only, so the next page may turn out empty if none of the rest files match the search or
+   * can be read.
+   */
+  @Nullable
+  private final String nextCursor;
+}
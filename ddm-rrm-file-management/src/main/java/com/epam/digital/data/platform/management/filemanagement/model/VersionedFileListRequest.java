@@ -0,0 +1,92 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.filemanagement.model;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Request for a page of versioned files listing. Files are listed sorted by name, so the page
+ * starts right after the file named as cursor. All the criteria are optional, request without
+ * criteria lists all the files.
+ */
+@Getter
+@Builder
+public class VersionedFileListRequest {
+
+  /**
+   * Name of the last file of the previous page
+   */
+  @Nullable
+  private final String cursor;
+  /**
+   * Max amount of files on the page
+   */
+  @Nullable
+  private final Integer limit;
+  /**
+   * Case-insensitive substring of the file name or title
+   */
+  @Nullable
+  private final String search;
+  /**
+   * Statuses of the files to list
+   */
+  @Nullable
+  private final Set<FileStatus> statuses;
+
+  /**
+   * Check if file is on the page or after it according to the cursor and the statuses
+   *
+   * @param fileInfo file to check
+   * @return true if the file isn't skipped by cursor and status criteria
+   */
+  public boolean matches(@NonNull VersionedFileInfoDto fileInfo) {
+    return (Objects.isNull(cursor) || fileInfo.getName().compareTo(cursor) > 0)
+        && (Objects.isNull(statuses) || statuses.isEmpty()
+        || statuses.contains(fileInfo.getStatus()));
+  }
+
+  /**
+   * Check if value contains the search string
+   *
+   * @param value file name or title
+   * @return true if there is no search criteria or the value contains it ignoring case
+   */
+  public boolean matchesSearch(@Nullable String value) {
+    if (Objects.isNull(search) || search.isEmpty()) {
+      return true;
+    }
+    return Objects.nonNull(value)
+        && value.toLowerCase(Locale.ROOT).contains(search.toLowerCase(Locale.ROOT));
+  }
+
+  /**
+   * Check if the page is full
+   *
+   * @param size current size of the page
+   * @return true if there is a limit and the page has reached it
+   */
+  public boolean isLimitReached(int size) {
+    return Objects.nonNull(limit) && size >= Math.max(limit, 1);
+  }
+}
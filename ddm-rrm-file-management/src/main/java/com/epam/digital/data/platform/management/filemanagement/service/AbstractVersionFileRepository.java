@@ -22,6 +22,10 @@ import com.epam.digital.data.platform.management.gerritintegration.service.Gerri
 import com.epam.digital.data.platform.management.gitintegration.service.JGitService;
 import java.net.URLDecoder;
 import java.nio.charset.Charset;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
@@ -69,4 +73,33 @@ public abstract class AbstractVersionFileRepository implements VersionedFileRepo
     var datesDto = gitService.getDates(versionId, filePath);
     return mapper.toVersionedFileDatesDto(datesDto);
   }
+
+  @Override
+  @NonNull
+  public Map<String, VersionedFileDatesDto> getVersionedFileDates(
+      @NonNull Collection<String> filePaths) {
+    var datesDtoMap = gitService.getDates(versionId, filePaths);
+    var versionedFileDates = new HashMap<String, VersionedFileDatesDto>();
+    datesDtoMap.forEach((filePath, datesDto) ->
+        versionedFileDates.put(filePath, mapper.toVersionedFileDatesDto(datesDto)));
+    return versionedFileDates;
+  }
+
+  @Override
+  @Nullable
+  public String getHeadCommitId() {
+    return gitService.getHeadCommitId(versionId);
+  }
+
+  @Override
+  @NonNull
+  public Set<String> getChangedPaths(@NonNull String oldCommitId, @NonNull String newCommitId) {
+    return gitService.getChangedPaths(versionId, oldCommitId, newCommitId);
+  }
+
+  @Override
+  @Nullable
+  public String getFileETag(@NonNull String path) {
+    return gitService.getFileETag(versionId, path);
+  }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.digital.data.platform.management.filemanagement.service;
+
+import java.util.function.Supplier;
+import org.springframework.lang.NonNull;
+
+/**
+ * Snapshot of the version changes that is opened by
+ * {@link VersionedFileRepository#withChangesSnapshot} for a single action.
+ */
+public interface ChangesSnapshot {
+
+  /**
+   * Snapshot that doesn't share anything, every file list requests the changes by itself
+   */
+  ChangesSnapshot NONE = new ChangesSnapshot() {
+    @Override
+    @NonNull
+    public <T> Supplier<T> bind(@NonNull Supplier<T> task) {
+      return task;
+    }
+  };
+
+  /**
+   * Binds the task to the snapshot, so file lists requested by the task use this snapshot in
+   * whatever thread the task is run. It's needed for the tasks that the action runs in other
+   * threads.
+   *
+   * @param task task to bind
+   * @param <T>  type of the task result
+   * @return the task that runs with this snapshot
+   */
+  @NonNull
+  <T> Supplier<T> bind(@NonNull Supplier<T> task);
+}
@@ -28,6 +28,7 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.apache.commons.io.FilenameUtils;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 
 public class HeadFileRepositoryImpl extends AbstractVersionFileRepository {
 
@@ -58,6 +59,12 @@ public class HeadFileRepositoryImpl extends AbstractVersionFileRepository {
     return gitService.getFilesInPath(versionId, parent).stream().anyMatch(fileName::equals);
   }
 
+  @Override
+  @Nullable
+  public String getChangeRevision() {
+    return null;
+  }
+
   @Override
   public void updateRepository() {
     gitService.cloneRepoIfNotExist(versionId);
@@ -18,7 +18,13 @@ package com.epam.digital.data.platform.management.filemanagement.service;
 
 import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileDatesDto;
 import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileInfoDto;
+import com.epam.digital.data.platform.management.gitintegration.exception.GitCommandException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 
@@ -114,4 +120,69 @@ public interface VersionedFileRepository {
    */
   @Nullable
   VersionedFileDatesDto getVersionedFileDates(@NonNull String filePath);
+
+  /**
+   * Returns created and last updated dates of several files from repository at once
+   *
+   * @param filePaths relative paths of files to get dates
+   * @return dates representations by requested path, files that don't exist in version are absent
+   */
+  @NonNull
+  Map<String, VersionedFileDatesDto> getVersionedFileDates(@NonNull Collection<String> filePaths);
+
+  /**
+   * Gets an id of the commit that the version repository is checked out on. The id changes on
+   * any write to the version and on any fetch that changes the version.
+   *
+   * @return commit id or null if it couldn't be resolved
+   */
+  @Nullable
+  String getHeadCommitId();
+
+  /**
+   * Gets a revision of the gerrit change that the file statuses of the version are listed
+   * against. The revision changes on any new patch set of the change, including the ones that
+   * haven't been fetched to the version repository yet.
+   *
+   * @return change revision or null if file statuses don't depend on a gerrit change
+   */
+  @Nullable
+  String getChangeRevision();
+
+  /**
+   * Gets version relative paths of the files that differ between two commits of the version
+   *
+   * @param oldCommitId id of the commit to compare from
+   * @param newCommitId id of the commit to compare to
+   * @return paths of changed, added and deleted files
+   * @throws GitCommandException if any of the commits couldn't be read
+   */
+  @NonNull
+  Set<String> getChangedPaths(@NonNull String oldCommitId, @NonNull String newCommitId);
+
+  /**
+   * Gets an ETag of the file content in the version. The ETag is equal to the one built from
+   * {@link #readFile(String)} result, but the repository isn't updated for it and the content is
+   * read only once per file blob
+   *
+   * @param path version relative path of file
+   * @return ETag of the file content or null if file doesn't exist
+   */
+  @Nullable
+  String getFileETag(@NonNull String path);
+
+  /**
+   * Runs the action against its own snapshot of the version changes. File lists requested during
+   * the action share one list of changed files, so the action sees a consistent view of the
+   * version and the changes are requested from gerrit only once. Tasks that the action runs in
+   * other threads must be bound to the snapshot with {@link ChangesSnapshot#bind(Supplier)}. The
+   * snapshot is dropped on any write to the version made within the action.
+   *
+   * @param action action to run, receives the snapshot opened for it
+   * @param <T>    type of the action result
+   * @return the action result
+   */
+  default <T> T withChangesSnapshot(@NonNull Function<ChangesSnapshot, T> action) {
+    return action.apply(ChangesSnapshot.NONE);
+  }
 }
@@ -30,15 +30,21 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.commons.io.FilenameUtils;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 
 
 public class VersionedFileRepositoryImpl extends AbstractVersionFileRepository {
 
+  private final ThreadLocal<SharedChangesSnapshot> changesSnapshot = new ThreadLocal<>();
+
   public VersionedFileRepositoryImpl(String versionId, JGitService gitService,
       GerritService gerritService, FileManagementMapper mapper) {
     super(versionId, gitService, gerritService, mapper);
@@ -56,7 +62,7 @@ public class VersionedFileRepositoryImpl extends AbstractVersionFileRepository {
         })
         .collect(Collectors.toMap(VersionedFileInfoDto::getName, Function.identity()));
 
-    gerritService.getListOfChangesInMR(getChangeId()).forEach((key, value) -> {
+    getChanges().forEach((key, value) -> {
       if (key.startsWith(path)) {
         VersionedFileInfoDto filesResponseDto = searchFileInMap(filesInMaster, key);
         if (filesResponseDto == null) {
@@ -83,12 +89,14 @@ public class VersionedFileRepositoryImpl extends AbstractVersionFileRepository {
   public void writeFile(@NonNull String path, @NonNull String content) {
     updateRepository();
     gitService.amend(versionId, path, content, null);
+    dropChangesSnapshot();
   }
 
   @Override
   public void writeFile(@NonNull String path, @NonNull String content, String eTag) {
     updateRepository();
     gitService.amend(versionId, path, content, eTag);
+    dropChangesSnapshot();
   }
 
   @Override
@@ -105,6 +113,14 @@ public class VersionedFileRepositoryImpl extends AbstractVersionFileRepository {
   public void deleteFile(@NonNull String path, String eTag) {
     updateRepository();
     gitService.delete(versionId, path, eTag);
+    dropChangesSnapshot();
+  }
+
+  @Override
+  @Nullable
+  public String getChangeRevision() {
+    ChangeInfoDto changeInfo = gerritService.getMRByNumber(versionId);
+    return changeInfo != null ? changeInfo.getRefs() : null;
   }
 
   @Override
@@ -122,6 +138,28 @@ public class VersionedFileRepositoryImpl extends AbstractVersionFileRepository {
   @Override
   public void rollbackFile(@NonNull String filePath) {
     gitService.rollbackFile(versionId, filePath);
+    dropChangesSnapshot();
+  }
+
+  @Override
+  public <T> T withChangesSnapshot(@NonNull Function<ChangesSnapshot, T> action) {
+    var snapshot = new SharedChangesSnapshot();
+    return snapshot.bind(() -> action.apply(snapshot)).get();
+  }
+
+  private Map<String, FileInfoDto> getChanges() {
+    var snapshot = changesSnapshot.get();
+    if (Objects.isNull(snapshot)) {
+      return gerritService.getListOfChangesInMR(getChangeId());
+    }
+    return snapshot.getChanges();
+  }
+
+  private void dropChangesSnapshot() {
+    var snapshot = changesSnapshot.get();
+    if (Objects.nonNull(snapshot)) {
+      snapshot.drop();
+    }
   }
 
   private String getChangeId() {
@@ -142,4 +180,66 @@ public class VersionedFileRepositoryImpl extends AbstractVersionFileRepository {
     }
     return null;
   }
+
+  private class SharedChangesSnapshot implements ChangesSnapshot {
+
+    private final Object lock = new Object();
+    @Nullable
+    private CompletableFuture<Map<String, FileInfoDto>> changes;
+
+    @Override
+    @NonNull
+    public <T> Supplier<T> bind(@NonNull Supplier<T> task) {
+      return () -> {
+        var previous = changesSnapshot.get();
+        changesSnapshot.set(this);
+        try {
+          return task.get();
+        } finally {
+          if (Objects.isNull(previous)) {
+            changesSnapshot.remove();
+          } else {
+            changesSnapshot.set(previous);
+          }
+        }
+      };
+    }
+
+    private Map<String, FileInfoDto> getChanges() {
+      CompletableFuture<Map<String, FileInfoDto>> future;
+      var requester = false;
+      synchronized (lock) {
+        if (Objects.isNull(changes)) {
+          changes = new CompletableFuture<>();
+          requester = true;
+        }
+        future = changes;
+      }
+      if (requester) {
+        // the gerrit request is made outside the lock, concurrent readers wait for the future
+        try {
+          future.complete(gerritService.getListOfChangesInMR(getChangeId()));
+        } catch (RuntimeException e) {
+          synchronized (lock) {
+            if (changes == future) {
+              changes = null;
+            }
+          }
+          future.completeExceptionally(e);
+          throw e;
+        }
+      }
+      try {
+        return future.join();
+      } catch (CompletionException e) {
+        throw (RuntimeException) e.getCause();
+      }
+    }
+
+    private void drop() {
+      synchronized (lock) {
+        changes = null;
+      }
+    }
+  }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.digital.data.platform.management.gerritintegration.service;
+
+package com.epam.digital.data.platform.management.filemanagement.index;
+
+import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.epam.digital.data.platform.management.core.service.CacheService;
+import com.epam.digital.data.platform.management.filemanagement.mapper.FileManagementMapper;
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileInfoDto;
+import com.epam.digital.data.platform.management.filemanagement.service.HeadFileRepositoryImpl;
+import com.epam.digital.data.platform.management.filemanagement.service.VersionedFileRepository;
+import com.epam.digital.data.platform.management.gerritintegration.service.GerritService;
+import com.epam.digital.data.platform.management.gitintegration.service.DatesCacheService;
+import com.epam.digital.data.platform.management.gitintegration.service.GitFileService;
+import com.epam.digital.data.platform.management.gitintegration.service.GitRetryable;
+import com.epam.digital.data.platform.management.gitintegration.service.JGitServiceImpl;
+import com.epam.digital.data.platform.management.gitintegration.service.JGitWrapper;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.SneakyThrows;
+import org.assertj.core.api.Assertions;
+import org.eclipse.jgit.api.Git;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mockito;
+
+@DisplayName("VersionedFileIndex on git repository Test")
+class VersionedFileIndexGitTest {
+
+  private static final String VERSION = "master";
+  private static final String DIRECTORY = "forms";
+
+  @TempDir
+  File tempDir;
+
+  private Git git;
+  private VersionedFileRepository repo;
+  private VersionedFileIndex<String> index;
+
+  @BeforeEach
+  @SneakyThrows
+  void setUp() {
+    var gerritPropertiesConfig = new GerritPropertiesConfig();
+    gerritPropertiesConfig.setRepositoryDirectory(tempDir.getPath());
+    var gitService = new JGitServiceImpl(gerritPropertiesConfig, new GitFileService(),
+        new JGitWrapper(), Mockito.mock(GitRetryable.class),
+        Mockito.mock(DatesCacheService.class), Mockito.mock(CacheService.class));
+    repo = new HeadFileRepositoryImpl(VERSION, gitService, Mockito.mock(GerritService.class),
+        Mappers.getMapper(FileManagementMapper.class));
+    index = new VersionedFileIndex<>(DIRECTORY);
+    git = Git.init().setDirectory(new File(tempDir, VERSION)).call();
+  }
+
+  @AfterEach
+  void tearDown() {
+    git.close();
+  }
+
+  @Test
+  @DisplayName("should match file list after every commit")
+  @SneakyThrows
+  void shouldMatchFileListAfterCommits() {
+    commit(Map.of("forms/a.json", "a1", "forms/b.json", "b1", "bpmn/p.bpmn", "p1"), List.of());
+    assertIndexMatchesFileList();
+    Assertions.assertThat(getMetadata()).containsExactly("a:a1", "b:b1");
+
+    commit(Map.of("forms/b.json", "b2", "forms/c.json", "c1"), List.of("forms/a.json"));
+    assertIndexMatchesFileList();
+    Assertions.assertThat(getMetadata()).containsExactly("b:b2", "c:c1");
+
+    commit(Map.of("bpmn/p.bpmn", "p2"), List.of());
+    assertIndexMatchesFileList();
+    Assertions.assertThat(getMetadata()).containsExactly("b:b2", "c:c1");
+  }
+
+  private void assertIndexMatchesFileList() {
+    var indexed = index.getEntries(repo, repo).stream()
+        .map(VersionedFileIndex.Entry::getFileInfo)
+        .collect(Collectors.toList());
+    Assertions.assertThat(indexed).usingRecursiveFieldByFieldElementComparator()
+        .containsExactlyElementsOf(repo.getFileList(DIRECTORY));
+  }
+
+  private List<String> getMetadata() {
+    return index.getEntries(repo, repo).stream()
+        .map(entry -> entry.getMetadata(this::loadMetadata))
+        .collect(Collectors.toList());
+  }
+
+  private String loadMetadata(VersionedFileInfoDto fileInfo) {
+    return fileInfo.getName() + ":" + repo.readFile(fileInfo.getPath());
+  }
+
+  @SneakyThrows
+  private void commit(Map<String, String> writtenFiles, List<String> deletedFiles) {
+    var workTree = git.getRepository().getWorkTree();
+    for (var file : writtenFiles.entrySet()) {
+      var path = new File(workTree, file.getKey()).toPath();
+      Files.createDirectories(path.getParent());
+      Files.writeString(path, file.getValue());
+      git.add().addFilepattern(file.getKey()).call();
+    }
+    for (var file : deletedFiles) {
+      git.rm().addFilepattern(file).call();
+    }
+    git.commit().setMessage("commit").setAuthor("user", "user@epam.com")
+        .setCommitter("user", "user@epam.com").call();
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.filemanagement.index;
+
+import com.epam.digital.data.platform.management.filemanagement.model.FileStatus;
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileInfoDto;
+import com.epam.digital.data.platform.management.filemanagement.service.VersionedFileRepository;
+import com.epam.digital.data.platform.management.gitintegration.exception.GitCommandException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("VersionedFileIndex Test")
+class VersionedFileIndexTest {
+
+  private static final String DIRECTORY = "forms";
+
+  @Mock
+  private VersionedFileRepository repo;
+  @Mock
+  private VersionedFileRepository headRepo;
+
+  private final List<String> loadedFiles = new ArrayList<>();
+  private final Function<VersionedFileInfoDto, String> loader = fileInfo -> {
+    loadedFiles.add(fileInfo.getName());
+    return fileInfo.getName() + "-" + fileInfo.getStatus();
+  };
+
+  private VersionedFileIndex<String> index;
+
+  @BeforeEach
+  void setUp() {
+    index = new VersionedFileIndex<>(DIRECTORY);
+    Mockito.doReturn("version").when(repo).getVersionId();
+    Mockito.doReturn("v1").when(repo).getHeadCommitId();
+    Mockito.doReturn("h1").when(headRepo).getHeadCommitId();
+    Mockito.doReturn(List.of(file("a", FileStatus.NEW), file("b", FileStatus.UNCHANGED)))
+        .when(repo).getFileList(DIRECTORY);
+  }
+
+  @Test
+  @DisplayName("should not list and read files if repositories haven't been changed")
+  void shouldReadFromMemoryIfCommitsNotChanged() {
+    Assertions.assertThat(getMetadata()).containsExactly("a-NEW", "b-UNCHANGED");
+    Assertions.assertThat(getMetadata()).containsExactly("a-NEW", "b-UNCHANGED");
+
+    Mockito.verify(repo).getFileList(DIRECTORY);
+    Mockito.verify(repo, Mockito.never()).getChangedPaths(Mockito.any(), Mockito.any());
+    Assertions.assertThat(loadedFiles).containsExactly("a", "b");
+  }
+
+  @Test
+  @DisplayName("should load metadata only for requested entries")
+  void shouldLoadMetadataLazily() {
+    var entries = index.getEntries(repo, headRepo);
+
+    Assertions.assertThat(entries).hasSize(2);
+    Assertions.assertThat(entries.get(1).getMetadata(loader)).isEqualTo("b-UNCHANGED");
+    Assertions.assertThat(loadedFiles).containsExactly("b");
+  }
+
+  @Test
+  @DisplayName("should reload only changed files and files with changed status")
+  void shouldReloadChangedFiles() {
+    getMetadata();
+    loadedFiles.clear();
+
+    Mockito.doReturn("v2").when(repo).getHeadCommitId();
+    Mockito.doReturn("h2").when(headRepo).getHeadCommitId();
+    Mockito.doReturn(Set.of("forms/a.json", "bpmn/b.bpmn")).when(repo).getChangedPaths("v1", "v2");
+    Mockito.doReturn(Set.of("forms/d.json")).when(headRepo).getChangedPaths("h1", "h2");
+    Mockito.doReturn(List.of(file("a", FileStatus.NEW), file("b", FileStatus.UNCHANGED),
+        file("c", FileStatus.NEW), file("d", FileStatus.DELETED))).when(repo).getFileList(DIRECTORY);
+
+    Assertions.assertThat(getMetadata())
+        .containsExactly("a-NEW", "b-UNCHANGED", "c-NEW", "d-DELETED");
+    Assertions.assertThat(loadedFiles).containsExactlyInAnyOrder("a", "c", "d");
+  }
+
+  @Test
+  @DisplayName("should reload file if its status has been changed")
+  void shouldReloadFileWithChangedStatus() {
+    getMetadata();
+    loadedFiles.clear();
+
+    Mockito.doReturn("v2").when(repo).getHeadCommitId();
+    Mockito.doReturn(Set.of()).when(repo).getChangedPaths("v1", "v2");
+    Mockito.doReturn(List.of(file("a", FileStatus.NEW), file("b", FileStatus.CHANGED)))
+        .when(repo).getFileList(DIRECTORY);
+
+    Assertions.assertThat(getMetadata()).containsExactly("a-NEW", "b-CHANGED");
+    Assertions.assertThat(loadedFiles).containsExactly("b");
+  }
+
+  @Test
+  @DisplayName("should list statuses again if gerrit change revision has been changed")
+  void shouldRelistIfChangeRevisionChanged() {
+    Mockito.doReturn("refs/changes/01/1/1").when(repo).getChangeRevision();
+    getMetadata();
+    loadedFiles.clear();
+
+    Mockito.doReturn("refs/changes/01/1/2").when(repo).getChangeRevision();
+    Mockito.doReturn(List.of(file("a", FileStatus.NEW), file("b", FileStatus.CHANGED)))
+        .when(repo).getFileList(DIRECTORY);
+
+    Assertions.assertThat(getMetadata()).containsExactly("a-NEW", "b-CHANGED");
+    Mockito.verify(repo, Mockito.never()).getChangedPaths(Mockito.any(), Mockito.any());
+    Assertions.assertThat(loadedFiles).containsExactly("b");
+  }
+
+  @Test
+  @DisplayName("should fully reload index if changed files couldn't be resolved")
+  void shouldFullyReloadIfChangedPathsFailed() {
+    getMetadata();
+    loadedFiles.clear();
+
+    Mockito.doReturn("v2").when(repo).getHeadCommitId();
+    Mockito.doThrow(GitCommandException.class).when(repo).getChangedPaths("v1", "v2");
+    Mockito.doReturn(List.of(file("a", FileStatus.NEW))).when(repo).getFileList(DIRECTORY);
+
+    Assertions.assertThat(getMetadata()).containsExactly("a-NEW");
+    Assertions.assertThat(loadedFiles).containsExactly("a");
+  }
+
+  @Test
+  @DisplayName("should not cache index if repository head commit is unknown")
+  void shouldNotCacheIfCommitUnknown() {
+    Mockito.doReturn(null).when(repo).getHeadCommitId();
+
+    getMetadata();
+    getMetadata();
+
+    Mockito.verify(repo, Mockito.times(2)).getFileList(DIRECTORY);
+    Assertions.assertThat(loadedFiles).containsExactly("a", "b", "a", "b");
+  }
+
+  private List<String> getMetadata() {
+    return index.getEntries(repo, headRepo).stream()
+        .map(entry -> entry.getMetadata(loader))
+        .collect(Collectors.toList());
+  }
+
+  private static VersionedFileInfoDto file(String name, FileStatus status) {
+    return VersionedFileInfoDto.builder()
+        .name(name)
+        .path(DIRECTORY + "/" + name + ".json")
+        .status(status)
+        .build();
+  }
+}
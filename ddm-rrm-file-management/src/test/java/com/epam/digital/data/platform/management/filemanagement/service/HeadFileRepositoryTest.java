@@ -25,6 +25,7 @@ import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import lombok.SneakyThrows;
 import org.apache.commons.io.FilenameUtils;
 import org.assertj.core.api.Assertions;
@@ -152,4 +153,28 @@ class HeadFileRepositoryTest {
     Mockito.verify(jGitService).getDates("version", filePath);
     Mockito.verify(mapper).toVersionedFileDatesDto(null);
   }
+
+  @Test
+  @SneakyThrows
+  void getVersionedFileDates_severalFiles() {
+    var filePath = "folder/fileName.ext";
+    var notExistingFilePath = "folder/notExisting.ext";
+    var returnedFileDatesDto = FileDatesDto.builder()
+        .create(LocalDateTime.of(2023, 9, 25, 13, 40))
+        .update(LocalDateTime.of(2023, 9, 25, 13, 40))
+        .build();
+    var filePaths = List.of(filePath, notExistingFilePath);
+
+    Mockito.doReturn(Map.of(filePath, returnedFileDatesDto))
+        .when(jGitService).getDates("version", filePaths);
+
+    var actualDates = repository.getVersionedFileDates(filePaths);
+
+    Assertions.assertThat(actualDates).containsOnlyKeys(filePath);
+    Assertions.assertThat(actualDates.get(filePath))
+        .hasFieldOrPropertyWithValue("created", returnedFileDatesDto.getCreate())
+        .hasFieldOrPropertyWithValue("updated", returnedFileDatesDto.getUpdate());
+
+    Mockito.verify(jGitService).getDates("version", filePaths);
+  }
 }
@@ -17,7 +17,6 @@
 package com.epam.digital.data.platform.management.filemanagement.service;
 
 import static org.assertj.core.api.Assertions.assertThatCode;
-import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 
 import com.epam.digital.data.platform.management.filemanagement.mapper.FileManagementMapper;
@@ -34,6 +33,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
 import lombok.SneakyThrows;
 import org.apache.commons.io.FilenameUtils;
 import org.assertj.core.api.Assertions;
@@ -110,8 +111,8 @@ public class VersionedFileRepositoryTest {
     Mockito.when(gerritService.getMRByNumber("version")).thenReturn(changeInfo);
     Mockito.when(gerritService.getListOfChangesInMR("changeId")).thenReturn(filesInMR);
     Mockito.when(jGitService.getFilesInPath("version", "folder")).thenReturn(list);
-    Mockito.when(jGitService.getDates(eq("version"),
-            argThat(arg -> List.of("folder", "folder/file1", "folder/file2", "folder/file3")
+    Mockito.when(jGitService.getDates(eq("version"), Mockito.<String>argThat(
+            arg -> List.of("folder", "folder/file1", "folder/file2", "folder/file3")
                 .contains(arg))))
         .thenReturn(fileDates);
     List<VersionedFileInfoDto> fileList = repository.getFileList("folder");
@@ -147,7 +148,7 @@ public class VersionedFileRepositoryTest {
             "folder/file2copy", copiedFileInfo));
     Mockito.when(jGitService.getFilesInPath("version", "folder")).thenReturn(
         List.of("file1", "file2", "file3", "file2copy"));
-    Mockito.when(jGitService.getDates(eq("version"), argThat(
+    Mockito.when(jGitService.getDates(eq("version"), Mockito.<String>argThat(
         arg -> List.of("folder/file1", "folder/file2", "folder/file3", "folder/file2copy")
             .contains(arg)))).thenReturn(fileDates);
     List<VersionedFileInfoDto> fileList = repository.getFileList("folder");
@@ -205,6 +206,15 @@ public class VersionedFileRepositoryTest {
     Mockito.verify(jGitService).getFileContent("version", path);
   }
 
+  @Test
+  void getChangeRevisionTest() {
+    var changeInfo = new ChangeInfoDto();
+    changeInfo.setRefs("refs/changes/01/1/2");
+    Mockito.when(gerritService.getMRByNumber("version")).thenReturn(changeInfo);
+
+    Assertions.assertThat(repository.getChangeRevision()).isEqualTo("refs/changes/01/1/2");
+  }
+
   @Test
   @SneakyThrows
   void pullRepositoryTest() {
@@ -270,4 +280,90 @@ public class VersionedFileRepositoryTest {
     Mockito.verify(jGitService).getDates("version", filePath);
     Mockito.verify(mapper).toVersionedFileDatesDto(null);
   }
+
+  @Test
+  @SneakyThrows
+  void getFileListInChangesSnapshotTest() {
+    var filesInMR = new HashMap<String, FileInfoDto>();
+    filesInMR.put("forms/form1.json", new FileInfoDto());
+    filesInMR.put("bpmn/process1.bpmn", new FileInfoDto());
+    Mockito.when(gerritService.getListOfChangesInMR("changeId")).thenReturn(filesInMR);
+    Mockito.when(jGitService.getFilesInPath("version", "forms")).thenReturn(List.of());
+    Mockito.when(jGitService.getFilesInPath("version", "bpmn")).thenReturn(List.of());
+
+    var fileCount = repository.withChangesSnapshot(snapshot -> {
+      var forms = repository.getFileList("forms");
+      var processes = repository.getFileList("bpmn");
+      Mockito.verify(gerritService).getListOfChangesInMR("changeId");
+
+      repository.writeFile("forms/form2.json", "{}");
+      repository.getFileList("forms");
+      Mockito.verify(gerritService, Mockito.times(2)).getListOfChangesInMR("changeId");
+      return forms.size() + processes.size();
+    });
+    Assertions.assertThat(fileCount).isEqualTo(2);
+
+    repository.getFileList("forms");
+    Mockito.verify(gerritService, Mockito.times(3)).getListOfChangesInMR("changeId");
+  }
+
+  @Test
+  @SneakyThrows
+  void getFileListInChangesSnapshotFromBoundTaskTest() {
+    Mockito.when(gerritService.getListOfChangesInMR("changeId"))
+        .thenReturn(Map.of("forms/form1.json", new FileInfoDto()));
+    Mockito.when(jGitService.getFilesInPath("version", "forms")).thenReturn(List.of());
+    var executor = Executors.newSingleThreadExecutor();
+
+    try {
+      var fileCount = repository.withChangesSnapshot(snapshot -> {
+        var forms = CompletableFuture.supplyAsync(
+            snapshot.bind(() -> repository.getFileList("forms")), executor);
+        return repository.getFileList("forms").size() + forms.join().size();
+      });
+      Assertions.assertThat(fileCount).isEqualTo(2);
+      Mockito.verify(gerritService).getListOfChangesInMR("changeId");
+
+      CompletableFuture.supplyAsync(() -> repository.getFileList("forms"), executor).join();
+      Mockito.verify(gerritService, Mockito.times(2)).getListOfChangesInMR("changeId");
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void getFileListInSeparateChangesSnapshotsTest() {
+    Mockito.when(gerritService.getListOfChangesInMR("changeId"))
+        .thenReturn(Map.of("forms/form1.json", new FileInfoDto()));
+    Mockito.when(jGitService.getFilesInPath("version", "forms")).thenReturn(List.of());
+
+    repository.withChangesSnapshot(outer -> {
+      repository.getFileList("forms");
+      repository.withChangesSnapshot(inner -> repository.getFileList("forms"));
+      Mockito.verify(gerritService, Mockito.times(2)).getListOfChangesInMR("changeId");
+
+      return repository.getFileList("forms");
+    });
+    Mockito.verify(gerritService, Mockito.times(2)).getListOfChangesInMR("changeId");
+  }
+
+  @Test
+  @SneakyThrows
+  void getFileListInChangesSnapshotAfterFailedRequestTest() {
+    Mockito.when(gerritService.getListOfChangesInMR("changeId"))
+        .thenThrow(new IllegalStateException("gerrit is unavailable"))
+        .thenReturn(Map.of("forms/form1.json", new FileInfoDto()));
+    Mockito.when(jGitService.getFilesInPath("version", "forms")).thenReturn(List.of());
+
+    var forms = repository.withChangesSnapshot(snapshot -> {
+      Assertions.assertThatThrownBy(() -> repository.getFileList("forms"))
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessage("gerrit is unavailable");
+      return repository.getFileList("forms");
+    });
+
+    Assertions.assertThat(forms).hasSize(1);
+    Mockito.verify(gerritService, Mockito.times(2)).getListOfChangesInMR("changeId");
+  }
 }
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.forms.index;
+
+import com.epam.digital.data.platform.management.filemanagement.index.VersionedFileIndex;
+import com.epam.digital.data.platform.management.forms.model.FormMetadataDto;
+
+/**
+ * Version scoped index of form metadata that is used for listing forms of the version
+ */
+public class FormIndex extends VersionedFileIndex<FormMetadataDto> {
+
+  public FormIndex() {
+    super("forms");
+  }
+}
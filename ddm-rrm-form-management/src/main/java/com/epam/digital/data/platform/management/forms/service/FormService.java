@@ -16,6 +16,8 @@
 
 package com.epam.digital.data.platform.management.forms.service;
 
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileListPage;
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileListRequest;
 import com.epam.digital.data.platform.management.forms.model.FormInfoDto;
 import java.util.List;
 
@@ -31,6 +33,17 @@ public interface FormService {
    */
   List<FormInfoDto> getFormListByVersion(String versionName);
 
+  /**
+   * Get page of form list for specific version. Only forms of the page are read from the
+   * repository, except the forms that have to be read to match the search by title.
+   *
+   * @param versionName name of version
+   * @param request     page cursor, size and filtering criteria
+   * @return page of {@link FormInfoDto} representations of form info
+   */
+  VersionedFileListPage<FormInfoDto> getFormListByVersion(String versionName,
+      VersionedFileListRequest request);
+
   /**
    * Returns forms by version name
    *
@@ -57,6 +70,27 @@ public interface FormService {
    */
   String getFormContent(String formName, String versionName);
 
+  /**
+   * Get ETag of existing form content. The ETag is resolved from the local repository of the
+   * version without updating it, and while the form is unchanged without reading the form content
+   *
+   * @param formName    name of form
+   * @param versionName name of version candidate
+   * @return {@link String} form content ETag or null if form doesn't exist
+   */
+  String getFormETag(String formName, String versionName);
+
+  /**
+   * Get weak ETag of the form list for specific version. The ETag is derived from the head commits
+   * of the version and of the head branch, that define the forms and their dates from git log, from
+   * the gerrit change revision, that defines the form statuses, and from the version conflicts, so
+   * it changes whenever any form info of the list may change
+   *
+   * @param versionName name of version
+   * @return {@link String} weak ETag of the form list
+   */
+  String getFormListETag(String versionName);
+
   /**
    * Update the content of existing form
    *
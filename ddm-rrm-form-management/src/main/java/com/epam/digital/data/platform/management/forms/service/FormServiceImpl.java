@@ -19,26 +19,36 @@ package com.epam.digital.data.platform.management.forms.service;
 import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
 import com.epam.digital.data.platform.management.core.config.JacksonConfig;
 import com.epam.digital.data.platform.management.core.context.VersionContextComponentManager;
-import com.epam.digital.data.platform.management.core.utils.StringsComparisonUtils;
+import com.epam.digital.data.platform.management.core.model.VersionConflicts;
 import com.epam.digital.data.platform.management.core.service.CacheService;
+import com.epam.digital.data.platform.management.core.utils.ETagUtils;
 import com.epam.digital.data.platform.management.filemanagement.model.FileStatus;
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileDatesDto;
 import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileInfoDto;
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileListPage;
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileListRequest;
 import com.epam.digital.data.platform.management.filemanagement.service.VersionedFileRepository;
 import com.epam.digital.data.platform.management.forms.FormMapper;
 import com.epam.digital.data.platform.management.forms.exception.FormAlreadyExistsException;
 import com.epam.digital.data.platform.management.forms.exception.FormNotFoundException;
+import com.epam.digital.data.platform.management.forms.index.FormIndex;
 import com.epam.digital.data.platform.management.forms.model.FormInfoDto;
+import com.epam.digital.data.platform.management.forms.model.FormMetadataDto;
+import com.epam.digital.data.platform.management.forms.util.FormContentComparator;
+import com.epam.digital.data.platform.management.forms.util.FormMetadataReader;
 import com.epam.digital.data.platform.management.gitintegration.exception.FileAlreadyExistsException;
 import com.epam.digital.data.platform.management.gitintegration.model.FileDatesDto;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
-import com.google.gson.JsonSyntaxException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FilenameUtils;
@@ -62,12 +72,20 @@ public class FormServiceImpl implements FormService {
 
   @Override
   public List<FormInfoDto> getFormListByVersion(String versionName) {
-    return getFormListByVersion(versionName, FileStatus.DELETED);
+    return getFormListByVersion(versionName, VersionedFileListRequest.builder().build(),
+        FileStatus.DELETED).getItems();
+  }
+
+  @Override
+  public VersionedFileListPage<FormInfoDto> getFormListByVersion(String versionName,
+      VersionedFileListRequest request) {
+    return getFormListByVersion(versionName, request, FileStatus.DELETED);
   }
 
   @Override
   public List<FormInfoDto> getChangedFormsListByVersion(String versionName) {
-    return getFormListByVersion(versionName, FileStatus.UNCHANGED);
+    return getFormListByVersion(versionName, VersionedFileListRequest.builder().build(),
+        FileStatus.UNCHANGED).getItems();
   }
 
   @Override
@@ -102,6 +120,26 @@ public class FormServiceImpl implements FormService {
     return formContent;
   }
 
+  @Override
+  public String getFormETag(String formName, String versionName) {
+    var repo =
+        versionContextComponentManager.getComponent(versionName, VersionedFileRepository.class);
+    return repo.getFileETag(getFormPath(formName));
+  }
+
+  @Override
+  public String getFormListETag(String versionName) {
+    var repo =
+        versionContextComponentManager.getComponent(versionName, VersionedFileRepository.class);
+    var masterRepo =
+        versionContextComponentManager.getComponent(
+            gerritPropertiesConfig.getHeadBranch(), VersionedFileRepository.class);
+    var conflicts = cacheService.getConflictsCache(versionName);
+    return ETagUtils.getWeakETagFromContent(String.format("%s:%s:%s:%s",
+        repo.getHeadCommitId(), masterRepo.getHeadCommitId(), repo.getChangeRevision(),
+        conflicts.getPaths(DIRECTORY_PATH).hashCode()));
+  }
+
   @Override
   public void updateForm(String content, String formName, String versionName, String eTag) {
     String formPath = getFormPath(formName);
@@ -111,11 +149,8 @@ public class FormServiceImpl implements FormService {
     FileDatesDto fileDatesDto = FileDatesDto.builder().build();
     if (repo.isFileExists(formPath)) {
       String oldContent = repo.readFile(formPath);
-      //ignore update if difference only in modified date
-      if (StringsComparisonUtils.compareIgnoringSubstring(
-          oldContent, content,
-          "\"modified\":",
-          "Z\"")) {
+      //ignore update if difference only in metadata dates
+      if (FormContentComparator.isEqualIgnoringMetadata(oldContent, content)) {
         return;
       }
       fileDatesDto = getDatesFromContent(oldContent);
@@ -147,69 +182,116 @@ public class FormServiceImpl implements FormService {
         "%s/%s.%s", DIRECTORY_PATH, FilenameUtils.getName(formName), JSON_FILE_EXTENSION);
   }
 
-  private List<FormInfoDto> getFormListByVersion(String versionName, FileStatus skippedStatus) {
+  private VersionedFileListPage<FormInfoDto> getFormListByVersion(String versionName,
+      VersionedFileListRequest request, FileStatus skippedStatus) {
     var repo =
         versionContextComponentManager.getComponent(versionName, VersionedFileRepository.class);
     var masterRepo =
         versionContextComponentManager.getComponent(
             gerritPropertiesConfig.getHeadBranch(), VersionedFileRepository.class);
-    List<VersionedFileInfoDto> fileList = repo.getFileList(DIRECTORY_PATH);
-    List<FormInfoDto> forms = new ArrayList<>();
-    List<String> conflicts = cacheService.getConflictsCache(versionName);
-    for (VersionedFileInfoDto versionedFileInfoDto : fileList) {
-      if (versionedFileInfoDto.getStatus().equals(skippedStatus)) {
+    var formIndex = versionContextComponentManager.getComponent(versionName, FormIndex.class);
+    Function<VersionedFileInfoDto, FormMetadataDto> loader =
+        fileInfo -> loadMetadata(fileInfo, repo, masterRepo);
+    List<Map.Entry<VersionedFileInfoDto, FormMetadataDto>> accepted = new ArrayList<>();
+    var conflicts = cacheService.getConflictsCache(versionName);
+    for (var entry : formIndex.getEntries(repo, masterRepo)) {
+      var versionedFileInfoDto = entry.getFileInfo();
+      if (versionedFileInfoDto.getStatus().equals(skippedStatus)
+          || !request.matches(versionedFileInfoDto)) {
         continue;
       }
-      String formContent;
-      if (versionedFileInfoDto.getStatus() == FileStatus.DELETED) {
-        formContent = masterRepo.readFile(getFormPath(versionedFileInfoDto.getName()));
-      } else {
-        formContent = repo.readFile(getFormPath(versionedFileInfoDto.getName()));
-      }
-      var dates = getDatesFromContent(formContent);
-      if(dates == null){
-        continue;
+      // the next page is decided from the sorted names, items after the page are never read
+      if (request.isLimitReached(accepted.size())) {
+        var forms = toForms(accepted, repo, masterRepo, conflicts);
+        return VersionedFileListPage.<FormInfoDto>builder()
+            .items(forms)
+            .nextCursor(forms.get(forms.size() - 1).getName())
+            .build();
       }
-      if (Objects.isNull(dates.getCreate()) || Objects.isNull(dates.getUpdate())) {
-        var path = getFormPath(versionedFileInfoDto.getName());
-        var datesFromRepo = versionedFileInfoDto.getStatus() == FileStatus.DELETED
-            ? masterRepo.getVersionedFileDates(path) : repo.getVersionedFileDates(path);
-        if (Objects.nonNull(datesFromRepo)) {
-          if (Objects.isNull(dates.getCreate())) {
-            dates.setCreate(datesFromRepo.getCreated());
-          }
-          if (Objects.isNull(dates.getUpdate())) {
-            dates.setUpdate(datesFromRepo.getUpdated());
-          }
+      // title is needed for search only if the name doesn't match
+      if (!request.matchesSearch(versionedFileInfoDto.getName())) {
+        var metadata = entry.getMetadata(loader);
+        if (metadata == null || !request.matchesSearch(metadata.getTitle())) {
+          continue;
         }
       }
-      forms.add(
-          formMapper.toForm(
-              versionedFileInfoDto,
-              dates,
-              formContent,
-              conflicts.contains(versionedFileInfoDto.getPath())));
+      var metadata = entry.getMetadata(loader);
+      if (metadata == null) {
+        continue;
+      }
+      accepted.add(Map.entry(versionedFileInfoDto, metadata));
+    }
+    return VersionedFileListPage.<FormInfoDto>builder()
+        .items(toForms(accepted, repo, masterRepo, conflicts))
+        .build();
+  }
+
+  private FormMetadataDto loadMetadata(VersionedFileInfoDto versionedFileInfoDto,
+      VersionedFileRepository repo, VersionedFileRepository masterRepo) {
+    var path = getFormPath(versionedFileInfoDto.getName());
+    var sourceRepo = versionedFileInfoDto.getStatus() == FileStatus.DELETED ? masterRepo : repo;
+    return FormMetadataReader.read(sourceRepo.readFile(path));
+  }
+
+  /**
+   * Maps accepted files of the listing. Files that have no dates in their content get dates from
+   * git log, dates of all such files are read at once.
+   */
+  private List<FormInfoDto> toForms(
+      List<Map.Entry<VersionedFileInfoDto, FormMetadataDto>> accepted,
+      VersionedFileRepository repo, VersionedFileRepository masterRepo,
+      VersionConflicts conflicts) {
+    var pathsWithoutDates = accepted.stream()
+        .filter(item -> Objects.isNull(item.getValue().getCreated())
+            || Objects.isNull(item.getValue().getModified()))
+        .map(Map.Entry::getKey)
+        .collect(Collectors.partitioningBy(
+            fileInfo -> fileInfo.getStatus() == FileStatus.DELETED,
+            Collectors.mapping(fileInfo -> getFormPath(fileInfo.getName()), Collectors.toList())));
+    var repoDates = new HashMap<String, VersionedFileDatesDto>();
+    if (!pathsWithoutDates.get(false).isEmpty()) {
+      repoDates.putAll(repo.getVersionedFileDates(pathsWithoutDates.get(false)));
+    }
+    if (!pathsWithoutDates.get(true).isEmpty()) {
+      repoDates.putAll(masterRepo.getVersionedFileDates(pathsWithoutDates.get(true)));
     }
-    return forms;
+    return accepted.stream()
+        .map(item -> {
+          var versionedFileInfoDto = item.getKey();
+          var metadata = item.getValue();
+          var fileDates = toFileDates(metadata,
+              repoDates.get(getFormPath(versionedFileInfoDto.getName())));
+          return formMapper.toForm(
+              versionedFileInfoDto,
+              fileDates,
+              Objects.requireNonNullElse(metadata.getTitle(), ""),
+              conflicts.contains(versionedFileInfoDto.getPath()));
+        })
+        .collect(Collectors.toList());
   }
 
   private FileDatesDto getDatesFromContent(String formContent) {
-    LocalDateTime create = null;
-    LocalDateTime update = null;
-    try {
-      var form = JsonParser.parseString(formContent).getAsJsonObject();
+    var metadata = FormMetadataReader.read(formContent);
+    return metadata == null ? null : toFileDates(metadata);
+  }
 
-      if (form.has(FORM_CREATED_FIELD)) {
-        create = parseDate(form.get(FORM_CREATED_FIELD));
-      }
-      if (form.has(FORM_MODIFIED_FIELD)) {
-        update = parseDate(form.get(FORM_MODIFIED_FIELD));
-      }
-    } catch (JsonSyntaxException | IllegalStateException e) {
-      log.warn("Exception during processing Form json file : {}", e.getMessage());
-      return null;
+  private FileDatesDto toFileDates(FormMetadataDto metadata) {
+    return FileDatesDto.builder()
+        .create(metadata.getCreated())
+        .update(metadata.getModified())
+        .build();
+  }
+
+  private FileDatesDto toFileDates(FormMetadataDto metadata, VersionedFileDatesDto repoDates) {
+    if (Objects.isNull(repoDates)) {
+      return toFileDates(metadata);
     }
-    return FileDatesDto.builder().create(create).update(update).build();
+    return FileDatesDto.builder()
+        .create(Objects.isNull(metadata.getCreated())
+            ? repoDates.getCreated() : metadata.getCreated())
+        .update(Objects.isNull(metadata.getModified())
+            ? repoDates.getUpdated() : metadata.getModified())
+        .build();
   }
 
   private String addDatesToContent(String content, LocalDateTime created, LocalDateTime modified) {
@@ -218,10 +300,4 @@ public class FormServiceImpl implements FormService {
     formJson.addProperty(FORM_MODIFIED_FIELD, modified.format(JacksonConfig.DATE_TIME_FORMATTER));
     return gson.toJson(formJson);
   }
-
-  private LocalDateTime parseDate(JsonElement dateElement) {
-    return dateElement.isJsonNull()
-        ? null
-        : LocalDateTime.parse(dateElement.getAsString(), JacksonConfig.DATE_TIME_FORMATTER);
-  }
 }
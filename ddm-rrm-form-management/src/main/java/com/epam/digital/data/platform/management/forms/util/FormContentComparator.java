@@ -0,0 +1,114 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.forms.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compares two form json contents token by token ignoring formatting, escaping and top-level
+ * metadata fields ({@value FormMetadataReader#CREATED_FIELD} and
+ * {@value FormMetadataReader#MODIFIED_FIELD}). Both contents are streamed in parallel without
+ * building json trees and the comparison stops on the first difference.
+ */
+@Slf4j
+public class FormContentComparator {
+
+  private static final Set<String> METADATA_FIELDS = Set.of(FormMetadataReader.CREATED_FIELD,
+      FormMetadataReader.MODIFIED_FIELD);
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private FormContentComparator() {
+  }
+
+  /**
+   * Check if the form contents are equal except for metadata fields
+   *
+   * @param firstContent  first form json content
+   * @param secondContent second form json content
+   * @return true if the contents are equal except for metadata fields, false if they differ or
+   * any of them isn't a valid json
+   */
+  public static boolean isEqualIgnoringMetadata(String firstContent, String secondContent) {
+    if (Objects.isNull(firstContent) || Objects.isNull(secondContent)) {
+      return Objects.equals(firstContent, secondContent);
+    }
+    try (var first = JSON_FACTORY.createParser(firstContent);
+        var second = JSON_FACTORY.createParser(secondContent)) {
+      JsonToken token;
+      do {
+        token = nextToken(first);
+        if (token != nextToken(second) || !isSameValue(token, first, second)) {
+          return false;
+        }
+      } while (Objects.nonNull(token));
+      return true;
+    } catch (IOException e) {
+      log.warn("Form json contents could not be compared: {}", e.getMessage());
+      return false;
+    }
+  }
+
+  private static JsonToken nextToken(JsonParser parser) throws IOException {
+    var token = parser.nextToken();
+    while (token == JsonToken.FIELD_NAME && isTopLevelField(parser)
+        && METADATA_FIELDS.contains(parser.getCurrentName())) {
+      parser.nextToken();
+      parser.skipChildren();
+      token = parser.nextToken();
+    }
+    return token;
+  }
+
+  private static boolean isTopLevelField(JsonParser parser) {
+    return parser.getParsingContext().getParent().inRoot();
+  }
+
+  private static boolean isSameValue(JsonToken token, JsonParser first, JsonParser second)
+      throws IOException {
+    if (Objects.isNull(token)) {
+      return true;
+    }
+    switch (token) {
+      case FIELD_NAME:
+      case VALUE_STRING:
+      case VALUE_NUMBER_INT:
+      case VALUE_NUMBER_FLOAT:
+        return isSameText(first, second);
+      default:
+        return true;
+    }
+  }
+
+  private static boolean isSameText(JsonParser first, JsonParser second) throws IOException {
+    var length = first.getTextLength();
+    if (length != second.getTextLength()) {
+      return false;
+    }
+    var firstOffset = first.getTextOffset();
+    var secondOffset = second.getTextOffset();
+    return Arrays.equals(first.getTextCharacters(), firstOffset, firstOffset + length,
+        second.getTextCharacters(), secondOffset, secondOffset + length);
+  }
+}
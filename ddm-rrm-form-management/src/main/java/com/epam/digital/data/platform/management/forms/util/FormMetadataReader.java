@@ -0,0 +1,106 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.forms.util;
+
+import com.epam.digital.data.platform.management.core.config.JacksonConfig;
+import com.epam.digital.data.platform.management.forms.model.FormMetadataDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+/**
+ * Reads form metadata (title, created and modified dates) with a single pass over the form json
+ * token stream without building the json tree. Nested objects such as form components are skipped
+ * and reading stops as soon as all the metadata fields are found.
+ */
+@Slf4j
+public class FormMetadataReader {
+
+  public static final String TITLE_FIELD = "title";
+  public static final String CREATED_FIELD = "created";
+  public static final String MODIFIED_FIELD = "modified";
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private FormMetadataReader() {
+  }
+
+  /**
+   * Read metadata from top-level fields of the form
+   *
+   * @param formContent form json content
+   * @return {@link FormMetadataDto} form metadata or null if the content isn't a json object
+   */
+  @Nullable
+  public static FormMetadataDto read(String formContent) {
+    if (Objects.isNull(formContent)) {
+      return null;
+    }
+    var metadata = FormMetadataDto.builder();
+    try (var parser = JSON_FACTORY.createParser(formContent)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        log.warn("Form json content is not an object");
+        return null;
+      }
+      var fieldsToFind = 3;
+      while (fieldsToFind > 0 && parser.nextToken() == JsonToken.FIELD_NAME) {
+        var fieldName = parser.getCurrentName();
+        parser.nextToken();
+        switch (fieldName) {
+          case TITLE_FIELD:
+            metadata.title(readScalar(parser));
+            fieldsToFind--;
+            break;
+          case CREATED_FIELD:
+            metadata.created(parseDate(readScalar(parser)));
+            fieldsToFind--;
+            break;
+          case MODIFIED_FIELD:
+            metadata.modified(parseDate(readScalar(parser)));
+            fieldsToFind--;
+            break;
+          default:
+            parser.skipChildren();
+        }
+      }
+    } catch (IOException e) {
+      log.warn("Exception during processing Form json file : {}", e.getMessage());
+      return null;
+    }
+    return metadata.build();
+  }
+
+  @Nullable
+  private static String readScalar(JsonParser parser) throws IOException {
+    if (parser.currentToken().isStructStart()) {
+      parser.skipChildren();
+      return null;
+    }
+    return parser.getValueAsString();
+  }
+
+  @Nullable
+  private static LocalDateTime parseDate(@Nullable String date) {
+    return Objects.isNull(date) ? null
+        : LocalDateTime.parse(date, JacksonConfig.DATE_TIME_FORMATTER);
+  }
+}
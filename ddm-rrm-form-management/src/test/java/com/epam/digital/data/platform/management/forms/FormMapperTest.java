@@ -20,7 +20,6 @@ package com.epam.digital.data.platform.management.forms;
 import com.epam.digital.data.platform.management.filemanagement.model.FileStatus;
 import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileInfoDto;
 import com.epam.digital.data.platform.management.forms.model.FormInfoDto;
-import com.epam.digital.data.platform.management.forms.util.TestUtils;
 import com.epam.digital.data.platform.management.gitintegration.model.FileDatesDto;
 import java.time.LocalDateTime;
 import lombok.SneakyThrows;
@@ -32,7 +31,6 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 @ExtendWith(SpringExtension.class)
 class FormMapperTest {
-  private final String FORM_CONTENT = TestUtils.getContent("form-sample.json");
   private final FormMapper mapper = Mappers.getMapper(FormMapper.class);
 
   @Test
@@ -56,7 +54,7 @@ class FormMapperTest {
         .updated(LocalDateTime.of(2022, 8, 10, 13, 28))
         .conflicted(true)
         .build();
-    var actual = mapper.toForm(fileInfo, fileDates, FORM_CONTENT, true);
+    var actual = mapper.toForm(fileInfo, fileDates, "Update physical factors", true);
     Assertions.assertThat(actual).isEqualTo(expected);
   }
 }
\ No newline at end of file
@@ -23,18 +23,23 @@ import static org.mockito.Mockito.never;
 
 import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
 import com.epam.digital.data.platform.management.core.context.VersionContextComponentManager;
+import com.epam.digital.data.platform.management.core.model.VersionConflicts;
 import com.epam.digital.data.platform.management.core.service.CacheService;
 import com.epam.digital.data.platform.management.filemanagement.model.FileStatus;
 import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileDatesDto;
 import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileInfoDto;
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileListRequest;
 import com.epam.digital.data.platform.management.filemanagement.service.VersionedFileRepository;
 import com.epam.digital.data.platform.management.forms.FormMapper;
 import com.epam.digital.data.platform.management.forms.exception.FormAlreadyExistsException;
 import com.epam.digital.data.platform.management.forms.exception.FormNotFoundException;
+import com.epam.digital.data.platform.management.forms.index.FormIndex;
 import com.epam.digital.data.platform.management.forms.model.FormInfoDto;
 import com.epam.digital.data.platform.management.forms.util.TestUtils;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.SneakyThrows;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -89,6 +94,9 @@ class FormServiceTest {
         .thenReturn(repository);
     Mockito.when(versionContextComponentManager.getComponent(gerritPropertiesConfig.getHeadBranch(),
         VersionedFileRepository.class)).thenReturn(masterRepository);
+    Mockito.when(versionContextComponentManager.getComponent(VERSION_ID, FormIndex.class))
+        .thenReturn(new FormIndex());
+    Mockito.when(cacheService.getConflictsCache(VERSION_ID)).thenReturn(VersionConflicts.EMPTY);
   }
 
   @Test
@@ -100,7 +108,8 @@ class FormServiceTest {
     var deletedForm = VersionedFileInfoDto.builder().status(FileStatus.DELETED).build();
     Mockito.when(repository.getFileList("forms")).thenReturn(List.of(newForm, deletedForm));
     Mockito.when(repository.readFile("forms/form.json")).thenReturn(FORM_CONTENT);
-    Mockito.when(cacheService.getConflictsCache(VERSION_ID)).thenReturn(List.of("forms/form.json"));
+    Mockito.when(cacheService.getConflictsCache(VERSION_ID))
+        .thenReturn(VersionConflicts.of(List.of("forms/form.json")));
 
     var resultList = formService.getFormListByVersion(VERSION_ID);
 
@@ -126,8 +135,10 @@ class FormServiceTest {
     var deletedForm = VersionedFileInfoDto.builder().status(FileStatus.DELETED).build();
     Mockito.doReturn(List.of(newForm, deletedForm)).when(repository).getFileList("forms");
     Mockito.doReturn(FORM_CONTENT_WITHOUT_DATES).when(repository).readFile("forms/form.json");
-    Mockito.doReturn(List.of("forms/form.json")).when(cacheService).getConflictsCache(VERSION_ID);
-    Mockito.doReturn(newFormDates).when(repository).getVersionedFileDates("forms/form.json");
+    Mockito.doReturn(VersionConflicts.of(List.of("forms/form.json")))
+        .when(cacheService).getConflictsCache(VERSION_ID);
+    Mockito.doReturn(Map.of("forms/form.json", newFormDates))
+        .when(repository).getVersionedFileDates(List.of("forms/form.json"));
 
     var resultList = formService.getFormListByVersion(VERSION_ID);
 
@@ -136,6 +147,88 @@ class FormServiceTest {
         .updated(LocalDateTime.of(2022, 8, 10, 13, 28))
         .title("Update physical factors").conflicted(true).build();
     Assertions.assertThat(resultList).hasSize(1).element(0).isEqualTo(expectedFormResponseDto);
+    Mockito.verify(repository).getVersionedFileDates(List.of("forms/form.json"));
+  }
+
+  @Test
+  @SneakyThrows
+  void getFormListByVersionPageTest() {
+    var firstForm = VersionedFileInfoDto.builder().name("a-form").path("forms/a-form.json")
+        .status(FileStatus.NEW).build();
+    var secondForm = VersionedFileInfoDto.builder().name("b-form").path("forms/b-form.json")
+        .status(FileStatus.CHANGED).build();
+    var thirdForm = VersionedFileInfoDto.builder().name("c-form").path("forms/c-form.json")
+        .status(FileStatus.UNCHANGED).build();
+    Mockito.doReturn(List.of(firstForm, secondForm, thirdForm))
+        .when(repository).getFileList("forms");
+    Mockito.doReturn(FORM_CONTENT).when(repository).readFile(anyString());
+
+    var page = formService.getFormListByVersion(VERSION_ID,
+        VersionedFileListRequest.builder().limit(1).build());
+
+    Assertions.assertThat(page.getItems()).extracting(FormInfoDto::getName)
+        .containsExactly("a-form");
+    Assertions.assertThat(page.getNextCursor()).isEqualTo("a-form");
+    Mockito.verify(repository, never()).readFile("forms/b-form.json");
+    Mockito.verify(repository, never()).readFile("forms/c-form.json");
+
+    var nextPage = formService.getFormListByVersion(VERSION_ID,
+        VersionedFileListRequest.builder().cursor("a-form").limit(2).build());
+
+    Assertions.assertThat(nextPage.getItems()).extracting(FormInfoDto::getName)
+        .containsExactly("b-form", "c-form");
+    Assertions.assertThat(nextPage.getNextCursor()).isNull();
+  }
+
+  @Test
+  @SneakyThrows
+  void getFormListByVersionLastPageTest() {
+    var firstForm = VersionedFileInfoDto.builder().name("a-form").path("forms/a-form.json")
+        .status(FileStatus.NEW).build();
+    var invalidForm = VersionedFileInfoDto.builder().name("b-form").path("forms/b-form.json")
+        .status(FileStatus.CHANGED).build();
+    Mockito.doReturn(List.of(firstForm, invalidForm)).when(repository).getFileList("forms");
+    Mockito.doReturn(FORM_CONTENT).when(repository).readFile("forms/a-form.json");
+    Mockito.doReturn("[]").when(repository).readFile("forms/b-form.json");
+
+    var page = formService.getFormListByVersion(VERSION_ID,
+        VersionedFileListRequest.builder().limit(1).build());
+
+    Assertions.assertThat(page.getItems()).extracting(FormInfoDto::getName)
+        .containsExactly("a-form");
+    Assertions.assertThat(page.getNextCursor()).isEqualTo("a-form");
+    Mockito.verify(repository, never()).readFile("forms/b-form.json");
+
+    var nextPage = formService.getFormListByVersion(VERSION_ID,
+        VersionedFileListRequest.builder().cursor("a-form").limit(1).build());
+
+    Assertions.assertThat(nextPage.getItems()).isEmpty();
+    Assertions.assertThat(nextPage.getNextCursor()).isNull();
+  }
+
+  @Test
+  @SneakyThrows
+  void getFormListByVersionFilterTest() {
+    var titledForm = VersionedFileInfoDto.builder().name("a-form").path("forms/a-form.json")
+        .status(FileStatus.NEW).build();
+    var untitledForm = VersionedFileInfoDto.builder().name("b-form").path("forms/b-form.json")
+        .status(FileStatus.CHANGED).build();
+    var unchangedForm = VersionedFileInfoDto.builder().name("c-form").path("forms/c-form.json")
+        .status(FileStatus.UNCHANGED).build();
+    Mockito.doReturn(List.of(titledForm, untitledForm, unchangedForm))
+        .when(repository).getFileList("forms");
+    Mockito.doReturn(FORM_CONTENT).when(repository).readFile("forms/a-form.json");
+    Mockito.doReturn(FORM_CONTENT_WITHOUT_TITLE).when(repository).readFile("forms/b-form.json");
+
+    var page = formService.getFormListByVersion(VERSION_ID, VersionedFileListRequest.builder()
+        .search("PHYSICAL")
+        .statuses(Set.of(FileStatus.NEW, FileStatus.CHANGED))
+        .build());
+
+    Assertions.assertThat(page.getItems()).extracting(FormInfoDto::getName)
+        .containsExactly("a-form");
+    Assertions.assertThat(page.getNextCursor()).isNull();
+    Mockito.verify(repository, never()).readFile("forms/c-form.json");
   }
 
   @Test
@@ -212,6 +305,44 @@ class FormServiceTest {
         .hasMessage("Form form not found");
   }
 
+  @Test
+  @SneakyThrows
+  void getFormETagTest() {
+    Mockito.when(repository.getFileETag("forms/form.json")).thenReturn("\"1\"");
+
+    Assertions.assertThat(formService.getFormETag("form", VERSION_ID)).isEqualTo("\"1\"");
+    Mockito.verify(repository, never()).updateRepository();
+    Mockito.verify(repository, never()).readFile(anyString());
+  }
+
+  @Test
+  @SneakyThrows
+  void getFormListETagTest() {
+    Mockito.when(repository.getHeadCommitId()).thenReturn("versionCommitId");
+    Mockito.when(masterRepository.getHeadCommitId()).thenReturn("masterCommitId");
+    Mockito.when(repository.getChangeRevision()).thenReturn("refs/changes/01/1/1");
+
+    var eTag = formService.getFormListETag(VERSION_ID);
+    Assertions.assertThat(eTag).startsWith("W/");
+    Assertions.assertThat(formService.getFormListETag(VERSION_ID)).isEqualTo(eTag);
+
+    Mockito.when(cacheService.getConflictsCache(VERSION_ID))
+        .thenReturn(VersionConflicts.of(List.of("forms/form.json")));
+    var conflictedETag = formService.getFormListETag(VERSION_ID);
+    Assertions.assertThat(conflictedETag).isNotEqualTo(eTag);
+
+    Mockito.when(repository.getChangeRevision()).thenReturn("refs/changes/01/1/2");
+    var newRevisionETag = formService.getFormListETag(VERSION_ID);
+    Assertions.assertThat(newRevisionETag).isNotEqualTo(eTag).isNotEqualTo(conflictedETag);
+
+    Mockito.when(masterRepository.getHeadCommitId()).thenReturn("newMasterCommitId");
+    Assertions.assertThat(formService.getFormListETag(VERSION_ID))
+        .isNotEqualTo(eTag)
+        .isNotEqualTo(conflictedETag)
+        .isNotEqualTo(newRevisionETag);
+    Mockito.verify(repository, never()).getFileList(anyString());
+  }
+
   @Test
   @SneakyThrows
   void updateFormTestNoErrorTest() {
@@ -298,7 +429,8 @@ class FormServiceTest {
         .build();
     Mockito.when(repository.getFileList("forms")).thenReturn(List.of(newForm));
     Mockito.when(repository.readFile("forms/form.json")).thenReturn(FORM_CONTENT_WITHOUT_TITLE);
-    Mockito.when(cacheService.getConflictsCache(VERSION_ID)).thenReturn(List.of("forms/form.json"));
+    Mockito.when(cacheService.getConflictsCache(VERSION_ID))
+        .thenReturn(VersionConflicts.of(List.of("forms/form.json")));
 
     var resultList = formService.getFormListByVersion(VERSION_ID);
 
@@ -318,7 +450,8 @@ class FormServiceTest {
         .build();
     Mockito.when(repository.getFileList("forms")).thenReturn(List.of(newForm));
     Mockito.when(repository.readFile("forms/form.json")).thenReturn("Invalid content");
-    Mockito.when(cacheService.getConflictsCache(VERSION_ID)).thenReturn(List.of("forms/form.json"));
+    Mockito.when(cacheService.getConflictsCache(VERSION_ID))
+        .thenReturn(VersionConflicts.of(List.of("forms/form.json")));
 
     var resultList = formService.getFormListByVersion(VERSION_ID);
     Assertions.assertThat(resultList).hasSize(0);
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.forms.util;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("FormContentComparator#isEqualIgnoringMetadata(String, String)")
+class FormContentComparatorTest {
+
+  private static final String FORM_CONTENT = TestUtils.getContent("form-sample.json");
+
+  @Test
+  @DisplayName("should ignore top-level dates, formatting and escaping")
+  void equalIgnoringMetadataTest() {
+    Assertions.assertThat(FormContentComparator.isEqualIgnoringMetadata(FORM_CONTENT,
+        TestUtils.getContent("form-sample-unicode.json"))).isTrue();
+    Assertions.assertThat(FormContentComparator.isEqualIgnoringMetadata(FORM_CONTENT,
+        TestUtils.getContent("form-sample-without-dates.json"))).isTrue();
+    Assertions.assertThat(FormContentComparator.isEqualIgnoringMetadata(
+        "{\"title\":\"form\",\"modified\":{\"nested\":[1]}}", "{ \"title\" : \"form\" }"))
+        .isTrue();
+  }
+
+  @Test
+  @DisplayName("should detect changes of any other field")
+  void notEqualTest() {
+    var changedTitle = FORM_CONTENT.replaceFirst(
+        "\"title\": \"Update physical factors\"",
+        "\"title\": \"Update physical factors updated\"");
+
+    Assertions.assertThat(FormContentComparator.isEqualIgnoringMetadata(FORM_CONTENT,
+        changedTitle)).isFalse();
+    Assertions.assertThat(FormContentComparator.isEqualIgnoringMetadata(
+        "{\"title\":\"form\"}", "{\"title\":\"form\",\"path\":\"form\"}")).isFalse();
+    Assertions.assertThat(FormContentComparator.isEqualIgnoringMetadata(
+        "{\"size\":1}", "{\"size\":1.0}")).isFalse();
+  }
+
+  @Test
+  @DisplayName("should not ignore metadata field names in nested objects")
+  void nestedMetadataFieldsTest() {
+    Assertions.assertThat(FormContentComparator.isEqualIgnoringMetadata(
+        "{\"components\":[{\"modified\":\"value\"}]}", "{\"components\":[{}]}")).isFalse();
+  }
+
+  @Test
+  @DisplayName("should return false if any content is not a valid json")
+  void invalidContentTest() {
+    Assertions.assertThat(FormContentComparator.isEqualIgnoringMetadata(
+        "{\"title\":", "{\"title\":\"form\"}")).isFalse();
+    Assertions.assertThat(FormContentComparator.isEqualIgnoringMetadata(FORM_CONTENT, null))
+        .isFalse();
+  }
+}
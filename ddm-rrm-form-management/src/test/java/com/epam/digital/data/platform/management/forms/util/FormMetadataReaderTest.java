@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.forms.util;
+
+import java.time.LocalDateTime;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("FormMetadataReader#read(String)")
+class FormMetadataReaderTest {
+
+  @Test
+  @DisplayName("should read title and dates from top-level fields")
+  void readTest() {
+    var metadata = FormMetadataReader.read(TestUtils.getContent("form-sample.json"));
+
+    Assertions.assertThat(metadata).isNotNull();
+    Assertions.assertThat(metadata.getTitle()).isEqualTo("Update physical factors");
+    Assertions.assertThat(metadata.getCreated())
+        .isEqualTo(LocalDateTime.of(2022, 12, 21, 13, 52, 31, 357_000_000));
+    Assertions.assertThat(metadata.getModified())
+        .isEqualTo(LocalDateTime.of(2022, 12, 22, 14, 52, 23, 745_000_000));
+  }
+
+  @Test
+  @DisplayName("should return null fields if there are no such fields in form")
+  void readWithoutFieldsTest() {
+    var withoutTitle = FormMetadataReader.read(
+        TestUtils.getContent("form-sample-without-title.json"));
+    var withoutDates = FormMetadataReader.read(
+        TestUtils.getContent("form-sample-without-dates.json"));
+
+    Assertions.assertThat(withoutTitle).isNotNull();
+    Assertions.assertThat(withoutTitle.getTitle()).isNull();
+    Assertions.assertThat(withoutDates).isNotNull();
+    Assertions.assertThat(withoutDates.getCreated()).isNull();
+    Assertions.assertThat(withoutDates.getModified()).isNull();
+  }
+
+  @Test
+  @DisplayName("should ignore fields with the same names in nested objects")
+  void readNestedFieldsTest() {
+    var metadata = FormMetadataReader.read("{\"components\":[{\"title\":\"nested\","
+        + "\"created\":\"not a date\"}],\"title\":\"form\",\"modified\":null}");
+
+    Assertions.assertThat(metadata).isNotNull();
+    Assertions.assertThat(metadata.getTitle()).isEqualTo("form");
+    Assertions.assertThat(metadata.getCreated()).isNull();
+    Assertions.assertThat(metadata.getModified()).isNull();
+  }
+
+  @Test
+  @DisplayName("should stop reading as soon as all the fields are found")
+  void readStopsEarlyTest() {
+    var metadata = FormMetadataReader.read("{\"title\":\"form\","
+        + "\"created\":\"2022-12-21T13:52:31.357Z\",\"modified\":\"2022-12-22T14:52:23.745Z\","
+        + "\"components\": [ broken");
+
+    Assertions.assertThat(metadata).isNotNull();
+    Assertions.assertThat(metadata.getTitle()).isEqualTo("form");
+  }
+
+  @Test
+  @DisplayName("should return null if content is not a json object")
+  void readInvalidContentTest() {
+    Assertions.assertThat(FormMetadataReader.read("[]")).isNull();
+    Assertions.assertThat(FormMetadataReader.read("{\"title\": ")).isNull();
+    Assertions.assertThat(FormMetadataReader.read(null)).isNull();
+  }
+}
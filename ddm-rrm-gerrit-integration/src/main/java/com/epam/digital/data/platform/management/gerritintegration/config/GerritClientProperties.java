@@ -0,0 +1,46 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.digital.data.platform.management.gerritintegration.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("registry-regulation-management.gerrit-client")
+public class GerritClientProperties {
+
+  /**
+   * Timeout of establishing connection to gerrit
+   */
+  private Duration connectTimeout = Duration.ofSeconds(5);
+  /**
+   * Max period of inactivity between two data packets of gerrit response
+   */
+  private Duration readTimeout = Duration.ofSeconds(30);
+  /**
+   * Max time of waiting for a free pooled connection
+   */
+  private Duration connectionRequestTimeout = Duration.ofSeconds(5);
+  /**
+   * Max number of pooled connections to gerrit
+   */
+  private int maxConnections = 20;
+}
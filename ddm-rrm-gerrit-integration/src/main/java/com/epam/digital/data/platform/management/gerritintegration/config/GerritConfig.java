@@ -16,9 +16,15 @@
 package com.epam.digital.data.platform.management.gerritintegration.config;
 
 import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.epam.digital.data.platform.management.gerritintegration.service.GerritCallMetrics;
 import com.urswolfer.gerrit.client.rest.GerritApiImpl;
 import com.urswolfer.gerrit.client.rest.GerritAuthData;
 import com.urswolfer.gerrit.client.rest.GerritRestApiFactory;
+import com.urswolfer.gerrit.client.rest.http.HttpClientBuilderExtension;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
@@ -28,11 +34,41 @@ import org.springframework.context.annotation.Configuration;
 public class GerritConfig {
   @Autowired
   private GerritPropertiesConfig config;
+  @Autowired
+  private GerritClientProperties clientProperties;
+
+  @Bean(destroyMethod = "shutdown")
+  public PoolingHttpClientConnectionManager gerritConnectionManager() {
+    var connectionManager = new PoolingHttpClientConnectionManager();
+    connectionManager.setMaxTotal(clientProperties.getMaxConnections());
+    connectionManager.setDefaultMaxPerRoute(clientProperties.getMaxConnections());
+    return connectionManager;
+  }
 
   @Bean
   @ConditionalOnMissingBean
-  public GerritApiImpl gerritApi() {
+  public GerritApiImpl gerritApi(GerritCallMetrics gerritCallMetrics,
+      PoolingHttpClientConnectionManager gerritConnectionManager) {
+    var requestConfig = RequestConfig.custom()
+        .setConnectTimeout((int) clientProperties.getConnectTimeout().toMillis())
+        .setSocketTimeout((int) clientProperties.getReadTimeout().toMillis())
+        .setConnectionRequestTimeout(
+            (int) clientProperties.getConnectionRequestTimeout().toMillis())
+        .build();
     return (GerritApiImpl) new GerritRestApiFactory()
-        .create(new GerritAuthData.Basic(config.getUrl(), config.getUser(), config.getPassword()));
+        .create(new GerritAuthData.Basic(config.getUrl(), config.getUser(), config.getPassword()),
+            new HttpClientBuilderExtension() {
+              @Override
+              public HttpClientBuilder extend(HttpClientBuilder httpClientBuilder,
+                  GerritAuthData authData) {
+                // gerrit client builds http client per request, so the pool has to be shared
+                return super.extend(httpClientBuilder, authData)
+                    .setConnectionManager(gerritConnectionManager)
+                    .setConnectionManagerShared(true)
+                    .setDefaultRequestConfig(requestConfig)
+                    .addInterceptorLast((HttpRequestInterceptor) (request, context) ->
+                        gerritCallMetrics.recordCall(request.getRequestLine().getMethod()));
+              }
+            });
   }
 }
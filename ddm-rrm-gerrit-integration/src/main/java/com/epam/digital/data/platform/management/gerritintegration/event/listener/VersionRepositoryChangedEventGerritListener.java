@@ -0,0 +1,54 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.digital.data.platform.management.gerritintegration.event.listener;
+
+import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.epam.digital.data.platform.management.core.event.VersionRepositoryChangedEvent;
+import com.epam.digital.data.platform.management.gerritintegration.service.GerritChangeCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sync listener of the {@link VersionRepositoryChangedEvent}.
+ * <p>
+ * It invalidates cached gerrit change of the changed version before any async listener starts
+ * handling the event. Head branch change invalidates all cached changes as it may affect
+ * mergeability of each of them.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VersionRepositoryChangedEventGerritListener {
+
+  private final GerritChangeCache gerritChangeCache;
+  private final GerritPropertiesConfig gerritPropertiesConfig;
+
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @EventListener(VersionRepositoryChangedEvent.class)
+  public void handleVersionRepositoryChangedEvent(VersionRepositoryChangedEvent event) {
+    var versionId = event.getVersionId();
+    log.debug("Invalidating cached gerrit changes on version {} repository change", versionId);
+    if (gerritPropertiesConfig.getHeadBranch().equals(versionId)) {
+      gerritChangeCache.invalidateAll();
+    } else {
+      gerritChangeCache.invalidate(versionId);
+    }
+  }
+}
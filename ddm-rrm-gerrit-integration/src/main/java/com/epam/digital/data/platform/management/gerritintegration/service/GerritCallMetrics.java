@@ -0,0 +1,110 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.digital.data.platform.management.gerritintegration.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts http calls to gerrit, both in total and per inbound request that has been handled in
+ * the current thread.
+ * <p>
+ * The request counter is bound to the thread that handles the request. Calls that are made on
+ * other threads on behalf of the request are counted for it only if the task is wrapped with
+ * {@link #propagate(Supplier)}.
+ */
+@Component
+@RequiredArgsConstructor
+public class GerritCallMetrics {
+
+  static final String CALLS_METRIC = "registry.regulation.management.gerrit.calls";
+  static final String CALLS_PER_REQUEST_METRIC =
+      "registry.regulation.management.gerrit.calls.per.request";
+
+  private final ThreadLocal<AtomicInteger> requestCalls = new ThreadLocal<>();
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Start counting gerrit calls of an inbound request in the current thread
+   */
+  public void startRequest() {
+    requestCalls.set(new AtomicInteger());
+  }
+
+  /**
+   * Bind the task to the inbound request of the current thread, so gerrit calls of the task are
+   * counted for the request whatever thread the task is run in
+   *
+   * @param task task to run on behalf of the request
+   * @return task that counts its gerrit calls for the request
+   */
+  public <T> Supplier<T> propagate(Supplier<T> task) {
+    var calls = requestCalls.get();
+    if (Objects.isNull(calls)) {
+      return task;
+    }
+    return () -> {
+      var previousCalls = requestCalls.get();
+      requestCalls.set(calls);
+      try {
+        return task.get();
+      } finally {
+        if (Objects.isNull(previousCalls)) {
+          requestCalls.remove();
+        } else {
+          requestCalls.set(previousCalls);
+        }
+      }
+    };
+  }
+
+  /**
+   * Record a single http call to gerrit
+   *
+   * @param method http method of the call
+   */
+  public void recordCall(String method) {
+    meterRegistry.counter(CALLS_METRIC, "method", method).increment();
+    var calls = requestCalls.get();
+    if (Objects.nonNull(calls)) {
+      calls.incrementAndGet();
+    }
+  }
+
+  /**
+   * Stop counting gerrit calls of an inbound request in the current thread and record the number
+   * of calls that the request made
+   *
+   * @param requestPattern path pattern of the inbound request
+   */
+  public void finishRequest(@Nullable String requestPattern) {
+    var calls = requestCalls.get();
+    requestCalls.remove();
+    if (Objects.isNull(calls)) {
+      return;
+    }
+    DistributionSummary.builder(CALLS_PER_REQUEST_METRIC)
+        .tag("uri", Objects.requireNonNullElse(requestPattern, "UNKNOWN"))
+        .register(meterRegistry)
+        .record(calls.get());
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.digital.data.platform.management.gerritintegration.service;
+
+import com.epam.digital.data.platform.management.gerritintegration.config.GerritChangeCacheProperties;
+import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Short-living cache of gerrit change responses.
+ * <p>
+ * Concurrent requests for the same change are coalesced: only one of them goes to gerrit and the
+ * others wait for its response. Cached changes are invalidated by any of the change identifiers
+ * (number, Change-Id or id) once the change is modified through the service.
+ * <p>
+ * Every invalidation gets the next generation number that is kept for the time to live and every
+ * cached change keeps the generation its load was started at. A change is considered outdated if
+ * any of its identifiers was invalidated after its load was started, so a response that was
+ * in-flight during the invalidation is never reused. Callers get their own copy of the change.
+ */
+@Slf4j
+@Component
+public class GerritChangeCache {
+
+  static final String CACHE_NAME = "gerritChanges";
+
+  private final Cache<String, CachedChange> cache;
+  private final Cache<String, Long> invalidations;
+  private final AtomicLong generation = new AtomicLong();
+  private volatile long allInvalidatedGeneration;
+  private final long timeToLiveNanos;
+  private final boolean enabled;
+
+  public GerritChangeCache(GerritChangeCacheProperties properties, MeterRegistry meterRegistry) {
+    this.enabled = !properties.getTimeToLive().isZero();
+    this.timeToLiveNanos = properties.getTimeToLive().toNanos();
+    this.cache = Caffeine.newBuilder()
+        .expireAfterWrite(properties.getTimeToLive())
+        .maximumSize(properties.getMaximumSize())
+        .recordStats()
+        .build();
+    this.invalidations = Caffeine.newBuilder()
+        .expireAfterWrite(properties.getTimeToLive())
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * Get cached change or load it, if there is no such change in cache yet or the cached one was
+   * invalidated
+   *
+   * @param key    cache key of the change request
+   * @param loader change loader that is called only once for concurrent requests with the same
+   *               key
+   * @return {@link ChangeInfoDto} copy of the change info
+   */
+  @Nullable
+  public ChangeInfoDto get(@NonNull String key, @NonNull Supplier<ChangeInfoDto> loader) {
+    if (!enabled) {
+      return loader.get();
+    }
+    var cached = cache.get(key, k -> load(loader));
+    if (Objects.nonNull(cached) && isOutdated(cached)) {
+      cache.asMap().remove(key, cached);
+      cached = cache.get(key, k -> load(loader));
+    }
+    return Objects.isNull(cached) ? null : copy(cached.change);
+  }
+
+  /**
+   * Invalidate cached change including the one that is being loaded at the moment
+   *
+   * @param changeIdentifier change number, Change-Id or id
+   */
+  public void invalidate(@Nullable String changeIdentifier) {
+    if (Objects.isNull(changeIdentifier)) {
+      return;
+    }
+    log.trace("Invalidating cached gerrit change {}", changeIdentifier);
+    invalidations.put(changeIdentifier, generation.incrementAndGet());
+  }
+
+  /**
+   * Invalidate all cached changes
+   */
+  public void invalidateAll() {
+    allInvalidatedGeneration = generation.incrementAndGet();
+    cache.invalidateAll();
+  }
+
+  @Nullable
+  private CachedChange load(Supplier<ChangeInfoDto> loader) {
+    var loadGeneration = generation.get();
+    var loadStartedAt = System.nanoTime();
+    var change = loader.get();
+    return Objects.isNull(change) ? null : new CachedChange(change, loadGeneration, loadStartedAt);
+  }
+
+  private boolean isOutdated(CachedChange cached) {
+    if (cached.loadGeneration < allInvalidatedGeneration) {
+      return true;
+    }
+    // invalidations are kept for the time to live only, so a change that was loaded longer
+    // couldn't be checked against them
+    if (System.nanoTime() - cached.loadStartedAt >= timeToLiveNanos) {
+      return true;
+    }
+    var change = cached.change;
+    return Stream.of(change.getNumber(), change.getChangeId(), change.getId())
+        .filter(Objects::nonNull)
+        .map(invalidations::getIfPresent)
+        .anyMatch(invalidatedAt -> Objects.nonNull(invalidatedAt)
+            && invalidatedAt > cached.loadGeneration);
+  }
+
+  private static ChangeInfoDto copy(ChangeInfoDto change) {
+    var copy = new ChangeInfoDto();
+    copy.setChangeId(change.getChangeId());
+    copy.setRefs(change.getRefs());
+    copy.setNumber(change.getNumber());
+    copy.setSubject(change.getSubject());
+    copy.setDescription(change.getDescription());
+    copy.setCreated(change.getCreated());
+    copy.setUpdated(change.getUpdated());
+    copy.setSubmitted(change.getSubmitted());
+    copy.setId(change.getId());
+    copy.setProject(change.getProject());
+    copy.setBranch(change.getBranch());
+    copy.setOwner(change.getOwner());
+    copy.setTopic(change.getTopic());
+    copy.setMergeable(change.getMergeable());
+    copy.setLabels(Objects.isNull(change.getLabels()) ? null : new HashMap<>(change.getLabels()));
+    copy.setMessages(
+        Objects.isNull(change.getMessages()) ? null : new ArrayList<>(change.getMessages()));
+    return copy;
+  }
+
+  private static class CachedChange {
+
+    private final ChangeInfoDto change;
+    private final long loadGeneration;
+    private final long loadStartedAt;
+
+    private CachedChange(ChangeInfoDto change, long loadGeneration, long loadStartedAt) {
+      this.change = change;
+      this.loadGeneration = loadGeneration;
+      this.loadStartedAt = loadStartedAt;
+    }
+  }
+}
@@ -43,6 +43,19 @@ public interface GerritService {
    */
   List<ChangeInfoShortDto> getMRList();
 
+  /**
+   * Get list of open changes with all the details in a single gerrit query. Each change is
+   * populated the same way as by {@link #getMRByNumber(String)} except the mergeable flag: gerrit
+   * puts it to query results only if it indexes mergeability, otherwise it's left {@code null} and
+   * can be requested for a single change with {@link #isMergeable(String)}
+   *
+   * @return {@link List} of {@link ChangeInfoDto}
+   *
+   * @throws GerritChangeNotFoundException in case when gerrit returns 404 http status
+   * @throws GerritCommunicationException  in case of rest http errors or gerrit issues
+   */
+  List<ChangeInfoDto> getMRDetailsList();
+
   /**
    * Returns last merged change
    *
@@ -156,6 +169,17 @@ public interface GerritService {
    */
   void declineChange(String changeId);
 
+  /**
+   * Check if current revision of gerrit change can be merged
+   *
+   * @param changeId unique identifier of change
+   * @return true if the change is mergeable
+   *
+   * @throws GerritChangeNotFoundException in case when gerrit returns 404 http status
+   * @throws GerritCommunicationException  in case of rest http errors or gerrit issues
+   */
+  boolean isMergeable(String changeId);
+
   /**
    * Do rebase on gerrit change
    *
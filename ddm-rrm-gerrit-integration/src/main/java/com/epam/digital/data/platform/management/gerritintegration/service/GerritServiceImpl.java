@@ -33,6 +33,7 @@ import com.google.gerrit.extensions.api.changes.RebaseInput;
 import com.google.gerrit.extensions.api.changes.ReviewInput;
 import com.google.gerrit.extensions.api.changes.ReviewResult;
 import com.google.gerrit.extensions.client.ChangeStatus;
+import com.google.gerrit.extensions.client.ListChangesOption;
 import com.google.gerrit.extensions.client.ReviewerState;
 import com.google.gerrit.extensions.common.ChangeInfo;
 import com.google.gerrit.extensions.common.ChangeInput;
@@ -42,11 +43,13 @@ import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.urswolfer.gerrit.client.rest.GerritApiImpl;
 import com.urswolfer.gerrit.client.rest.http.HttpStatusException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -63,6 +66,8 @@ public class GerritServiceImpl implements GerritService {
   public static final String VERIFIED_LABEL = "Verified";
   public static final short VERIFIED_VALUE = 1;
 
+  private static final String LAST_MERGED_CACHE_KEY = "lastMerged";
+
   @Autowired
   private GerritPropertiesConfig gerritPropertiesConfig;
 
@@ -72,6 +77,9 @@ public class GerritServiceImpl implements GerritService {
   @Autowired
   private GerritApiImpl gerritApi;
 
+  @Autowired
+  private GerritChangeCache changeCache;
+
   @Override
   public List<ChangeInfoShortDto> getMRList() {
     var query = String.format("project:%s+status:open+owner:%s",
@@ -91,21 +99,53 @@ public class GerritServiceImpl implements GerritService {
     }
   }
 
+  @Override
+  public List<ChangeInfoDto> getMRDetailsList() {
+    var query = String.format("project:%s+status:open+owner:%s",
+        gerritPropertiesConfig.getRepository(), gerritPropertiesConfig.getUser());
+    try {
+      var changeInfos = gerritApi.changes().query(query)
+          .withOptions(ListChangesOption.CURRENT_REVISION, ListChangesOption.LABELS,
+              ListChangesOption.MESSAGES, ListChangesOption.DETAILED_ACCOUNTS)
+          .get();
+      var result = new ArrayList<ChangeInfoDto>(changeInfos.size());
+      for (var changeInfo : changeInfos) {
+        result.add(toChangeInfoDtoWithRefs(changeInfo));
+      }
+      return result;
+    } catch (HttpStatusException ex) {
+      if (ex.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+        throw new GerritChangeNotFoundException("Could not found candidates", ex);
+      } else {
+        throw new GerritCommunicationException("Something went wrong wile getting candidates", ex);
+      }
+    } catch (RestApiException ex) {
+      throw new GerritCommunicationException("Something went wrong wile getting candidates", ex);
+    }
+  }
+
   @Nullable
   @Override
   public ChangeInfoDto getLastMergedMR() {
+    return changeCache.get(LAST_MERGED_CACHE_KEY, this::loadLastMergedMR);
+  }
+
+  @Nullable
+  private ChangeInfoDto loadLastMergedMR() {
     var query = String.format("project:%s+status:merged+owner:%s",
         gerritPropertiesConfig.getRepository(), gerritPropertiesConfig.getUser());
-    var changes = gerritApi.changes();
     try {
-      var changeInfoList = changes.query(query).withLimit(10).get();
-      if (changeInfoList.isEmpty()) {
-        return null;
-      }
-      var changeId = changeInfoList.stream()
+      // gerrit sorts query results by update time that is also changed by comments after the
+      // submission, so the last submitted change is picked from the latest updated ones
+      var changeInfoList = gerritApi.changes().query(query)
+          .withLimit(10)
+          .withOptions(ListChangesOption.CURRENT_REVISION, ListChangesOption.LABELS,
+              ListChangesOption.MESSAGES, ListChangesOption.DETAILED_ACCOUNTS)
+          .get();
+      return changeInfoList.stream()
           .max(Comparator.comparing(changeInfo -> changeInfo.submitted))
-          .get().changeId;
-      return gerritMapper.toChangeInfoDto(changes.id(changeId).get());
+          .map(this::toChangeInfoDtoWithRefs)
+          .orElse(null);
     } catch (HttpStatusException ex) {
       if (ex.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
         throw new GerritChangeNotFoundException("Could not found last merged change", ex);
@@ -141,6 +181,10 @@ public class GerritServiceImpl implements GerritService {
 
   @Override
   public ChangeInfoDto getMRByNumber(String number) {
+    return changeCache.get("number:" + number, () -> loadMRByNumber(number));
+  }
+
+  private ChangeInfoDto loadMRByNumber(String number) {
     String query = String.format("project:%s+%s", gerritPropertiesConfig.getRepository(), number);
     Changes changes = gerritApi.changes();
 
@@ -171,6 +215,16 @@ public class GerritServiceImpl implements GerritService {
     }
   }
 
+  private ChangeInfoDto toChangeInfoDtoWithRefs(ChangeInfo changeInfo) {
+    var changeInfoDto = gerritMapper.toChangeInfoDto(changeInfo);
+    var revisionInfo = Objects.isNull(changeInfo.revisions) ? null
+        : changeInfo.revisions.get(changeInfo.currentRevision);
+    if (Objects.nonNull(revisionInfo)) {
+      changeInfoDto.setRefs(revisionInfo.ref);
+    }
+    return changeInfoDto;
+  }
+
   @Override
   public ChangeInfoDto getChangeInfo(String changeId) {
     try {
@@ -254,6 +308,8 @@ public class GerritServiceImpl implements GerritService {
     } catch (RestApiException ex) {
       throw new GerritCommunicationException(
           "Something went wrong wile submitting candidate with id " + changeId, ex);
+    } finally {
+      changeCache.invalidateAll();
     }
   }
 
@@ -272,6 +328,8 @@ public class GerritServiceImpl implements GerritService {
     } catch (RestApiException ex) {
       throw new GerritCommunicationException(
           "Something went wrong wile deleting candidate with id " + changeId, ex);
+    } finally {
+      changeCache.invalidate(changeId);
     }
   }
 
@@ -328,6 +386,8 @@ public class GerritServiceImpl implements GerritService {
     } catch (RestApiException ex) {
       throw new GerritCommunicationException(
           "Something went wrong wile reviewing candidate with id " + changeId, ex);
+    } finally {
+      changeCache.invalidate(changeId);
     }
   }
 
@@ -346,6 +406,26 @@ public class GerritServiceImpl implements GerritService {
     } catch (RestApiException ex) {
       throw new GerritCommunicationException(
           "Something went wrong wile declining candidate with id " + changeId, ex);
+    } finally {
+      changeCache.invalidate(changeId);
+    }
+  }
+
+  @Override
+  public boolean isMergeable(String changeId) {
+    try {
+      return gerritApi.changes().id(changeId).current().mergeable().mergeable;
+    } catch (HttpStatusException ex) {
+      if (ex.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+        throw new GerritChangeNotFoundException("Could not found candidate with id " + changeId,
+            ex);
+      } else {
+        throw new GerritCommunicationException(
+            "Something went wrong while checking mergeability of candidate " + changeId, ex);
+      }
+    } catch (RestApiException ex) {
+      throw new GerritCommunicationException(
+          "Something went wrong while checking mergeability of candidate " + changeId, ex);
     }
   }
 
@@ -366,6 +446,8 @@ public class GerritServiceImpl implements GerritService {
       } catch (RestApiException ex) {
         throw new GerritCommunicationException(
             "Something went wrong while rebasing change on candidate with id " + changeId, ex);
+      } finally {
+        changeCache.invalidate(changeId);
       }
     }
   }
@@ -399,6 +481,8 @@ public class GerritServiceImpl implements GerritService {
     } catch (RestApiException ex) {
       throw new GerritCommunicationException(
           "Something went wrong while creating robot comment on candidate with id " + changeId, ex);
+    } finally {
+      changeCache.invalidate(changeId);
     }
   }
 
@@ -435,6 +519,8 @@ public class GerritServiceImpl implements GerritService {
     } catch (RestApiException ex) {
       throw new GerritCommunicationException(
           "Something went wrong while setting topic to change with id " + changeId, ex);
+    } finally {
+      changeCache.invalidate(changeId);
     }
   }
 }
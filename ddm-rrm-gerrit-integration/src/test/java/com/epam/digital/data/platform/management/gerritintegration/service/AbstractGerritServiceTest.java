@@ -17,6 +17,7 @@
 package com.epam.digital.data.platform.management.gerritintegration.service;
 
 import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.epam.digital.data.platform.management.gerritintegration.config.GerritChangeCacheProperties;
 import com.epam.digital.data.platform.management.gerritintegration.mapper.GerritMapper;
 import com.google.gerrit.extensions.api.changes.Changes;
 import com.google.gerrit.extensions.api.changes.RevisionApi;
@@ -25,6 +26,7 @@ import com.urswolfer.gerrit.client.rest.GerritApiImpl;
 import com.urswolfer.gerrit.client.rest.http.GerritRestClient;
 import com.urswolfer.gerrit.client.rest.http.changes.ChangeApiRestClient;
 import com.urswolfer.gerrit.client.rest.http.changes.ChangesRestClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -45,6 +47,9 @@ abstract class AbstractGerritServiceTest {
   GerritApiImpl gerritApiImpl;
   @Spy
   GerritMapper mapper = Mappers.getMapper(GerritMapper.class);
+  @Spy
+  GerritChangeCache changeCache = new GerritChangeCache(new GerritChangeCacheProperties(),
+      new SimpleMeterRegistry());
   @InjectMocks
   GerritServiceImpl gerritService;
   @Mock
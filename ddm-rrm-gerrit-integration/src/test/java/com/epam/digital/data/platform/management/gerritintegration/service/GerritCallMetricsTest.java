@@ -0,0 +1,75 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.digital.data.platform.management.gerritintegration.service;
+
+package com.epam.digital.data.platform.management.gerritintegration.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("GerritCallMetrics")
+class GerritCallMetricsTest {
+
+  static final String URI = "/versions/candidates/{versionCandidateId}/changes";
+
+  SimpleMeterRegistry meterRegistry;
+  GerritCallMetrics gerritCallMetrics;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    gerritCallMetrics = new GerritCallMetrics(meterRegistry);
+  }
+
+  @Test
+  @DisplayName("should count calls of propagated tasks for the request")
+  void propagateTest() {
+    gerritCallMetrics.startRequest();
+    gerritCallMetrics.recordCall("GET");
+    var task = gerritCallMetrics.propagate(() -> {
+      gerritCallMetrics.recordCall("GET");
+      return null;
+    });
+    CompletableFuture.supplyAsync(task).join();
+    CompletableFuture.runAsync(() -> gerritCallMetrics.recordCall("GET")).join();
+    gerritCallMetrics.finishRequest(URI);
+
+    Assertions.assertThat(meterRegistry.get(GerritCallMetrics.CALLS_PER_REQUEST_METRIC)
+        .tag("uri", URI).summary().totalAmount()).isEqualTo(2);
+    Assertions.assertThat(meterRegistry.get(GerritCallMetrics.CALLS_METRIC)
+        .tag("method", "GET").counter().count()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("should keep request of the thread the propagated task is run in")
+  void propagateInRequestThreadTest() {
+    gerritCallMetrics.startRequest();
+    var task = gerritCallMetrics.propagate(() -> {
+      gerritCallMetrics.recordCall("GET");
+      return null;
+    });
+    task.get();
+    gerritCallMetrics.recordCall("GET");
+    gerritCallMetrics.finishRequest(URI);
+
+    Assertions.assertThat(meterRegistry.get(GerritCallMetrics.CALLS_PER_REQUEST_METRIC)
+        .tag("uri", URI).summary().totalAmount()).isEqualTo(2);
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.digital.data.platform.management.gerritintegration.service;
+
+import com.epam.digital.data.platform.management.gerritintegration.config.GerritChangeCacheProperties;
+import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.SneakyThrows;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("GerritChangeCache")
+class GerritChangeCacheTest {
+
+  final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  @DisplayName("should call loader once for concurrent requests of the same change")
+  @SneakyThrows
+  void coalesceConcurrentRequestsTest() {
+    var cache = new GerritChangeCache(new GerritChangeCacheProperties(), meterRegistry);
+    var loads = new AtomicInteger();
+    var start = new CountDownLatch(1);
+    var executor = Executors.newFixedThreadPool(4);
+    try {
+      for (int i = 0; i < 4; i++) {
+        executor.submit(() -> {
+          start.await();
+          return cache.get("number:1", () -> {
+            loads.incrementAndGet();
+            sleep();
+            return change("1", "I1");
+          });
+        });
+      }
+      start.countDown();
+    } finally {
+      executor.shutdown();
+      Assertions.assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    Assertions.assertThat(loads).hasValue(1);
+    Assertions.assertThat(meterRegistry.find("cache.gets").tag("cache", "gerritChanges")
+        .functionCounters()).isNotEmpty();
+  }
+
+  @Test
+  @DisplayName("should invalidate cached change by any of its identifiers")
+  void invalidateTest() {
+    var cache = new GerritChangeCache(new GerritChangeCacheProperties(), meterRegistry);
+    var loads = new AtomicInteger();
+
+    cache.get("number:1", () -> change("1", "I1"));
+    cache.get("number:2", () -> change("2", "I2"));
+    cache.invalidate("I1");
+    cache.invalidate("2");
+    cache.get("number:1", () -> {
+      loads.incrementAndGet();
+      return change("1", "I1");
+    });
+    cache.get("number:2", () -> {
+      loads.incrementAndGet();
+      return change("2", "I2");
+    });
+
+    Assertions.assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("should not reuse change that was being loaded during its invalidation")
+  @SneakyThrows
+  void invalidateInFlightLoadTest() {
+    var cache = new GerritChangeCache(new GerritChangeCacheProperties(), meterRegistry);
+    var loads = new AtomicInteger();
+    var loadStarted = new CountDownLatch(1);
+    var invalidated = new CountDownLatch(1);
+    var executor = Executors.newSingleThreadExecutor();
+    try {
+      var inFlight = executor.submit(() -> cache.get("number:1", () -> {
+        loads.incrementAndGet();
+        loadStarted.countDown();
+        await(invalidated);
+        return change("1", "I1");
+      }));
+      loadStarted.await();
+      cache.invalidate("I1");
+      invalidated.countDown();
+      Assertions.assertThat(inFlight.get(5, TimeUnit.SECONDS)).isNotNull();
+    } finally {
+      executor.shutdown();
+    }
+    cache.get("number:1", () -> {
+      loads.incrementAndGet();
+      return change("1", "I1");
+    });
+    cache.get("number:1", () -> {
+      loads.incrementAndGet();
+      return change("1", "I1");
+    });
+
+    Assertions.assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("should return own copy of cached change")
+  void copyTest() {
+    var cache = new GerritChangeCache(new GerritChangeCacheProperties(), meterRegistry);
+
+    var first = cache.get("number:1", () -> change("1", "I1"));
+    first.setMergeable(true);
+    first.getLabels().put("Verified", 1);
+    var second = cache.get("number:1", () -> change("1", "I1"));
+
+    Assertions.assertThat(second).isNotSameAs(first);
+    Assertions.assertThat(second.getNumber()).isEqualTo("1");
+    Assertions.assertThat(second.getMergeable()).isFalse();
+    Assertions.assertThat(second.getLabels()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("should not cache changes if time to live is zero")
+  void disabledTest() {
+    var properties = new GerritChangeCacheProperties();
+    properties.setTimeToLive(Duration.ZERO);
+    var cache = new GerritChangeCache(properties, meterRegistry);
+    var loads = new AtomicInteger();
+
+    cache.get("number:1", () -> change(String.valueOf(loads.incrementAndGet()), "I1"));
+    cache.get("number:1", () -> change(String.valueOf(loads.incrementAndGet()), "I1"));
+
+    Assertions.assertThat(loads).hasValue(2);
+  }
+
+  private static ChangeInfoDto change(String number, String changeId) {
+    var change = new ChangeInfoDto();
+    change.setNumber(number);
+    change.setChangeId(changeId);
+    change.setMergeable(false);
+    change.setLabels(new HashMap<>());
+    return change;
+  }
+
+  @SneakyThrows
+  private static void await(CountDownLatch latch) {
+    latch.await();
+  }
+
+  @SneakyThrows
+  private static void sleep() {
+    Thread.sleep(100);
+  }
+}
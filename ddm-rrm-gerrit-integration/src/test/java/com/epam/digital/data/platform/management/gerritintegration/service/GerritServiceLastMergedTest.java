@@ -21,9 +21,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.epam.digital.data.platform.management.gerritintegration.exception.GerritChangeNotFoundException;
 import com.epam.digital.data.platform.management.gerritintegration.exception.GerritCommunicationException;
 import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoDto;
+import com.google.gerrit.extensions.client.ListChangesOption;
+import com.google.gerrit.extensions.common.ChangeInfo;
+import com.google.gerrit.extensions.common.RevisionInfo;
 import com.google.gerrit.extensions.restapi.RestApiException;
 import com.urswolfer.gerrit.client.rest.http.HttpStatusException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import lombok.SneakyThrows;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -42,21 +48,54 @@ public class GerritServiceLastMergedTest extends AbstractGerritServiceTest {
     Mockito.when(gerritPropertiesConfig.getUser()).thenReturn("user");
     Mockito.when(changes.query("project:repo+status:merged+owner:user")).thenReturn(request);
     Mockito.when(request.withLimit(10)).thenReturn(request);
-    Mockito.when(request.get()).thenReturn(changeInfos);
-    Mockito.when(changes.id(changeInfo.id)).thenReturn(changeApiRestClient);
-    Mockito.when(changeApiRestClient.get()).thenReturn(changeInfo);
+    Mockito.when(request.withOptions(ListChangesOption.CURRENT_REVISION, ListChangesOption.LABELS,
+        ListChangesOption.MESSAGES, ListChangesOption.DETAILED_ACCOUNTS)).thenReturn(request);
+    var revisionInfo = new RevisionInfo();
+    revisionInfo.ref = "refs/changes/05/5/1";
+    changeInfo.currentRevision = "revision";
+    changeInfo.revisions = Map.of(changeInfo.currentRevision, revisionInfo);
+    changeInfo.submitted = Timestamp.valueOf(LocalDateTime.of(2022, 8, 10, 13, 18));
+    var olderChangeInfo = new ChangeInfo();
+    olderChangeInfo._number = 4;
+    olderChangeInfo.submitted = Timestamp.valueOf(LocalDateTime.of(2022, 8, 9, 13, 18));
+    Mockito.when(request.get()).thenReturn(List.of(olderChangeInfo, changeInfo));
     var dto = new ChangeInfoDto();
     dto.setNumber("5");
     var result = gerritService.getLastMergedMR();
 
-    assertThat(result).hasFieldOrPropertyWithValue("number", dto.getNumber());
+    assertThat(result).hasFieldOrPropertyWithValue("number", dto.getNumber())
+        .hasFieldOrPropertyWithValue("refs", revisionInfo.ref);
 
     Mockito.verify(request).get();
     Mockito.verify(request).withLimit(10);
     Mockito.verify(changes).query("project:repo+status:merged+owner:user");
+    Mockito.verify(changes, Mockito.never()).id(Mockito.anyString());
     Mockito.verify(gerritPropertiesConfig).getRepository();
   }
 
+  @Test
+  @SneakyThrows
+  void getLastMergedMRCachedTest() {
+    Mockito.when(gerritPropertiesConfig.getRepository()).thenReturn("repo");
+    Mockito.when(gerritPropertiesConfig.getUser()).thenReturn("user");
+    Mockito.when(changes.query("project:repo+status:merged+owner:user")).thenReturn(request);
+    Mockito.when(request.withLimit(10)).thenReturn(request);
+    Mockito.when(request.withOptions(ListChangesOption.CURRENT_REVISION, ListChangesOption.LABELS,
+        ListChangesOption.MESSAGES, ListChangesOption.DETAILED_ACCOUNTS)).thenReturn(request);
+    Mockito.when(request.get()).thenReturn(changeInfos);
+
+    var first = gerritService.getLastMergedMR();
+    var second = gerritService.getLastMergedMR();
+
+    assertThat(second).isSameAs(first);
+    Mockito.verify(request).get();
+
+    changeCache.invalidateAll();
+    gerritService.getLastMergedMR();
+
+    Mockito.verify(request, Mockito.times(2)).get();
+  }
+
   @Test
   @SneakyThrows
   void getLastMergedMR_noMergedMRs() {
@@ -64,6 +103,8 @@ public class GerritServiceLastMergedTest extends AbstractGerritServiceTest {
     Mockito.when(gerritPropertiesConfig.getUser()).thenReturn("user");
     Mockito.when(changes.query("project:repo+status:merged+owner:user")).thenReturn(request);
     Mockito.when(request.withLimit(10)).thenReturn(request);
+    Mockito.when(request.withOptions(ListChangesOption.CURRENT_REVISION, ListChangesOption.LABELS,
+        ListChangesOption.MESSAGES, ListChangesOption.DETAILED_ACCOUNTS)).thenReturn(request);
     Mockito.when(request.get()).thenReturn(List.of());
 
     var result = gerritService.getLastMergedMR();
@@ -83,6 +124,8 @@ public class GerritServiceLastMergedTest extends AbstractGerritServiceTest {
     Mockito.when(gerritPropertiesConfig.getUser()).thenReturn("user");
     Mockito.when(changes.query("project:repo+status:merged+owner:user")).thenReturn(request);
     Mockito.when(request.withLimit(10)).thenReturn(request);
+    Mockito.when(request.withOptions(ListChangesOption.CURRENT_REVISION, ListChangesOption.LABELS,
+        ListChangesOption.MESSAGES, ListChangesOption.DETAILED_ACCOUNTS)).thenReturn(request);
     Mockito.when(request.get()).thenThrow(
         new HttpStatusException(HttpStatus.NOT_FOUND.value(), "", ""));
 
@@ -97,6 +140,8 @@ public class GerritServiceLastMergedTest extends AbstractGerritServiceTest {
     Mockito.when(gerritPropertiesConfig.getUser()).thenReturn("user");
     Mockito.when(changes.query("project:repo+status:merged+owner:user")).thenReturn(request);
     Mockito.when(request.withLimit(10)).thenReturn(request);
+    Mockito.when(request.withOptions(ListChangesOption.CURRENT_REVISION, ListChangesOption.LABELS,
+        ListChangesOption.MESSAGES, ListChangesOption.DETAILED_ACCOUNTS)).thenReturn(request);
     Mockito.when(request.get()).thenThrow(HttpStatusException.class);
 
     Assertions.assertThatCode(() -> gerritService.getLastMergedMR())
@@ -110,6 +155,8 @@ public class GerritServiceLastMergedTest extends AbstractGerritServiceTest {
     Mockito.when(gerritPropertiesConfig.getUser()).thenReturn("user");
     Mockito.when(changes.query("project:repo+status:merged+owner:user")).thenReturn(request);
     Mockito.when(request.withLimit(10)).thenReturn(request);
+    Mockito.when(request.withOptions(ListChangesOption.CURRENT_REVISION, ListChangesOption.LABELS,
+        ListChangesOption.MESSAGES, ListChangesOption.DETAILED_ACCOUNTS)).thenReturn(request);
     Mockito.when(request.get()).thenThrow(RestApiException.class);
 
     Assertions.assertThatCode(() -> gerritService.getLastMergedMR())
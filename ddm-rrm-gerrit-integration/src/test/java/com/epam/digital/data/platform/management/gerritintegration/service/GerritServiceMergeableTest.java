@@ -0,0 +1,75 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.digital.data.platform.management.gerritintegration.service;
+
+package com.epam.digital.data.platform.management.gerritintegration.service;
+
+import com.epam.digital.data.platform.management.gerritintegration.exception.GerritChangeNotFoundException;
+import com.epam.digital.data.platform.management.gerritintegration.exception.GerritCommunicationException;
+import com.google.gerrit.extensions.common.MergeableInfo;
+import com.google.gerrit.extensions.restapi.RestApiException;
+import com.urswolfer.gerrit.client.rest.http.HttpStatusException;
+import lombok.SneakyThrows;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.internal.bytebuddy.utility.RandomString;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+public class GerritServiceMergeableTest extends AbstractGerritServiceTest {
+
+  String changeId = RandomString.make();
+
+  @BeforeEach
+  @SneakyThrows
+  void setUp() {
+    Mockito.when(changes.id(changeId)).thenReturn(changeApiRestClient);
+    Mockito.when(changeApiRestClient.current()).thenReturn(revisionApi);
+  }
+
+  @Test
+  @SneakyThrows
+  void isMergeableTest() {
+    var mergeableInfo = new MergeableInfo();
+    mergeableInfo.mergeable = true;
+    Mockito.when(revisionApi.mergeable()).thenReturn(mergeableInfo);
+
+    Assertions.assertThat(gerritService.isMergeable(changeId)).isTrue();
+  }
+
+  @Test
+  @SneakyThrows
+  void notFoundTest() {
+    Mockito.when(revisionApi.mergeable()).thenThrow(
+        new HttpStatusException(HttpStatus.NOT_FOUND.value(), "", ""));
+
+    Assertions.assertThatCode(() -> gerritService.isMergeable(changeId))
+        .isInstanceOf(GerritChangeNotFoundException.class);
+  }
+
+  @Test
+  @SneakyThrows
+  void restApiExceptionTest() {
+    Mockito.when(revisionApi.mergeable()).thenThrow(RestApiException.class);
+
+    Assertions.assertThatCode(() -> gerritService.isMergeable(changeId))
+        .isInstanceOf(GerritCommunicationException.class);
+  }
+}
@@ -28,6 +28,7 @@ import com.google.gerrit.extensions.restapi.RestApiException;
 import com.urswolfer.gerrit.client.rest.http.HttpStatusException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Map;
 import lombok.SneakyThrows;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.internal.bytebuddy.utility.RandomString;
@@ -91,6 +92,37 @@ public class GerritServiceMrByNumberTest extends AbstractGerritServiceTest {
     Assertions.assertThat(result.getNumber()).isEqualTo(String.valueOf(info._number));
   }
 
+  @Test
+  @SneakyThrows
+  void getMRByNumberCachedTest() {
+    var changeId = RandomString.make();
+    var versionNumber = "5";
+    changeInfo.changeId = changeId;
+    changeInfo.currentRevision = RandomString.make();
+    changeInfo.revisions = new HashMap<>(Map.of(changeInfo.currentRevision, new RevisionInfo()));
+    var mergeableInfo = new MergeableInfo();
+    mergeableInfo.mergeable = true;
+
+    Mockito.when(gerritPropertiesConfig.getRepository()).thenReturn("");
+    Mockito.when(changes.query("project:+" + versionNumber)).thenReturn(request);
+    Mockito.when(request.get()).thenReturn(changeInfos);
+    Mockito.when(changes.id(changeId)).thenReturn(changeApiRestClient);
+    Mockito.when(changeApiRestClient.get()).thenReturn(changeInfo);
+    Mockito.when(changeApiRestClient.current()).thenReturn(revisionApi);
+    Mockito.when(revisionApi.mergeable()).thenReturn(mergeableInfo);
+    Mockito.when(gerritApiImpl.restClient()).thenReturn(gerritRestClient);
+
+    var first = gerritService.getMRByNumber(versionNumber);
+    var second = gerritService.getMRByNumber(versionNumber);
+    Assertions.assertThat(second).isSameAs(first);
+    Mockito.verify(request, Mockito.times(1)).get();
+
+    gerritService.rebase(changeId);
+    var afterRebase = gerritService.getMRByNumber(versionNumber);
+    Assertions.assertThat(afterRebase).isNotSameAs(first);
+    Mockito.verify(request, Mockito.times(2)).get();
+  }
+
   @Test
   @SneakyThrows
   void mrByNumberNotFoundTest() {
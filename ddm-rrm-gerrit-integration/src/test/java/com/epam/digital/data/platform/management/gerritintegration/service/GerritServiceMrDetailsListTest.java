@@ -0,0 +1,114 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.digital.data.platform.management.gerritintegration.service;
+
+import com.epam.digital.data.platform.management.gerritintegration.exception.GerritChangeNotFoundException;
+import com.epam.digital.data.platform.management.gerritintegration.exception.GerritCommunicationException;
+import com.google.gerrit.extensions.client.ListChangesOption;
+import com.google.gerrit.extensions.common.RevisionInfo;
+import com.google.gerrit.extensions.restapi.RestApiException;
+import com.urswolfer.gerrit.client.rest.http.HttpStatusException;
+import java.util.List;
+import java.util.Map;
+import lombok.SneakyThrows;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.internal.bytebuddy.utility.RandomString;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+public class GerritServiceMrDetailsListTest extends AbstractGerritServiceTest {
+
+  String repo = RandomString.make();
+  String user = RandomString.make();
+
+  @BeforeEach
+  @SneakyThrows
+  void setUp() {
+    var query = String.format("project:%s+status:open+owner:%s", repo, user);
+    Mockito.when(gerritPropertiesConfig.getRepository()).thenReturn(repo);
+    Mockito.when(gerritPropertiesConfig.getUser()).thenReturn(user);
+    Mockito.when(changes.query(query)).thenReturn(request);
+    Mockito.when(request.withOptions(ListChangesOption.CURRENT_REVISION, ListChangesOption.LABELS,
+        ListChangesOption.MESSAGES, ListChangesOption.DETAILED_ACCOUNTS)).thenReturn(request);
+  }
+
+  @Test
+  @SneakyThrows
+  void getMrDetailsListTest() {
+    var refs = RandomString.make();
+    var revisionInfo = new RevisionInfo();
+    revisionInfo.ref = refs;
+    changeInfo.id = RandomString.make();
+    changeInfo.currentRevision = RandomString.make();
+    changeInfo.revisions = Map.of(changeInfo.currentRevision, revisionInfo);
+    changeInfo.mergeable = false;
+    Mockito.when(request.get()).thenReturn(changeInfos);
+
+    var result = gerritService.getMRDetailsList();
+
+    Assertions.assertThat(result).hasSize(1);
+    Assertions.assertThat(result.get(0).getNumber()).isEqualTo("5");
+    Assertions.assertThat(result.get(0).getRefs()).isEqualTo(refs);
+    Assertions.assertThat(result.get(0).getMergeable()).isFalse();
+    Mockito.verify(changes, Mockito.never()).id(Mockito.anyString());
+  }
+
+  @Test
+  @SneakyThrows
+  void getMrDetailsListMergeableNotIndexedTest() {
+    changeInfo.id = RandomString.make();
+    Mockito.when(request.get()).thenReturn(changeInfos);
+
+    var result = gerritService.getMRDetailsList();
+
+    Assertions.assertThat(result).hasSize(1);
+    Assertions.assertThat(result.get(0).getMergeable()).isNull();
+    Assertions.assertThat(result.get(0).getRefs()).isNull();
+    Mockito.verify(changes, Mockito.never()).id(Mockito.anyString());
+  }
+
+  @Test
+  @SneakyThrows
+  void getMrDetailsListEmptyTest() {
+    Mockito.when(request.get()).thenReturn(List.of());
+
+    Assertions.assertThat(gerritService.getMRDetailsList()).isEmpty();
+  }
+
+  @Test
+  @SneakyThrows
+  void notFoundTest() {
+    Mockito.when(request.get()).thenThrow(
+        new HttpStatusException(HttpStatus.NOT_FOUND.value(), "", ""));
+
+    Assertions.assertThatCode(() -> gerritService.getMRDetailsList())
+        .isInstanceOf(GerritChangeNotFoundException.class);
+  }
+
+  @Test
+  @SneakyThrows
+  void restApiExceptionTest() {
+    Mockito.when(request.get()).thenThrow(RestApiException.class);
+
+    Assertions.assertThatCode(() -> gerritService.getMRDetailsList())
+        .isInstanceOf(GerritCommunicationException.class);
+  }
+}
@@ -16,6 +16,7 @@
 
 package com.epam.digital.data.platform.management.gitintegration.model;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -26,7 +27,7 @@ import lombok.Setter;
 @Setter
 @Getter
 @EqualsAndHashCode
-public class FileDatesDto {
+public class FileDatesDto implements Serializable {
   LocalDateTime create;
   LocalDateTime update;
 }
@@ -16,56 +16,67 @@
 
 package com.epam.digital.data.platform.management.gitintegration.service;
 
+import com.epam.digital.data.platform.management.core.cache.VersionCacheRegion;
 import com.epam.digital.data.platform.management.gitintegration.model.FileDatesDto;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import lombok.RequiredArgsConstructor;
 import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 
 @Service
-@RequiredArgsConstructor
 public class DatesCacheService {
 
   public static final String DATE_CACHE_NAME = "dates";
 
-  private final CacheManager cacheManager;
+  private final VersionCacheRegion<Map<String, FileDatesDto>> datesRegion;
+
+  public DatesCacheService(CacheManager cacheManager) {
+    this.datesRegion = new VersionCacheRegion<>(cacheManager, DATE_CACHE_NAME);
+  }
 
   public FileDatesDto getDates(String versionId, String filePath) {
-    var cache = cacheManager.getCache(DATE_CACHE_NAME);
-    Map<String, FileDatesDto> cachedMap = cache.get(versionId, Map.class);
+    var cachedMap = datesRegion.get(versionId);
     if (Objects.isNull(cachedMap)) {
       return null;
     }
     return cachedMap.get(filePath);
   }
 
-  @SuppressWarnings("unchecked")
   public Map<String, FileDatesDto> getDatesCache(String versionId) {
-    var cache = cacheManager.getCache(DATE_CACHE_NAME);
-    var cachedMap = cache.get(versionId, Map.class);
+    var cachedMap = datesRegion.get(versionId);
     if (Objects.isNull(cachedMap)) {
       return new HashMap<>();
     }
-    return new HashMap<String, FileDatesDto>(cachedMap);
+    return new HashMap<>(cachedMap);
   }
 
   public void setDatesCache(String versionId, Map<String, FileDatesDto> datesDtoMap) {
-    var cache = cacheManager.getCache(DATE_CACHE_NAME);
-    cache.evictIfPresent(versionId);
-    cache.put(versionId, new HashMap<>(datesDtoMap));
+    datesRegion.put(versionId, new HashMap<>(datesDtoMap));
   }
 
-  @SuppressWarnings("unchecked")
-  public void setDatesToCache(String versionId, String filePath, FileDatesDto fileDatesDto) {
-    var cache = cacheManager.getCache(DATE_CACHE_NAME);
-    Map<String, FileDatesDto> cachedMap = cache.get(versionId, Map.class);
-    if (Objects.isNull(cachedMap)) {
-      cachedMap = new HashMap<>();
-      cache.put(versionId, cachedMap);
+  public void putDates(String versionId, Map<String, FileDatesDto> datesDtoMap) {
+    if (datesDtoMap.isEmpty()) {
+      return;
+    }
+    var cachedDatesDtoMap = getDatesCache(versionId);
+    cachedDatesDtoMap.putAll(datesDtoMap);
+    datesRegion.put(versionId, cachedDatesDtoMap);
+  }
+
+  public void evictDates(String versionId) {
+    datesRegion.evict(versionId);
+  }
+
+  public void evictDates(String versionId, Collection<String> filePaths) {
+    var cachedMap = datesRegion.get(versionId);
+    if (Objects.isNull(cachedMap) || filePaths.isEmpty()) {
+      return;
     }
-    cachedMap.put(filePath, fileDatesDto);
+    var datesDtoMap = new HashMap<>(cachedMap);
+    datesDtoMap.keySet().removeAll(filePaths);
+    datesRegion.put(versionId, datesDtoMap);
   }
 
 }
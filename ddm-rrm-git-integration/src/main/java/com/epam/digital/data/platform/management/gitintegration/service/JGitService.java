@@ -17,7 +17,10 @@
 package com.epam.digital.data.platform.management.gitintegration.service;
 
 import com.epam.digital.data.platform.management.gitintegration.exception.GitFileNotFoundException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
@@ -40,7 +43,9 @@ public interface JGitService {
   void cloneRepoIfNotExist(@NonNull String repositoryName);
 
   /**
-   * Fetches and resets repository for main branch to origin state
+   * Fetches and resets repository for main branch to origin state. Fetch and reset are skipped if
+   * the remote head-branch commit is the same as the local one. Cached file dates and catalog of
+   * the head-branch are invalidated only for the paths that have been changed by the reset.
    *
    * @throws GitCommandException         in case if it couldn't open repo or fetch or reset git
    *                                     command failures
@@ -96,6 +101,67 @@ public interface JGitService {
   @Nullable
   FileDatesDto getDates(@NonNull String repositoryName, @NonNull String filePath);
 
+  /**
+   * Get creation and update dates of several files from git log. Dates that weren't cached are
+   * read under a single repository lock and put to the cache at once.
+   *
+   * @param repositoryName name of the specified repository
+   * @param filePaths      file locations
+   * @return {@link Map} of {@link FileDatesDto dates information} by requested file location,
+   * files that don't exist are absent in the map
+   *
+   * @throws GitCommandException         in case if it couldn't open repo or git log command
+   *                                     failure
+   * @throws RepositoryNotFoundException in case if repository doesn't exist
+   */
+  @NonNull
+  Map<String, FileDatesDto> getDates(@NonNull String repositoryName,
+      @NonNull Collection<String> filePaths);
+
+  /**
+   * Returns id of the commit that the repository is checked out on
+   *
+   * @param repositoryName name of the specified repository
+   * @return commit id or null if HEAD couldn't be resolved
+   *
+   * @throws RepositoryNotFoundException if repository not exists
+   * @throws GitCommandException         in case if it couldn't open repo
+   */
+  @Nullable
+  String getHeadCommitId(@NonNull String repositoryName);
+
+  /**
+   * Returns paths of the files that differ between two commits of the repository
+   *
+   * @param repositoryName name of the specified repository
+   * @param oldCommitId    id of the commit to compare from
+   * @param newCommitId    id of the commit to compare to
+   * @return {@link Set} of repository relative paths of changed, added and deleted files
+   *
+   * @throws RepositoryNotFoundException if repository not exists
+   * @throws GitCommandException         in case if it couldn't open repo or read any of the
+   *                                     commits
+   */
+  @NonNull
+  Set<String> getChangedPaths(@NonNull String repositoryName, @NonNull String oldCommitId,
+      @NonNull String newCommitId);
+
+  /**
+   * Returns ETag of the file content in the commit the repository is checked out on. The ETag is
+   * the same as the one built from the file content, so it's accepted as If-Match value. The
+   * content hash is cached by the file blob id, so while the file is unchanged the ETag is resolved
+   * from the commit tree without reading the content
+   *
+   * @param repositoryName name of the specified repository
+   * @param filePath       file location
+   * @return {@link String} ETag of file content or null if file doesn't exist
+   *
+   * @throws RepositoryNotFoundException if repository not exists
+   * @throws GitCommandException         in case if it couldn't open repo or read the file blob
+   */
+  @Nullable
+  String getFileETag(@NonNull String repositoryName, @NonNull String filePath);
+
   /**
    * Returns file content by path from repository
    *
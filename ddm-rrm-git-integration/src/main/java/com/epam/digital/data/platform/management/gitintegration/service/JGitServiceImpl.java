@@ -17,6 +17,7 @@
 package com.epam.digital.data.platform.management.gitintegration.service;
 
 import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.epam.digital.data.platform.management.core.service.CacheService;
 import com.epam.digital.data.platform.management.core.utils.ETagUtils;
 import com.epam.digital.data.platform.management.gitintegration.exception.ETagValidationException;
 import com.epam.digital.data.platform.management.gitintegration.exception.FileAlreadyExistsException;
@@ -25,16 +26,21 @@ import com.epam.digital.data.platform.management.gitintegration.exception.GitFil
 import com.epam.digital.data.platform.management.gitintegration.exception.MergeConflictException;
 import com.epam.digital.data.platform.management.gitintegration.exception.RepositoryNotFoundException;
 import com.epam.digital.data.platform.management.gitintegration.model.FileDatesDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.Lock;
@@ -64,6 +70,9 @@ import org.eclipse.jgit.api.errors.UnmergedPathsException;
 import org.eclipse.jgit.api.errors.WrongRepositoryStateException;
 import org.eclipse.jgit.errors.NoWorkTreeException;
 import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.revwalk.RevCommit;
 import org.eclipse.jgit.transport.PushResult;
 import org.eclipse.jgit.transport.RefSpec;
@@ -83,13 +92,21 @@ import org.springframework.util.FileCopyUtils;
 @RequiredArgsConstructor
 public class JGitServiceImpl implements JGitService {
 
+  private static final String DATA_MODEL_DIRECTORY = "data-model/";
+  private static final long FILE_ETAG_CACHE_MAXIMUM_SIZE = 10_000;
+
   private final GerritPropertiesConfig gerritPropertiesConfig;
   private final GitFileService gitFileService;
   private final JGitWrapper jGitWrapper;
   private final GitRetryable retryable;
   private final DatesCacheService datesCacheService;
+  private final CacheService cacheService;
 
   private final ConcurrentMap<String, Lock> lockMap = new ConcurrentHashMap<>();
+  // blob id fully defines the content, so the entries never have to be invalidated
+  private final Cache<String, String> fileETagCache = Caffeine.newBuilder()
+      .maximumSize(FILE_ETAG_CACHE_MAXIMUM_SIZE)
+      .build();
 
   @Override
   public void cloneRepoIfNotExist(@NonNull String repositoryName) {
@@ -125,12 +142,26 @@ public class JGitServiceImpl implements JGitService {
     var lock = getLock(repositoryName);
     lock.lock();
     try (var git = openRepo(repositoryDirectory)) {
+      var repository = git.getRepository();
+      var localHeadId = resolve(repository, Constants.HEAD);
+
+      log.trace("Checking remote head of repo {}", repositoryName);
+      var remoteHeadId = getRemoteHeadBranchId(git);
+      if (Objects.nonNull(remoteHeadId) && remoteHeadId.equals(localHeadId)) {
+        log.debug("Repository {} is up to date with remote head {}, reset skipped",
+            repositoryName, remoteHeadId.name());
+        return;
+      }
+
       log.trace("Fetching repo {}", repositoryName);
       fetchAll(git);
 
       log.trace(
           "Hard reset {} on {}/{}", repositoryName, Constants.DEFAULT_REMOTE_NAME, repositoryName);
       hardResetOnOriginHeadBranch(git);
+
+      var newHeadId = resolve(repository, Constants.HEAD);
+      invalidateChangedPaths(repositoryName, repository, localHeadId, newHeadId);
     } finally {
       lock.unlock();
       log.trace("Repo {} lock released", repositoryName);
@@ -233,40 +264,112 @@ public class JGitServiceImpl implements JGitService {
   @Override
   @Nullable
   public FileDatesDto getDates(@NonNull String repositoryName, @NonNull String filePath) {
-    var normalizedFilePath = FilenameUtils.normalize(filePath);
-    var cachedDates = datesCacheService.getDates(repositoryName, normalizedFilePath);
-    if (Objects.nonNull(cachedDates)) {
-      return cachedDates;
+    return getDates(repositoryName, List.of(filePath)).get(filePath);
+  }
+
+  @Override
+  @NonNull
+  public Map<String, FileDatesDto> getDates(@NonNull String repositoryName,
+      @NonNull Collection<String> filePaths) {
+    var cachedDates = datesCacheService.getDatesCache(repositoryName);
+    var dates = new HashMap<String, FileDatesDto>();
+    var notCachedFilePaths = new ArrayList<String>();
+    for (var filePath : filePaths) {
+      var fileDates = cachedDates.get(FilenameUtils.normalize(filePath));
+      if (Objects.isNull(fileDates)) {
+        notCachedFilePaths.add(filePath);
+      } else {
+        dates.put(filePath, fileDates);
+      }
+    }
+    if (notCachedFilePaths.isEmpty()) {
+      return dates;
     }
 
-    log.debug("Retrieving git commit dates in repository {} for path {}", repositoryName,
-        normalizedFilePath);
+    log.debug("Retrieving git commit dates in repository {} for {} paths", repositoryName,
+        notCachedFilePaths.size());
     var repositoryDirectory = getExistedRepository(repositoryName);
 
     log.trace("Synchronizing repo {}", repositoryName);
     var lock = getLock(repositoryName);
     lock.lock();
     try (var git = openRepo(repositoryDirectory)) {
-      log.trace("Retrieving commit stack for file {}", normalizedFilePath);
-      var revCommitList = getRevCommitList(normalizedFilePath, git);
-
-      if (revCommitList.isEmpty()) {
-        log.debug(
-            "Git commit dates in repository {} for path {} wasn't found", repositoryName,
-            normalizedFilePath);
-        return null;
+      var loadedDates = new HashMap<String, FileDatesDto>();
+      for (var filePath : notCachedFilePaths) {
+        var normalizedFilePath = FilenameUtils.normalize(filePath);
+        var fileDates = readDates(git, normalizedFilePath);
+        if (Objects.nonNull(fileDates)) {
+          loadedDates.put(normalizedFilePath, fileDates);
+          dates.put(filePath, fileDates);
+        }
       }
+      datesCacheService.putDates(repositoryName, loadedDates);
+      log.debug("Git commit dates in repository {} retrieved for {} paths", repositoryName,
+          loadedDates.size());
+      return dates;
+    } finally {
+      lock.unlock();
+      log.trace("Repo {} lock released", repositoryName);
+    }
+  }
 
-      log.trace("Retrieving updated date-time as first element in stack and created as last");
-      var updatedTime = getCommitDateTime(revCommitList.get(0));
-      var createdTime = getCommitDateTime(revCommitList.get(revCommitList.size() - 1));
+  @Override
+  @Nullable
+  public String getHeadCommitId(@NonNull String repositoryName) {
+    log.debug("Retrieving head commit of repository {}", repositoryName);
+    var repositoryDirectory = getExistedRepository(repositoryName);
 
-      log.debug(
-          "Git commit dates in repository {} for path {} retrieved", repositoryName,
-          normalizedFilePath);
-      var dates = FileDatesDto.builder().create(createdTime).update(updatedTime).build();
-      datesCacheService.setDatesToCache(repositoryName, normalizedFilePath, dates);
-      return dates;
+    log.trace("Synchronizing repo {}", repositoryName);
+    var lock = getLock(repositoryName);
+    lock.lock();
+    try (var git = openRepo(repositoryDirectory)) {
+      var headId = resolve(git.getRepository(), Constants.HEAD);
+      return Objects.isNull(headId) ? null : headId.name();
+    } finally {
+      lock.unlock();
+      log.trace("Repo {} lock released", repositoryName);
+    }
+  }
+
+  @Override
+  @NonNull
+  public Set<String> getChangedPaths(@NonNull String repositoryName, @NonNull String oldCommitId,
+      @NonNull String newCommitId) {
+    log.debug("Retrieving paths changed in repository {} between commits {} and {}",
+        repositoryName, oldCommitId, newCommitId);
+    var repositoryDirectory = getExistedRepository(repositoryName);
+
+    log.trace("Synchronizing repo {}", repositoryName);
+    var lock = getLock(repositoryName);
+    lock.lock();
+    try (var git = openRepo(repositoryDirectory)) {
+      return jGitWrapper.getChangedPaths(git.getRepository(),
+          ObjectId.fromString(oldCommitId), ObjectId.fromString(newCommitId));
+    } finally {
+      lock.unlock();
+      log.trace("Repo {} lock released", repositoryName);
+    }
+  }
+
+  @Override
+  @Nullable
+  public String getFileETag(@NonNull String repositoryName, @NonNull String filePath) {
+    log.debug("Retrieving file ETag from repository {} at path {}", repositoryName, filePath);
+    var repositoryDirectory = getExistedRepository(repositoryName);
+
+    log.trace("Synchronizing repo {}", repositoryName);
+    var lock = getLock(repositoryName);
+    lock.lock();
+    try (var git = openRepo(repositoryDirectory)) {
+      var repository = git.getRepository();
+      var blobId = jGitWrapper.getObjectId(repository, filePath);
+      if (Objects.isNull(blobId)) {
+        return null;
+      }
+      return fileETagCache.get(blobId.name(), id -> {
+        log.trace("Reading blob {} to build ETag", id);
+        return ETagUtils.getETagFromContent(jGitWrapper.readBlobContent(repository, blobId));
+      });
     } finally {
       lock.unlock();
       log.trace("Repo {} lock released", repositoryName);
@@ -584,6 +687,71 @@ public class JGitServiceImpl implements JGitService {
     }
   }
 
+  /**
+   * Retrieves head-branch commit id on remote without fetching any objects
+   *
+   * @return remote head-branch commit id or null if it couldn't be retrieved
+   */
+  @Nullable
+  private ObjectId getRemoteHeadBranchId(@NonNull Git git) {
+    var headBranchRef = Constants.R_HEADS + gerritPropertiesConfig.getHeadBranch();
+    var lsRemoteCommand =
+        git.lsRemote()
+            .setRemote(Constants.DEFAULT_REMOTE_NAME)
+            .setCredentialsProvider(getCredentialsProvider())
+            .setHeads(true);
+    try {
+      Collection<Ref> refs = retryable.call(lsRemoteCommand);
+      if (Objects.isNull(refs)) {
+        return null;
+      }
+      return refs.stream()
+          .filter(ref -> headBranchRef.equals(ref.getName()))
+          .map(Ref::getObjectId)
+          .filter(Objects::nonNull)
+          .findFirst()
+          .orElse(null);
+    } catch (GitAPIException e) {
+      log.warn("Couldn't retrieve remote {} id, full fetch will be performed: {}",
+          headBranchRef, e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * Evicts cached file dates and catalog of the repository for the paths that differ between
+   * commits. If any of the commits is unknown, whole repository cache is evicted.
+   */
+  private void invalidateChangedPaths(@NonNull String repositoryName,
+      @NonNull Repository repository, @Nullable ObjectId oldHeadId, @Nullable ObjectId newHeadId) {
+    if (Objects.isNull(oldHeadId) || Objects.isNull(newHeadId)) {
+      log.trace("Evicting whole cache of repo {}", repositoryName);
+      datesCacheService.evictDates(repositoryName);
+      cacheService.clearCatalogCache(repositoryName);
+      return;
+    }
+    if (oldHeadId.equals(newHeadId)) {
+      return;
+    }
+    var changedPaths = jGitWrapper.getChangedPaths(repository, oldHeadId, newHeadId);
+    log.trace("Evicting cache of repo {} for {} changed paths", repositoryName,
+        changedPaths.size());
+    datesCacheService.evictDates(repositoryName, changedPaths);
+    if (changedPaths.stream().anyMatch(path -> path.startsWith(DATA_MODEL_DIRECTORY))) {
+      cacheService.clearCatalogCache(repositoryName);
+    }
+  }
+
+  @Nullable
+  private static ObjectId resolve(@NonNull Repository repository, @NonNull String revision) {
+    try {
+      return repository.resolve(revision);
+    } catch (IOException e) {
+      log.warn("Couldn't resolve {}: {}", revision, e.getMessage());
+      return null;
+    }
+  }
+
   private void checkoutFetchHead(@NonNull Git git) {
     var checkoutCommand = git.checkout().setName(Constants.FETCH_HEAD);
     try {
@@ -640,6 +808,21 @@ public class JGitServiceImpl implements JGitService {
     return files;
   }
 
+  @Nullable
+  private FileDatesDto readDates(@NonNull Git git, @NonNull String normalizedFilePath) {
+    log.trace("Retrieving commit stack for file {}", normalizedFilePath);
+    var revCommitList = getRevCommitList(normalizedFilePath, git);
+    if (revCommitList.isEmpty()) {
+      log.debug("Git commit dates for path {} wasn't found", normalizedFilePath);
+      return null;
+    }
+
+    log.trace("Retrieving updated date-time as first element in stack and created as last");
+    var updatedTime = getCommitDateTime(revCommitList.get(0));
+    var createdTime = getCommitDateTime(revCommitList.get(revCommitList.size() - 1));
+    return FileDatesDto.builder().create(createdTime).update(updatedTime).build();
+  }
+
   @NonNull
   private static LocalDateTime getCommitDateTime(@NonNull RevCommit commit) {
     return LocalDateTime.ofEpochSecond(commit.getCommitTime(), 0, ZoneOffset.UTC);
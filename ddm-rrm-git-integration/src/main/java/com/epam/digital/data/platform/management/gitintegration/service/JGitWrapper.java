@@ -19,15 +19,21 @@ package com.epam.digital.data.platform.management.gitintegration.service;
 import com.epam.digital.data.platform.management.gitintegration.exception.GitCommandException;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
 import org.eclipse.jgit.api.CloneCommand;
 import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Constants;
 import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.revwalk.RevTree;
 import org.eclipse.jgit.revwalk.RevWalk;
 import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
@@ -75,6 +81,46 @@ public class JGitWrapper {
     }
   }
 
+  @NonNull
+  public Set<String> getChangedPaths(@NonNull Repository repository,
+      @NonNull ObjectId oldCommitId, @NonNull ObjectId newCommitId) {
+    try (var revWalk = new RevWalk(repository);
+        var treeWalk = new TreeWalk(repository)) {
+      treeWalk.addTree(revWalk.parseCommit(oldCommitId).getTree());
+      treeWalk.addTree(revWalk.parseCommit(newCommitId).getTree());
+      treeWalk.setRecursive(true);
+      treeWalk.setFilter(TreeFilter.ANY_DIFF);
+      var changedPaths = new HashSet<String>();
+      while (treeWalk.next()) {
+        changedPaths.add(treeWalk.getPathString());
+      }
+      return changedPaths;
+    } catch (IOException e) {
+      throw new GitCommandException(
+          String.format("Exception occurred during comparing commit trees: %s",
+              e.getMessage()), e);
+    }
+  }
+
+  @Nullable
+  public ObjectId getObjectId(@NonNull Repository repository, @NonNull String path) {
+    try (var treeWalk = getTreeWalk(repository, path)) {
+      return Objects.isNull(treeWalk) ? null : treeWalk.getObjectId(0);
+    }
+  }
+
+  @NonNull
+  public String readBlobContent(@NonNull Repository repository, @NonNull ObjectId blobId) {
+    try {
+      return new String(repository.open(blobId, Constants.OBJ_BLOB).getBytes(),
+          StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new GitCommandException(
+          String.format("Exception occurred during reading blob %s: %s", blobId.name(),
+              e.getMessage()), e);
+    }
+  }
+
   public String readFileContent(Path path) throws IOException {
     return Files.readString(path);
   }
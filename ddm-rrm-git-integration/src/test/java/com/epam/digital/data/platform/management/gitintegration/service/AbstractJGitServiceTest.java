@@ -19,6 +19,7 @@ package com.epam.digital.data.platform.management.gitintegration.service;
 import com.epam.digital.data.platform.management.core.config.CacheConfig;
 import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
 import com.epam.digital.data.platform.management.core.config.RetryConfig;
+import com.epam.digital.data.platform.management.core.service.CacheServiceImpl;
 import java.io.File;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,6 +35,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 @ContextConfiguration(classes = {RetryConfig.class,
     CacheConfig.class,
     CacheAutoConfiguration.class,
+    CacheServiceImpl.class,
     GitRetryable.class,
     JGitServiceImpl.class,
     GitFileService.class,
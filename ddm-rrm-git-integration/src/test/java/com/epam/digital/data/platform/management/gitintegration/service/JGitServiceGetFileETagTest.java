@@ -0,0 +1,110 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.digital.data.platform.management.gitintegration.service;
+
+import com.epam.digital.data.platform.management.core.utils.ETagUtils;
+import com.epam.digital.data.platform.management.gitintegration.exception.RepositoryNotFoundException;
+import java.io.File;
+import lombok.SneakyThrows;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.internal.bytebuddy.utility.RandomString;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+@DisplayName("JGitService#getFileETag")
+class JGitServiceGetFileETagTest extends AbstractJGitServiceTest {
+
+  static final String REPO_NAME = RandomString.make();
+  static final String FILE_PATH = "forms/form.json";
+
+  @Mock
+  Git git;
+  @Mock
+  Repository repository;
+
+  @BeforeEach
+  @SneakyThrows
+  @Override
+  void setUp() {
+    super.setUp();
+
+    var directory = new File(tempDir, REPO_NAME);
+    Assertions.assertThat(directory.mkdirs()).isTrue();
+    Mockito.doReturn(git).when(jGitWrapper).open(directory);
+    Mockito.doReturn(repository).when(git).getRepository();
+  }
+
+  @Test
+  @DisplayName("should read the file blob only once to build ETag")
+  void getFileETagTest() {
+    var blobId = randomObjectId();
+    var content = RandomString.make();
+    Mockito.doReturn(blobId).when(jGitWrapper).getObjectId(repository, FILE_PATH);
+    Mockito.doReturn(content).when(jGitWrapper).readBlobContent(repository, blobId);
+
+    var expectedETag = ETagUtils.getETagFromContent(content);
+    Assertions.assertThat(jGitService.getFileETag(REPO_NAME, FILE_PATH)).isEqualTo(expectedETag);
+    Assertions.assertThat(jGitService.getFileETag(REPO_NAME, FILE_PATH)).isEqualTo(expectedETag);
+
+    Mockito.verify(jGitWrapper).readBlobContent(repository, blobId);
+    Mockito.verify(git, Mockito.times(2)).close();
+  }
+
+  @Test
+  @DisplayName("should read the file blob again if the file is changed")
+  void getFileETagTest_fileChanged() {
+    var oldBlobId = randomObjectId();
+    var newBlobId = randomObjectId();
+    Mockito.doReturn(oldBlobId, newBlobId).when(jGitWrapper).getObjectId(repository, FILE_PATH);
+    Mockito.doReturn("old").when(jGitWrapper).readBlobContent(repository, oldBlobId);
+    Mockito.doReturn("new").when(jGitWrapper).readBlobContent(repository, newBlobId);
+
+    Assertions.assertThat(jGitService.getFileETag(REPO_NAME, FILE_PATH))
+        .isEqualTo(ETagUtils.getETagFromContent("old"));
+    Assertions.assertThat(jGitService.getFileETag(REPO_NAME, FILE_PATH))
+        .isEqualTo(ETagUtils.getETagFromContent("new"));
+  }
+
+  @Test
+  @DisplayName("should return null if file doesn't exist")
+  void getFileETagTest_fileNotFound() {
+    Assertions.assertThat(jGitService.getFileETag(REPO_NAME, FILE_PATH)).isNull();
+
+    Mockito.verify(jGitWrapper, Mockito.never()).readBlobContent(Mockito.any(), Mockito.any());
+  }
+
+  @Test
+  @DisplayName("should throw RepositoryNotFoundException if repository doesn't exist")
+  void getFileETagTest_repositoryNotFound() {
+    var repoName = RandomString.make();
+
+    Assertions.assertThatThrownBy(() -> jGitService.getFileETag(repoName, FILE_PATH))
+        .isInstanceOf(RepositoryNotFoundException.class)
+        .hasMessage("Repository %s doesn't exists", repoName);
+  }
+
+  private static ObjectId randomObjectId() {
+    return ObjectId.fromString(RandomString.make(40).toLowerCase().replaceAll("[^0-9a-f]", "0"));
+  }
+}
@@ -21,10 +21,12 @@ import static org.mockito.Mockito.never;
 
 import com.epam.digital.data.platform.management.gitintegration.exception.GitCommandException;
 import com.epam.digital.data.platform.management.gitintegration.exception.RepositoryNotFoundException;
+import com.epam.digital.data.platform.management.gitintegration.model.FileDatesDto;
 import java.io.File;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import lombok.SneakyThrows;
 import org.assertj.core.api.Assertions;
@@ -55,6 +57,8 @@ class JGitServiceGetFilesDatesTest extends AbstractJGitServiceTest {
 
   @Autowired
   CacheManager cacheManager;
+  @Autowired
+  DatesCacheService datesCacheService;
 
   File repo;
   @Mock
@@ -118,6 +122,39 @@ class JGitServiceGetFilesDatesTest extends AbstractJGitServiceTest {
     verifyMockInvocations();
   }
 
+  @Test
+  @DisplayName("should read only not cached dates of several files and cache them at once")
+  @SneakyThrows
+  void getFormDatesTest_severalFiles() {
+    final var cachedFilePath = RandomString.make();
+    final var cachedDates = FileDatesDto.builder()
+        .create(LocalDateTime.of(2022, 10, 1, 9, 0))
+        .update(LocalDateTime.of(2022, 10, 2, 9, 0))
+        .build();
+    datesCacheService.putDates(REPOSITORY_NAME, Map.of(cachedFilePath, cachedDates));
+
+    final var commitBuilder = new CommitBuilder();
+    commitBuilder.setTreeId(new ObjectId(1, 2, 3, 4, 5));
+    commitBuilder.setAuthor(new PersonIdent("committer1", "committer1@epam.com",
+        LocalDateTime.of(2022, 11, 7, 11, 17).toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    commitBuilder.setCommitter(commitBuilder.getAuthor());
+    Mockito.doReturn(List.of(RevCommit.parse(commitBuilder.build()))).when(logCommand).call();
+
+    final var actualDates = jGitService.getDates(REPOSITORY_NAME,
+        List.of(FILE_PATH, cachedFilePath));
+
+    Assertions.assertThat(actualDates)
+        .containsOnlyKeys(FILE_PATH, cachedFilePath)
+        .containsEntry(cachedFilePath, cachedDates);
+    Assertions.assertThat(actualDates.get(FILE_PATH))
+        .hasFieldOrPropertyWithValue("create", LocalDateTime.of(2022, 11, 7, 11, 17))
+        .hasFieldOrPropertyWithValue("update", LocalDateTime.of(2022, 11, 7, 11, 17));
+    Assertions.assertThat(datesCacheService.getDatesCache(REPOSITORY_NAME))
+        .containsOnlyKeys(FILE_PATH, cachedFilePath);
+
+    verifyMockInvocations();
+  }
+
   @Test
   @DisplayName("should return null for file if it doesn't exist")
   @SneakyThrows
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gitintegration.service;
+
+import com.epam.digital.data.platform.management.gitintegration.exception.RepositoryNotFoundException;
+import java.io.File;
+import java.io.IOException;
+import java.util.Set;
+import lombok.SneakyThrows;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.internal.bytebuddy.utility.RandomString;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+@DisplayName("JGitService#getHeadCommitId and JGitService#getChangedPaths")
+class JGitServiceHeadCommitTest extends AbstractJGitServiceTest {
+
+  static final String REPO_NAME = RandomString.make();
+  static final ObjectId OLD_HEAD_ID = ObjectId.fromString("1".repeat(40));
+  static final ObjectId NEW_HEAD_ID = ObjectId.fromString("2".repeat(40));
+
+  @Mock
+  Git git;
+  @Mock
+  Repository repository;
+
+  @BeforeEach
+  @SneakyThrows
+  @Override
+  void setUp() {
+    super.setUp();
+
+    var directory = new File(tempDir, REPO_NAME);
+    Assertions.assertThat(directory.mkdirs()).isTrue();
+    Mockito.doReturn(git).when(jGitWrapper).open(directory);
+    Mockito.doReturn(repository).when(git).getRepository();
+  }
+
+  @Test
+  @DisplayName("should return id of the commit HEAD points to")
+  @SneakyThrows
+  void getHeadCommitIdTest() {
+    Mockito.doReturn(NEW_HEAD_ID).when(repository).resolve(Constants.HEAD);
+
+    Assertions.assertThat(jGitService.getHeadCommitId(REPO_NAME)).isEqualTo(NEW_HEAD_ID.name());
+
+    Mockito.verify(git).close();
+  }
+
+  @Test
+  @DisplayName("should return null if HEAD couldn't be resolved")
+  @SneakyThrows
+  void getHeadCommitIdTest_notResolved() {
+    Mockito.doThrow(IOException.class).when(repository).resolve(Constants.HEAD);
+
+    Assertions.assertThat(jGitService.getHeadCommitId(REPO_NAME)).isNull();
+  }
+
+  @Test
+  @DisplayName("should return paths changed between commits")
+  void getChangedPathsTest() {
+    Mockito.doReturn(Set.of("forms/changed.json"))
+        .when(jGitWrapper).getChangedPaths(repository, OLD_HEAD_ID, NEW_HEAD_ID);
+
+    Assertions.assertThat(
+            jGitService.getChangedPaths(REPO_NAME, OLD_HEAD_ID.name(), NEW_HEAD_ID.name()))
+        .containsExactly("forms/changed.json");
+
+    Mockito.verify(git).close();
+  }
+
+  @Test
+  @DisplayName("should throw RepositoryNotFoundException if repository doesn't exist")
+  void getHeadCommitIdTest_repositoryNotFound() {
+    var repoName = RandomString.make();
+
+    Assertions.assertThatThrownBy(() -> jGitService.getHeadCommitId(repoName))
+        .isInstanceOf(RepositoryNotFoundException.class)
+        .hasMessage("Repository %s doesn't exists", repoName);
+  }
+}
@@ -18,28 +18,44 @@ package com.epam.digital.data.platform.management.gitintegration.service;
 
 import static org.mockito.Mockito.never;
 
+import com.epam.digital.data.platform.management.core.service.CacheService;
 import com.epam.digital.data.platform.management.gitintegration.exception.GitCommandException;
 import com.epam.digital.data.platform.management.gitintegration.exception.RepositoryNotFoundException;
+import com.epam.digital.data.platform.management.gitintegration.model.FileDatesDto;
 import java.io.File;
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import lombok.SneakyThrows;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.internal.bytebuddy.utility.RandomString;
 import org.eclipse.jgit.api.FetchCommand;
 import org.eclipse.jgit.api.Git;
-import org.eclipse.jgit.api.ResetCommand;
+import org.eclipse.jgit.api.LsRemoteCommand;
 import org.eclipse.jgit.api.ResetCommand.ResetType;
+import org.eclipse.jgit.api.ResetCommand;
 import org.eclipse.jgit.api.errors.CheckoutConflictException;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.api.errors.InvalidRemoteException;
 import org.eclipse.jgit.api.errors.TransportException;
 import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectIdRef;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 
 @DisplayName("JGitService#resetHeadBranchToRemote")
 class JGitServiceResetHeadBranchToRemoteTest extends AbstractJGitServiceTest {
@@ -47,6 +63,8 @@ class JGitServiceResetHeadBranchToRemoteTest extends AbstractJGitServiceTest {
   static final String REPO_NAME = RandomString.make();
   static final String USER = RandomString.make();
   static final String PASSWORD = RandomString.make();
+  static final ObjectId OLD_HEAD_ID = ObjectId.fromString("1".repeat(40));
+  static final ObjectId NEW_HEAD_ID = ObjectId.fromString("2".repeat(40));
 
   File directory;
 
@@ -56,6 +74,15 @@ class JGitServiceResetHeadBranchToRemoteTest extends AbstractJGitServiceTest {
   FetchCommand fetchCommand;
   @Mock
   ResetCommand resetCommand;
+  @Mock
+  Repository repository;
+  @Mock(answer = Answers.RETURNS_SELF)
+  LsRemoteCommand lsRemoteCommand;
+
+  @Autowired
+  DatesCacheService datesCacheService;
+  @Autowired
+  CacheManager cacheManager;
 
   @BeforeEach
   @SneakyThrows
@@ -67,6 +94,8 @@ class JGitServiceResetHeadBranchToRemoteTest extends AbstractJGitServiceTest {
 
     Assertions.assertThat(directory.mkdirs()).isTrue();
     Mockito.doReturn(git).when(jGitWrapper).open(directory);
+    Mockito.doReturn(repository).when(git).getRepository();
+    Mockito.doReturn(lsRemoteCommand).when(git).lsRemote();
     Mockito.doReturn(REPO_NAME).when(gerritPropertiesConfig).getHeadBranch();
     Mockito.doReturn(USER).when(gerritPropertiesConfig).getUser();
     Mockito.doReturn(PASSWORD).when(gerritPropertiesConfig).getPassword();
@@ -94,6 +123,69 @@ class JGitServiceResetHeadBranchToRemoteTest extends AbstractJGitServiceTest {
     Mockito.verify(resetCommand).call();
   }
 
+  @Test
+  @DisplayName("should skip fetch and reset if remote head is the same as local one")
+  @SneakyThrows
+  void testResetHeadBranchToRemote_remoteHeadNotChanged() {
+    Mockito.doReturn(OLD_HEAD_ID).when(repository).resolve(Constants.HEAD);
+    Mockito.doReturn(List.of(remoteHeadRef(OLD_HEAD_ID))).when(lsRemoteCommand).call();
+    catalogCache().put(REPO_NAME, "catalog");
+
+    jGitService.resetHeadBranchToRemote();
+
+    Mockito.verify(lsRemoteCommand).setRemote(Constants.DEFAULT_REMOTE_NAME);
+    Mockito.verify(lsRemoteCommand).setHeads(true);
+    Mockito.verify(lsRemoteCommand).call();
+    Mockito.verify(git, never()).fetch();
+    Mockito.verify(git, never()).reset();
+    Mockito.verify(git).close();
+    Assertions.assertThat(catalogCache().get(REPO_NAME, String.class))
+        .isEqualTo("catalog");
+  }
+
+  @Test
+  @DisplayName("should evict cached dates and catalog only for changed paths if remote head moved")
+  @SneakyThrows
+  void testResetHeadBranchToRemote_remoteHeadChanged() {
+    Mockito.when(repository.resolve(Constants.HEAD)).thenReturn(OLD_HEAD_ID, NEW_HEAD_ID);
+    Mockito.doReturn(List.of(remoteHeadRef(NEW_HEAD_ID))).when(lsRemoteCommand).call();
+    Mockito.doReturn(Set.of("forms/changed.json", "data-model/createTables.xml"))
+        .when(jGitWrapper).getChangedPaths(repository, OLD_HEAD_ID, NEW_HEAD_ID);
+    var dates = FileDatesDto.builder()
+        .create(LocalDateTime.of(2022, 11, 3, 11, 45))
+        .update(LocalDateTime.of(2022, 11, 4, 13, 16))
+        .build();
+    datesCacheService.setDatesCache(REPO_NAME,
+        Map.of("forms/changed.json", dates, "forms/unchanged.json", dates));
+    catalogCache().put(REPO_NAME, "catalog");
+
+    jGitService.resetHeadBranchToRemote();
+
+    verifyMockInvocations();
+    Mockito.verify(fetchCommand).call();
+    Mockito.verify(resetCommand).call();
+    Assertions.assertThat(datesCacheService.getDatesCache(REPO_NAME))
+        .containsOnlyKeys("forms/unchanged.json");
+    Assertions.assertThat(catalogCache().get(REPO_NAME, String.class)).isNull();
+  }
+
+  @Test
+  @DisplayName("should keep catalog cache if remote head moved without data-model changes")
+  @SneakyThrows
+  void testResetHeadBranchToRemote_remoteHeadChangedWithoutDataModel() {
+    Mockito.when(repository.resolve(Constants.HEAD)).thenReturn(OLD_HEAD_ID, NEW_HEAD_ID);
+    Mockito.doReturn(List.of(remoteHeadRef(NEW_HEAD_ID))).when(lsRemoteCommand).call();
+    Mockito.doReturn(Set.of("forms/changed.json"))
+        .when(jGitWrapper).getChangedPaths(repository, OLD_HEAD_ID, NEW_HEAD_ID);
+    catalogCache().put(REPO_NAME, "catalog");
+
+    jGitService.resetHeadBranchToRemote();
+
+    verifyMockInvocations();
+    Assertions.assertThat(catalogCache().get(REPO_NAME, String.class))
+        .isEqualTo("catalog");
+  }
+
   @Test
   @DisplayName("should throw IllegalStateException if there is invalid remote")
   @SneakyThrows
@@ -233,4 +325,13 @@ class JGitServiceResetHeadBranchToRemoteTest extends AbstractJGitServiceTest {
 
     Mockito.verify(git).close();
   }
+
+  Cache catalogCache() {
+    return Objects.requireNonNull(cacheManager.getCache(CacheService.CATALOG_CACHE_NAME));
+  }
+
+  static Ref remoteHeadRef(ObjectId objectId) {
+    return new ObjectIdRef.PeeledNonTag(Ref.Storage.NETWORK, Constants.R_HEADS + REPO_NAME,
+        objectId);
+  }
 }
\ No newline at end of file
@@ -22,6 +22,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
 import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.epam.digital.data.platform.management.core.service.CacheService;
 import java.io.File;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
@@ -38,6 +39,7 @@ import org.eclipse.jgit.api.CommitCommand;
 import org.eclipse.jgit.api.FetchCommand;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.GitCommand;
+import org.eclipse.jgit.api.LsRemoteCommand;
 import org.eclipse.jgit.api.LogCommand;
 import org.eclipse.jgit.api.PushCommand;
 import org.eclipse.jgit.api.RemoteAddCommand;
@@ -59,6 +61,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
@@ -88,6 +91,10 @@ class JGitServiceSyncTest {
   private Repository repository;
   @Mock
   private GitFileService gitFileService;
+  @Mock
+  private DatesCacheService datesCacheService;
+  @Mock
+  private CacheService cacheService;
 
   @Captor
   private ArgumentCaptor<URIish> captor;
@@ -114,6 +121,9 @@ class JGitServiceSyncTest {
     Mockito.when(gerritPropertiesConfig.getPassword()).thenReturn(password);
 
     Mockito.when(jGitWrapper.open(file)).thenReturn(git);
+    Mockito.when(git.getRepository()).thenReturn(repository);
+    Mockito.when(git.lsRemote())
+        .thenReturn(Mockito.mock(LsRemoteCommand.class, Answers.RETURNS_SELF));
 
     var fetchCommand = Mockito.mock(FetchCommand.class);
     var fetchCountDownLatch = new CountDownLatch(2);
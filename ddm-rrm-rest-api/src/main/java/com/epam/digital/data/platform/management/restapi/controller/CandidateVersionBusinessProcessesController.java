@@ -19,9 +19,13 @@ package com.epam.digital.data.platform.management.restapi.controller;
 import com.epam.digital.data.platform.management.core.utils.ETagUtils;
 import com.epam.digital.data.platform.management.groups.service.GroupService;
 import com.epam.digital.data.platform.management.model.dto.BusinessProcessDetailsShort;
+import com.epam.digital.data.platform.management.model.dto.BusinessProcessInfoDto;
 import com.epam.digital.data.platform.management.restapi.model.DetailedErrorResponse;
+import com.epam.digital.data.platform.management.restapi.model.FileListParams;
+import com.epam.digital.data.platform.management.restapi.util.FileListResponseUtils;
 import com.epam.digital.data.platform.management.service.BusinessProcessService;
 import com.epam.digital.data.platform.management.validation.businessProcess.BusinessProcess;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -34,8 +38,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import java.net.URI;
 import java.util.List;
 import java.util.stream.Collectors;
+import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.api.annotations.ParameterObject;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -60,10 +66,11 @@ public class CandidateVersionBusinessProcessesController {
 
   private final BusinessProcessService businessProcessService;
   private final GroupService groupService;
+  private final ObjectMapper objectMapper;
 
   @Operation(
       summary = "Get a list of business processes with brief details for the candidate version",
-      description = "### Endpoint purpose:\n This endpoint is used for retrieving a list of JSON representations of user __business processes__ from the __version-candidate__, containing only brief information about each _business process_. If you need to retrieve full details of a single _business process_ based on its __businessProcessName__, you can use the [GET](#candidate-version-business-processes-api/getBusinessProcess) endpoint.",
+      description = "### Endpoint purpose:\n This endpoint is used for retrieving a list of JSON representations of user __business processes__ from the __version-candidate__, containing only brief information about each _business process_. If you need to retrieve full details of a single _business process_ based on its __businessProcessName__, you can use the [GET](#candidate-version-business-processes-api/getBusinessProcess) endpoint.\n### Paging and filtering:\n If any of __cursor__, __limit__, __search__, __status__ or __fields__ query parameters is set, _business processes_ are returned by pages sorted by name. Only _business processes_ of the page are read, so the request is cheap for big registries. Link to the next page is returned in the __Link__ header with __rel=\"next\"__, there is no such header on the last page. The next page is decided by names only, so it may turn out empty if none of the rest items match __search__. __search__ is matched case-insensitively against name and title, __fields__ limits the returned fields of each item. __limit__ must be between 1 and 1000, otherwise _400 Bad Request_ is returned.\n### Conditional requests:\n If the request contains the __If-None-Match__ header, the response contains a weak __ETag__ header that can be used as the next __If-None-Match__ value. Any quoted value other than __*__ can be sent to obtain the first __ETag__. If none of the _business processes_ has been changed since then, _304 Not Modified_ is returned without a body.",
       parameters = @Parameter(
           in = ParameterIn.HEADER,
           name = "X-Access-Token",
@@ -78,6 +85,10 @@ public class CandidateVersionBusinessProcessesController {
               content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                   array = @ArraySchema(schema = @Schema(implementation = BusinessProcessDetailsShort.class)))
           ),
+          @ApiResponse(
+              responseCode = "304",
+              description = "Not Modified. None of the business processes has been changed since the __ETag__ from __If-None-Match__ header was obtained."
+          ),
           @ApiResponse(
               responseCode = "401",
               description = "Unauthorized",
@@ -96,22 +107,35 @@ public class CandidateVersionBusinessProcessesController {
           )
       })
   @GetMapping
-  public ResponseEntity<List<BusinessProcessDetailsShort>> getBusinessProcessesByVersionId(
-      @PathVariable @Parameter(description = "Version candidate identifier", required = true) String versionCandidateId) {
+  public ResponseEntity<List<?>> getBusinessProcessesByVersionId(
+      @PathVariable @Parameter(description = "Version candidate identifier", required = true) String versionCandidateId,
+      @Valid @ParameterObject FileListParams params) {
     log.info("Started getting business processes from {} version candidate", versionCandidateId);
+    if (params.isPaged()) {
+      var page = businessProcessService.getProcessesByVersion(versionCandidateId,
+          FileListResponseUtils.toRequest(params));
+      log.info("Found {} business processes on the page from {} version candidate",
+          page.getItems().size(), versionCandidateId);
+      return FileListResponseUtils.toResponse(page, this::toBusinessProcessDetailsShort,
+          params.getFields(), objectMapper);
+    }
     var response = businessProcessService.getProcessesByVersion(versionCandidateId).stream()
-        .map(e -> BusinessProcessDetailsShort.builder()
-            .name(e.getName())
-            .title(e.getTitle())
-            .created(e.getCreated())
-            .updated(e.getUpdated())
-            .build())
+        .map(this::toBusinessProcessDetailsShort)
         .collect(Collectors.toList());
     log.info("Found {} business processes from {} version candidate", response.size(),
         versionCandidateId);
     return ResponseEntity.ok().body(response);
   }
 
+  private BusinessProcessDetailsShort toBusinessProcessDetailsShort(BusinessProcessInfoDto e) {
+    return BusinessProcessDetailsShort.builder()
+        .name(e.getName())
+        .title(e.getTitle())
+        .created(e.getCreated())
+        .updated(e.getUpdated())
+        .build();
+  }
+
   @Operation(
       summary = "Create new business process",
       description = "### Endpoint purpose: \n This endpoint is used for creating a xml representation of a user __business process__ in __version-candidate__ version. \n ### Business process validation: \nBefore saving the content to the storage, the __validation__ of a _business-process_ is executed. The _business-process_ must be a __xml__ document, must conform to the BPMN20.xsd schema (available at https://github.com/bpmn-io/bpmn-moddle/blob/master/resources/bpmn/xsd/BPMN20.xsd) and must have a non-empty __\"name\"__ field (attribute as part of tCallableElement). Also _name_ values must be equal to __\"businessProcessName\"__ pathVariable. In other case the _business-process_ won't be working as expected. \n### Missing business process handling: \n If the specified _business-process_ does not already exist, the server will create a new _business-process_ with the provided data. Otherwise, the server will return a _409 Conflict_ error indicating that the _business-process_ already exists.",
@@ -230,7 +254,7 @@ public class CandidateVersionBusinessProcessesController {
 
   @Operation(
       summary = "Get specific business process full details",
-      description = "### Endpoint purpose:\n This endpoint is used for retrieving a XML representation of a user __business-process__ from the __version-candidate__. This operation retrieves a single _business-process_ based on the specified __businessProcessName__ with full details in _XML_ format. If you need to retrieve list of _business-processes_ with brief information and in _json_ format, you can use the [GET](#candidate-version-business-processes-api/getBusinessProcessesByVersionId) endpoint.",
+      description = "### Endpoint purpose:\n This endpoint is used for retrieving a XML representation of a user __business-process__ from the __version-candidate__. This operation retrieves a single _business-process_ based on the specified __businessProcessName__ with full details in _XML_ format. If you need to retrieve list of _business-processes_ with brief information and in _json_ format, you can use the [GET](#candidate-version-business-processes-api/getBusinessProcessesByVersionId) endpoint.\n### Conditional requests:\n The __ETag__ header value of the response can be used as a value for the __If-None-Match__ header. If the _business process_ hasn't been changed since then, _304 Not Modified_ is returned without a body. Weak ETags are accepted as well.",
       parameters = @Parameter(
           in = ParameterIn.HEADER,
           name = "X-Access-Token",
@@ -266,6 +290,10 @@ public class CandidateVersionBusinessProcessesController {
                   }
               )
           ),
+          @ApiResponse(
+              responseCode = "304",
+              description = "Not Modified. The business process hasn't been changed since the __ETag__ from __If-None-Match__ header was obtained."
+          ),
           @ApiResponse(
               responseCode = "401",
               description = "Unauthorized",
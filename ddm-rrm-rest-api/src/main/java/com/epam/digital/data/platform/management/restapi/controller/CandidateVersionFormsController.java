@@ -16,9 +16,13 @@
 package com.epam.digital.data.platform.management.restapi.controller;
 
 import com.epam.digital.data.platform.management.core.utils.ETagUtils;
+import com.epam.digital.data.platform.management.forms.model.FormInfoDto;
 import com.epam.digital.data.platform.management.forms.service.FormService;
 import com.epam.digital.data.platform.management.restapi.model.DetailedErrorResponse;
+import com.epam.digital.data.platform.management.restapi.model.FileListParams;
 import com.epam.digital.data.platform.management.restapi.model.FormDetailsShort;
+import com.epam.digital.data.platform.management.restapi.util.FileListResponseUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -33,8 +37,10 @@ import java.net.URI;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.api.annotations.ParameterObject;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -56,10 +62,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class CandidateVersionFormsController {
 
   private final FormService formService;
+  private final ObjectMapper objectMapper;
 
   @Operation(
       summary = "Acquire list of forms with brief details for specific version-candidate",
-      description = "### Endpoint purpose:\n This endpoint is used for retrieving a list of JSON representations of user __forms__ from the __version-candidate__, containing only brief information about each _form_. If you need to retrieve full details of a single _form_ based on its __formName__, you can use the [GET](#candidate-version-forms-api/getForm) endpoint.",
+      description = "### Endpoint purpose:\n This endpoint is used for retrieving a list of JSON representations of user __forms__ from the __version-candidate__, containing only brief information about each _form_. If you need to retrieve full details of a single _form_ based on its __formName__, you can use the [GET](#candidate-version-forms-api/getForm) endpoint.\n### Paging and filtering:\n If any of __cursor__, __limit__, __search__, __status__ or __fields__ query parameters is set, _forms_ are returned by pages sorted by name. Only _forms_ of the page are read, so the request is cheap for big registries. Link to the next page is returned in the __Link__ header with __rel=\"next\"__, there is no such header on the last page. The next page is decided by names only, so it may turn out empty if none of the rest items match __search__. __search__ is matched case-insensitively against name and title, __fields__ limits the returned fields of each item. __limit__ must be between 1 and 1000, otherwise _400 Bad Request_ is returned.\n### Conditional requests:\n If the request contains the __If-None-Match__ header, the response contains a weak __ETag__ header that can be used as the next __If-None-Match__ value. Any quoted value other than __*__ can be sent to obtain the first __ETag__. If none of the _forms_ has been changed since then, _304 Not Modified_ is returned without a body.",
       parameters = @Parameter(
           in = ParameterIn.HEADER,
           name = "X-Access-Token",
@@ -84,6 +91,10 @@ public class CandidateVersionFormsController {
                           "]")
                   })
           ),
+          @ApiResponse(
+              responseCode = "304",
+              description = "Not Modified. None of the forms has been changed since the __ETag__ from __If-None-Match__ header was obtained."
+          ),
           @ApiResponse(
               responseCode = "401",
               description = "Unauthorized",
@@ -102,21 +113,34 @@ public class CandidateVersionFormsController {
           )
       })
   @GetMapping
-  public ResponseEntity<List<FormDetailsShort>> getFormsByVersionId(
-      @PathVariable @Parameter(description = "Version candidate identifier", required = true) String versionCandidateId) {
+  public ResponseEntity<List<?>> getFormsByVersionId(
+      @PathVariable @Parameter(description = "Version candidate identifier", required = true) String versionCandidateId,
+      @Valid @ParameterObject FileListParams params) {
     log.info("Started getting forms for {} version candidate", versionCandidateId);
+    if (params.isPaged()) {
+      var page = formService.getFormListByVersion(versionCandidateId,
+          FileListResponseUtils.toRequest(params));
+      log.info("Found {} forms on the page from {} version candidate", page.getItems().size(),
+          versionCandidateId);
+      return FileListResponseUtils.toResponse(page, this::toFormDetailsShort,
+          params.getFields(), objectMapper);
+    }
     var response = formService.getFormListByVersion(versionCandidateId).stream()
-        .map(e -> FormDetailsShort.builder()
-            .name(e.getName())
-            .title(e.getTitle())
-            .created(e.getCreated())
-            .updated(e.getUpdated())
-            .build())
+        .map(this::toFormDetailsShort)
         .collect(Collectors.toList());
     log.info("Found {} forms from {} version candidate", response.size(), versionCandidateId);
     return ResponseEntity.ok().body(response);
   }
 
+  private FormDetailsShort toFormDetailsShort(FormInfoDto e) {
+    return FormDetailsShort.builder()
+        .name(e.getName())
+        .title(e.getTitle())
+        .created(e.getCreated())
+        .updated(e.getUpdated())
+        .build();
+  }
+
   @Operation(
       summary = "Create new form within specific version-candidate",
       description = "### Endpoint purpose: \n This endpoint is used for creating a JSON representation of a user __form__ in the __version-candidate__.\n### Form validation: \nBefore saving the new _form_ to the storage, the server validates the _form_. The _form_ must be a __json__ document and must have a non-empty __\"title\"__ field. Also the field __\"name\"__ must be present and equal to __\"path\"__ field, that must be present too. Also _both_ this values must be equal to __\"formName\"__ pathVariable. In other case the _form_ won't be working as expected. \n ### Missing form handling: \n If the specified _form_ does not already exist, the server will create a new _form_ with the provided data. Otherwise, the server will return a _409 Conflict_ error indicating that the _form_ already exists.\n ### Created and modified dates handling:\n If there any of __\"created\"__ or __\"modified\"__ fields present in the request body they will be ignored. The __\"created\"__ and __\"updated\"__ fields are automatically set to the current server time in UTC.",
@@ -208,7 +232,7 @@ public class CandidateVersionFormsController {
 
   @Operation(
       summary = "Get full details of the specific form within version-candidate",
-      description = "### Endpoint purpose:\n This endpoint is used for retrieving a JSON representation of a user __form__ from the __version-candidate__. This operation retrieves a single _form_ based on the specified __formName__. If you need to retrieve list of _forms_, you can use the [GET](#candidate-version-forms-api/getFormsByVersionId) endpoint.\n",
+      description = "### Endpoint purpose:\n This endpoint is used for retrieving a JSON representation of a user __form__ from the __version-candidate__. This operation retrieves a single _form_ based on the specified __formName__. If you need to retrieve list of _forms_, you can use the [GET](#candidate-version-forms-api/getFormsByVersionId) endpoint.\n### Conditional requests:\n The __ETag__ header value of the response can be used as a value for the __If-None-Match__ header. If the _form_ hasn't been changed since then, _304 Not Modified_ is returned without a body. Weak ETags are accepted as well.",
       parameters = @Parameter(
           in = ParameterIn.HEADER,
           name = "X-Access-Token",
@@ -233,6 +257,10 @@ public class CandidateVersionFormsController {
                   }
               )
           ),
+          @ApiResponse(
+              responseCode = "304",
+              description = "Not Modified. The form hasn't been changed since the __ETag__ from __If-None-Match__ header was obtained."
+          ),
           @ApiResponse(
               responseCode = "401",
               description = "Unauthorized",
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.restapi.controller;
+
+import com.epam.digital.data.platform.management.restapi.config.GerritEventsProperties;
+import com.epam.digital.data.platform.management.restapi.model.GerritEvent;
+import com.epam.digital.data.platform.management.restapi.service.GerritEventService;
+import io.swagger.v3.oas.annotations.Hidden;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Inbound endpoint for Gerrit webhooks. Changed versions are refreshed asynchronously, so the
+ * endpoint responds before the refresh is finished.
+ */
+@Slf4j
+@Hidden
+@RestController
+@RequestMapping("/gerrit-events")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "registry-regulation-management.gerrit-events", name = "enabled", havingValue = "true")
+public class GerritEventController {
+
+  public static final String TOKEN_HEADER = "X-Gerrit-Events-Token";
+
+  private final GerritEventService gerritEventService;
+  private final GerritEventsProperties gerritEventsProperties;
+
+  @PostMapping
+  public ResponseEntity<Void> handleEvent(
+      @RequestHeader(name = TOKEN_HEADER, required = false) String token,
+      @RequestBody GerritEvent event) {
+    if (!isValidToken(token)) {
+      log.warn("Gerrit event {} with invalid token is rejected", event.getType());
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+    }
+    log.debug("Gerrit event {} received", event.getType());
+    gerritEventService.handleEvent(event);
+    return ResponseEntity.accepted().build();
+  }
+
+  private boolean isValidToken(String token) {
+    var expectedToken = gerritEventsProperties.getToken();
+    return StringUtils.hasText(expectedToken) && Objects.nonNull(token)
+        && MessageDigest.isEqual(expectedToken.getBytes(StandardCharsets.UTF_8),
+        token.getBytes(StandardCharsets.UTF_8));
+  }
+}
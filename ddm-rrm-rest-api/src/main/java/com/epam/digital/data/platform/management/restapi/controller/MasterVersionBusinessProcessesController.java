@@ -20,9 +20,13 @@ import com.epam.digital.data.platform.management.core.config.GerritPropertiesCon
 import com.epam.digital.data.platform.management.core.utils.ETagUtils;
 import com.epam.digital.data.platform.management.groups.service.GroupService;
 import com.epam.digital.data.platform.management.model.dto.BusinessProcessDetailsShort;
+import com.epam.digital.data.platform.management.model.dto.BusinessProcessInfoDto;
 import com.epam.digital.data.platform.management.restapi.model.DetailedErrorResponse;
+import com.epam.digital.data.platform.management.restapi.model.FileListParams;
+import com.epam.digital.data.platform.management.restapi.util.FileListResponseUtils;
 import com.epam.digital.data.platform.management.service.BusinessProcessService;
 import com.epam.digital.data.platform.management.validation.businessProcess.BusinessProcess;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -34,6 +38,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.api.annotations.ParameterObject;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -51,6 +56,7 @@ import org.springframework.web.bind.annotation.RestController;
 import java.net.URI;
 import java.util.List;
 import java.util.stream.Collectors;
+import javax.validation.Valid;
 
 @Slf4j
 @Tag(description = "Registry regulations master Business processes management Rest API",  name = "master-version-business-processes-api")
@@ -63,10 +69,11 @@ public class MasterVersionBusinessProcessesController {
   private final BusinessProcessService businessProcessService;
   private final GerritPropertiesConfig gerritPropertiesConfig;
   private final GroupService groupService;
+  private final ObjectMapper objectMapper;
 
   @Operation(
       summary = "Get a list of business processes with brief details for the master version",
-      description = "### Endpoint purpose:\n This endpoint is used for retrieving a list of JSON representations of user __business processes__ directly from the __master__ version, containing only brief information about each _business process_. If you need to retrieve full details of a single _business process_ based on its __businessProcessName__, you can use the [GET](#master-version-business-processes-api/getBusinessProcess) endpoint.",
+      description = "### Endpoint purpose:\n This endpoint is used for retrieving a list of JSON representations of user __business processes__ directly from the __master__ version, containing only brief information about each _business process_. If you need to retrieve full details of a single _business process_ based on its __businessProcessName__, you can use the [GET](#master-version-business-processes-api/getBusinessProcess) endpoint.\n### Paging and filtering:\n If any of __cursor__, __limit__, __search__, __status__ or __fields__ query parameters is set, _business processes_ are returned by pages sorted by name. Only _business processes_ of the page are read, so the request is cheap for big registries. Link to the next page is returned in the __Link__ header with __rel=\"next\"__, there is no such header on the last page. The next page is decided by names only, so it may turn out empty if none of the rest items match __search__. __search__ is matched case-insensitively against name and title, __fields__ limits the returned fields of each item. __limit__ must be between 1 and 1000, otherwise _400 Bad Request_ is returned.\n### Conditional requests:\n If the request contains the __If-None-Match__ header, the response contains a weak __ETag__ header that can be used as the next __If-None-Match__ value. Any quoted value other than __*__ can be sent to obtain the first __ETag__. If none of the _business processes_ has been changed since then, _304 Not Modified_ is returned without a body.",
       parameters = @Parameter(
           in = ParameterIn.HEADER,
           name = "X-Access-Token",
@@ -82,6 +89,10 @@ public class MasterVersionBusinessProcessesController {
                   mediaType = MediaType.APPLICATION_JSON_VALUE,
                   array = @ArraySchema(schema = @Schema(implementation = BusinessProcessDetailsShort.class)))
           ),
+          @ApiResponse(
+              responseCode = "304",
+              description = "Not Modified. None of the business processes has been changed since the __ETag__ from __If-None-Match__ header was obtained."
+          ),
           @ApiResponse(
               responseCode = "401",
               description = "Unauthorized",
@@ -100,24 +111,36 @@ public class MasterVersionBusinessProcessesController {
           )
       })
   @GetMapping
-  public ResponseEntity<List<BusinessProcessDetailsShort>> getBusinessProcessesFromMaster() {
+  public ResponseEntity<List<?>> getBusinessProcessesFromMaster(
+      @Valid @ParameterObject FileListParams params) {
     var masterVersionId = gerritPropertiesConfig.getHeadBranch();
     log.info("Started getting business processes from master");
+    if (params.isPaged()) {
+      var page = businessProcessService.getProcessesByVersion(masterVersionId,
+          FileListResponseUtils.toRequest(params));
+      log.info("Found {} business processes on the page in master", page.getItems().size());
+      return FileListResponseUtils.toResponse(page, this::toBusinessProcessDetailsShort,
+          params.getFields(), objectMapper);
+    }
     var response = businessProcessService.getProcessesByVersion(masterVersionId).stream()
-        .map(e -> BusinessProcessDetailsShort.builder()
-            .name(e.getName())
-            .title(e.getTitle())
-            .created(e.getCreated())
-            .updated(e.getUpdated())
-            .build())
+        .map(this::toBusinessProcessDetailsShort)
         .collect(Collectors.toList());
     log.info("Found {} business processes in master", response.size());
     return ResponseEntity.ok().body(response);
   }
 
+  private BusinessProcessDetailsShort toBusinessProcessDetailsShort(BusinessProcessInfoDto e) {
+    return BusinessProcessDetailsShort.builder()
+        .name(e.getName())
+        .title(e.getTitle())
+        .created(e.getCreated())
+        .updated(e.getUpdated())
+        .build();
+  }
+
   @Operation(
       summary = "Get specific business process full details",
-      description = "### Endpoint purpose:\n This endpoint is used for retrieving a XML representation of a user __business-process__ directly from the __master__ version. This operation retrieves a single _business-process_ based on the specified __businessProcessName__ with full details in _XML_ format. If you need to retrieve list of _business-processes_ with brief information and in _json_ format, you can use the [GET](#master-version-business-processes-api/getBusinessProcessesFromMaster).\n",
+      description = "### Endpoint purpose:\n This endpoint is used for retrieving a XML representation of a user __business-process__ directly from the __master__ version. This operation retrieves a single _business-process_ based on the specified __businessProcessName__ with full details in _XML_ format. If you need to retrieve list of _business-processes_ with brief information and in _json_ format, you can use the [GET](#master-version-business-processes-api/getBusinessProcessesFromMaster).\n### Conditional requests:\n The __ETag__ header value of the response can be used as a value for the __If-None-Match__ header. If the _business process_ hasn't been changed since then, _304 Not Modified_ is returned without a body. Weak ETags are accepted as well.",
       parameters = @Parameter(
           in = ParameterIn.HEADER,
           name = "X-Access-Token",
@@ -153,6 +176,10 @@ public class MasterVersionBusinessProcessesController {
                   }
               )
           ),
+          @ApiResponse(
+              responseCode = "304",
+              description = "Not Modified. The business process hasn't been changed since the __ETag__ from __If-None-Match__ header was obtained."
+          ),
           @ApiResponse(
               responseCode = "401",
               description = "Unauthorized",
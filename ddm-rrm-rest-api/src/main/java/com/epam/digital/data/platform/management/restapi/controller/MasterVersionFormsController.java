@@ -17,9 +17,13 @@ package com.epam.digital.data.platform.management.restapi.controller;
 
 import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
 import com.epam.digital.data.platform.management.core.utils.ETagUtils;
+import com.epam.digital.data.platform.management.forms.model.FormInfoDto;
 import com.epam.digital.data.platform.management.forms.service.FormService;
 import com.epam.digital.data.platform.management.restapi.model.DetailedErrorResponse;
+import com.epam.digital.data.platform.management.restapi.model.FileListParams;
 import com.epam.digital.data.platform.management.restapi.model.FormDetailsShort;
+import com.epam.digital.data.platform.management.restapi.util.FileListResponseUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -34,8 +38,10 @@ import java.net.URI;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.api.annotations.ParameterObject;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -58,10 +64,11 @@ public class MasterVersionFormsController {
 
   private final FormService formService;
   private final GerritPropertiesConfig gerritPropertiesConfig;
+  private final ObjectMapper objectMapper;
 
   @Operation(
       summary = "Get a list of forms with brief details for the master version",
-      description = "### Endpoint purpose:\n This endpoint is used for retrieving a list of JSON representations of user __forms__ directly from the __master__ version, containing only brief information about each _form_. If you need to retrieve full details of a single _form_ based on its __formName__, you can use the [GET](#master-version-forms-api/getForm) endpoint.",
+      description = "### Endpoint purpose:\n This endpoint is used for retrieving a list of JSON representations of user __forms__ directly from the __master__ version, containing only brief information about each _form_. If you need to retrieve full details of a single _form_ based on its __formName__, you can use the [GET](#master-version-forms-api/getForm) endpoint.\n### Paging and filtering:\n If any of __cursor__, __limit__, __search__, __status__ or __fields__ query parameters is set, _forms_ are returned by pages sorted by name. Only _forms_ of the page are read, so the request is cheap for big registries. Link to the next page is returned in the __Link__ header with __rel=\"next\"__, there is no such header on the last page. The next page is decided by names only, so it may turn out empty if none of the rest items match __search__. __search__ is matched case-insensitively against name and title, __fields__ limits the returned fields of each item. __limit__ must be between 1 and 1000, otherwise _400 Bad Request_ is returned.\n### Conditional requests:\n If the request contains the __If-None-Match__ header, the response contains a weak __ETag__ header that can be used as the next __If-None-Match__ value. Any quoted value other than __*__ can be sent to obtain the first __ETag__. If none of the _forms_ has been changed since then, _304 Not Modified_ is returned without a body.",
       parameters = @Parameter(
           in = ParameterIn.HEADER,
           name = "X-Access-Token",
@@ -88,6 +95,10 @@ public class MasterVersionFormsController {
                       )
                   })
           ),
+          @ApiResponse(
+              responseCode = "304",
+              description = "Not Modified. None of the forms has been changed since the __ETag__ from __If-None-Match__ header was obtained."
+          ),
           @ApiResponse(
               responseCode = "401",
               description = "Unauthorized",
@@ -106,24 +117,36 @@ public class MasterVersionFormsController {
           )
       })
   @GetMapping
-  public ResponseEntity<List<FormDetailsShort>> getFormsFromMaster() {
+  public ResponseEntity<List<?>> getFormsFromMaster(
+      @Valid @ParameterObject FileListParams params) {
     var masterVersionId = gerritPropertiesConfig.getHeadBranch();
     log.info("Started getting forms from master");
+    if (params.isPaged()) {
+      var page = formService.getFormListByVersion(masterVersionId,
+          FileListResponseUtils.toRequest(params));
+      log.info("Found {} forms on the page in master", page.getItems().size());
+      return FileListResponseUtils.toResponse(page, this::toFormDetailsShort,
+          params.getFields(), objectMapper);
+    }
     var response = formService.getFormListByVersion(masterVersionId).stream()
-        .map(e -> FormDetailsShort.builder()
-            .name(e.getName())
-            .title(e.getTitle())
-            .created(e.getCreated())
-            .updated(e.getUpdated())
-            .build())
+        .map(this::toFormDetailsShort)
         .collect(Collectors.toList());
     log.info("Found {} forms in master", response.size());
     return ResponseEntity.ok().body(response);
   }
 
+  private FormDetailsShort toFormDetailsShort(FormInfoDto e) {
+    return FormDetailsShort.builder()
+        .name(e.getName())
+        .title(e.getTitle())
+        .created(e.getCreated())
+        .updated(e.getUpdated())
+        .build();
+  }
+
   @Operation(
       summary = "Get specific form full details",
-      description = "### Endpoint purpose:\n This endpoint is used for retrieving a JSON representation of a user __form__ directly from the __master__ version. This operation retrieves a single _form_ based on the specified __formName__. If you need to retrieve list of _forms_, you can use the [GET](#master-version-forms-api/getFormsFromMaster) endpoint.\n",
+      description = "### Endpoint purpose:\n This endpoint is used for retrieving a JSON representation of a user __form__ directly from the __master__ version. This operation retrieves a single _form_ based on the specified __formName__. If you need to retrieve list of _forms_, you can use the [GET](#master-version-forms-api/getFormsFromMaster) endpoint.\n### Conditional requests:\n The __ETag__ header value of the response can be used as a value for the __If-None-Match__ header. If the _form_ hasn't been changed since then, _304 Not Modified_ is returned without a body. Weak ETags are accepted as well.",
       parameters = @Parameter(
           in = ParameterIn.HEADER,
           name = "X-Access-Token",
@@ -148,6 +171,10 @@ public class MasterVersionFormsController {
                   }
               )
           ),
+          @ApiResponse(
+              responseCode = "304",
+              description = "Not Modified. The form hasn't been changed since the __ETag__ from __If-None-Match__ header was obtained."
+          ),
           @ApiResponse(
               responseCode = "401",
               description = "Unauthorized",
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.restapi.model;
+
+import com.epam.digital.data.platform.management.filemanagement.model.FileStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Objects;
+import java.util.Set;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class FileListParams {
+
+  public static final int MAX_LIMIT = 1000;
+
+  @Schema(description = "Cursor of the page, it's returned in the Link header of the previous page")
+  private String cursor;
+  @Min(1)
+  @Max(MAX_LIMIT)
+  @Schema(description = "Max amount of items on the page, all the items are returned if not set")
+  private Integer limit;
+  @Schema(description = "Case-insensitive substring of the item name or title")
+  private String search;
+  @Schema(description = "Statuses of the items to return")
+  private Set<FileStatus> status;
+  @Schema(description = "Fields of the items to return, all the fields are returned if not set")
+  private Set<String> fields;
+
+  /**
+   * @return true if any of the page or filtering parameters is set
+   */
+  public boolean isPaged() {
+    return Objects.nonNull(cursor) || Objects.nonNull(limit) || Objects.nonNull(search)
+        || Objects.nonNull(status) || Objects.nonNull(fields);
+  }
+}
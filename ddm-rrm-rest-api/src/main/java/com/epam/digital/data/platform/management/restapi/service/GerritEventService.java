@@ -0,0 +1,77 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.restapi.service;
+
+import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.epam.digital.data.platform.management.core.event.publisher.RegistryRegulationManagementEventPublisher;
+import com.epam.digital.data.platform.management.restapi.model.GerritEvent;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Translates Gerrit events of the registry regulations repository to version repository change
+ * events:
+ * <li>new patch set of a change to the head branch changes the version candidate</li>
+ * <li>merged change or head branch ref update changes the head branch</li>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GerritEventService {
+
+  private static final String BRANCH_REF_PREFIX = "refs/heads/";
+
+  private final GerritPropertiesConfig gerritPropertiesConfig;
+  private final RegistryRegulationManagementEventPublisher eventPublisher;
+
+  public void handleEvent(GerritEvent event) {
+    getChangedVersion(event).ifPresentOrElse(eventPublisher::publishVersionRepositoryChangedEvent,
+        () -> log.debug("Gerrit event {} is ignored", event.getType()));
+  }
+
+  private Optional<String> getChangedVersion(GerritEvent event) {
+    var headBranch = gerritPropertiesConfig.getHeadBranch();
+    var change = event.getChange();
+    var refUpdate = event.getRefUpdate();
+    switch (String.valueOf(event.getType())) {
+      case GerritEvent.PATCHSET_CREATED:
+        return isHeadBranchChange(change)
+            ? Optional.ofNullable(change.getNumber()) : Optional.empty();
+      case GerritEvent.CHANGE_MERGED:
+        return isHeadBranchChange(change) ? Optional.of(headBranch) : Optional.empty();
+      case GerritEvent.REF_UPDATED:
+        return Objects.nonNull(refUpdate) && isRegulationsRepository(refUpdate.getProject())
+            && (headBranch.equals(refUpdate.getRefName())
+            || (BRANCH_REF_PREFIX + headBranch).equals(refUpdate.getRefName()))
+            ? Optional.of(headBranch) : Optional.empty();
+      default:
+        return Optional.empty();
+    }
+  }
+
+  private boolean isHeadBranchChange(GerritEvent.Change change) {
+    return Objects.nonNull(change) && isRegulationsRepository(change.getProject())
+        && gerritPropertiesConfig.getHeadBranch().equals(change.getBranch());
+  }
+
+  private boolean isRegulationsRepository(String project) {
+    return gerritPropertiesConfig.getRepository().equals(project);
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.restapi.util;
+
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileListPage;
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileListRequest;
+import com.epam.digital.data.platform.management.restapi.model.FileListParams;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * Utils for building paged and projected file listing responses
+ */
+public final class FileListResponseUtils {
+
+  public static final String CURSOR_PARAM = "cursor";
+
+  private FileListResponseUtils() {
+  }
+
+  public static VersionedFileListRequest toRequest(FileListParams params) {
+    return VersionedFileListRequest.builder()
+        .cursor(params.getCursor())
+        .limit(params.getLimit())
+        .search(params.getSearch())
+        .statuses(params.getStatus())
+        .build();
+  }
+
+  /**
+   * Build listing response. If there is a next page, link to it is returned in the
+   * {@link HttpHeaders#LINK} header. If any fields are requested, only these fields of each item
+   * are returned.
+   *
+   * @param page         page of the listed files
+   * @param mapper       maps listed file to response item
+   * @param fields       requested fields of the response item
+   * @param objectMapper object mapper used for the fields projection
+   * @return listing response
+   */
+  public static <T, R> ResponseEntity<List<?>> toResponse(VersionedFileListPage<T> page,
+      Function<T, R> mapper, @Nullable Set<String> fields, ObjectMapper objectMapper) {
+    var items = page.getItems().stream().map(mapper).collect(Collectors.toList());
+    var response = ResponseEntity.ok();
+    if (Objects.nonNull(page.getNextCursor())) {
+      var nextPage = ServletUriComponentsBuilder.fromCurrentRequest()
+          .replaceQueryParam(CURSOR_PARAM,
+              UriUtils.encodeQueryParam(page.getNextCursor(), StandardCharsets.UTF_8))
+          .build(true)
+          .toUriString();
+      response.header(HttpHeaders.LINK, String.format("<%s>; rel=\"next\"", nextPage));
+    }
+    if (Objects.isNull(fields) || fields.isEmpty()) {
+      return response.body(items);
+    }
+    return response.body(items.stream()
+        .map(item -> objectMapper.<ObjectNode>valueToTree(item).retain(fields))
+        .collect(Collectors.toList()));
+  }
+}
@@ -18,6 +18,9 @@ package com.epam.digital.data.platform.management.restapi.controller;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -29,6 +32,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileListPage;
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileListRequest;
 import com.epam.digital.data.platform.management.groups.service.GroupService;
 import com.epam.digital.data.platform.management.model.dto.BusinessProcessInfoDto;
 import com.epam.digital.data.platform.management.restapi.util.TestUtils;
@@ -119,6 +124,48 @@ class CandidateVersionBusinessProcessControllerTest {
     ).andDo(document("versions/candidates/{versionCandidateId}/business-processes/GET"));
   }
 
+  @Test
+  @DisplayName("GET /versions/candidates/{versionCandidateId}/business-processes with page parameters should return 200 with page of business processes")
+  @SneakyThrows
+  void getBusinessProcessesPageByVersionId() {
+    final var candidateVersionId = "id1";
+    final var expectedResponse = BusinessProcessInfoDto.builder()
+        .path("/bpmn/John_Does_process.bpmn")
+        .name("John_Does_process")
+        .title("John Doe added new component")
+        .created(LocalDateTime.of(2022, 11, 3, 11, 45))
+        .updated(LocalDateTime.of(2022, 11, 4, 13, 16))
+        .build();
+    final var page = VersionedFileListPage.<BusinessProcessInfoDto>builder()
+        .items(List.of(expectedResponse))
+        .build();
+
+    Mockito.doReturn(page).when(businessProcessService)
+        .getProcessesByVersion(eq(candidateVersionId), any(VersionedFileListRequest.class));
+
+    mockMvc.perform(
+        get("/versions/candidates/{versionCandidateId}/business-processes", candidateVersionId)
+            .param("cursor", "Ann_Does_process")
+            .param("limit", "10")
+            .accept(MediaType.APPLICATION_JSON)
+    ).andExpectAll(
+        status().isOk(),
+        content().contentType(MediaType.APPLICATION_JSON),
+        header().doesNotExist(HttpHeaders.LINK),
+        jsonPath("$", hasSize(1)),
+        jsonPath("$[0].name", equalTo("John_Does_process")),
+        jsonPath("$[0].title", equalTo("John Doe added new component")),
+        jsonPath("$[0].created", equalTo("2022-11-03T11:45:00.000Z")),
+        jsonPath("$[0].updated", equalTo("2022-11-04T13:16:00.000Z"))
+    ).andDo(document("versions/candidates/{versionCandidateId}/business-processes/GET/page"));
+
+    Mockito.verify(businessProcessService).getProcessesByVersion(eq(candidateVersionId),
+        argThat(request -> "Ann_Does_process".equals(request.getCursor())
+            && Integer.valueOf(10).equals(request.getLimit())));
+    Mockito.verify(businessProcessService, Mockito.never())
+        .getProcessesByVersion(candidateVersionId);
+  }
+
   @Test
   @DisplayName("POST /versions/candidates/{versionCandidateId}/business-processes/{businessProcessName} should return 201 with business process content")
   @SneakyThrows
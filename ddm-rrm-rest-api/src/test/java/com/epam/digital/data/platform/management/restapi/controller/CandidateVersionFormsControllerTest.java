@@ -16,7 +16,11 @@
 
 package com.epam.digital.data.platform.management.restapi.controller;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -29,16 +33,20 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.epam.digital.data.platform.management.filemanagement.model.FileStatus;
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileListPage;
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileListRequest;
 import com.epam.digital.data.platform.management.forms.model.FormInfoDto;
 import com.epam.digital.data.platform.management.forms.service.FormServiceImpl;
 import com.epam.digital.data.platform.management.restapi.util.TestUtils;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.SneakyThrows;
+import org.assertj.core.api.Assertions;
 import org.assertj.core.internal.bytebuddy.utility.RandomString;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.HttpHeaders;
@@ -94,6 +102,53 @@ class CandidateVersionFormsControllerTest {
     Mockito.verify(formService).getFormListByVersion("1");
   }
 
+  @Test
+  @DisplayName("GET /versions/candidates/{versionCandidateId}/forms with page parameters should return 200 with page of forms")
+  @SneakyThrows
+  void getFormsPageByVersionIdTest() {
+    var expectedFormResponse = FormInfoDto.builder()
+        .name("john-does-form")
+        .title("John Doe added new component")
+        .path("/")
+        .status(FileStatus.CHANGED)
+        .created(LocalDateTime.of(2022, 7, 29, 18, 55))
+        .updated(LocalDateTime.of(2022, 7, 29, 18, 56))
+        .build();
+    var page = VersionedFileListPage.<FormInfoDto>builder()
+        .items(List.of(expectedFormResponse))
+        .nextCursor("john-does-form")
+        .build();
+
+    Mockito.doReturn(page).when(formService).getFormListByVersion(eq("1"),
+        any(VersionedFileListRequest.class));
+
+    mockMvc.perform(
+        get("/versions/candidates/{versionCandidateId}/forms", "1")
+            .param("limit", "1")
+            .param("search", "john")
+            .param("status", "NEW", "CHANGED")
+            .param("fields", "name", "title")
+    ).andExpectAll(
+        status().isOk(),
+        content().contentType(MediaType.APPLICATION_JSON),
+        header().string(HttpHeaders.LINK, containsString("cursor=john-does-form")),
+        header().string(HttpHeaders.LINK, endsWith("; rel=\"next\"")),
+        jsonPath("$.[0].name", is("john-does-form")),
+        jsonPath("$.[0].title", is("John Doe added new component")),
+        jsonPath("$.[0].created").doesNotExist(),
+        jsonPath("$.[0].updated").doesNotExist()
+    ).andDo(document("versions/candidates/{versionCandidateId}/forms/GET/page"));
+
+    var requestCaptor = ArgumentCaptor.forClass(VersionedFileListRequest.class);
+    Mockito.verify(formService).getFormListByVersion(eq("1"), requestCaptor.capture());
+    var request = requestCaptor.getValue();
+    Assertions.assertThat(request.getLimit()).isEqualTo(1);
+    Assertions.assertThat(request.getSearch()).isEqualTo("john");
+    Assertions.assertThat(request.getCursor()).isNull();
+    Assertions.assertThat(request.getStatuses())
+        .containsExactlyInAnyOrder(FileStatus.NEW, FileStatus.CHANGED);
+  }
+
   @Test
   @DisplayName("POST /versions/candidates/{versionCandidateId}/forms/{formName} should return 201 with form content")
   @SneakyThrows
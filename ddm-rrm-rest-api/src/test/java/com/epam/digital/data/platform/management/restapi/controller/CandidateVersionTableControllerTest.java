@@ -175,10 +175,11 @@ class CandidateVersionTableControllerTest {
       var versionCandidate = "105";
       final var tableName = "John_Does_table";
 
-      final var expectedTablesResponse = new TableInfoDto();
-      expectedTablesResponse.setName(tableName);
-      expectedTablesResponse.setDescription("John Doe get table");
-      expectedTablesResponse.setObjectReference(true);
+      final var expectedTablesResponse = TableInfoDto.builder()
+          .name(tableName)
+          .description("John Doe get table")
+          .objectReference(true)
+          .build();
       Mockito.doReturn(false).when(buildStatusService).isSuccessCandidateVersionBuild(versionCandidate);
       Mockito.doReturn(expectedTablesResponse)
           .when(tableService).getTable(versionCandidate, tableName, false);
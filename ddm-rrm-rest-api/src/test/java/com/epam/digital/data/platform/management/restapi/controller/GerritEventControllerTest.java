@@ -0,0 +1,127 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.restapi.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.epam.digital.data.platform.management.core.event.publisher.RegistryRegulationManagementEventPublisher;
+import com.epam.digital.data.platform.management.restapi.config.GerritEventsProperties;
+import com.epam.digital.data.platform.management.restapi.service.GerritEventService;
+import com.epam.digital.data.platform.management.restapi.util.TestUtils;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@ControllerTest({GerritEventController.class, GerritEventService.class,
+    GerritEventsProperties.class})
+@TestPropertySource(properties = {
+    "registry-regulation-management.gerrit-events.enabled=true",
+    "registry-regulation-management.gerrit-events.token=secret"})
+@DisplayName("Gerrit events controller tests")
+class GerritEventControllerTest {
+
+  static final String HEAD_BRANCH = "master";
+
+  MockMvc mockMvc;
+  @MockBean
+  GerritPropertiesConfig gerritPropertiesConfig;
+  @MockBean
+  RegistryRegulationManagementEventPublisher eventPublisher;
+
+  @BeforeEach
+  void setUp(WebApplicationContext webApplicationContext) {
+    this.mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    Mockito.doReturn(HEAD_BRANCH).when(gerritPropertiesConfig).getHeadBranch();
+    Mockito.doReturn("registry-regulations").when(gerritPropertiesConfig).getRepository();
+  }
+
+  @Test
+  @DisplayName("patchset-created event should refresh changed version candidate")
+  void patchsetCreated() {
+    sendEvent("gerrit-events/patchset-created.json", "secret", status().isAccepted());
+
+    Mockito.verify(eventPublisher).publishVersionRepositoryChangedEvent("42");
+  }
+
+  @Test
+  @DisplayName("change-merged event should refresh head branch")
+  void changeMerged() {
+    sendEvent("gerrit-events/change-merged.json", "secret", status().isAccepted());
+
+    Mockito.verify(eventPublisher).publishVersionRepositoryChangedEvent(HEAD_BRANCH);
+  }
+
+  @Test
+  @DisplayName("ref-updated event of head branch should refresh head branch")
+  void refUpdated() {
+    sendEvent("gerrit-events/ref-updated.json", "secret", status().isAccepted());
+
+    Mockito.verify(eventPublisher).publishVersionRepositoryChangedEvent(HEAD_BRANCH);
+  }
+
+  @Test
+  @DisplayName("events of another repository should be ignored")
+  void anotherRepository() {
+    Mockito.doReturn("another-repository").when(gerritPropertiesConfig).getRepository();
+
+    sendEvent("gerrit-events/patchset-created.json", "secret", status().isAccepted());
+    sendEvent("gerrit-events/ref-updated.json", "secret", status().isAccepted());
+
+    Mockito.verifyNoInteractions(eventPublisher);
+  }
+
+  @Test
+  @DisplayName("events with invalid token should be rejected")
+  void invalidToken() {
+    sendEvent("gerrit-events/patchset-created.json", "invalid", status().isForbidden());
+
+    Mockito.verifyNoInteractions(eventPublisher);
+  }
+
+  @Test
+  @SneakyThrows
+  @DisplayName("events with token in query parameter should be rejected")
+  void tokenInQueryParameter() {
+    mockMvc.perform(post("/gerrit-events")
+        .queryParam("token", "secret")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(TestUtils.getContent("gerrit-events/patchset-created.json"))
+    ).andExpect(status().isForbidden());
+
+    Mockito.verifyNoInteractions(eventPublisher);
+  }
+
+  @SneakyThrows
+  void sendEvent(String eventPath, String token, ResultMatcher matcher) {
+    mockMvc.perform(post("/gerrit-events")
+        .header(GerritEventController.TOKEN_HEADER, token)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(TestUtils.getContent(eventPath))
+    ).andExpect(matcher);
+  }
+}
@@ -16,30 +16,43 @@
 
 package com.epam.digital.data.platform.management.restapi.controller;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.epam.digital.data.platform.management.filemanagement.model.FileStatus;
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileListPage;
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileListRequest;
 import com.epam.digital.data.platform.management.groups.service.GroupService;
 import com.epam.digital.data.platform.management.model.dto.BusinessProcessInfoDto;
 import com.epam.digital.data.platform.management.restapi.util.TestUtils;
 import com.epam.digital.data.platform.management.service.impl.BusinessProcessServiceImpl;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mockito;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.RestDocumentationContextProvider;
 import org.springframework.test.web.servlet.MockMvc;
@@ -117,6 +130,100 @@ class MasterVersionBusinessProcessControllerTest {
     ).andDo(document("versions/master/business-processes/GET"));
   }
 
+  @Test
+  @DisplayName("GET /versions/master/business-processes with page parameters should return 200 with page of business processes")
+  @SneakyThrows
+  void getBusinessProcessesPageFromMaster() {
+    final var expectedResponse = BusinessProcessInfoDto.builder()
+        .path("/bpmn/John_Does_process.bpmn")
+        .name("John_Does_process")
+        .title("John Doe added new component")
+        .created(LocalDateTime.of(2022, 11, 3, 11, 45))
+        .updated(LocalDateTime.of(2022, 11, 4, 13, 16))
+        .build();
+    final var page = VersionedFileListPage.<BusinessProcessInfoDto>builder()
+        .items(List.of(expectedResponse))
+        .nextCursor("John_Does_process")
+        .build();
+
+    Mockito.doReturn(page).when(businessProcessService)
+        .getProcessesByVersion(eq(HEAD_BRANCH), any(VersionedFileListRequest.class));
+
+    mockMvc.perform(
+        get("/versions/master/business-processes")
+            .param("limit", "1")
+            .param("search", "john")
+            .param("status", "UNCHANGED")
+            .accept(MediaType.APPLICATION_JSON)
+    ).andExpectAll(
+        status().isOk(),
+        content().contentType(MediaType.APPLICATION_JSON),
+        header().string(HttpHeaders.LINK, containsString("cursor=John_Does_process")),
+        header().string(HttpHeaders.LINK, endsWith("; rel=\"next\"")),
+        jsonPath("$", hasSize(1)),
+        jsonPath("$[0].name", equalTo("John_Does_process")),
+        jsonPath("$[0].title", equalTo("John Doe added new component")),
+        jsonPath("$[0].created", equalTo("2022-11-03T11:45:00.000Z")),
+        jsonPath("$[0].updated", equalTo("2022-11-04T13:16:00.000Z"))
+    ).andDo(document("versions/master/business-processes/GET/page"));
+
+    Mockito.verify(businessProcessService).getProcessesByVersion(eq(HEAD_BRANCH),
+        argThat(request -> Integer.valueOf(1).equals(request.getLimit())
+            && "john".equals(request.getSearch())
+            && Set.of(FileStatus.UNCHANGED).equals(request.getStatuses())));
+    Mockito.verify(businessProcessService, Mockito.never()).getProcessesByVersion(HEAD_BRANCH);
+  }
+
+  @Test
+  @DisplayName("GET /versions/master/business-processes with fields should return 200 with only requested fields")
+  @SneakyThrows
+  void getBusinessProcessFieldsFromMaster() {
+    final var expectedResponse = BusinessProcessInfoDto.builder()
+        .path("/bpmn/John_Does_process.bpmn")
+        .name("John_Does_process")
+        .title("John Doe added new component")
+        .created(LocalDateTime.of(2022, 11, 3, 11, 45))
+        .updated(LocalDateTime.of(2022, 11, 4, 13, 16))
+        .build();
+    final var page = VersionedFileListPage.<BusinessProcessInfoDto>builder()
+        .items(List.of(expectedResponse))
+        .build();
+
+    Mockito.doReturn(page).when(businessProcessService)
+        .getProcessesByVersion(eq(HEAD_BRANCH), any(VersionedFileListRequest.class));
+
+    mockMvc.perform(
+        get("/versions/master/business-processes")
+            .param("fields", "name", "title")
+            .accept(MediaType.APPLICATION_JSON)
+    ).andExpectAll(
+        status().isOk(),
+        content().contentType(MediaType.APPLICATION_JSON),
+        header().doesNotExist(HttpHeaders.LINK),
+        jsonPath("$", hasSize(1)),
+        jsonPath("$[0].name", equalTo("John_Does_process")),
+        jsonPath("$[0].title", equalTo("John Doe added new component")),
+        jsonPath("$[0].created").doesNotExist(),
+        jsonPath("$[0].updated").doesNotExist()
+    );
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"0", "1001"})
+  @DisplayName("GET /versions/master/business-processes with limit out of range should return 400")
+  @SneakyThrows
+  void getBusinessProcessesFromMasterInvalidLimit(String limit) {
+    mockMvc.perform(
+        get("/versions/master/business-processes")
+            .param("limit", limit)
+            .accept(MediaType.APPLICATION_JSON)
+    ).andExpect(
+        status().isBadRequest()
+    );
+
+    Mockito.verifyNoInteractions(businessProcessService);
+  }
+
   @Test
   @DisplayName("DELETE /versions/master/business-processes/{businessProcessName} should return 204")
   @SneakyThrows
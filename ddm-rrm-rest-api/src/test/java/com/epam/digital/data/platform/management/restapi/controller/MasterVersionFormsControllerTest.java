@@ -16,7 +16,13 @@
 
 package com.epam.digital.data.platform.management.restapi.controller;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -29,6 +35,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
 import com.epam.digital.data.platform.management.filemanagement.model.FileStatus;
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileListPage;
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileListRequest;
 import com.epam.digital.data.platform.management.forms.model.FormInfoDto;
 import com.epam.digital.data.platform.management.forms.service.FormService;
 import com.epam.digital.data.platform.management.restapi.util.TestUtils;
@@ -38,6 +46,8 @@ import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mockito;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.HttpHeaders;
@@ -98,6 +108,97 @@ class MasterVersionFormsControllerTest {
     Mockito.verify(formService).getFormListByVersion(HEAD_BRANCH);
   }
 
+  @Test
+  @DisplayName("GET /versions/master/forms with page parameters should return 200 with page of forms")
+  @SneakyThrows
+  void getFormsPageFromMaster() {
+    var expectedFormResponse = FormInfoDto.builder()
+        .name("john-does-form")
+        .path("forms/john-does-form.json")
+        .title("John Doe added new component")
+        .status(FileStatus.UNCHANGED)
+        .created(LocalDateTime.of(2022, 7, 29, 15, 6))
+        .updated(LocalDateTime.of(2022, 7, 29, 15, 7))
+        .build();
+    var page = VersionedFileListPage.<FormInfoDto>builder()
+        .items(List.of(expectedFormResponse))
+        .nextCursor("john-does-form")
+        .build();
+    Mockito.doReturn(page).when(formService)
+        .getFormListByVersion(eq(HEAD_BRANCH), any(VersionedFileListRequest.class));
+
+    mockMvc.perform(
+        get("/versions/master/forms")
+            .param("cursor", "ann-does-form")
+            .param("limit", "1")
+    ).andExpectAll(
+        status().isOk(),
+        content().contentType(MediaType.APPLICATION_JSON),
+        header().string(HttpHeaders.LINK, containsString("cursor=john-does-form")),
+        header().string(HttpHeaders.LINK, endsWith("; rel=\"next\"")),
+        jsonPath("$", hasSize(1)),
+        jsonPath("$.[0].name", is("john-does-form")),
+        jsonPath("$.[0].title", is("John Doe added new component")),
+        jsonPath("$.[0].created", is("2022-07-29T15:06:00.000Z")),
+        jsonPath("$.[0].updated", is("2022-07-29T15:07:00.000Z"))
+    ).andDo(document("versions/master/forms/GET/page"));
+
+    Mockito.verify(formService).getFormListByVersion(eq(HEAD_BRANCH),
+        argThat(request -> "ann-does-form".equals(request.getCursor())
+            && Integer.valueOf(1).equals(request.getLimit())));
+    Mockito.verify(formService, Mockito.never()).getFormListByVersion(HEAD_BRANCH);
+  }
+
+  @Test
+  @DisplayName("GET /versions/master/forms with fields should return 200 with only requested fields")
+  @SneakyThrows
+  void getFormFieldsFromMaster() {
+    var expectedFormResponse = FormInfoDto.builder()
+        .name("john-does-form")
+        .path("forms/john-does-form.json")
+        .title("John Doe added new component")
+        .status(FileStatus.UNCHANGED)
+        .created(LocalDateTime.of(2022, 7, 29, 15, 6))
+        .updated(LocalDateTime.of(2022, 7, 29, 15, 7))
+        .build();
+    var page = VersionedFileListPage.<FormInfoDto>builder()
+        .items(List.of(expectedFormResponse))
+        .nextCursor("john-does-form")
+        .build();
+    Mockito.doReturn(page).when(formService)
+        .getFormListByVersion(eq(HEAD_BRANCH), any(VersionedFileListRequest.class));
+
+    mockMvc.perform(
+        get("/versions/master/forms")
+            .param("fields", "name")
+            .param("limit", "1")
+    ).andExpectAll(
+        status().isOk(),
+        content().contentType(MediaType.APPLICATION_JSON),
+        header().string(HttpHeaders.LINK, containsString("cursor=john-does-form")),
+        jsonPath("$", hasSize(1)),
+        jsonPath("$.[0].name", is("john-does-form")),
+        jsonPath("$.[0].title").doesNotExist(),
+        jsonPath("$.[0].created").doesNotExist(),
+        jsonPath("$.[0].updated").doesNotExist()
+    );
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"0", "-1", "1001", "not-a-number"})
+  @DisplayName("GET /versions/master/forms with invalid limit should return 400")
+  @SneakyThrows
+  void getFormsFromMasterInvalidLimit(String limit) {
+    mockMvc.perform(
+        get("/versions/master/forms")
+            .param("limit", limit)
+    ).andExpect(
+        status().isBadRequest()
+    );
+
+    Mockito.verifyNoInteractions(formService);
+  }
+
   @Test
   @DisplayName("GET /versions/master/forms/{formName} should return 200 with form content")
   @SneakyThrows
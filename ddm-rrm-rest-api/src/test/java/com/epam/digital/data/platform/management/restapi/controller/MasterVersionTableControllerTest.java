@@ -137,10 +137,11 @@ class MasterVersionTableControllerTest {
     void getTableTest() {
       final var tableName = "John_Does_table";
 
-      final var expectedTablesResponse = new TableInfoDto();
-      expectedTablesResponse.setName(tableName);
-      expectedTablesResponse.setDescription("John Doe get table");
-      expectedTablesResponse.setObjectReference(true);
+      final var expectedTablesResponse = TableInfoDto.builder()
+          .name(tableName)
+          .description("John Doe get table")
+          .objectReference(true)
+          .build();
 
       Mockito.doReturn(false).when(buildStatusService).isSuccessMasterVersionBuild();
       Mockito.doReturn(expectedTablesResponse)
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.scheduled;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs a task for every item of a collection in parallel on a fixed number of threads. Every task
+ * run is limited by the task timeout counted from the moment the task is started, and tasks that
+ * are still queued when the cycle timeout is over are cancelled.
+ * <p>
+ * Timed out tasks aren't interrupted: an interrupt in the middle of a git operation can leave the
+ * repository with stale lock files. The executor stops waiting for an overdue task and lets it
+ * finish in background, the task keeps its thread until then. Items which task is still running
+ * since one of the previous runs are skipped.
+ */
+@Slf4j
+public class BoundedTaskExecutor {
+
+  public enum Outcome {
+    SUCCESS, FAILURE, TIMEOUT, CANCELLED, SKIPPED
+  }
+
+  private final ExecutorService executorService;
+  private final long taskTimeoutNanos;
+  private final long cycleTimeoutNanos;
+  private final Set<String> inFlightKeys = ConcurrentHashMap.newKeySet();
+
+  public BoundedTaskExecutor(String threadNamePrefix, int concurrency, Duration taskTimeout,
+      Duration cycleTimeout) {
+    var threadNumber = new AtomicInteger();
+    this.executorService = Executors.newFixedThreadPool(concurrency, runnable -> {
+      var thread = new Thread(runnable, threadNamePrefix + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.taskTimeoutNanos = taskTimeout.toNanos();
+    this.cycleTimeoutNanos = cycleTimeout.toNanos();
+  }
+
+  /**
+   * Run the task for every item and wait until all the runs are finished, timed out or cancelled
+   *
+   * @param items     items to run the task for
+   * @param keyMapper function that gives unique key of an item, e.g. version id, that is used in
+   *                  logs and in the result
+   * @param task      task to run
+   * @return outcome of the task run for every item key in items order
+   */
+  public <T> Map<String, Outcome> runAll(Collection<T> items, Function<T, String> keyMapper,
+      Consumer<T> task) {
+    var cycleDeadline = System.nanoTime() + cycleTimeoutNanos;
+    var runs = new ArrayList<TaskRun>(items.size());
+    for (var item : items) {
+      var run = new TaskRun(keyMapper.apply(item));
+      if (inFlightKeys.add(run.key)) {
+        run.future = executorService.submit(() -> execute(run, () -> task.accept(item)));
+      }
+      runs.add(run);
+    }
+    var outcomes = new LinkedHashMap<String, Outcome>();
+    for (var run : runs) {
+      outcomes.put(run.key, await(run, cycleDeadline));
+    }
+    return outcomes;
+  }
+
+  public void shutdown() {
+    executorService.shutdown();
+  }
+
+  private void execute(TaskRun run, Runnable task) {
+    if (!run.claimed.compareAndSet(false, true)) {
+      return;
+    }
+    run.startedAt.set(System.nanoTime());
+    try {
+      task.run();
+    } finally {
+      inFlightKeys.remove(run.key);
+    }
+  }
+
+  private Outcome await(TaskRun run, long cycleDeadline) {
+    if (Objects.isNull(run.future)) {
+      log.warn("Task for {} is still running since one of the previous runs, skipped", run.key);
+      return Outcome.SKIPPED;
+    }
+    while (true) {
+      var startedAt = run.startedAt.get();
+      var now = System.nanoTime();
+      if (startedAt == 0 && now - cycleDeadline >= 0 && cancelQueued(run)) {
+        log.warn("Task for {} wasn't started before cycle timeout, cancelled", run.key);
+        return Outcome.CANCELLED;
+      }
+      var timeout = startedAt == 0 ? Math.min(cycleDeadline - now, taskTimeoutNanos)
+          : startedAt + taskTimeoutNanos - now;
+      try {
+        run.future.get(Math.max(timeout, 0), TimeUnit.NANOSECONDS);
+        return Outcome.SUCCESS;
+      } catch (TimeoutException e) {
+        if (isTimedOut(run)) {
+          log.warn("Task for {} exceeded timeout, it's left to finish in background", run.key);
+          return Outcome.TIMEOUT;
+        }
+      } catch (ExecutionException e) {
+        log.warn("Task for {} failed: {}", run.key, e.getCause().getMessage(), e.getCause());
+        return Outcome.FAILURE;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        cancelQueued(run);
+        return Outcome.FAILURE;
+      }
+    }
+  }
+
+  /**
+   * Cancel the task if it isn't started yet. A started task can't be cancelled without interrupt,
+   * so it's left as is.
+   */
+  private boolean cancelQueued(TaskRun run) {
+    if (!run.claimed.compareAndSet(false, true)) {
+      return false;
+    }
+    run.future.cancel(false);
+    inFlightKeys.remove(run.key);
+    return true;
+  }
+
+  private boolean isTimedOut(TaskRun run) {
+    var startedAt = run.startedAt.get();
+    return startedAt != 0 && System.nanoTime() - startedAt >= taskTimeoutNanos;
+  }
+
+  private static class TaskRun {
+
+    private final String key;
+    private final AtomicBoolean claimed = new AtomicBoolean();
+    private final AtomicLong startedAt = new AtomicLong();
+    private Future<?> future;
+
+    private TaskRun(String key) {
+      this.key = key;
+    }
+  }
+}
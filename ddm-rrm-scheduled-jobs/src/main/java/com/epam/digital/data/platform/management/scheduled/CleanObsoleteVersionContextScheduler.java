@@ -18,6 +18,7 @@ package com.epam.digital.data.platform.management.scheduled;
 
 import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
 import com.epam.digital.data.platform.management.core.context.VersionContextComponentManager;
+import com.epam.digital.data.platform.management.core.service.CacheService;
 import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoShortDto;
 import com.epam.digital.data.platform.management.gerritintegration.service.GerritService;
 import com.epam.digital.data.platform.management.gitintegration.service.JGitService;
@@ -33,21 +34,30 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class CleanObsoleteVersionContextScheduler {
 
+  static final String CLEAN_OBSOLETE_VERSION_CONTEXTS_JOB = "clean-obsolete-version-contexts";
+
   private final VersionContextComponentManager versionContextComponentManager;
   private final GerritService gerritService;
   private final JGitService jGitService;
   private final GerritPropertiesConfig gerritPropertiesConfig;
+  private final CacheService cacheService;
+  private final ScheduledJobRunner scheduledJobRunner;
 
   @Scheduled(
       cron = "${registry-regulation-management.scheduled.clean-obsolete-version-contexts.cron}",
       zone = "${registry-regulation-management.scheduled.clean-obsolete-version-contexts.timezone}")
   public void cleanObsoleteVersionContexts() {
+    scheduledJobRunner.run(CLEAN_OBSOLETE_VERSION_CONTEXTS_JOB, this::doCleanObsoleteVersionContexts);
+  }
+
+  private void doCleanObsoleteVersionContexts() {
     try {
       var openedMrs = gerritService.getMRList();
       var repositoriesDirectory = gerritPropertiesConfig.getRepositoryDirectory();
 
       try (var directories = Files.list(Path.of(repositoriesDirectory))) {
         directories
+            .filter(path -> !path.getFileName().toString().startsWith("."))
             .filter(path -> !path.endsWith(gerritPropertiesConfig.getHeadBranch()))
             .filter(path -> openedMrs.stream()
                 .map(ChangeInfoShortDto::getNumber)
@@ -55,6 +65,7 @@ public class CleanObsoleteVersionContextScheduler {
             .map(path -> path.getFileName().toString())
             .forEach(repo -> {
               versionContextComponentManager.destroyContext(repo);
+              cacheService.evictVersionCaches(repo);
               jGitService.deleteRepo(repo);
             });
       }
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.scheduled;
+
+import com.epam.digital.data.platform.management.service.DataModelSnapshotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class DataModelSnapshotRevalidationScheduler {
+
+  static final String REVALIDATE_DATA_MODEL_SNAPSHOTS_JOB = "data-model-snapshot-revalidation";
+
+  private final DataModelSnapshotService dataModelSnapshotService;
+  private final ScheduledJobRunner scheduledJobRunner;
+
+  @Scheduled(
+      cron = "${registry-regulation-management.scheduled.data-model-snapshot-revalidation.cron}",
+      zone = "${registry-regulation-management.scheduled.data-model-snapshot-revalidation.timezone}")
+  public void revalidateDataModelSnapshots() {
+    scheduledJobRunner.run(REVALIDATE_DATA_MODEL_SNAPSHOTS_JOB,
+        dataModelSnapshotService::revalidateSnapshots);
+  }
+}
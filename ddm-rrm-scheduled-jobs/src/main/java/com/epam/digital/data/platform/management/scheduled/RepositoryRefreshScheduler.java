@@ -16,67 +16,129 @@
 
 package com.epam.digital.data.platform.management.scheduled;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.epam.digital.data.platform.management.core.service.CacheService;
+import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoDto;
 import com.epam.digital.data.platform.management.gerritintegration.service.GerritService;
 import com.epam.digital.data.platform.management.gitintegration.service.JGitService;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class RepositoryRefreshScheduler {
 
-  private static final String CONFLICTS_CACHE_NAME = "conflicts";
-  private static final String LATEST_REBASE_CACHE_NAME = "latestRebase";
+  static final String VERSION_CANDIDATE_REPO_REFRESH_JOB = "version-candidate-repo-refresh";
+  static final String MASTER_REPO_REFRESH_JOB = "master-repo-refresh";
+  static final String CHANGED_VERSION_CANDIDATE_REFRESH_JOB = "changed-version-candidate-refresh";
+  static final String CANDIDATE_REFRESH_METRIC = "registry.regulation.management.version.candidate.refresh";
+  static final String CANDIDATE_REFRESH_LAG_METRIC = "registry.regulation.management.version.candidate.refresh.lag";
+
   private final GerritService gerritService;
   private final JGitService jGitService;
-  private final CacheManager cacheManager;
+  private final CacheService cacheService;
+  private final ScheduledJobRunner scheduledJobRunner;
+  private final BoundedTaskExecutor versionCandidateRefreshExecutor;
+  private final MeterRegistry meterRegistry;
+  private final AtomicReference<Instant> lastCompletedCycleStartedAt = new AtomicReference<>();
+
+  public RepositoryRefreshScheduler(GerritService gerritService, JGitService jGitService,
+      CacheService cacheService, ScheduledJobRunner scheduledJobRunner,
+      BoundedTaskExecutor versionCandidateRefreshExecutor, MeterRegistry meterRegistry) {
+    this.gerritService = gerritService;
+    this.jGitService = jGitService;
+    this.cacheService = cacheService;
+    this.scheduledJobRunner = scheduledJobRunner;
+    this.versionCandidateRefreshExecutor = versionCandidateRefreshExecutor;
+    this.meterRegistry = meterRegistry;
+    meterRegistry.gauge(CANDIDATE_REFRESH_LAG_METRIC, lastCompletedCycleStartedAt,
+        cycleStartedAt -> Objects.isNull(cycleStartedAt.get()) ? Double.NaN
+            : Duration.between(cycleStartedAt.get(), Instant.now()).toMillis() / 1000.0);
+  }
 
   @Scheduled(cron = "${registry-regulation-management.scheduled.version-candidate-repo-refresh.cron}",
       zone = "${registry-regulation-management.scheduled.version-candidate-repo-refresh.timezone}")
   public void refreshVersionCandidates() {
-    log.debug("Refreshing version-candidates' repositories started");
-    var mrList = gerritService.getMRList();
-
-    for (var changeInfo : mrList) {
-      try {
-        var change = gerritService.getMRByNumber(changeInfo.getNumber());
-        if (change.getMergeable()) {
-          continue;
-        }
-        var changeId = change.getChangeId();
-        var versionId = change.getNumber();
-        log.debug("Refreshing repository {}", change.getNumber());
-        gerritService.rebase(changeId);
-        jGitService.cloneRepoIfNotExist(versionId);
-        jGitService.fetch(versionId, change.getRefs());
-
-        Cache conflictCache = cacheManager.getCache(CONFLICTS_CACHE_NAME);
-        conflictCache.evictIfPresent(versionId);
-        conflictCache.put(versionId, jGitService.getConflicts(versionId));
-
-        Cache rebaseCache = cacheManager.getCache(LATEST_REBASE_CACHE_NAME);
-        rebaseCache.evictIfPresent(versionId);
-        rebaseCache.put(versionId, LocalDateTime.now());
-      } catch (Exception e) {
-        log.warn("Error during repository refresh: {}", e.getMessage(), e);
-      }
-    }
-
-    log.debug("Refreshing version-candidates' repositories finished");
+    scheduledJobRunner.run(VERSION_CANDIDATE_REPO_REFRESH_JOB, this::doRefreshVersionCandidates);
   }
 
   @Scheduled(cron = "${registry-regulation-management.scheduled.master-repo-refresh.cron}",
       zone = "${registry-regulation-management.scheduled.master-repo-refresh.timezone}")
   public void refreshMasterVersion() {
+    scheduledJobRunner.run(MASTER_REPO_REFRESH_JOB, this::doRefreshMasterVersion);
+  }
+
+  private void doRefreshVersionCandidates() {
+    log.debug("Refreshing version-candidates' repositories started");
+    var cycleStartedAt = Instant.now();
+    var changes = gerritService.getMRDetailsList();
+
+    var outcomes = versionCandidateRefreshExecutor.runAll(changes, ChangeInfoDto::getNumber,
+        this::doRefreshVersionCandidate);
+    outcomes.values().forEach(outcome -> meterRegistry.counter(CANDIDATE_REFRESH_METRIC,
+        "outcome", outcome.name().toLowerCase()).increment());
+    lastCompletedCycleStartedAt.set(cycleStartedAt);
+
+    log.debug("Refreshing version-candidates' repositories finished");
+  }
+
+  /**
+   * Refresh version candidate that was changed in Gerrit. Unlike the scheduled refresh the
+   * candidate is fetched even if it's mergeable, as a new patch set changes its content anyway.
+   *
+   * @param versionId changed version candidate id
+   */
+  public void refreshVersionCandidate(String versionId) {
+    scheduledJobRunner.run(CHANGED_VERSION_CANDIDATE_REFRESH_JOB,
+        CHANGED_VERSION_CANDIDATE_REFRESH_JOB + "-" + versionId,
+        () -> doRefreshChangedVersionCandidate(gerritService.getMRByNumber(versionId)));
+  }
+
+  private void doRefreshVersionCandidate(ChangeInfoDto change) {
+    if (isMergeable(change)) {
+      return;
+    }
+    log.debug("Refreshing repository {}", change.getNumber());
+    gerritService.rebase(change.getChangeId());
+    fetchVersionCandidate(change);
+  }
+
+  private void doRefreshChangedVersionCandidate(ChangeInfoDto change) {
+    log.debug("Refreshing changed repository {}", change.getNumber());
+    if (!Boolean.TRUE.equals(change.getMergeable())) {
+      gerritService.rebase(change.getChangeId());
+    }
+    fetchVersionCandidate(change);
+  }
+
+  private boolean isMergeable(ChangeInfoDto change) {
+    if (Objects.isNull(change.getMergeable())) {
+      // the changes list has no mergeable flag if gerrit doesn't index mergeability, so it's
+      // requested here to be done in parallel for the changes
+      return gerritService.isMergeable(change.getChangeId());
+    }
+    return change.getMergeable();
+  }
+
+  private void fetchVersionCandidate(ChangeInfoDto change) {
+    var versionId = change.getNumber();
+    jGitService.cloneRepoIfNotExist(versionId);
+    jGitService.fetch(versionId, change.getRefs());
+
+    cacheService.updateConflictsCache(versionId, jGitService.getConflicts(versionId));
+    cacheService.updateLatestRebaseCache(versionId, LocalDateTime.now());
+  }
+
+  private void doRefreshMasterVersion() {
     log.debug("Refreshing head branch repository");
     try {
       jGitService.resetHeadBranchToRemote();
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.scheduled;
+
+import com.epam.digital.data.platform.management.scheduled.lock.ScheduledJobLock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs scheduled jobs under {@link ScheduledJobLock}, so every job run happens only on one
+ * replica, and records job duration and skipped runs metrics. A job run is also skipped if the
+ * previous run of the job hasn't finished yet.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduledJobRunner {
+
+  static final String JOB_DURATION_METRIC = "registry.regulation.management.scheduled.job.duration";
+  static final String JOB_SKIPPED_METRIC = "registry.regulation.management.scheduled.job.skipped";
+
+  private final ScheduledJobLock scheduledJobLock;
+  private final MeterRegistry meterRegistry;
+  private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+
+  public void run(String jobName, Runnable job) {
+    run(jobName, jobName, job);
+  }
+
+  /**
+   * Run a job that has independent runs, e.g. a refresh of a single version. Runs with different
+   * lock names don't block each other while metrics are recorded by the job name.
+   *
+   * @param jobName  name of the job used in metrics
+   * @param lockName name of the job run used for the lock and the overlap check
+   * @param job      job to run
+   */
+  public void run(String jobName, String lockName, Runnable job) {
+    if (!runningJobs.add(lockName)) {
+      log.warn("Job {} is skipped as its previous run is still in progress", lockName);
+      meterRegistry.counter(JOB_SKIPPED_METRIC, "job", jobName, "reason", "overlap").increment();
+      return;
+    }
+    try {
+      runLocked(jobName, lockName, job);
+    } finally {
+      runningJobs.remove(lockName);
+    }
+  }
+
+  private void runLocked(String jobName, String lockName, Runnable job) {
+    if (!scheduledJobLock.tryAcquire(lockName)) {
+      log.debug("Job {} is skipped as it is run by another replica", lockName);
+      meterRegistry.counter(JOB_SKIPPED_METRIC, "job", jobName, "reason", "locked").increment();
+      return;
+    }
+    var sample = Timer.start(meterRegistry);
+    var outcome = "failure";
+    try {
+      job.run();
+      outcome = "success";
+    } finally {
+      sample.stop(meterRegistry.timer(JOB_DURATION_METRIC, "job", jobName, "outcome", outcome));
+      scheduledJobLock.release(lockName);
+    }
+  }
+}
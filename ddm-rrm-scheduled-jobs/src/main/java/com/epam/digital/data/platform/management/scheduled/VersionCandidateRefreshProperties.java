@@ -0,0 +1,44 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.scheduled;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("registry-regulation-management.scheduled.version-candidate-repo-refresh")
+public class VersionCandidateRefreshProperties {
+
+  /**
+   * Number of version candidates that are refreshed in parallel
+   */
+  private int concurrency = 4;
+  /**
+   * Max duration of a single version candidate refresh
+   */
+  private Duration candidateTimeout = Duration.ofMinutes(2);
+  /**
+   * Max duration of a refresh cycle after which not started version candidate refreshes are
+   * cancelled. Should be less than the interval between cycles
+   */
+  private Duration cycleTimeout = Duration.ofMinutes(4);
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.scheduled;
+
+import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.epam.digital.data.platform.management.core.event.VersionRepositoryChangedEvent;
+import com.epam.digital.data.platform.management.core.event.VersionRepositoryChangedEventListener;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Refreshes repositories right after they were changed in Gerrit instead of waiting for the next
+ * scheduled refresh:
+ * <li>changed version candidate is fetched and its conflicts are recomputed</li>
+ * <li>changed head branch is reset to remote and all version candidates are refreshed as they
+ * may need rebase</li>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VersionRepositoryChangedEventRefreshListener implements
+    VersionRepositoryChangedEventListener {
+
+  private final RepositoryRefreshScheduler repositoryRefreshScheduler;
+  private final GerritPropertiesConfig gerritPropertiesConfig;
+
+  @Override
+  public void handleVersionRepositoryChangedEvent(VersionRepositoryChangedEvent event) {
+    var versionId = event.getVersionId();
+    log.debug("Refreshing repository {} after its change", versionId);
+    try {
+      if (gerritPropertiesConfig.getHeadBranch().equals(versionId)) {
+        repositoryRefreshScheduler.refreshMasterVersion();
+        repositoryRefreshScheduler.refreshVersionCandidates();
+      } else {
+        repositoryRefreshScheduler.refreshVersionCandidate(versionId);
+      }
+    } catch (RuntimeException e) {
+      log.warn("Error during repository {} refresh: {}", versionId, e.getMessage(), e);
+    }
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.scheduled.lock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link ScheduledJobLock} for a single replica deployment that is always acquired
+ */
+@Component
+@ConditionalOnProperty(prefix = "registry-regulation-management.scheduled.lock", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class LocalScheduledJobLock implements ScheduledJobLock {
+
+  @Override
+  public boolean tryAcquire(@NonNull String jobName) {
+    return true;
+  }
+
+  @Override
+  public void release(@NonNull String jobName) {
+    // nothing to release
+  }
+}
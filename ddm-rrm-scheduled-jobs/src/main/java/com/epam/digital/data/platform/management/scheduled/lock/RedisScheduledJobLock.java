@@ -0,0 +1,125 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.digital.data.platform.management.scheduled.lock;
+
+import com.epam.digital.data.platform.management.core.config.CacheRegionProperties;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link ScheduledJobLock} based on Redis keys with expiration.
+ * <p>
+ * Key {@code <keyPrefix>:<jobName>} contains the replica that holds the lock and expires after
+ * {@link ScheduledJobLockProperties#getLockAtMostFor()}, so if the replica dies another replica
+ * takes the lock over. The lock requires {@link CacheRegionProperties.Backend#REDIS} cache
+ * backend: replicas that don't run the jobs read job results from the shared caches.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "registry-regulation-management.scheduled.lock", name = "enabled", havingValue = "true")
+public class RedisScheduledJobLock implements ScheduledJobLock {
+
+  private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('get', KEYS[1]) ~= ARGV[1] then return 0 end "
+          + "if tonumber(ARGV[2]) > 0 then return redis.call('pexpire', KEYS[1], ARGV[2]) end "
+          + "return redis.call('del', KEYS[1])", Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final ScheduledJobLockProperties properties;
+  private final Clock clock;
+  private final String instanceId;
+  private final Map<String, Instant> acquiredAt = new ConcurrentHashMap<>();
+
+  @Autowired
+  public RedisScheduledJobLock(StringRedisTemplate redisTemplate,
+      ScheduledJobLockProperties properties, CacheRegionProperties cacheRegionProperties) {
+    this(redisTemplate, properties, cacheRegionProperties, Clock.systemUTC(),
+        Optional.ofNullable(System.getenv("HOSTNAME"))
+            .map(hostname -> hostname + "-" + UUID.randomUUID())
+            .orElseGet(() -> UUID.randomUUID().toString()));
+  }
+
+  RedisScheduledJobLock(StringRedisTemplate redisTemplate, ScheduledJobLockProperties properties,
+      CacheRegionProperties cacheRegionProperties, Clock clock, String instanceId) {
+    if (cacheRegionProperties.getBackend() != CacheRegionProperties.Backend.REDIS) {
+      throw new IllegalStateException("Scheduled job lock requires "
+          + "registry-regulation-management.cache.backend=redis, otherwise replicas that don't "
+          + "run the scheduled jobs never get the conflicts and latest rebase caches filled");
+    }
+    this.redisTemplate = redisTemplate;
+    this.properties = properties;
+    this.clock = clock;
+    this.instanceId = instanceId;
+  }
+
+  @Override
+  public boolean tryAcquire(@NonNull String jobName) {
+    if (acquiredAt.containsKey(jobName)) {
+      return false;
+    }
+    var now = clock.instant();
+    try {
+      var acquired = redisTemplate.opsForValue()
+          .setIfAbsent(getKey(jobName), instanceId, properties.getLockAtMostFor());
+      if (!Boolean.TRUE.equals(acquired)) {
+        log.debug("Lock of job {} is held by another replica", jobName);
+        return false;
+      }
+    } catch (RuntimeException e) {
+      log.warn("Couldn't acquire lock of job {}: {}", jobName, e.getMessage());
+      return false;
+    }
+    acquiredAt.put(jobName, now);
+    return true;
+  }
+
+  @Override
+  public void release(@NonNull String jobName) {
+    var startedAt = acquiredAt.remove(jobName);
+    if (Objects.isNull(startedAt)) {
+      return;
+    }
+    var keepFor = Duration.between(clock.instant(),
+        startedAt.plus(properties.getLockAtLeastFor()));
+    try {
+      redisTemplate.execute(RELEASE_SCRIPT, List.of(getKey(jobName)), instanceId,
+          String.valueOf(Math.max(keepFor.toMillis(), 0)));
+    } catch (RuntimeException e) {
+      log.warn("Couldn't release lock of job {}: {}", jobName, e.getMessage());
+    }
+  }
+
+  private String getKey(String jobName) {
+    return properties.getKeyPrefix() + ":" + jobName;
+  }
+}
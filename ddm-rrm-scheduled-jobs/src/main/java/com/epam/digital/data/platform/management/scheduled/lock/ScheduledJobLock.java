@@ -0,0 +1,40 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.scheduled.lock;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * Cluster-wide lock that lets a scheduled job run only on one replica at a time
+ */
+public interface ScheduledJobLock {
+
+  /**
+   * Try to acquire the job lock
+   *
+   * @param jobName name of the scheduled job
+   * @return true if the lock is acquired by this replica and the job can be run
+   */
+  boolean tryAcquire(@NonNull String jobName);
+
+  /**
+   * Release the job lock acquired by this replica
+   *
+   * @param jobName name of the scheduled job
+   */
+  void release(@NonNull String jobName);
+}
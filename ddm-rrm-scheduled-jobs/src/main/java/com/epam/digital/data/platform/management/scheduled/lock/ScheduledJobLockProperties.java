@@ -0,0 +1,49 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.scheduled.lock;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("registry-regulation-management.scheduled.lock")
+public class ScheduledJobLockProperties {
+
+  /**
+   * Run every scheduled job on a single replica at a time. Requires Redis cache backend.
+   */
+  private boolean enabled;
+  /**
+   * Prefix of Redis keys that hold job locks
+   */
+  private String keyPrefix = "registry-regulation-management:scheduled-job-lock";
+  /**
+   * Lock duration. Lock of a replica that died during the job run is taken over by another
+   * replica after this time, so it must be longer than the longest job run.
+   */
+  private Duration lockAtMostFor = Duration.ofMinutes(30);
+  /**
+   * Minimal lock duration that protects short jobs from being run again by replicas which clocks
+   * are slightly behind
+   */
+  private Duration lockAtLeastFor = Duration.ofSeconds(30);
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.scheduled;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.management.scheduled.BoundedTaskExecutor.Outcome;
+import java.io.File;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.SneakyThrows;
+import org.eclipse.jgit.api.Git;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BoundedTaskExecutorTest {
+
+  private BoundedTaskExecutor executor;
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdown();
+  }
+
+  @Test
+  void shouldNotRunMoreTasksThanConcurrencyLimit() {
+    executor = new BoundedTaskExecutor("test-", 2, Duration.ofSeconds(10),
+        Duration.ofMinutes(1));
+    var running = new AtomicInteger();
+    var maxRunning = new AtomicInteger();
+
+    var outcomes = executor.runAll(List.of(1, 2, 3, 4, 5, 6), String::valueOf, item -> {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      sleep(50);
+      running.decrementAndGet();
+    });
+
+    assertThat(maxRunning.get()).isEqualTo(2);
+    assertThat(outcomes).hasSize(6).containsOnlyKeys(1, 2, 3, 4, 5, 6);
+    assertThat(outcomes.values()).containsOnly(Outcome.SUCCESS);
+  }
+
+  @Test
+  void shouldIsolateFailedAndTimedOutTasks() {
+    executor = new BoundedTaskExecutor("test-", 1, Duration.ofMillis(200),
+        Duration.ofMinutes(1));
+
+    var items = List.of("fast", "failing", "hanging", "queued");
+    var outcomes = executor.runAll(items, Function.identity(), item -> {
+      if ("failing".equals(item)) {
+        throw new IllegalStateException("failure");
+      }
+      if ("hanging".equals(item)) {
+        sleep(1_000);
+      }
+    });
+
+    assertThat(outcomes).isEqualTo(Map.of(
+        "fast", Outcome.SUCCESS,
+        "failing", Outcome.FAILURE,
+        "hanging", Outcome.TIMEOUT,
+        "queued", Outcome.SUCCESS));
+  }
+
+  @Test
+  void shouldCountTimeoutFromTaskStart() {
+    executor = new BoundedTaskExecutor("test-", 1, Duration.ofMillis(300),
+        Duration.ofMinutes(1));
+
+    var outcomes = executor.runAll(List.of(1, 2, 3), String::valueOf, item -> sleep(150));
+
+    assertThat(outcomes.values()).containsOnly(Outcome.SUCCESS);
+  }
+
+  @Test
+  void shouldCancelQueuedTasksAfterCycleTimeout() {
+    executor = new BoundedTaskExecutor("test-", 1, Duration.ofMillis(100),
+        Duration.ofMillis(300));
+    var release = new CountDownLatch(1);
+    var queuedStarted = new AtomicBoolean();
+
+    var outcomes = executor.runAll(List.of("hanging", "queued"), Function.identity(), item -> {
+      if ("hanging".equals(item)) {
+        await(release);
+      } else {
+        queuedStarted.set(true);
+      }
+    });
+    release.countDown();
+
+    assertThat(outcomes).isEqualTo(Map.of(
+        "hanging", Outcome.TIMEOUT,
+        "queued", Outcome.CANCELLED));
+    sleep(100);
+    assertThat(queuedStarted).isFalse();
+  }
+
+  @Test
+  void shouldSkipItemWhichTaskIsStillRunning() {
+    executor = new BoundedTaskExecutor("test-", 2, Duration.ofMillis(100),
+        Duration.ofMinutes(1));
+    var release = new CountDownLatch(1);
+    var runs = new AtomicInteger();
+    Consumer<String> task = item -> {
+      if ("hanging".equals(item)) {
+        runs.incrementAndGet();
+        await(release);
+      }
+    };
+
+    var firstOutcomes = executor.runAll(List.of("hanging"), Function.identity(), task);
+    var secondOutcomes = executor.runAll(List.of("hanging", "other"), Function.identity(), task);
+    release.countDown();
+
+    assertThat(firstOutcomes).isEqualTo(Map.of("hanging", Outcome.TIMEOUT));
+    assertThat(secondOutcomes).isEqualTo(Map.of(
+        "hanging", Outcome.SKIPPED,
+        "other", Outcome.SUCCESS));
+    assertThat(runs.get()).isEqualTo(1);
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldLetTimedOutTaskFinishRepositoryUpdate(@TempDir File repositoryDirectory) {
+    executor = new BoundedTaskExecutor("test-", 1, Duration.ofMillis(100),
+        Duration.ofMinutes(1));
+    var finished = new CountDownLatch(1);
+    var interrupted = new AtomicBoolean();
+
+    try (var git = Git.init().setDirectory(repositoryDirectory).call()) {
+      var outcomes = executor.runAll(List.of("version"), Function.identity(), item -> {
+        sleep(300);
+        interrupted.set(Thread.currentThread().isInterrupted());
+        commitFile(git, repositoryDirectory, "forms/form.json");
+        finished.countDown();
+      });
+
+      assertThat(outcomes).isEqualTo(Map.of("version", Outcome.TIMEOUT));
+      assertThat(finished.await(10, TimeUnit.SECONDS)).isTrue();
+      assertThat(interrupted).isFalse();
+      assertThat(new File(repositoryDirectory, ".git/index.lock")).doesNotExist();
+      assertThat(git.status().call().isClean()).isTrue();
+      assertThat(git.log().call()).hasSize(1);
+    }
+  }
+
+  @SneakyThrows
+  private static void commitFile(Git git, File repositoryDirectory, String path) {
+    var file = new File(repositoryDirectory, path);
+    Files.createDirectories(file.getParentFile().toPath());
+    Files.writeString(file.toPath(), "{}");
+    git.add().addFilepattern(path).call();
+    git.commit().setMessage("Add " + path)
+        .setAuthor("test", "test@epam.com")
+        .setCommitter("test", "test@epam.com")
+        .call();
+  }
+
+  @SneakyThrows
+  private static void await(CountDownLatch latch) {
+    assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @SneakyThrows
+  private static void sleep(long millis) {
+    Thread.sleep(millis);
+  }
+}
@@ -18,6 +18,7 @@ package com.epam.digital.data.platform.management.scheduled;
 
 import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
 import com.epam.digital.data.platform.management.core.context.VersionContextComponentManager;
+import com.epam.digital.data.platform.management.core.service.CacheService;
 import com.epam.digital.data.platform.management.gerritintegration.exception.GerritCommunicationException;
 import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoShortDto;
 import com.epam.digital.data.platform.management.gerritintegration.service.GerritServiceImpl;
@@ -53,6 +54,11 @@ public class CleanObsoleteVersionContextSchedulerTest {
   private GerritPropertiesConfig gerritPropertiesConfig;
   @Mock
   private VersionContextComponentManager context;
+  @Mock
+  private CacheService cacheService;
+
+  @Mock
+  private ScheduledJobRunner scheduledJobRunner;
 
   @InjectMocks
   private CleanObsoleteVersionContextScheduler scheduler;
@@ -62,6 +68,10 @@ public class CleanObsoleteVersionContextSchedulerTest {
     Mockito.doReturn(tempDir.getAbsolutePath()).when(gerritPropertiesConfig)
         .getRepositoryDirectory();
     Mockito.doReturn("").when(gerritPropertiesConfig).getHeadBranch();
+    Mockito.doAnswer(invocation -> {
+      invocation.<Runnable>getArgument(1).run();
+      return null;
+    }).when(scheduledJobRunner).run(Mockito.anyString(), Mockito.any());
   }
 
   @Test
@@ -75,6 +85,7 @@ public class CleanObsoleteVersionContextSchedulerTest {
 
     Mockito.verify(jGitService).deleteRepo(repo);
     Mockito.verify(context).destroyContext(repo);
+    Mockito.verify(cacheService).evictVersionCaches(repo);
   }
 
   @Test
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.scheduled;
+
+import com.epam.digital.data.platform.management.service.DataModelSnapshotService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class DataModelSnapshotRevalidationSchedulerTest {
+
+  @Mock
+  private DataModelSnapshotService dataModelSnapshotService;
+  @Mock
+  private ScheduledJobRunner scheduledJobRunner;
+
+  @InjectMocks
+  private DataModelSnapshotRevalidationScheduler scheduler;
+
+  @Test
+  void revalidateDataModelSnapshotsTest() {
+    Mockito.doAnswer(invocation -> {
+      invocation.<Runnable>getArgument(1).run();
+      return null;
+    }).when(scheduledJobRunner).run(Mockito.anyString(), Mockito.any());
+
+    scheduler.revalidateDataModelSnapshots();
+
+    Mockito.verify(scheduledJobRunner).run(
+        Mockito.eq(DataModelSnapshotRevalidationScheduler.REVALIDATE_DATA_MODEL_SNAPSHOTS_JOB),
+        Mockito.any());
+    Mockito.verify(dataModelSnapshotService).revalidateSnapshots();
+  }
+
+  @Test
+  void revalidateDataModelSnapshotsTest_lockedByAnotherReplica() {
+    scheduler.revalidateDataModelSnapshots();
+
+    Mockito.verifyNoInteractions(dataModelSnapshotService);
+  }
+}
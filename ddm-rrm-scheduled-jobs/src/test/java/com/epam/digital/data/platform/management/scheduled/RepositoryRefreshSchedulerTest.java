@@ -20,11 +20,13 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 
+import com.epam.digital.data.platform.management.core.service.CacheService;
 import com.epam.digital.data.platform.management.gerritintegration.exception.GerritCommunicationException;
 import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoDto;
-import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoShortDto;
 import com.epam.digital.data.platform.management.gerritintegration.service.GerritServiceImpl;
 import com.epam.digital.data.platform.management.gitintegration.service.JGitServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -33,11 +35,8 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 @ExtendWith(SpringExtension.class)
@@ -48,19 +47,31 @@ public class RepositoryRefreshSchedulerTest {
   @Mock
   private GerritServiceImpl gerritService;
   @Mock
-  private CacheManager cacheManager;
+  private CacheService cacheService;
 
-  @InjectMocks
+  @Mock
+  private ScheduledJobRunner scheduledJobRunner;
+
+  private SimpleMeterRegistry meterRegistry;
   private RepositoryRefreshScheduler repositoryRefreshScheduler;
 
   @BeforeEach
   @SneakyThrows
   void mockMethods() {
-    var changeInfo = new ChangeInfoShortDto();
-    changeInfo.setNumber("1");
-    changeInfo.setSubject("changeInfoSubject");
-    changeInfo.setTopic("changeInfoTopic");
-    Mockito.when(gerritService.getMRList()).thenReturn(List.of(changeInfo));
+    meterRegistry = new SimpleMeterRegistry();
+    repositoryRefreshScheduler = new RepositoryRefreshScheduler(gerritService, jGitService,
+        cacheService, scheduledJobRunner,
+        new BoundedTaskExecutor("test-refresh-", 2, Duration.ofMinutes(1),
+            Duration.ofMinutes(1)), meterRegistry);
+    Mockito.when(gerritService.getMRDetailsList()).thenReturn(List.of(getChangeInfo()));
+    Mockito.doAnswer(invocation -> {
+      invocation.<Runnable>getArgument(1).run();
+      return null;
+    }).when(scheduledJobRunner).run(Mockito.anyString(), Mockito.any());
+    Mockito.doAnswer(invocation -> {
+      invocation.<Runnable>getArgument(2).run();
+      return null;
+    }).when(scheduledJobRunner).run(Mockito.anyString(), Mockito.anyString(), Mockito.any());
   }
 
   @Test
@@ -68,24 +79,70 @@ public class RepositoryRefreshSchedulerTest {
   void refreshVersionCandidatesTest() {
     ChangeInfoDto changeInfoDto = getChangeInfo();
 
-    Mockito.when(gerritService.getMRByNumber(changeInfoDto.getNumber()))
-        .thenReturn(changeInfoDto);
-    Cache cache = Mockito.mock(Cache.class);
-    Mockito.when(cacheManager.getCache("latestRebase"))
-            .thenReturn(cache);
-    Cache conflictCache = Mockito.mock(Cache.class);
-    Mockito.when(cacheManager.getCache("conflicts"))
-            .thenReturn(conflictCache);
+    var conflicts = List.of("conflict");
+    Mockito.when(jGitService.getConflicts(changeInfoDto.getNumber())).thenReturn(conflicts);
+
+    repositoryRefreshScheduler.refreshVersionCandidates();
+    Mockito.verify(gerritService).rebase(changeInfoDto.getChangeId());
+    Mockito.verify(jGitService).cloneRepoIfNotExist(changeInfoDto.getNumber());
+    Mockito.verify(jGitService).fetch(changeInfoDto.getNumber(), changeInfoDto.getRefs());
+    Mockito.verify(jGitService).getConflicts(changeInfoDto.getNumber());
+    Mockito.verify(cacheService).updateConflictsCache(changeInfoDto.getNumber(), conflicts);
+    Mockito.verify(cacheService).updateLatestRebaseCache(eq(changeInfoDto.getNumber()), any());
+    Mockito.verify(gerritService, never()).getMRByNumber(Mockito.anyString());
+    Assertions.assertThat(meterRegistry.get(RepositoryRefreshScheduler.CANDIDATE_REFRESH_METRIC)
+        .tag("outcome", "success").counter().count()).isEqualTo(1);
+    Assertions.assertThat(meterRegistry.get(RepositoryRefreshScheduler.CANDIDATE_REFRESH_LAG_METRIC)
+        .gauge().value()).isNotNaN();
+  }
+
+  @Test
+  @SneakyThrows
+  void refreshVersionCandidatesMergeableNotIndexedTest() {
+    ChangeInfoDto changeInfoDto = getChangeInfo();
+    changeInfoDto.setMergeable(null);
+    Mockito.when(gerritService.getMRDetailsList()).thenReturn(List.of(changeInfoDto));
+    Mockito.when(gerritService.isMergeable(changeInfoDto.getChangeId())).thenReturn(true);
 
     repositoryRefreshScheduler.refreshVersionCandidates();
+
+    Mockito.verify(gerritService).isMergeable(changeInfoDto.getChangeId());
+    Mockito.verify(gerritService, never()).rebase(Mockito.anyString());
+    Mockito.verify(jGitService, never()).fetch(Mockito.anyString(), Mockito.any());
+  }
+
+  @Test
+  @SneakyThrows
+  void refreshChangedVersionCandidateTest() {
+    ChangeInfoDto changeInfoDto = getChangeInfo();
+    Mockito.when(gerritService.getMRByNumber(changeInfoDto.getNumber())).thenReturn(changeInfoDto);
+    var conflicts = List.of("conflict");
+    Mockito.when(jGitService.getConflicts(changeInfoDto.getNumber())).thenReturn(conflicts);
+
+    repositoryRefreshScheduler.refreshVersionCandidate(changeInfoDto.getNumber());
+
+    Mockito.verify(scheduledJobRunner).run(
+        eq(RepositoryRefreshScheduler.CHANGED_VERSION_CANDIDATE_REFRESH_JOB),
+        eq(RepositoryRefreshScheduler.CHANGED_VERSION_CANDIDATE_REFRESH_JOB + "-1"), any());
     Mockito.verify(gerritService).rebase(changeInfoDto.getChangeId());
+    Mockito.verify(jGitService).fetch(changeInfoDto.getNumber(), changeInfoDto.getRefs());
+    Mockito.verify(cacheService).updateConflictsCache(changeInfoDto.getNumber(), conflicts);
+    Mockito.verify(cacheService).updateLatestRebaseCache(eq(changeInfoDto.getNumber()), any());
+  }
+
+  @Test
+  @SneakyThrows
+  void refreshChangedMergeableVersionCandidateTest() {
+    ChangeInfoDto changeInfoDto = getChangeInfo();
+    changeInfoDto.setMergeable(true);
+    Mockito.when(gerritService.getMRByNumber(changeInfoDto.getNumber())).thenReturn(changeInfoDto);
+
+    repositoryRefreshScheduler.refreshVersionCandidate(changeInfoDto.getNumber());
+
+    Mockito.verify(gerritService, never()).rebase(Mockito.anyString());
     Mockito.verify(jGitService).cloneRepoIfNotExist(changeInfoDto.getNumber());
     Mockito.verify(jGitService).fetch(changeInfoDto.getNumber(), changeInfoDto.getRefs());
     Mockito.verify(jGitService).getConflicts(changeInfoDto.getNumber());
-    Mockito.verify(cache).evictIfPresent(changeInfoDto.getNumber());
-    Mockito.verify(cache).put(eq(changeInfoDto.getNumber()), any());
-    Mockito.verify(conflictCache).evictIfPresent(changeInfoDto.getNumber());
-    Mockito.verify(conflictCache).put(eq(changeInfoDto.getNumber()), any());
   }
 
   @Test
@@ -106,6 +163,8 @@ public class RepositoryRefreshSchedulerTest {
     Assertions.assertThatCode(() -> repositoryRefreshScheduler.refreshVersionCandidates())
         .doesNotThrowAnyException();
     Mockito.verify(jGitService, never()).fetch(changeInfoDto.getNumber(), changeInfoDto.getRefs());
+    Assertions.assertThat(meterRegistry.get(RepositoryRefreshScheduler.CANDIDATE_REFRESH_METRIC)
+        .tag("outcome", "failure").counter().count()).isEqualTo(1);
   }
 
   @Test
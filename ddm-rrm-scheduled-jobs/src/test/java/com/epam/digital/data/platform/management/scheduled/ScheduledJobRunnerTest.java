@@ -0,0 +1,125 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.scheduled;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.epam.digital.data.platform.management.scheduled.lock.ScheduledJobLock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduledJobRunnerTest {
+
+  private static final String JOB_NAME = "job";
+
+  @Mock
+  private ScheduledJobLock scheduledJobLock;
+  @Mock
+  private Runnable job;
+
+  private SimpleMeterRegistry meterRegistry;
+  private ScheduledJobRunner scheduledJobRunner;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    scheduledJobRunner = new ScheduledJobRunner(scheduledJobLock, meterRegistry);
+  }
+
+  @Test
+  void shouldRunJobUnderLockAndRecordDuration() {
+    Mockito.doReturn(true).when(scheduledJobLock).tryAcquire(JOB_NAME);
+
+    scheduledJobRunner.run(JOB_NAME, job);
+
+    var inOrder = Mockito.inOrder(scheduledJobLock, job);
+    inOrder.verify(scheduledJobLock).tryAcquire(JOB_NAME);
+    inOrder.verify(job).run();
+    inOrder.verify(scheduledJobLock).release(JOB_NAME);
+    assertThat(meterRegistry.get(ScheduledJobRunner.JOB_DURATION_METRIC)
+        .tags("job", JOB_NAME, "outcome", "success").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldSkipJobIfLockIsHeldByAnotherReplica() {
+    Mockito.doReturn(false).when(scheduledJobLock).tryAcquire(JOB_NAME);
+
+    scheduledJobRunner.run(JOB_NAME, job);
+
+    Mockito.verifyNoInteractions(job);
+    Mockito.verify(scheduledJobLock, Mockito.never()).release(JOB_NAME);
+    assertThat(meterRegistry.get(ScheduledJobRunner.JOB_SKIPPED_METRIC)
+        .tags("job", JOB_NAME, "reason", "locked").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldSkipJobIfPreviousRunIsInProgress() {
+    Mockito.doReturn(true).when(scheduledJobLock).tryAcquire(JOB_NAME);
+    Mockito.doAnswer(invocation -> {
+      scheduledJobRunner.run(JOB_NAME, job);
+      return null;
+    }).when(job).run();
+
+    scheduledJobRunner.run(JOB_NAME, job);
+
+    Mockito.verify(job).run();
+    Mockito.verify(scheduledJobLock).tryAcquire(JOB_NAME);
+    assertThat(meterRegistry.get(ScheduledJobRunner.JOB_SKIPPED_METRIC)
+        .tags("job", JOB_NAME, "reason", "overlap").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldReleaseLockIfJobFailed() {
+    Mockito.doReturn(true).when(scheduledJobLock).tryAcquire(JOB_NAME);
+    Mockito.doThrow(IllegalStateException.class).when(job).run();
+
+    assertThatThrownBy(() -> scheduledJobRunner.run(JOB_NAME, job))
+        .isInstanceOf(IllegalStateException.class);
+
+    Mockito.verify(scheduledJobLock).release(JOB_NAME);
+    assertThat(meterRegistry.get(ScheduledJobRunner.JOB_DURATION_METRIC)
+        .tags("job", JOB_NAME, "outcome", "failure").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldLockJobRunByLockNameAndRecordDurationByJobName() {
+    var lockName = JOB_NAME + "-1";
+    var otherLockName = JOB_NAME + "-2";
+    Mockito.doReturn(true).when(scheduledJobLock).tryAcquire(lockName);
+    Mockito.doReturn(true).when(scheduledJobLock).tryAcquire(otherLockName);
+    var otherJob = Mockito.mock(Runnable.class);
+    Mockito.doAnswer(invocation -> {
+      scheduledJobRunner.run(JOB_NAME, otherLockName, otherJob);
+      return null;
+    }).when(job).run();
+
+    scheduledJobRunner.run(JOB_NAME, lockName, job);
+
+    Mockito.verify(otherJob).run();
+    Mockito.verify(scheduledJobLock).release(lockName);
+    Mockito.verify(scheduledJobLock).release(otherLockName);
+    assertThat(meterRegistry.get(ScheduledJobRunner.JOB_DURATION_METRIC)
+        .tags("job", JOB_NAME, "outcome", "success").timer().count()).isEqualTo(2);
+  }
+}
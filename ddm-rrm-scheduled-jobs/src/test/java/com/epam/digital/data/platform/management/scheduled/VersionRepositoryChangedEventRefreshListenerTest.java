@@ -0,0 +1,75 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.scheduled;
+
+import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.epam.digital.data.platform.management.core.event.VersionRepositoryChangedEvent;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class VersionRepositoryChangedEventRefreshListenerTest {
+
+  private static final String HEAD_BRANCH = "master";
+
+  @Mock
+  private RepositoryRefreshScheduler repositoryRefreshScheduler;
+  @Mock
+  private GerritPropertiesConfig gerritPropertiesConfig;
+
+  @InjectMocks
+  private VersionRepositoryChangedEventRefreshListener listener;
+
+  @BeforeEach
+  void setUp() {
+    Mockito.doReturn(HEAD_BRANCH).when(gerritPropertiesConfig).getHeadBranch();
+  }
+
+  @Test
+  void shouldRefreshOnlyChangedVersionCandidate() {
+    listener.handleVersionRepositoryChangedEvent(new VersionRepositoryChangedEvent(this, "42"));
+
+    Mockito.verify(repositoryRefreshScheduler).refreshVersionCandidate("42");
+    Mockito.verifyNoMoreInteractions(repositoryRefreshScheduler);
+  }
+
+  @Test
+  void shouldRefreshHeadBranchAndCandidatesOnHeadBranchChange() {
+    listener.handleVersionRepositoryChangedEvent(
+        new VersionRepositoryChangedEvent(this, HEAD_BRANCH));
+
+    var inOrder = Mockito.inOrder(repositoryRefreshScheduler);
+    inOrder.verify(repositoryRefreshScheduler).refreshMasterVersion();
+    inOrder.verify(repositoryRefreshScheduler).refreshVersionCandidates();
+    Mockito.verify(repositoryRefreshScheduler, Mockito.never()).refreshVersionCandidate(HEAD_BRANCH);
+  }
+
+  @Test
+  void shouldNotThrowIfRefreshFailed() {
+    Mockito.doThrow(RuntimeException.class).when(repositoryRefreshScheduler)
+        .refreshVersionCandidate("42");
+
+    Assertions.assertThatCode(() -> listener.handleVersionRepositoryChangedEvent(
+        new VersionRepositoryChangedEvent(this, "42"))).doesNotThrowAnyException();
+  }
+}
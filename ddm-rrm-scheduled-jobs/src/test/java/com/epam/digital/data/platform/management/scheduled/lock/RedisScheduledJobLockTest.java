@@ -0,0 +1,145 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.digital.data.platform.management.scheduled.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+import com.epam.digital.data.platform.management.core.config.CacheRegionProperties;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+class RedisScheduledJobLockTest {
+
+  private static final String JOB_NAME = "master-repo-refresh";
+  private static final String LOCK_KEY = "prefix:" + JOB_NAME;
+  private static final Instant NOW = Instant.parse("2023-01-01T10:00:00Z");
+
+  private StringRedisTemplate redisTemplate;
+  private ValueOperations<String, String> valueOperations;
+  private Clock clock;
+  private ScheduledJobLockProperties properties;
+  private CacheRegionProperties cacheRegionProperties;
+  private RedisScheduledJobLock lock;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    redisTemplate = Mockito.mock(StringRedisTemplate.class);
+    valueOperations = Mockito.mock(ValueOperations.class);
+    Mockito.doReturn(valueOperations).when(redisTemplate).opsForValue();
+    properties = new ScheduledJobLockProperties();
+    properties.setKeyPrefix("prefix");
+    properties.setLockAtMostFor(Duration.ofMinutes(10));
+    properties.setLockAtLeastFor(Duration.ofSeconds(30));
+    cacheRegionProperties = new CacheRegionProperties();
+    cacheRegionProperties.setBackend(CacheRegionProperties.Backend.REDIS);
+    clock = Mockito.mock(Clock.class);
+    Mockito.doReturn(NOW).when(clock).instant();
+    lock = new RedisScheduledJobLock(redisTemplate, properties, cacheRegionProperties, clock,
+        "first");
+  }
+
+  @Test
+  void shouldAcquireLockIfKeyIsAbsent() {
+    Mockito.doReturn(true).when(valueOperations)
+        .setIfAbsent(LOCK_KEY, "first", Duration.ofMinutes(10));
+
+    assertThat(lock.tryAcquire(JOB_NAME)).isTrue();
+    assertThat(lock.tryAcquire(JOB_NAME)).isFalse();
+  }
+
+  @Test
+  void shouldNotAcquireLockHeldByAnotherReplica() {
+    Mockito.doReturn(false).when(valueOperations)
+        .setIfAbsent(LOCK_KEY, "first", Duration.ofMinutes(10));
+
+    assertThat(lock.tryAcquire(JOB_NAME)).isFalse();
+
+    lock.release(JOB_NAME);
+    Mockito.verify(redisTemplate, Mockito.never())
+        .execute(any(RedisScript.class), anyList(), eq("first"), anyString());
+  }
+
+  @Test
+  void shouldNotAcquireLockIfRedisIsUnavailable() {
+    Mockito.doThrow(new RedisConnectionFailureException("connection refused"))
+        .when(valueOperations).setIfAbsent(LOCK_KEY, "first", Duration.ofMinutes(10));
+
+    assertThat(lock.tryAcquire(JOB_NAME)).isFalse();
+  }
+
+  @Test
+  void shouldKeepLockAtLeastForConfiguredTimeAfterRelease() {
+    Mockito.doReturn(true).when(valueOperations)
+        .setIfAbsent(LOCK_KEY, "first", Duration.ofMinutes(10));
+    lock.tryAcquire(JOB_NAME);
+    Mockito.doReturn(NOW.plusSeconds(10)).when(clock).instant();
+
+    lock.release(JOB_NAME);
+
+    Mockito.verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)),
+        eq("first"), eq("20000"));
+  }
+
+  @Test
+  void shouldDeleteLockOnReleaseAfterMinimalTime() {
+    Mockito.doReturn(true).when(valueOperations)
+        .setIfAbsent(LOCK_KEY, "first", Duration.ofMinutes(10));
+    lock.tryAcquire(JOB_NAME);
+    Mockito.doReturn(NOW.plusSeconds(31)).when(clock).instant();
+
+    lock.release(JOB_NAME);
+
+    Mockito.verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)),
+        eq("first"), eq("0"));
+    assertThat(lock.tryAcquire(JOB_NAME)).isTrue();
+  }
+
+  @Test
+  void shouldLockJobsIndependently() {
+    Mockito.doReturn(true).when(valueOperations)
+        .setIfAbsent(anyString(), eq("first"), eq(Duration.ofMinutes(10)));
+
+    assertThat(lock.tryAcquire(JOB_NAME)).isTrue();
+    assertThat(lock.tryAcquire("clean-obsolete-version-contexts")).isTrue();
+  }
+
+  @Test
+  void shouldRejectLocalCacheBackend() {
+    cacheRegionProperties.setBackend(CacheRegionProperties.Backend.LOCAL);
+
+    assertThatThrownBy(() -> new RedisScheduledJobLock(redisTemplate, properties,
+        cacheRegionProperties, clock, "first"))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("registry-regulation-management.cache.backend=redis");
+  }
+}
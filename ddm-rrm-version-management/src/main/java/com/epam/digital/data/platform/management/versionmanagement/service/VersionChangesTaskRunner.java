@@ -0,0 +1,83 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.versionmanagement.service;
+
+import com.epam.digital.data.platform.management.gerritintegration.service.GerritCallMetrics;
+import com.epam.digital.data.platform.management.versionmanagement.config.VersionChangesProperties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs parts of version changes collecting in parallel. Tasks are never queued: when all the
+ * threads are busy the task is run in the calling thread. Gerrit calls of the tasks are counted
+ * for the inbound request that has submitted them.
+ */
+@Component
+public class VersionChangesTaskRunner {
+
+  private final ExecutorService executorService;
+  private final GerritCallMetrics gerritCallMetrics;
+
+  public VersionChangesTaskRunner(VersionChangesProperties properties,
+      GerritCallMetrics gerritCallMetrics) {
+    this.gerritCallMetrics = gerritCallMetrics;
+    var threadNumber = new AtomicInteger();
+    this.executorService = new ThreadPoolExecutor(0, properties.getConcurrency(),
+        60L, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+      var thread = new Thread(runnable, "version-changes-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }, (runnable, executor) -> runnable.run());
+  }
+
+  public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+    return CompletableFuture.supplyAsync(gerritCallMetrics.propagate(task), executorService);
+  }
+
+  /**
+   * Wait for the task result re-throwing the exception the task has failed with
+   *
+   * @param future future of the task
+   * @return task result
+   */
+  public <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executorService.shutdownNow();
+  }
+}
@@ -17,9 +17,12 @@
 package com.epam.digital.data.platform.management.versionmanagement.service;
 
 import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.epam.digital.data.platform.management.core.context.VersionContextComponentManager;
 import com.epam.digital.data.platform.management.core.event.publisher.RegistryRegulationManagementEventPublisher;
 import com.epam.digital.data.platform.management.core.service.CacheService;
 import com.epam.digital.data.platform.management.filemanagement.model.FileStatus;
+import com.epam.digital.data.platform.management.filemanagement.service.ChangesSnapshot;
+import com.epam.digital.data.platform.management.filemanagement.service.VersionedFileRepository;
 import com.epam.digital.data.platform.management.forms.service.FormService;
 import com.epam.digital.data.platform.management.gerritintegration.exception.GerritChangeNotFoundException;
 import com.epam.digital.data.platform.management.gerritintegration.model.CreateChangeInputDto;
@@ -62,6 +65,8 @@ public class VersionManagementServiceImpl implements VersionManagementService {
   private final GerritPropertiesConfig gerritPropertiesConfig;
 
   private final RegistryRegulationManagementEventPublisher eventPublisher;
+  private final VersionContextComponentManager versionContextComponentManager;
+  private final VersionChangesTaskRunner versionChangesTaskRunner;
 
   private final VersionManagementMapper versionManagementMapper;
 
@@ -142,25 +147,38 @@ public class VersionManagementServiceImpl implements VersionManagementService {
 
   @Override
   public VersionChangesDto getVersionChanges(String versionCandidateId) {
+    var repo = versionContextComponentManager.getComponent(versionCandidateId,
+        VersionedFileRepository.class);
+    return repo.withChangesSnapshot(
+        snapshot -> collectVersionChanges(versionCandidateId, snapshot));
+  }
+
+  private VersionChangesDto collectVersionChanges(String versionCandidateId,
+      ChangesSnapshot snapshot) {
     log.debug("Selecting form changes for version candidate {}", versionCandidateId);
-    var forms = getFormsChanges(versionCandidateId);
+    var forms = versionChangesTaskRunner.supplyAsync(
+        snapshot.bind(() -> getFormsChanges(versionCandidateId)));
 
     log.debug("Selecting business-process changes for version candidate {}", versionCandidateId);
-    var businessProcesses = getBusinessProcessesChanges(versionCandidateId);
+    var businessProcesses = versionChangesTaskRunner.supplyAsync(
+        snapshot.bind(() -> getBusinessProcessesChanges(versionCandidateId)));
 
     log.debug("Selecting data-model changes for version candidate {}", versionCandidateId);
-    var dataModelChanges = getDataModelChanges(versionCandidateId);
+    var dataModelChanges = versionChangesTaskRunner.supplyAsync(
+        snapshot.bind(() -> getDataModelChanges(versionCandidateId)));
 
-    log.debug(
-        "Changed: {} forms and {} business-processes", forms.size(), businessProcesses.size());
     var groups =
         versionManagementMapper.groupingToChangeInfo(
             groupService.getChangesByVersion(versionCandidateId));
 
+    var changedForms = versionChangesTaskRunner.await(forms);
+    var changedBusinessProcesses = versionChangesTaskRunner.await(businessProcesses);
+    log.debug("Changed: {} forms and {} business-processes", changedForms.size(),
+        changedBusinessProcesses.size());
     return VersionChangesDto.builder()
-        .changedBusinessProcesses(businessProcesses)
-        .changedForms(forms)
-        .changedDataModelFiles(dataModelChanges)
+        .changedBusinessProcesses(changedBusinessProcesses)
+        .changedForms(changedForms)
+        .changedDataModelFiles(versionChangesTaskRunner.await(dataModelChanges))
         .changedGroups(groups == null ? new ArrayList<>() : List.of(groups))
         .build();
   }
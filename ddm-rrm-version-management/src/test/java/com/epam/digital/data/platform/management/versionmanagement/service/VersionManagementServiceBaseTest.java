@@ -17,7 +17,16 @@
 package com.epam.digital.data.platform.management.versionmanagement.service;
 
 import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.epam.digital.data.platform.management.core.context.VersionContextComponentManager;
+import com.epam.digital.data.platform.management.filemanagement.service.ChangesSnapshot;
+import com.epam.digital.data.platform.management.filemanagement.service.VersionedFileRepository;
+import com.epam.digital.data.platform.management.gerritintegration.service.GerritCallMetrics;
+import com.epam.digital.data.platform.management.versionmanagement.config.VersionChangesProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -37,7 +46,11 @@ import com.epam.digital.data.platform.management.versionmanagement.mapper.Versio
 
 @ExtendWith(SpringExtension.class)
 @ContextConfiguration(classes = {
-    VersionManagementServiceImpl.class
+    VersionManagementServiceImpl.class,
+    VersionChangesTaskRunner.class,
+    VersionChangesProperties.class,
+    GerritCallMetrics.class,
+    SimpleMeterRegistry.class
 })
 @ComponentScan(basePackageClasses = VersionManagementMapper.class)
 @EnableConfigurationProperties
@@ -65,4 +78,17 @@ public abstract class VersionManagementServiceBaseTest {
   CacheService cacheService;
   @MockBean
   GerritPropertiesConfig gerritPropertiesConfig;
+  @MockBean
+  VersionContextComponentManager versionContextComponentManager;
+  @MockBean
+  VersionedFileRepository versionedFileRepository;
+
+  @BeforeEach
+  void setUpVersionedFileRepository() {
+    Mockito.when(versionContextComponentManager.getComponent(Mockito.anyString(),
+        Mockito.eq(VersionedFileRepository.class))).thenReturn(versionedFileRepository);
+    Mockito.when(versionedFileRepository.withChangesSnapshot(Mockito.any()))
+        .thenAnswer(invocation -> invocation.<Function<ChangesSnapshot, ?>>getArgument(0)
+            .apply(ChangesSnapshot.NONE));
+  }
 }
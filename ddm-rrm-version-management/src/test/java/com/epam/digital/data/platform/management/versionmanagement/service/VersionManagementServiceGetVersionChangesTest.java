@@ -17,14 +17,18 @@
 package com.epam.digital.data.platform.management.versionmanagement.service;
 
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.assertj.core.api.Assertions;
 import org.assertj.core.internal.bytebuddy.utility.RandomString;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.mockito.stubbing.Answer;
 
 import com.epam.digital.data.platform.management.filemanagement.model.FileStatus;
+import com.epam.digital.data.platform.management.gerritintegration.exception.GerritChangeNotFoundException;
 import com.epam.digital.data.platform.management.forms.model.FormInfoDto;
 import com.epam.digital.data.platform.management.groups.model.GroupChangesDetails;
 import com.epam.digital.data.platform.management.model.dto.BusinessProcessInfoDto;
@@ -74,6 +78,47 @@ class VersionManagementServiceGetVersionChangesTest extends VersionManagementSer
     Mockito.verify(businessProcessService).getChangedProcessesByVersion(changeId);
     Mockito.verify(dataModelService).listDataModelFiles(changeId);
     Mockito.verify(groupService).getChangesByVersion(changeId);
+    Mockito.verify(versionedFileRepository).withChangesSnapshot(Mockito.any());
+  }
+
+  @Test
+  @DisplayName("should collect changes of all entity types in parallel")
+  @SneakyThrows
+  void getVersionChangesInParallelTest() {
+    final var changeId = RandomString.make();
+    final var latch = new CountDownLatch(4);
+    final Answer<List<?>> awaitOthers = invocation -> {
+      latch.countDown();
+      Assertions.assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+      return List.of();
+    };
+    Mockito.doAnswer(awaitOthers).when(formService).getChangedFormsListByVersion(changeId);
+    Mockito.doAnswer(awaitOthers).when(businessProcessService)
+        .getChangedProcessesByVersion(changeId);
+    Mockito.doAnswer(awaitOthers).when(dataModelService).listDataModelFiles(changeId);
+    Mockito.doAnswer(invocation -> {
+      latch.countDown();
+      Assertions.assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+      return null;
+    }).when(groupService).getChangesByVersion(changeId);
+
+    final var actualVersionChanges = managementService.getVersionChanges(changeId);
+
+    Assertions.assertThat(actualVersionChanges.getChangedForms()).isEmpty();
+    Assertions.assertThat(actualVersionChanges.getChangedBusinessProcesses()).isEmpty();
+    Assertions.assertThat(actualVersionChanges.getChangedDataModelFiles()).isEmpty();
+    Assertions.assertThat(actualVersionChanges.getChangedGroups()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("should throw the exception of a failed parallel collecting as is")
+  void getVersionChangesFailedTest() {
+    final var changeId = RandomString.make();
+    final var exception = new GerritChangeNotFoundException("Change not found");
+    Mockito.doThrow(exception).when(formService).getChangedFormsListByVersion(changeId);
+
+    Assertions.assertThatThrownBy(() -> managementService.getVersionChanges(changeId))
+        .isSameAs(exception);
   }
 
   private static List<DataModelChangesInfoDto> expectedDataModelChanges() {
@@ -19,11 +19,13 @@ package com.epam.digital.data.platform.management;
 import static org.assertj.core.api.Assertions.within;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.xpath;
@@ -40,6 +42,7 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.xml.sax.InputSource;
 import org.xmlunit.builder.DiffBuilder;
@@ -223,6 +226,85 @@ class CandidateVersionBPControllerIT extends BaseIT {
     }
   }
 
+  @Nested
+  @DisplayName("Conditional GET /versions/candidates/{versionCandidateId}/business-processes")
+  class CandidateVersionBPConditionalGetControllerIT {
+
+    @Test
+    @DisplayName("should return 304 without body if If-None-Match matches business-process ETag")
+    @SneakyThrows
+    void getBusinessProcess_notModified() {
+      // add file to "remote" repo
+      final var bpContent = context.getResourceContent(
+          "/versions/candidates/{versionCandidateId}/business-processes/{businessProcessName}/GET/john-does-bp.bpmn");
+      context.addFileToRemoteHeadRepo("/bpmn/john-does-bp.bpmn", bpContent);
+
+      // mock gerrit change info for version candidate
+      final var versionCandidateId = context.createVersionCandidate();
+
+      // get eTag value from response
+      final var eTag = mockMvc.perform(
+          get("/versions/candidates/{versionCandidateId}/business-processes/{businessProcessName}",
+              versionCandidateId, "john-does-bp")
+      ).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+      // perform query
+      mockMvc.perform(
+          get("/versions/candidates/{versionCandidateId}/business-processes/{businessProcessName}",
+              versionCandidateId, "john-does-bp")
+              .header(HttpHeaders.IF_NONE_MATCH, "W/" + eTag)
+              .accept(MediaType.TEXT_XML)
+      ).andExpectAll(
+          status().isNotModified(),
+          header().string(HttpHeaders.ETAG, eTag),
+          content().string("")
+      );
+    }
+
+    @Test
+    @DisplayName("should return 200 with new list ETag if a business-process was updated after the ETag was obtained")
+    @SneakyThrows
+    void getBusinessProcessesByVersionId_modifiedAfterWrite() {
+      // add file to "remote" repo
+      final var headBpContent = context.getResourceContent(
+          "/versions/candidates/{versionCandidateId}/business-processes/{businessProcessName}/PUT/valid-bp-head.bpmn");
+      context.addFileToRemoteHeadRepo("/bpmn/valid-bp.bpmn", headBpContent);
+
+      // mock gerrit change info for version candidate
+      final var versionCandidateId = context.createVersionCandidate();
+
+      // get list eTag value from response to conditional request
+      final var eTag = mockMvc.perform(
+          get("/versions/candidates/{versionCandidateId}/business-processes", versionCandidateId)
+              .header(HttpHeaders.IF_NONE_MATCH, "\"0\"")
+      ).andExpect(status().isOk()).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+      // update business process
+      final var bpContent = context.getResourceContent(
+          "/versions/candidates/{versionCandidateId}/business-processes/{businessProcessName}/PUT/valid-bp-version-candidate.bpmn");
+      mockMvc.perform(
+          put("/versions/candidates/{versionCandidateId}/business-processes/{businessProcessName}",
+              versionCandidateId, "valid-bp")
+              .contentType(MediaType.TEXT_XML).content(bpContent)
+              .accept(MediaType.TEXT_XML)
+      ).andExpect(status().isOk());
+
+      // perform query
+      mockMvc.perform(
+          get("/versions/candidates/{versionCandidateId}/business-processes", versionCandidateId)
+              .header(HttpHeaders.IF_NONE_MATCH, eTag)
+              .accept(MediaType.APPLICATION_JSON)
+      ).andExpectAll(
+          status().isOk(),
+          header().string(HttpHeaders.ETAG, not(eTag)),
+          content().contentType(MediaType.APPLICATION_JSON),
+          jsonPath("$", hasSize(1)),
+          jsonPath("$[0].name", is("valid-bp")),
+          jsonPath("$[0].title", is("Valid BP Version Candidate"))
+      );
+    }
+  }
+
   @Nested
   @DisplayName("POST /versions/candidates/{versionCandidateId}/business-processes/{businessProcessName}")
   class CandidateVersionBPCreateBpByNameControllerIT {
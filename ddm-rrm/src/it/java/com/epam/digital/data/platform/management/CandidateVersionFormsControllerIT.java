@@ -19,6 +19,7 @@ package com.epam.digital.data.platform.management;
 import static org.assertj.core.api.Assertions.within;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -198,6 +199,177 @@ class CandidateVersionFormsControllerIT extends BaseIT {
     }
   }
 
+  @Nested
+  @DisplayName("Conditional GET /versions/candidates/{versionCandidateId}/forms")
+  class CandidateVersionFormsConditionalGetControllerIT {
+
+    @Test
+    @DisplayName("should return 304 without body if If-None-Match matches form ETag")
+    @SneakyThrows
+    void getForm_notModified() {
+      // add file to "remote" repo
+      final var formContent = context.getResourceContent(
+          "/versions/candidates/{versionCandidateId}/forms/{formName}/GET/john-does-form.json");
+      context.addFileToRemoteHeadRepo("/forms/john-does-form.json", formContent);
+
+      // mock gerrit change info for version candidate
+      final var versionCandidateId = context.createVersionCandidate();
+
+      // get eTag value from response
+      final var eTag = mockMvc.perform(
+          get("/versions/candidates/{versionCandidateId}/forms/{formName}",
+              versionCandidateId, "john-does-form")
+      ).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+      // perform query
+      mockMvc.perform(
+          get("/versions/candidates/{versionCandidateId}/forms/{formName}",
+              versionCandidateId, "john-does-form")
+              .header(HttpHeaders.IF_NONE_MATCH, eTag)
+              .accept(MediaType.APPLICATION_JSON)
+      ).andExpectAll(
+          status().isNotModified(),
+          header().string(HttpHeaders.ETAG, eTag),
+          content().string("")
+      );
+    }
+
+    @Test
+    @DisplayName("should return 304 if If-None-Match contains weak form of form ETag")
+    @SneakyThrows
+    void getForm_weakETagNotModified() {
+      // add file to "remote" repo
+      final var formContent = context.getResourceContent(
+          "/versions/candidates/{versionCandidateId}/forms/{formName}/GET/john-does-form.json");
+      context.addFileToRemoteHeadRepo("/forms/john-does-form.json", formContent);
+
+      // mock gerrit change info for version candidate
+      final var versionCandidateId = context.createVersionCandidate();
+
+      // perform query
+      final var eTag = String.format("\"%s\"", formContent.hashCode());
+      mockMvc.perform(
+          get("/versions/candidates/{versionCandidateId}/forms/{formName}",
+              versionCandidateId, "john-does-form")
+              .header(HttpHeaders.IF_NONE_MATCH, "\"0\", W/" + eTag)
+              .accept(MediaType.APPLICATION_JSON)
+      ).andExpectAll(
+          status().isNotModified(),
+          header().string(HttpHeaders.ETAG, eTag),
+          content().string("")
+      );
+    }
+
+    @Test
+    @DisplayName("should return 304 if If-None-Match is * and form exists")
+    @SneakyThrows
+    void getForm_anyETagNotModified() {
+      // add file to "remote" repo
+      final var formContent = context.getResourceContent(
+          "/versions/candidates/{versionCandidateId}/forms/{formName}/GET/john-does-form.json");
+      context.addFileToRemoteHeadRepo("/forms/john-does-form.json", formContent);
+
+      // mock gerrit change info for version candidate
+      final var versionCandidateId = context.createVersionCandidate();
+
+      // perform query
+      mockMvc.perform(
+          get("/versions/candidates/{versionCandidateId}/forms/{formName}",
+              versionCandidateId, "john-does-form")
+              .header(HttpHeaders.IF_NONE_MATCH, "*")
+              .accept(MediaType.APPLICATION_JSON)
+      ).andExpectAll(
+          status().isNotModified(),
+          content().string("")
+      );
+    }
+
+    @Test
+    @DisplayName("should return 404 if If-None-Match is * and form doesn't exist")
+    @SneakyThrows
+    void getForm_anyETagFormDoesNotExist() {
+      // mock gerrit change info for version candidate
+      final var versionCandidateId = context.createVersionCandidate();
+
+      // perform query
+      mockMvc.perform(
+          get("/versions/candidates/{versionCandidateId}/forms/{formName}",
+              versionCandidateId, "john-does-form")
+              .header(HttpHeaders.IF_NONE_MATCH, "*")
+              .accept(MediaType.APPLICATION_JSON)
+      ).andExpectAll(
+          status().isNotFound(),
+          content().contentType(MediaType.APPLICATION_JSON),
+          jsonPath("$.code", is("FORM_NOT_FOUND_EXCEPTION")),
+          jsonPath("$.details", is("Form john-does-form not found"))
+      );
+    }
+
+    @Test
+    @DisplayName("should return 200 with new list ETag if a form was created after the ETag was obtained")
+    @SneakyThrows
+    void getFormsByVersionId_modifiedAfterWrite() {
+      // add file to "remote" repo
+      final var formContent = context.getResourceContent(
+          "/versions/candidates/{versionCandidateId}/forms/GET/john-does-form.json");
+      context.addFileToRemoteHeadRepo("/forms/john-does-form.json", formContent);
+
+      // mock gerrit change info for version candidate
+      final var versionCandidateId = context.createVersionCandidate();
+
+      // list eTag isn't resolved for unconditional request
+      mockMvc.perform(
+          get("/versions/candidates/{versionCandidateId}/forms", versionCandidateId)
+      ).andExpectAll(
+          status().isOk(),
+          header().doesNotExist(HttpHeaders.ETAG)
+      );
+
+      // get list eTag value from response to conditional request
+      final var eTag = mockMvc.perform(
+          get("/versions/candidates/{versionCandidateId}/forms", versionCandidateId)
+              .header(HttpHeaders.IF_NONE_MATCH, "\"0\"")
+      ).andExpect(status().isOk()).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+      Assertions.assertThat(eTag).startsWith("W/");
+
+      // list isn't modified until a write
+      mockMvc.perform(
+          get("/versions/candidates/{versionCandidateId}/forms", versionCandidateId)
+              .header(HttpHeaders.IF_NONE_MATCH, eTag)
+              .accept(MediaType.APPLICATION_JSON)
+      ).andExpectAll(
+          status().isNotModified(),
+          header().string(HttpHeaders.ETAG, eTag),
+          content().string("")
+      );
+
+      // create form
+      final var newFormContent = context.getResourceContent(
+          "/versions/candidates/{versionCandidateId}/forms/{formName}/POST/valid-form.json");
+      mockMvc.perform(
+          post("/versions/candidates/{versionCandidateId}/forms/{formName}",
+              versionCandidateId, "valid-form")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(newFormContent)
+              .accept(MediaType.APPLICATION_JSON)
+      ).andExpect(status().isCreated());
+
+      // perform query
+      mockMvc.perform(
+          get("/versions/candidates/{versionCandidateId}/forms", versionCandidateId)
+              .header(HttpHeaders.IF_NONE_MATCH, eTag)
+              .accept(MediaType.APPLICATION_JSON)
+      ).andExpectAll(
+          status().isOk(),
+          header().string(HttpHeaders.ETAG, not(eTag)),
+          content().contentType(MediaType.APPLICATION_JSON),
+          jsonPath("$", hasSize(2)),
+          jsonPath("$[0].name", is("john-does-form")),
+          jsonPath("$[1].name", is("valid-form"))
+      );
+    }
+  }
+
   @Nested
   @DisplayName("POST /versions/candidates/{versionCandidateId}/forms/{formName}")
   class CandidateVersionFormsCreateFormByNameControllerIT {
@@ -18,6 +18,7 @@ package com.epam.digital.data.platform.management.config;
 
 import com.epam.digital.data.platform.management.interceptor.BusinessProcessETagInterceptor;
 import com.epam.digital.data.platform.management.interceptor.FormETagHeaderInterceptor;
+import com.epam.digital.data.platform.management.interceptor.GerritCallsMetricInterceptor;
 import com.epam.digital.data.platform.management.security.config.SecurityContextResolver;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +35,7 @@ public class WebConfig implements WebMvcConfigurer {
   private final HandlerInterceptor livenessProbeStateInterceptor;
   private final FormETagHeaderInterceptor formETagHeaderInterceptor;
   private final BusinessProcessETagInterceptor businessProcessETagInterceptor;
+  private final GerritCallsMetricInterceptor gerritCallsMetricInterceptor;
 
   @Override
   public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
@@ -43,13 +45,18 @@ public class WebConfig implements WebMvcConfigurer {
   @Override
   public void addInterceptors(InterceptorRegistry registry) {
     registry.addInterceptor(livenessProbeStateInterceptor);
+    registry.addInterceptor(gerritCallsMetricInterceptor);
     registry.addInterceptor(formETagHeaderInterceptor)
         .addPathPatterns(List.of(
+            "/versions/candidates/{versionCandidateId}/forms",
             "/versions/candidates/{versionCandidateId}/forms/{formName}",
+            "/versions/master/forms",
             "/versions/master/forms/{formName}"));
     registry.addInterceptor(businessProcessETagInterceptor)
         .addPathPatterns(List.of(
+            "/versions/candidates/{versionCandidateId}/business-processes",
             "/versions/candidates/{versionCandidateId}/business-processes/{businessProcessName}",
+            "/versions/master/business-processes",
             "/versions/master/business-processes/{businessProcessName}"));
   }
 }
@@ -20,10 +20,13 @@ import com.epam.digital.data.platform.management.core.utils.ETagUtils;
 import com.epam.digital.data.platform.management.exception.ProcessNotFoundException;
 import com.epam.digital.data.platform.management.forms.exception.FormNotFoundException;
 import java.util.Map;
+import java.util.Objects;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.HandlerMapping;
 
@@ -34,6 +37,9 @@ public abstract class AbstractETagHeaderInterceptor implements HandlerIntercepto
   public boolean preHandle(@NonNull HttpServletRequest request,
       @NonNull HttpServletResponse response, @NonNull Object handler) {
     var method = request.getMethod();
+    if (method.equals("GET")) {
+      return checkNotModified(request, response);
+    }
     var eTag = request.getHeader("If-Match");
     if (!method.equals("PUT") && !method.equals("DELETE")) {
       return true;
@@ -46,6 +52,33 @@ public abstract class AbstractETagHeaderInterceptor implements HandlerIntercepto
     return validateETag(request, response, eTag);
   }
 
+  /**
+   * Handles {@code If-None-Match} header of GET request. ETag of a file is resolved from the file
+   * blob id, so if it matches, 304 is returned without reading and serializing the body. ETag is
+   * resolved for conditional requests only, as the list ETag requires a gerrit request. List
+   * endpoints don't set ETag by themselves, so ETag of a list is set to the response here.
+   */
+  protected boolean checkNotModified(HttpServletRequest request, HttpServletResponse response) {
+    var ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+    if (Objects.isNull(ifNoneMatch)) {
+      return true;
+    }
+    var url = request.getRequestURL();
+    var isListRequest = isListRequest(request);
+    var eTag = isListRequest ? getListETag(request) : getETag(request);
+    if (isListRequest) {
+      response.setHeader(HttpHeaders.ETAG, eTag);
+    }
+    if (!ETagUtils.isNotModified(ifNoneMatch, eTag)) {
+      log.debug("If-None-Match doesn't match ETag for path {}, content will be retrieved", url);
+      return true;
+    }
+    log.debug("Content for path {} is not modified", url);
+    response.setHeader(HttpHeaders.ETAG, eTag);
+    response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+    return false;
+  }
+
   @SuppressWarnings("unchecked")
   protected Map<String, String> getVariables(HttpServletRequest request) {
     return (Map<String, String>) request.getAttribute(
@@ -73,4 +106,11 @@ public abstract class AbstractETagHeaderInterceptor implements HandlerIntercepto
   }
 
   protected abstract String getContent(HttpServletRequest request);
+
+  @Nullable
+  protected abstract String getETag(HttpServletRequest request);
+
+  protected abstract String getListETag(HttpServletRequest request);
+
+  protected abstract boolean isListRequest(HttpServletRequest request);
 }
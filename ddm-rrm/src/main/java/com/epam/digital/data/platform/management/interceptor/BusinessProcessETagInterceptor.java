@@ -34,12 +34,31 @@ public class BusinessProcessETagInterceptor extends AbstractETagHeaderIntercepto
 
   @Override
   protected String getContent(HttpServletRequest request) {
-    var paramsMap = getVariables(request);
-    var formName = paramsMap.get("businessProcessName");
-    var versionCandidateId = paramsMap.get("versionCandidateId");
+    var businessProcessName = getVariables(request).get("businessProcessName");
+    return businessProcessService.getProcessContent(businessProcessName, getVersionId(request));
+  }
+
+  @Override
+  protected String getETag(HttpServletRequest request) {
+    var businessProcessName = getVariables(request).get("businessProcessName");
+    return businessProcessService.getProcessETag(businessProcessName, getVersionId(request));
+  }
+
+  @Override
+  protected String getListETag(HttpServletRequest request) {
+    return businessProcessService.getProcessListETag(getVersionId(request));
+  }
+
+  @Override
+  protected boolean isListRequest(HttpServletRequest request) {
+    return !getVariables(request).containsKey("businessProcessName");
+  }
+
+  private String getVersionId(HttpServletRequest request) {
+    var versionCandidateId = getVariables(request).get("versionCandidateId");
     if (Objects.isNull(versionCandidateId)) {
       versionCandidateId = gerritPropertiesConfig.getHeadBranch();
     }
-    return businessProcessService.getProcessContent(formName, versionCandidateId);
+    return versionCandidateId;
   }
 }
@@ -34,12 +34,31 @@ public class FormETagHeaderInterceptor extends AbstractETagHeaderInterceptor {
 
   @Override
   protected String getContent(HttpServletRequest request) {
-    var paramsMap = getVariables(request);
-    var formName = paramsMap.get("formName");
-    var versionCandidateId = paramsMap.get("versionCandidateId");
+    var formName = getVariables(request).get("formName");
+    return formService.getFormContent(formName, getVersionId(request));
+  }
+
+  @Override
+  protected String getETag(HttpServletRequest request) {
+    var formName = getVariables(request).get("formName");
+    return formService.getFormETag(formName, getVersionId(request));
+  }
+
+  @Override
+  protected String getListETag(HttpServletRequest request) {
+    return formService.getFormListETag(getVersionId(request));
+  }
+
+  @Override
+  protected boolean isListRequest(HttpServletRequest request) {
+    return !getVariables(request).containsKey("formName");
+  }
+
+  private String getVersionId(HttpServletRequest request) {
+    var versionCandidateId = getVariables(request).get("versionCandidateId");
     if (Objects.isNull(versionCandidateId)) {
       versionCandidateId = gerritPropertiesConfig.getHeadBranch();
     }
-    return formService.getFormContent(formName, versionCandidateId);
+    return versionCandidateId;
   }
 }
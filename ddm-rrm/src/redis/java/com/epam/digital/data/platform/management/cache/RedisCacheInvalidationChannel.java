@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.cache;
+
+import com.epam.digital.data.platform.management.core.cache.CacheInvalidationChannel;
+import com.epam.digital.data.platform.management.core.cache.CacheInvalidationMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * {@link CacheInvalidationChannel} that delivers messages between replicas through Redis pub/sub
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RedisCacheInvalidationChannel implements CacheInvalidationChannel {
+
+  private final StringRedisTemplate redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final ObjectMapper objectMapper;
+  private final String topic;
+
+  @Override
+  public void publish(CacheInvalidationMessage message) {
+    try {
+      redisTemplate.convertAndSend(topic, objectMapper.writeValueAsString(message));
+    } catch (JsonProcessingException | RuntimeException e) {
+      log.warn("Couldn't publish invalidation of cache {} for version {}: {}", message.getRegion(),
+          message.getVersionId(), e.getMessage());
+    }
+  }
+
+  @Override
+  public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+    listenerContainer.addMessageListener((message, pattern) -> {
+      try {
+        listener.accept(objectMapper.readValue(message.getBody(), CacheInvalidationMessage.class));
+      } catch (IOException e) {
+        log.warn("Couldn't read cache invalidation message: {}", e.getMessage());
+      }
+    }, new ChannelTopic(topic));
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright 2022 EPAM Systems.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.config;
+
+import com.epam.digital.data.platform.management.cache.RedisCacheInvalidationChannel;
+import com.epam.digital.data.platform.management.core.cache.CacheInvalidationChannel;
+import com.epam.digital.data.platform.management.core.cache.NearCacheManager;
+import com.epam.digital.data.platform.management.core.config.CacheConfig;
+import com.epam.digital.data.platform.management.core.config.CacheRegionProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Caches shared between replicas through Redis. Every replica keeps Caffeine near cache tuned by
+ * region settings, near cache copies are invalidated with Redis pub/sub messages.
+ * <p>
+ * The configuration is compiled only with {@code redis-cache-backend} maven profile.
+ */
+@Configuration
+@ConditionalOnExpression("${registry-regulation-management.caching.enabled:true} "
+    + "and '${registry-regulation-management.cache.backend:local}' == 'redis'")
+public class RedisCacheConfig {
+
+  @Bean
+  public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+      RedisConnectionFactory redisConnectionFactory) {
+    var container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(redisConnectionFactory);
+    return container;
+  }
+
+  @Bean
+  public CacheInvalidationChannel cacheInvalidationChannel(StringRedisTemplate redisTemplate,
+      RedisMessageListenerContainer cacheInvalidationListenerContainer, ObjectMapper objectMapper,
+      CacheRegionProperties cacheRegionProperties) {
+    return new RedisCacheInvalidationChannel(redisTemplate, cacheInvalidationListenerContainer,
+        objectMapper, cacheRegionProperties.getInvalidationTopic());
+  }
+
+  @Bean
+  public CacheManager cacheManager(CacheRegionProperties cacheRegionProperties,
+      CacheProperties cacheProperties, RedisConnectionFactory redisConnectionFactory,
+      CacheInvalidationChannel cacheInvalidationChannel,
+      ObjectProvider<MeterRegistry> meterRegistryProvider) {
+    var sharedCacheManager = RedisCacheManager.builder(redisConnectionFactory)
+        .cacheDefaults(RedisCacheConfiguration.defaultCacheConfig()
+            .entryTtl(cacheRegionProperties.getSharedTimeToLive())
+            .prefixCacheNameWith("registry-regulation-management:"))
+        .build();
+    sharedCacheManager.afterPropertiesSet();
+    return new NearCacheManager(
+        CacheConfig.localCacheManager(cacheRegionProperties, cacheProperties,
+            meterRegistryProvider),
+        sharedCacheManager,
+        cacheInvalidationChannel);
+  }
+}